@@ -0,0 +1,63 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dictionary operations used for proxy properties and event data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KrollDictBenchmark
+{
+	private JSONObject json;
+	private KrollDict dict;
+
+	@Setup
+	public void setup() throws JSONException
+	{
+		json = new JSONObject("{\"title\":\"Row title\",\"height\":44,\"visible\":true,\"opacity\":0.5,"
+							  + "\"font\":{\"fontSize\":16,\"fontWeight\":\"bold\"},\"tags\":[\"a\",\"b\",\"c\"]}");
+		dict = new KrollDict(json);
+	}
+
+	@Benchmark
+	public KrollDict fromJSON() throws JSONException
+	{
+		return new KrollDict(json);
+	}
+
+	@Benchmark
+	public KrollDict copy()
+	{
+		return new KrollDict(dict);
+	}
+
+	@Benchmark
+	public void typedGetters(Blackhole blackhole)
+	{
+		blackhole.consume(dict.getString("title"));
+		blackhole.consume(dict.getInt("height"));
+		blackhole.consume(dict.optBoolean("visible", false));
+		blackhole.consume(dict.getDouble("opacity"));
+		blackhole.consume(dict.getKrollDict("font"));
+		blackhole.consume(dict.optString("missing", "default"));
+	}
+}
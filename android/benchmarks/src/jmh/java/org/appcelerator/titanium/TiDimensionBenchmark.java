@@ -0,0 +1,43 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium;
+
+import java.util.concurrent.TimeUnit;
+
+import org.appcelerator.titanium.util.TiConvert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Dimension parsing, uncached and through the cache used by TiConvert.
+ * Values without a unit are not measured, since they use the default unit of a running app.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TiDimensionBenchmark
+{
+	@Param({ "10dp", "50%", "12.5px", "auto" })
+	public String value;
+
+	@Benchmark
+	public TiDimension parse()
+	{
+		return new TiDimension(value, TiDimension.TYPE_WIDTH);
+	}
+
+	@Benchmark
+	public TiDimension parseCached()
+	{
+		return TiConvert.toTiDimension(value, TiDimension.TYPE_WIDTH);
+	}
+}
@@ -0,0 +1,86 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.appcelerator.kroll.KrollDict;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Style lookup of a view created with an id and classes, in a stylesheet of a typical Alloy app size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TiStylesheetBenchmark
+{
+	private static final int STYLES_PER_FILE = 50;
+	private static final String[] FILES = { "global", "index", "details", "settings" };
+	private static final String[] DENSITIES = { "medium", "high", "xhigh" };
+
+	/**
+	 * Stylesheet filled the way generated ApplicationStylesheet classes fill it.
+	 */
+	private static class Stylesheet extends TiStylesheet
+	{
+		Stylesheet()
+		{
+			for (String file : FILES) {
+				classesMap.put(file, createStyles("class"));
+				idsMap.put(file, createStyles("id"));
+
+				HashMap<String, HashMap<String, KrollDict>> classesByDensity = new HashMap<>();
+				HashMap<String, HashMap<String, KrollDict>> idsByDensity = new HashMap<>();
+				for (String density : DENSITIES) {
+					classesByDensity.put(density, createStyles("class"));
+					idsByDensity.put(density, createStyles("id"));
+				}
+				classesDensityMap.put(file, classesByDensity);
+				idsDensityMap.put(file, idsByDensity);
+			}
+		}
+
+		private static HashMap<String, KrollDict> createStyles(String prefix)
+		{
+			HashMap<String, KrollDict> styles = new HashMap<>();
+			for (int i = 0; i < STYLES_PER_FILE; i++) {
+				KrollDict style = new KrollDict();
+				style.put("color", "#336699");
+				style.put("height", i + "dp");
+				style.put("left", 10);
+				styles.put(prefix + i, style);
+			}
+			return styles;
+		}
+	}
+
+	private TiStylesheet stylesheet;
+	private List<String> classes;
+
+	@Setup
+	public void setup()
+	{
+		stylesheet = new Stylesheet();
+		classes = Arrays.asList("class3", "class17", "class42");
+	}
+
+	@Benchmark
+	public KrollDict getStylesheet()
+	{
+		return stylesheet.getStylesheet("id7", classes, "xhigh", "index");
+	}
+}
@@ -0,0 +1,69 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Color parsing, both for repeated values served by TiParsedValueCache and for distinct values parsed each time.
+ * Named colors are not measured, since they look up resources of a running app first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TiColorHelperBenchmark
+{
+	// More distinct values than TiParsedValueCache keeps, so every lookup misses.
+	private static final int DISTINCT_COLORS = 1024;
+
+	private String[] hexColors;
+	private String[] rgbaColors;
+	private int index;
+
+	@Setup
+	public void setup()
+	{
+		hexColors = new String[DISTINCT_COLORS];
+		rgbaColors = new String[DISTINCT_COLORS];
+		for (int i = 0; i < DISTINCT_COLORS; i++) {
+			hexColors[i] = String.format("#%06x", i * 16381);
+			rgbaColors[i] = "rgba(" + (i % 256) + ", " + (i / 4) + ", 128, 0.5)";
+		}
+	}
+
+	private int next()
+	{
+		index = (index + 1) % DISTINCT_COLORS;
+		return index;
+	}
+
+	@Benchmark
+	public int parseCachedHex()
+	{
+		return TiColorHelper.parseColor("#336699");
+	}
+
+	@Benchmark
+	public int parseHex()
+	{
+		return TiColorHelper.parseColor(hexColors[next()]);
+	}
+
+	@Benchmark
+	public int parseRgba()
+	{
+		return TiColorHelper.parseColor(rgbaColors[next()]);
+	}
+}
@@ -0,0 +1,102 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.util;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.titanium.TiDimension;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Conversions applied to every property passed from JavaScript.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TiConvertBenchmark
+{
+	private Object intString;
+	private Object doubleValue;
+	private Object booleanString;
+	private KrollDict properties;
+	private HashMap<String, Object> eventData;
+
+	@Setup
+	public void setup()
+	{
+		intString = "42";
+		doubleValue = 42.5;
+		booleanString = "true";
+
+		properties = new KrollDict();
+		properties.put("title", "Row title");
+		properties.put("width", "100dp");
+		properties.put("visible", true);
+		properties.put("zIndex", 3);
+
+		HashMap<String, Object> nested = new HashMap<>();
+		nested.put("x", 10);
+		nested.put("y", 20.5);
+		eventData = new HashMap<>();
+		eventData.put("type", "click");
+		eventData.put("index", 7);
+		eventData.put("bubbles", true);
+		eventData.put("point", nested);
+		eventData.put("tags", new Object[] { "a", "b", "c" });
+	}
+
+	@Benchmark
+	public int toIntFromString()
+	{
+		return TiConvert.toInt(intString);
+	}
+
+	@Benchmark
+	public int toIntFromDouble()
+	{
+		return TiConvert.toInt(doubleValue);
+	}
+
+	@Benchmark
+	public boolean toBooleanFromString()
+	{
+		return TiConvert.toBoolean(booleanString);
+	}
+
+	@Benchmark
+	public double toDoubleFromString()
+	{
+		return TiConvert.toDouble(intString);
+	}
+
+	@Benchmark
+	public String toStringFromDictionary()
+	{
+		return TiConvert.toString(properties, "title");
+	}
+
+	@Benchmark
+	public TiDimension toTiDimensionFromDictionary()
+	{
+		return TiConvert.toTiDimension(properties, "width", TiDimension.TYPE_WIDTH);
+	}
+
+	@Benchmark
+	public JSONObject toJSON()
+	{
+		return TiConvert.toJSON(eventData);
+	}
+}
@@ -0,0 +1,62 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Hex digests, as used for cache keys of URLs and for Ti.Utils.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TiDigestUtilsBenchmark
+{
+	private String url;
+	private byte[] data;
+
+	@Setup
+	public void setup()
+	{
+		url = "https://www.example.com/images/thumbnails/1234567890.png?size=large&format=webp";
+		data = new byte[16 * 1024];
+		new Random(1).nextBytes(data);
+	}
+
+	@Benchmark
+	public String sha1HexOfUrl()
+	{
+		return TiDigestUtils.sha1Hex(url);
+	}
+
+	@Benchmark
+	public String md5HexOfUrl()
+	{
+		return TiDigestUtils.md5Hex(url);
+	}
+
+	@Benchmark
+	public String md5HexOfData()
+	{
+		return TiDigestUtils.md5Hex(data);
+	}
+
+	@Benchmark
+	public String sha256HexOfData()
+	{
+		return TiDigestUtils.sha256Hex(data);
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.util;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Header handling of cached HTTP responses: reading a cached header file and normalizing response headers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TiResponseCacheBenchmark
+{
+	private File headerFile;
+	private Map<String, List<String>> responseHeaders;
+	private Map<String, List<String>> cachedHeaders;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		responseHeaders = new LinkedHashMap<>();
+		responseHeaders.put(null, Arrays.asList("HTTP/1.1 200 OK"));
+		responseHeaders.put("Content-Type", Arrays.asList("image/png"));
+		responseHeaders.put("Content-Length", Arrays.asList("48213"));
+		responseHeaders.put("Cache-Control", Arrays.asList("public, max-age=86400"));
+		responseHeaders.put("Date", Arrays.asList("Mon, 19 Oct 2026 10:00:00 GMT"));
+		responseHeaders.put("Last-Modified", Arrays.asList("Fri, 16 Oct 2026 08:30:00 GMT"));
+		responseHeaders.put("ETag", Arrays.asList("\"5f2b-6a1c3e\""));
+		responseHeaders.put("Server", Arrays.asList("nginx"));
+		responseHeaders.put("Vary", Arrays.asList("Accept-Encoding"));
+		responseHeaders.put("Set-Cookie", Arrays.asList("a=1; Path=/", "b=2; Path=/; HttpOnly"));
+
+		// Write headers the way TiResponseCache.put() stores them.
+		headerFile = File.createTempFile("TiResponseCacheBenchmark", ".hdr");
+		Map<String, List<String>> headers = TiResponseCache.makeLowerCaseHeaders(responseHeaders);
+		try (FileWriter writer = new FileWriter(headerFile)) {
+			for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+				for (String value : entry.getValue()) {
+					writer.write(entry.getKey() + "=" + value + System.lineSeparator());
+				}
+			}
+		}
+		cachedHeaders = TiResponseCache.readHeaders(headerFile);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		headerFile.delete();
+	}
+
+	@Benchmark
+	public Map<String, List<String>> readHeaders() throws IOException
+	{
+		return TiResponseCache.readHeaders(headerFile);
+	}
+
+	@Benchmark
+	public Map<String, List<String>> makeLowerCaseHeaders()
+	{
+		return TiResponseCache.makeLowerCaseHeaders(responseHeaders);
+	}
+
+	@Benchmark
+	public String getHeader()
+	{
+		return TiResponseCache.getHeader(cachedHeaders, "content-length");
+	}
+}
@@ -0,0 +1,116 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.view;
+
+import java.util.concurrent.TimeUnit;
+
+import android.util.TypedValue;
+import android.view.View;
+
+import org.appcelerator.titanium.TiDimension;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measuring a TiCompositeLayout again with the specs of its last measurement, as its parent does
+ * several times per layout pass when a descendant requested a layout.
+ * "measureAgain" reuses the last measurement, "measureUncached" discards it first, which is what every
+ * such call cost before the measurement was cached.
+ * Views are the JVM stubs of "src/stubs/java", since real views need the resources of a running app.
+ * Pins are given in pixels for the same reason, other units look up the display metrics of the device.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TiCompositeLayoutBenchmark
+{
+	private static final int PARENT_SIZE = 1080;
+	private static final int CHILD_SIZE = 100;
+
+	@Param({ "10", "100" })
+	public int childCount;
+
+	@Param({ "DEFAULT", "VERTICAL" })
+	public TiCompositeLayout.LayoutArrangement arrangement;
+
+	private TiCompositeLayout layout;
+	private final int widthSpec = View.MeasureSpec.makeMeasureSpec(PARENT_SIZE, View.MeasureSpec.AT_MOST);
+	private final int heightSpec = View.MeasureSpec.makeMeasureSpec(PARENT_SIZE, View.MeasureSpec.AT_MOST);
+
+	private static TiDimension pixels(int value, int valueType)
+	{
+		return new TiDimension(value, valueType, TypedValue.COMPLEX_UNIT_PX);
+	}
+
+	@Setup
+	public void setup()
+	{
+		layout = new TiCompositeLayout(null, arrangement, null);
+
+		// Cycle through every pin combination the measuring code distinguishes.
+		for (int i = 0; i < childCount; i++) {
+			TiCompositeLayout.LayoutParams layoutParams = new TiCompositeLayout.LayoutParams();
+			layoutParams.sizeOrFillWidthEnabled = (i % 2) == 0;
+			layoutParams.sizeOrFillHeightEnabled = (i % 3) == 0;
+			switch (i % 4) {
+				case 0:
+					layoutParams.optionLeft = pixels(i, TiDimension.TYPE_LEFT);
+					layoutParams.optionTop = pixels(i, TiDimension.TYPE_TOP);
+					layoutParams.optionWidth = pixels(CHILD_SIZE, TiDimension.TYPE_WIDTH);
+					break;
+				case 1:
+					layoutParams.optionCenterX = pixels(PARENT_SIZE / 2, TiDimension.TYPE_CENTER_X);
+					layoutParams.optionCenterY = pixels(PARENT_SIZE / 2, TiDimension.TYPE_CENTER_Y);
+					layoutParams.optionHeight = pixels(CHILD_SIZE, TiDimension.TYPE_HEIGHT);
+					break;
+				case 2:
+					layoutParams.optionRight = pixels(i, TiDimension.TYPE_RIGHT);
+					layoutParams.optionBottom = pixels(i, TiDimension.TYPE_BOTTOM);
+					layoutParams.autoFillsWidth = true;
+					break;
+				default:
+					layoutParams.optionLeft = pixels(i, TiDimension.TYPE_LEFT);
+					layoutParams.optionRight = pixels(i, TiDimension.TYPE_RIGHT);
+					break;
+			}
+			View child = new View(null);
+			child.setMinimumWidth(CHILD_SIZE);
+			child.setMinimumHeight(CHILD_SIZE);
+			layout.addView(child, layoutParams);
+		}
+
+		// Lay out the children, so none of them has a pending layout request.
+		// The layout's own onLayout() is skipped, it needs a running app.
+		layout.measure(widthSpec, heightSpec);
+		for (int i = 0; i < childCount; i++) {
+			View child = layout.getChildAt(i);
+			child.layout(0, 0, child.getMeasuredWidth(), child.getMeasuredHeight());
+		}
+		layout.onMeasure(widthSpec, heightSpec);
+	}
+
+	@Benchmark
+	public int measureAgain()
+	{
+		layout.onMeasure(widthSpec, heightSpec);
+		return layout.getMeasuredHeight();
+	}
+
+	@Benchmark
+	public int measureUncached()
+	{
+		layout.invalidateMeasureCache();
+		layout.onMeasure(widthSpec, heightSpec);
+		return layout.getMeasuredHeight();
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.titanium.TiC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ti.modules.titanium.BufferProxy;
+
+/**
+ * Ti.Codec calls, including the argument dictionary handling of the JavaScript API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CodecModuleBenchmark
+{
+	private CodecModule codec;
+	private byte[] bytes;
+	private KrollDict encodeIntArgs;
+	private KrollDict encodeDoubleArgs;
+	private KrollDict decodeStringArgs;
+
+	@Setup
+	public void setup()
+	{
+		codec = new CodecModule();
+		bytes = new byte[8];
+
+		encodeIntArgs = new KrollDict();
+		encodeIntArgs.put(TiC.PROPERTY_DEST, new BufferProxy(8));
+		encodeIntArgs.put(TiC.PROPERTY_SOURCE, 123456789);
+		encodeIntArgs.put(TiC.PROPERTY_TYPE, CodecModule.TYPE_INT);
+		encodeIntArgs.put(TiC.PROPERTY_BYTE_ORDER, CodecModule.BIG_ENDIAN);
+
+		encodeDoubleArgs = new KrollDict(encodeIntArgs);
+		encodeDoubleArgs.put(TiC.PROPERTY_SOURCE, Math.PI);
+		encodeDoubleArgs.put(TiC.PROPERTY_TYPE, CodecModule.TYPE_DOUBLE);
+
+		String text = "Titanium \u00fcber alles, \u65e5\u672c\u8a9e text of a typical socket message.";
+		decodeStringArgs = new KrollDict();
+		decodeStringArgs.put(TiC.PROPERTY_SOURCE, new BufferProxy(text.getBytes(StandardCharsets.UTF_8)));
+		decodeStringArgs.put(TiC.PROPERTY_CHARSET, CodecModule.CHARSET_UTF8);
+	}
+
+	@Benchmark
+	public int encodeInt()
+	{
+		return codec.encodeNumber(encodeIntArgs);
+	}
+
+	@Benchmark
+	public int encodeDouble()
+	{
+		return codec.encodeNumber(encodeDoubleArgs);
+	}
+
+	@Benchmark
+	public int encodeDoubleToArray()
+	{
+		return CodecModule.encodeNumber(Math.PI, CodecModule.TYPE_DOUBLE, bytes, 0, CodecModule.LITTLE_ENDIAN);
+	}
+
+	@Benchmark
+	public String decodeString()
+	{
+		return codec.decodeString(decodeStringArgs);
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package android.util;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * JVM replacement of Android's logger, whose native implementation is only available on a device.
+ * Warnings and errors are written to stderr, so unexpected failures stay visible in benchmark output.
+ * Other messages are dropped to keep logging out of the measurements.
+ */
+public final class Log
+{
+	public static final int VERBOSE = 2;
+	public static final int DEBUG = 3;
+	public static final int INFO = 4;
+	public static final int WARN = 5;
+	public static final int ERROR = 6;
+	public static final int ASSERT = 7;
+
+	private Log()
+	{
+	}
+
+	public static int v(String tag, String msg)
+	{
+		return println(VERBOSE, tag, msg);
+	}
+
+	public static int v(String tag, String msg, Throwable tr)
+	{
+		return println(VERBOSE, tag, msg + '\n' + getStackTraceString(tr));
+	}
+
+	public static int d(String tag, String msg)
+	{
+		return println(DEBUG, tag, msg);
+	}
+
+	public static int d(String tag, String msg, Throwable tr)
+	{
+		return println(DEBUG, tag, msg + '\n' + getStackTraceString(tr));
+	}
+
+	public static int i(String tag, String msg)
+	{
+		return println(INFO, tag, msg);
+	}
+
+	public static int i(String tag, String msg, Throwable tr)
+	{
+		return println(INFO, tag, msg + '\n' + getStackTraceString(tr));
+	}
+
+	public static int w(String tag, String msg)
+	{
+		return println(WARN, tag, msg);
+	}
+
+	public static int w(String tag, String msg, Throwable tr)
+	{
+		return println(WARN, tag, msg + '\n' + getStackTraceString(tr));
+	}
+
+	public static int w(String tag, Throwable tr)
+	{
+		return println(WARN, tag, getStackTraceString(tr));
+	}
+
+	public static int e(String tag, String msg)
+	{
+		return println(ERROR, tag, msg);
+	}
+
+	public static int e(String tag, String msg, Throwable tr)
+	{
+		return println(ERROR, tag, msg + '\n' + getStackTraceString(tr));
+	}
+
+	public static boolean isLoggable(String tag, int level)
+	{
+		return level >= WARN;
+	}
+
+	public static String getStackTraceString(Throwable tr)
+	{
+		if (tr == null) {
+			return "";
+		}
+		StringWriter writer = new StringWriter();
+		tr.printStackTrace(new PrintWriter(writer));
+		return writer.toString();
+	}
+
+	public static int println(int priority, String tag, String msg)
+	{
+		if (priority < WARN) {
+			return 0;
+		}
+		String line = tag + ": " + msg;
+		System.err.println(line);
+		return line.length();
+	}
+}
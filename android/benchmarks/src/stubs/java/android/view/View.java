@@ -0,0 +1,235 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package android.view;
+
+import android.content.Context;
+import android.util.AttributeSet;
+
+/**
+ * JVM replacement of Android's view, whose constructor needs the resources and native renderer of a device.
+ * Only holds what measuring a layout uses. Unlike the real view, measure() always calls onMeasure(),
+ * so a benchmark sees the full cost of a layout's own measurement.
+ */
+public class View
+{
+	public static final int VISIBLE = 0x00000000;
+	public static final int INVISIBLE = 0x00000004;
+	public static final int GONE = 0x00000008;
+
+	public static class MeasureSpec
+	{
+		private static final int MODE_SHIFT = 30;
+		private static final int MODE_MASK = 0x3 << MODE_SHIFT;
+
+		public static final int UNSPECIFIED = 0 << MODE_SHIFT;
+		public static final int EXACTLY = 1 << MODE_SHIFT;
+		public static final int AT_MOST = 2 << MODE_SHIFT;
+
+		public static int makeMeasureSpec(int size, int mode)
+		{
+			return (size & ~MODE_MASK) | (mode & MODE_MASK);
+		}
+
+		public static int getMode(int measureSpec)
+		{
+			return (measureSpec & MODE_MASK);
+		}
+
+		public static int getSize(int measureSpec)
+		{
+			return (measureSpec & ~MODE_MASK);
+		}
+	}
+
+	private final Context context;
+	private ViewGroup.LayoutParams layoutParams;
+	private int visibility = VISIBLE;
+	private int measuredWidth;
+	private int measuredHeight;
+	private int minWidth;
+	private int minHeight;
+	private int left;
+	private int top;
+	private int right;
+	private int bottom;
+	private boolean layoutRequested = true;
+	ViewGroup parent;
+
+	public View(Context context)
+	{
+		this.context = context;
+	}
+
+	public View(Context context, AttributeSet attrs)
+	{
+		this(context);
+	}
+
+	public Context getContext()
+	{
+		return context;
+	}
+
+	public ViewGroup.LayoutParams getLayoutParams()
+	{
+		return layoutParams;
+	}
+
+	public void setLayoutParams(ViewGroup.LayoutParams params)
+	{
+		layoutParams = params;
+		requestLayout();
+	}
+
+	public int getVisibility()
+	{
+		return visibility;
+	}
+
+	public void setVisibility(int visibility)
+	{
+		this.visibility = visibility;
+	}
+
+	public void setMinimumWidth(int minWidth)
+	{
+		this.minWidth = minWidth;
+	}
+
+	public void setMinimumHeight(int minHeight)
+	{
+		this.minHeight = minHeight;
+	}
+
+	protected int getSuggestedMinimumWidth()
+	{
+		return minWidth;
+	}
+
+	protected int getSuggestedMinimumHeight()
+	{
+		return minHeight;
+	}
+
+	public int getPaddingLeft()
+	{
+		return 0;
+	}
+
+	public int getPaddingTop()
+	{
+		return 0;
+	}
+
+	public int getPaddingRight()
+	{
+		return 0;
+	}
+
+	public int getPaddingBottom()
+	{
+		return 0;
+	}
+
+	public final void measure(int widthMeasureSpec, int heightMeasureSpec)
+	{
+		onMeasure(widthMeasureSpec, heightMeasureSpec);
+	}
+
+	protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec)
+	{
+		setMeasuredDimension(getDefaultSize(getSuggestedMinimumWidth(), widthMeasureSpec),
+							 getDefaultSize(getSuggestedMinimumHeight(), heightMeasureSpec));
+	}
+
+	protected final void setMeasuredDimension(int measuredWidth, int measuredHeight)
+	{
+		this.measuredWidth = measuredWidth;
+		this.measuredHeight = measuredHeight;
+	}
+
+	public final int getMeasuredWidth()
+	{
+		return measuredWidth;
+	}
+
+	public final int getMeasuredHeight()
+	{
+		return measuredHeight;
+	}
+
+	public static int getDefaultSize(int size, int measureSpec)
+	{
+		switch (MeasureSpec.getMode(measureSpec)) {
+			case MeasureSpec.AT_MOST:
+			case MeasureSpec.EXACTLY:
+				return MeasureSpec.getSize(measureSpec);
+			default:
+				return size;
+		}
+	}
+
+	public static int resolveSize(int size, int measureSpec)
+	{
+		int specSize = MeasureSpec.getSize(measureSpec);
+		switch (MeasureSpec.getMode(measureSpec)) {
+			case MeasureSpec.AT_MOST:
+				return Math.min(size, specSize);
+			case MeasureSpec.EXACTLY:
+				return specSize;
+			default:
+				return size;
+		}
+	}
+
+	public void layout(int l, int t, int r, int b)
+	{
+		boolean changed = (left != l) || (top != t) || (right != r) || (bottom != b);
+		left = l;
+		top = t;
+		right = r;
+		bottom = b;
+		onLayout(changed, l, t, r, b);
+		layoutRequested = false;
+	}
+
+	protected void onLayout(boolean changed, int left, int top, int right, int bottom)
+	{
+	}
+
+	public final int getWidth()
+	{
+		return right - left;
+	}
+
+	public final int getHeight()
+	{
+		return bottom - top;
+	}
+
+	public boolean isLayoutRequested()
+	{
+		return layoutRequested;
+	}
+
+	public void requestLayout()
+	{
+		layoutRequested = true;
+		if (parent != null && !parent.isLayoutRequested()) {
+			parent.requestLayout();
+		}
+	}
+
+	public void forceLayout()
+	{
+		layoutRequested = true;
+	}
+
+	public void invalidate()
+	{
+	}
+}
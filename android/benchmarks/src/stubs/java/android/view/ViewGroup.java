@@ -0,0 +1,119 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package android.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import android.content.Context;
+import android.util.AttributeSet;
+
+/**
+ * JVM replacement of Android's view group, see {@link View}.
+ */
+public abstract class ViewGroup extends View
+{
+	public interface OnHierarchyChangeListener {
+		void onChildViewAdded(View parent, View child);
+
+		void onChildViewRemoved(View parent, View child);
+	}
+
+	public static class LayoutParams
+	{
+		public static final int FILL_PARENT = -1;
+		public static final int MATCH_PARENT = -1;
+		public static final int WRAP_CONTENT = -2;
+
+		public int width;
+		public int height;
+
+		public LayoutParams(int width, int height)
+		{
+			this.width = width;
+			this.height = height;
+		}
+
+		public LayoutParams(LayoutParams source)
+		{
+			this.width = source.width;
+			this.height = source.height;
+		}
+	}
+
+	private final List<View> children = new ArrayList<>();
+	private OnHierarchyChangeListener onHierarchyChangeListener;
+
+	public ViewGroup(Context context)
+	{
+		super(context);
+	}
+
+	public ViewGroup(Context context, AttributeSet attrs)
+	{
+		super(context, attrs);
+	}
+
+	public void setOnHierarchyChangeListener(OnHierarchyChangeListener listener)
+	{
+		onHierarchyChangeListener = listener;
+	}
+
+	public int getChildCount()
+	{
+		return children.size();
+	}
+
+	public View getChildAt(int index)
+	{
+		return children.get(index);
+	}
+
+	public void addView(View child, LayoutParams params)
+	{
+		if (!checkLayoutParams(params)) {
+			params = generateDefaultLayoutParams();
+		}
+		child.setLayoutParams(params);
+		child.parent = this;
+		children.add(child);
+		if (onHierarchyChangeListener != null) {
+			onHierarchyChangeListener.onChildViewAdded(this, child);
+		}
+		requestLayout();
+	}
+
+	protected boolean checkLayoutParams(LayoutParams p)
+	{
+		return p != null;
+	}
+
+	protected LayoutParams generateDefaultLayoutParams()
+	{
+		return new LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.WRAP_CONTENT);
+	}
+
+	@Override
+	protected abstract void onLayout(boolean changed, int l, int t, int r, int b);
+
+	public static int getChildMeasureSpec(int spec, int padding, int childDimension)
+	{
+		int specMode = MeasureSpec.getMode(spec);
+		int size = Math.max(0, MeasureSpec.getSize(spec) - padding);
+
+		if (childDimension >= 0) {
+			return MeasureSpec.makeMeasureSpec(childDimension, MeasureSpec.EXACTLY);
+		}
+		if (childDimension == LayoutParams.MATCH_PARENT && specMode != MeasureSpec.UNSPECIFIED) {
+			return MeasureSpec.makeMeasureSpec(size, specMode);
+		}
+		if (specMode == MeasureSpec.UNSPECIFIED) {
+			return MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED);
+		}
+		return MeasureSpec.makeMeasureSpec(size, MeasureSpec.AT_MOST);
+	}
+}
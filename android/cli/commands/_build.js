@@ -3210,6 +3210,9 @@ class AndroidBuilder extends Builder {
 			return locale;
 		}
 
+		// Names of all strings written below, so the app can tell its own strings apart from those of libraries.
+		const stringNames = new Set();
+
 		// Traverse all loaded i18n locales and write them to XML files under the Android "res" folder.
 		for (const locale in data) {
 			// Create a localized strings dictionary if no i18n "strings.xml" file was found.
@@ -3240,6 +3243,7 @@ class AndroidBuilder extends Builder {
 					badStringNames[locale].push(name);
 				} else {
 					const node = dom.createElement('string');
+					stringNames.add(name);
 					node.setAttribute('name', name);
 					node.setAttribute('formatted', 'false');
 					node.appendChild(dom.createTextNode(localeData.strings[name].replace(/\\?'/g, '\\\'').replace(/^\s+/g, replaceSpaces).replace(/\s+$/g, replaceSpaces)));
@@ -3259,6 +3263,25 @@ class AndroidBuilder extends Builder {
 			await fs.writeFile(filePath, '<?xml version="1.0" encoding="UTF-8"?>\n' + dom.documentElement.toString());
 		}
 
+		// Write the string names to a "string-array" resource, read by "Ti.Locale.getStrings()".
+		const namesDom = new DOMParser().parseFromString('<resources/>', 'text/xml');
+		const namesArray = namesDom.createElement('string-array');
+		namesArray.setAttribute('name', 'ti_i18n_string_names');
+		namesArray.setAttribute('translatable', 'false');
+		for (const name of stringNames) {
+			const node = namesDom.createElement('item');
+			node.appendChild(namesDom.createTextNode(name));
+			namesArray.appendChild(namesDom.createTextNode('\n\t\t'));
+			namesArray.appendChild(node);
+		}
+		namesArray.appendChild(namesDom.createTextNode('\n\t'));
+		namesDom.documentElement.appendChild(namesDom.createTextNode('\n\t'));
+		namesDom.documentElement.appendChild(namesArray);
+		namesDom.documentElement.appendChild(namesDom.createTextNode('\n'));
+		const namesDirPath = path.join(this.buildAppMainResDir, 'values');
+		await fs.ensureDir(namesDirPath);
+		await fs.writeFile(path.join(namesDirPath, 'ti_i18n_string_names.xml'), '<?xml version="1.0" encoding="UTF-8"?>\n' + namesDom.documentElement.toString());
+
 		if (Object.keys(badStringNames).length) {
 			this.logger.error('Found invalid i18n string names:');
 			Object.keys(badStringNames).forEach(function (locale) {
@@ -6,6 +6,7 @@
  */
 package ti.modules.titanium.app;
 
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.KrollRuntime;
 import org.appcelerator.kroll.annotations.Kroll;
@@ -15,6 +16,8 @@ import org.appcelerator.titanium.TiBaseActivity;
 import org.appcelerator.titanium.proxy.ActivityProxy;
 import org.appcelerator.titanium.proxy.IntentProxy;
 import org.appcelerator.titanium.proxy.RProxy;
+import org.appcelerator.titanium.util.TiParsedValueCache;
+import org.appcelerator.titanium.view.TiLayoutProfiler;
 
 import android.app.Activity;
 import android.content.Intent;
@@ -92,6 +95,67 @@ public class AndroidModule extends KrollModule
 		return appVersionName;
 	}
 
+	@Kroll.method
+	public void startLayoutProfiling()
+	{
+		TiLayoutProfiler.start();
+	}
+
+	@Kroll.method
+	public void stopLayoutProfiling()
+	{
+		TiLayoutProfiler.stop();
+	}
+
+	@Kroll.method
+	public KrollDict getLayoutReport()
+	{
+		return TiLayoutProfiler.getReport();
+	}
+
+	@Kroll.method
+	public void dumpLayoutReport()
+	{
+		TiLayoutProfiler.dump();
+	}
+
+	@Kroll.method
+	public KrollDict getCodeCacheStats()
+	{
+		KrollDict result = new KrollDict();
+		long[] stats = KrollRuntime.getInstance().getCodeCacheStats();
+		result.put("enabled", stats != null);
+		if (stats != null) {
+			result.put("hits", stats[0]);
+			result.put("misses", stats[1]);
+			result.put("rejects", stats[2]);
+			result.put("writes", stats[3]);
+			result.put("consumeTime", stats[4] / 1000.0);
+			result.put("compileTime", stats[5] / 1000.0);
+		}
+		return result;
+	}
+
+	@Kroll.method
+	public KrollDict getParsedValueCacheStats()
+	{
+		return TiParsedValueCache.getStats();
+	}
+
+	@Kroll.method
+	public KrollDict getCallbackQueueStats()
+	{
+		KrollDict stats = KrollRuntime.getInstance().getCallbackQueueStats();
+		return (stats != null) ? stats : new KrollDict();
+	}
+
+	@Kroll.method
+	public KrollDict getMemoryStats()
+	{
+		KrollDict stats = KrollRuntime.getInstance().getMemoryStats();
+		return (stats != null) ? stats : new KrollDict();
+	}
+
 	private void initializeVersionValues()
 	{
 		PackageInfo pInfo;
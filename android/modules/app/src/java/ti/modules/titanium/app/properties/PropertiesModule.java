@@ -6,6 +6,7 @@
  */
 package ti.modules.titanium.app.properties;
 
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.titanium.TiApplication;
@@ -51,6 +52,12 @@ public class PropertiesModule extends KrollModule
 		return appProperties.getString(key, null);
 	}
 
+	@Kroll.method
+	public KrollDict getAll(@Kroll.argument(optional = true) String[] keys)
+	{
+		return new KrollDict(appProperties.getAll(keys));
+	}
+
 	@Kroll.method
 	public boolean hasProperty(String key)
 	{
@@ -78,6 +85,14 @@ public class PropertiesModule extends KrollModule
 		appProperties.removeAllProperties();
 	}
 
+	@Kroll.method
+	public void setAll(KrollDict properties)
+	{
+		if (appProperties.setAll(properties)) {
+			fireEvent(TiC.EVENT_CHANGE, null);
+		}
+	}
+
 	@Kroll.method
 	public void setBool(String key, boolean value)
 	{
@@ -8,6 +8,7 @@ package ti.modules.titanium.database;
 
 import java.util.HashMap;
 
+import org.appcelerator.kroll.KrollExternalMemory;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
@@ -23,9 +24,16 @@ public class TiResultSetProxy extends KrollProxy
 {
 	private static final String TAG = "TiResultSet";
 
+	// Approximate memory held by a cursor until it is closed: Android's default cursor window size.
+	// The window is shared memory outside of the Java heap, reserved at this size but only backed by
+	// memory as rows are filled in, and Android does not expose how much is in use. Reporting the full
+	// size is an upper bound, which errs on the side of collecting unclosed result sets sooner.
+	private static final long CURSOR_WINDOW_BYTES = 2 * 1024 * 1024;
+
 	protected Cursor rs;
 	protected String lastException;
 	protected HashMap<String, Integer> columnNames; // workaround case-sensitive matching in Google's implementation
+	private KrollExternalMemory externalMemory;
 
 	public TiResultSetProxy(Cursor rs)
 	{
@@ -37,6 +45,9 @@ public class TiResultSetProxy extends KrollProxy
 		for (int i = 0; i < names.length; i++) {
 			columnNames.put(names[i].toLowerCase(), i);
 		}
+		if (rs instanceof AbstractWindowedCursor) {
+			this.externalMemory = KrollExternalMemory.track(this, CURSOR_WINDOW_BYTES);
+		}
 	}
 
 	@Kroll.method
@@ -45,6 +56,9 @@ public class TiResultSetProxy extends KrollProxy
 		if (rs != null && !rs.isClosed()) {
 			Log.d(TAG, "Closing database cursor", Log.DEBUG_MODE);
 			rs.close();
+			if (externalMemory != null) {
+				externalMemory.release();
+			}
 		} else {
 			Log.w(TAG, "Calling close on a closed cursor.", Log.DEBUG_MODE);
 		}
@@ -6,6 +6,7 @@
  */
 package ti.modules.titanium.geolocation;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -46,6 +47,7 @@ import android.location.LocationManager;
 import android.location.LocationProvider;
 import android.os.Build;
 import android.os.Handler;
+import android.os.Looper;
 import android.os.Message;
 
 import androidx.annotation.NonNull;
@@ -149,6 +151,9 @@ public class GeolocationModule extends KrollModule implements Handler.Callback,
 	private FusedLocationProvider fusedLocationProvider;
 	private Geocoder geocoder;
 	private LocationManager locationManager;
+	private LocationBatcher locationBatcher;
+	private final Handler batchHandler = new Handler(Looper.getMainLooper());
+	private final Runnable batchFlushRunnable = this::deliverLocationBatch;
 
 	/**
 	 * Constructor
@@ -240,14 +245,107 @@ public class GeolocationModule extends KrollModule implements Handler.Callback,
 
 		// Fire 'location' event listeners.
 		if (shouldUseUpdate(location)) {
-			if (numLocationListeners > 0) {
+			if (hasListeners(TiC.EVENT_LOCATION)) {
 				fireEvent(TiC.EVENT_LOCATION,
 					buildLocationEvent(location, tiLocation.locationManager.getProvider(location.getProvider())));
 			}
 			currentLocation = location;
+
+			if (locationBatcher != null) {
+				addToLocationBatch(location);
+			}
+		}
+	}
+
+	/**
+	 * Buffers a fix for the 'locations' event, delivering the batch once it is full or
+	 * once the batch interval has passed since its first fix.
+	 *
+	 * @param location			location update that passed the location rules
+	 */
+	private void addToLocationBatch(Location location)
+	{
+		if (locationBatcher.add(location)) {
+			deliverLocationBatch();
+		} else if (locationBatcher.size() == 1) {
+			scheduleLocationBatch();
+		}
+	}
+
+	private void scheduleLocationBatch()
+	{
+		batchHandler.removeCallbacks(batchFlushRunnable);
+		if (locationBatcher != null && locationBatcher.getInterval() > 0) {
+			batchHandler.postDelayed(batchFlushRunnable, locationBatcher.getInterval());
 		}
 	}
 
+	/**
+	 * Fires the buffered fixes as one 'locations' event. Without listeners the fixes stay
+	 * buffered (and persisted, if enabled) until one is added.
+	 */
+	private void deliverLocationBatch()
+	{
+		batchHandler.removeCallbacks(batchFlushRunnable);
+		if (locationBatcher == null || !hasListeners(TiC.EVENT_LOCATIONS)) {
+			return;
+		}
+		KrollDict event = locationBatcher.drain();
+		if (event != null) {
+			fireEvent(TiC.EVENT_LOCATIONS, event);
+		}
+	}
+
+	/**
+	 * Starts buffering location updates natively and delivering them in batches through
+	 * the 'locations' event instead of one 'location' event per fix.
+	 *
+	 * @param options			batching options (maxFixes, interval, distanceFilter, accuracyFilter,
+	 * 							simplifyTolerance, maxBufferedFixes, persist)
+	 */
+	@Kroll.method
+	public void startBatching(@Kroll.argument(optional = true) KrollDict options)
+	{
+		if (options == null) {
+			options = new KrollDict();
+		}
+		stopBatching();
+
+		File persistFile = null;
+		if (options.optBoolean("persist", false)) {
+			persistFile = new File(TiApplication.getInstance().getNoBackupFilesDir(), "ti.geolocation.batch");
+		}
+		locationBatcher = new LocationBatcher(options, persistFile);
+
+		// Fixes restored from a previous session go out with the next batch.
+		if (locationBatcher.size() > 0) {
+			scheduleLocationBatch();
+		}
+	}
+
+	/**
+	 * Delivers any buffered fixes and stops batching.
+	 */
+	@Kroll.method
+	public void stopBatching()
+	{
+		if (locationBatcher == null) {
+			return;
+		}
+		deliverLocationBatch();
+		locationBatcher.close();
+		locationBatcher = null;
+	}
+
+	/**
+	 * Delivers the buffered fixes now instead of waiting for the batch to fill up.
+	 */
+	@Kroll.method
+	public void flushLocations()
+	{
+		deliverLocationBatch();
+	}
+
 	/**
 	 * Called by a registered location provider when its state changes
 	 *
@@ -385,7 +483,7 @@ public class GeolocationModule extends KrollModule implements Handler.Callback,
 				compassListenersRegistered = true;
 			}
 
-		} else if (TiC.EVENT_LOCATION.equals(event)) {
+		} else if (TiC.EVENT_LOCATION.equals(event) || TiC.EVENT_LOCATIONS.equals(event)) {
 			numLocationListeners++;
 			// if we now have a 'location' event listener and haven't enabled location providers due to getCurrentPosition()
 			// then enable them now
@@ -399,6 +497,15 @@ public class GeolocationModule extends KrollModule implements Handler.Callback,
 				enableLocationProviders(locationProviders);
 			}
 
+			// batched fixes that were held back while nobody was listening go out with the next batch
+			if (TiC.EVENT_LOCATIONS.equals(event)) {
+				if (locationBatcher != null && locationBatcher.size() > 0) {
+					scheduleLocationBatch();
+				}
+				super.eventListenerAdded(event, count, proxy);
+				return;
+			}
+
 			// fire off an initial location fix if one is available
 			if (!hasLocationPermissions()) {
 				Log.e(TAG, "Location permissions missing"); // TODO: Fire 'location' event with error?
@@ -425,7 +532,7 @@ public class GeolocationModule extends KrollModule implements Handler.Callback,
 				tiCompass.unregisterListener();
 				compassListenersRegistered = false;
 			}
-		} else if (TiC.EVENT_LOCATION.equals(event)) {
+		} else if (TiC.EVENT_LOCATION.equals(event) || TiC.EVENT_LOCATIONS.equals(event)) {
 			numLocationListeners--;
 			// disable location providers if no getCurrentPosition() calls are pending
 			if (currentPositionCallback.size() == 0) {
@@ -1047,6 +1154,10 @@ public class GeolocationModule extends KrollModule implements Handler.Callback,
 			compassListenersRegistered = false;
 		}
 		disableLocationProviders();
+		batchHandler.removeCallbacks(batchFlushRunnable);
+		if (locationBatcher != null) {
+			locationBatcher.close();
+		}
 		super.onDestroy(activity);
 	}
 }
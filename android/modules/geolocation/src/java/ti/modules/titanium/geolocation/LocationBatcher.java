@@ -0,0 +1,456 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.geolocation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiC;
+
+import android.location.Location;
+
+/**
+ * Collects location fixes natively and hands them out in batches.
+ * <p>
+ * Fixes are kept in parallel primitive arrays used as a ring, rather than one object per fix.
+ * Fixes that are too inaccurate or too close to the previously accepted one are dropped on
+ * arrival, and a batch can optionally be simplified (Douglas-Peucker) before it is delivered.
+ * When persistence is enabled every accepted fix is also appended to a file, so a batch that
+ * has not been delivered yet survives the process being killed. Once the file holds as many
+ * dropped fixes as the ring can buffer, it is rewritten with only the buffered ones.
+ */
+public class LocationBatcher
+{
+	private static final String TAG = "LocationBatcher";
+
+	private static final int INITIAL_CAPACITY = 32;
+	private static final double EARTH_RADIUS = 6371008.8;
+
+	// Size of one persisted fix: latitude, longitude, altitude, accuracy, heading, speed, timestamp.
+	static final int RECORD_SIZE = 3 * 8 + 3 * 4 + 8;
+
+	private final int maxFixes;
+	private final long interval;
+	private final double distanceFilter;
+	private final double accuracyFilter;
+	private final double simplifyTolerance;
+	private final int maxBufferedFixes;
+	private final File persistFile;
+
+	private double[] latitudes = new double[INITIAL_CAPACITY];
+	private double[] longitudes = new double[INITIAL_CAPACITY];
+	private double[] altitudes = new double[INITIAL_CAPACITY];
+	private float[] accuracies = new float[INITIAL_CAPACITY];
+	private float[] headings = new float[INITIAL_CAPACITY];
+	private float[] speeds = new float[INITIAL_CAPACITY];
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	// Array index of the oldest fix. Fix "i" lives at slot(i).
+	private int head = 0;
+	private int count = 0;
+
+	private double lastLatitude = Double.NaN;
+	private double lastLongitude = Double.NaN;
+	private int filteredCount = 0;
+	private int droppedCount = 0;
+	private DataOutputStream persistStream;
+	// Fixes in the persist file, including the ones the ring has dropped since.
+	private int persistedCount = 0;
+
+	/**
+	 * @param options the options passed to Ti.Geolocation.startBatching().
+	 * @param persistFile file fixes are persisted to, or null to keep them in memory only.
+	 */
+	public LocationBatcher(KrollDict options, File persistFile)
+	{
+		maxFixes = Math.max(options.optInt("maxFixes", 50), 1);
+		interval = Math.max(options.optInt("interval", 60000), 0);
+		distanceFilter = options.optDouble("distanceFilter", 0.0);
+		accuracyFilter = options.optDouble("accuracyFilter", 0.0);
+		simplifyTolerance = options.optDouble("simplifyTolerance", 0.0);
+		maxBufferedFixes = Math.max(options.optInt("maxBufferedFixes", 10000), maxFixes);
+		this.persistFile = persistFile;
+
+		if (persistFile != null) {
+			restore();
+		}
+	}
+
+	public int getMaxFixes()
+	{
+		return maxFixes;
+	}
+
+	/**
+	 * @return the maximum time, in milliseconds, a fix waits before its batch is delivered. 0 disables the timer.
+	 */
+	public long getInterval()
+	{
+		return interval;
+	}
+
+	public int size()
+	{
+		return count;
+	}
+
+	/**
+	 * Adds a fix unless it is filtered out.
+	 *
+	 * @return true if the batch is now full and should be delivered.
+	 */
+	public boolean add(Location location)
+	{
+		float accuracy = location.hasAccuracy() ? location.getAccuracy() : 0;
+		return add(location.getLatitude(), location.getLongitude(), location.getAltitude(), accuracy,
+				   location.getBearing(), location.getSpeed(), location.getTime());
+	}
+
+	/**
+	 * Adds a fix unless it is filtered out. An accuracy of 0 means the fix has no accuracy.
+	 *
+	 * @return true if the batch is now full and should be delivered.
+	 */
+	boolean add(double latitude, double longitude, double altitude, float accuracy, float heading, float speed,
+				long timestamp)
+	{
+		if (accuracyFilter > 0 && accuracy > accuracyFilter) {
+			filteredCount++;
+			return false;
+		}
+		if (distanceFilter > 0 && !Double.isNaN(lastLatitude)
+			&& distanceBetween(lastLatitude, lastLongitude, latitude, longitude) < distanceFilter) {
+			filteredCount++;
+			return false;
+		}
+		lastLatitude = latitude;
+		lastLongitude = longitude;
+
+		append(latitude, longitude, altitude, accuracy, heading, speed, timestamp);
+		persist(slot(count - 1));
+		return count >= maxFixes;
+	}
+
+	/**
+	 * Removes every buffered fix and packages them as a "locations" event.
+	 *
+	 * @return the event, or null if there is nothing to deliver.
+	 */
+	public KrollDict drain()
+	{
+		if (count == 0) {
+			return null;
+		}
+
+		boolean[] keep = simplify();
+		int kept = 0;
+		Object[] locations = new Object[count];
+		for (int i = 0; i < count; i++) {
+			if (keep != null && !keep[i]) {
+				continue;
+			}
+			int slot = slot(i);
+			KrollDict coordinates = new KrollDict(8);
+			coordinates.put(TiC.PROPERTY_LATITUDE, latitudes[slot]);
+			coordinates.put(TiC.PROPERTY_LONGITUDE, longitudes[slot]);
+			coordinates.put(TiC.PROPERTY_ALTITUDE, altitudes[slot]);
+			coordinates.put(TiC.PROPERTY_ACCURACY, accuracies[slot]);
+			coordinates.put(TiC.PROPERTY_HEADING, headings[slot]);
+			coordinates.put(TiC.PROPERTY_SPEED, speeds[slot]);
+			coordinates.put(TiC.PROPERTY_TIMESTAMP, timestamps[slot]);
+			locations[kept++] = coordinates;
+		}
+		if (kept < count) {
+			Object[] trimmed = new Object[kept];
+			System.arraycopy(locations, 0, trimmed, 0, kept);
+			locations = trimmed;
+		}
+
+		KrollDict event = new KrollDict();
+		event.putCodeAndMessage(TiC.ERROR_CODE_NO_ERROR, null);
+		event.put("locations", locations);
+		event.put("filtered", filteredCount);
+		event.put("simplified", count - kept);
+		event.put("dropped", droppedCount);
+
+		head = 0;
+		count = 0;
+		filteredCount = 0;
+		droppedCount = 0;
+		clearPersisted();
+		return event;
+	}
+
+	/**
+	 * Closes the persistence file. Buffered fixes remain on disk for the next batcher.
+	 */
+	public void close()
+	{
+		if (persistStream != null) {
+			try {
+				persistStream.close();
+			} catch (IOException e) {
+				// Nothing else to do.
+			}
+			persistStream = null;
+		}
+	}
+
+	private void append(double latitude, double longitude, double altitude, float accuracy, float heading,
+						float speed, long timestamp)
+	{
+		if (count == maxBufferedFixes) {
+			// Buffer is full, drop the oldest fix by advancing the head over it.
+			head = slot(1);
+			count--;
+			droppedCount++;
+		}
+		if (count == latitudes.length) {
+			grow(Math.min(latitudes.length * 2, maxBufferedFixes));
+		}
+		int slot = slot(count);
+		latitudes[slot] = latitude;
+		longitudes[slot] = longitude;
+		altitudes[slot] = altitude;
+		accuracies[slot] = accuracy;
+		headings[slot] = heading;
+		speeds[slot] = speed;
+		timestamps[slot] = timestamp;
+		count++;
+	}
+
+	/**
+	 * @return the array index of the i-th oldest fix.
+	 */
+	private int slot(int i)
+	{
+		int slot = head + i;
+		return (slot < latitudes.length) ? slot : slot - latitudes.length;
+	}
+
+	/**
+	 * Re-allocates the arrays, unwrapping the ring so the oldest fix moves to index 0.
+	 */
+	private void grow(int capacity)
+	{
+		int oldCapacity = latitudes.length;
+		latitudes = unwrap(latitudes, new double[capacity], oldCapacity);
+		longitudes = unwrap(longitudes, new double[capacity], oldCapacity);
+		altitudes = unwrap(altitudes, new double[capacity], oldCapacity);
+		accuracies = unwrap(accuracies, new float[capacity], oldCapacity);
+		headings = unwrap(headings, new float[capacity], oldCapacity);
+		speeds = unwrap(speeds, new float[capacity], oldCapacity);
+		timestamps = unwrap(timestamps, new long[capacity], oldCapacity);
+		head = 0;
+	}
+
+	private <T> T unwrap(T array, T copy, int oldCapacity)
+	{
+		int first = Math.min(count, oldCapacity - head);
+		System.arraycopy(array, head, copy, 0, first);
+		System.arraycopy(array, 0, copy, first, count - first);
+		return copy;
+	}
+
+	/**
+	 * Runs Douglas-Peucker over the buffered track.
+	 *
+	 * @return which fixes to keep, or null to keep all of them.
+	 */
+	private boolean[] simplify()
+	{
+		if (simplifyTolerance <= 0 || count < 3) {
+			return null;
+		}
+
+		// Project onto a local plane in meters around the first fix.
+		double[] x = new double[count];
+		double[] y = new double[count];
+		int origin = slot(0);
+		double cosLatitude = Math.cos(Math.toRadians(latitudes[origin]));
+		for (int i = 0; i < count; i++) {
+			int slot = slot(i);
+			x[i] = Math.toRadians(longitudes[slot] - longitudes[origin]) * cosLatitude * EARTH_RADIUS;
+			y[i] = Math.toRadians(latitudes[slot] - latitudes[origin]) * EARTH_RADIUS;
+		}
+
+		boolean[] keep = new boolean[count];
+		keep[0] = true;
+		keep[count - 1] = true;
+
+		// Iterative to avoid deep recursion on long tracks.
+		int[] stack = new int[count * 2];
+		int top = 0;
+		stack[top++] = 0;
+		stack[top++] = count - 1;
+		while (top > 0) {
+			int last = stack[--top];
+			int first = stack[--top];
+			double maxDistance = 0;
+			int index = -1;
+			for (int i = first + 1; i < last; i++) {
+				double distance = distanceToSegment(x[i], y[i], x[first], y[first], x[last], y[last]);
+				if (distance > maxDistance) {
+					maxDistance = distance;
+					index = i;
+				}
+			}
+			if (index != -1 && maxDistance > simplifyTolerance) {
+				keep[index] = true;
+				stack[top++] = first;
+				stack[top++] = index;
+				stack[top++] = index;
+				stack[top++] = last;
+			}
+		}
+		return keep;
+	}
+
+	/**
+	 * @return the great-circle distance in meters between two coordinates.
+	 */
+	static double distanceBetween(double latitude1, double longitude1, double latitude2, double longitude2)
+	{
+		double sinLatitude = Math.sin(Math.toRadians(latitude2 - latitude1) / 2);
+		double sinLongitude = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+		double a = sinLatitude * sinLatitude
+				   + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2)) * sinLongitude
+						 * sinLongitude;
+		return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+
+	private static double distanceToSegment(double px, double py, double ax, double ay, double bx, double by)
+	{
+		double dx = bx - ax;
+		double dy = by - ay;
+		double lengthSquared = dx * dx + dy * dy;
+		double t = (lengthSquared > 0) ? ((px - ax) * dx + (py - ay) * dy) / lengthSquared : 0;
+		t = Math.max(0, Math.min(1, t));
+		double cx = ax + t * dx - px;
+		double cy = ay + t * dy - py;
+		return Math.sqrt(cx * cx + cy * cy);
+	}
+
+	private void persist(int index)
+	{
+		if (persistFile == null) {
+			return;
+		}
+		if (persistedCount - count >= maxBufferedFixes) {
+			compactPersisted();
+			return;
+		}
+		try {
+			if (persistStream == null) {
+				persistStream =
+					new DataOutputStream(new BufferedOutputStream(new FileOutputStream(persistFile, true)));
+			}
+			writeFix(persistStream, index);
+			persistStream.flush();
+			persistedCount++;
+		} catch (IOException e) {
+			Log.w(TAG, "Unable to persist location fix: " + e.getMessage());
+		}
+	}
+
+	private void writeFix(DataOutputStream output, int index) throws IOException
+	{
+		output.writeDouble(latitudes[index]);
+		output.writeDouble(longitudes[index]);
+		output.writeDouble(altitudes[index]);
+		output.writeFloat(accuracies[index]);
+		output.writeFloat(headings[index]);
+		output.writeFloat(speeds[index]);
+		output.writeLong(timestamps[index]);
+	}
+
+	/**
+	 * Rewrites the persist file with only the buffered fixes, dropping the ones the ring no longer holds.
+	 * The new file replaces the old one in a single rename, so a kill while writing loses nothing.
+	 */
+	private void compactPersisted()
+	{
+		close();
+		File compactFile = new File(persistFile.getPath() + ".tmp");
+		try (DataOutputStream output =
+				 new DataOutputStream(new BufferedOutputStream(new FileOutputStream(compactFile)))) {
+			for (int i = 0; i < count; i++) {
+				writeFix(output, slot(i));
+			}
+		} catch (IOException e) {
+			Log.w(TAG, "Unable to compact persisted location fixes: " + e.getMessage());
+			compactFile.delete();
+			return;
+		}
+		if (compactFile.renameTo(persistFile)) {
+			persistedCount = count;
+		} else {
+			Log.w(TAG, "Unable to replace persisted location fixes");
+			compactFile.delete();
+		}
+	}
+
+	private void restore()
+	{
+		if (!persistFile.exists()) {
+			return;
+		}
+
+		// Cut off a partially written last record, so fixes appended from now on line up again.
+		long length = persistFile.length();
+		long validLength = length - (length % RECORD_SIZE);
+		if (validLength != length) {
+			try (RandomAccessFile file = new RandomAccessFile(persistFile, "rw")) {
+				file.setLength(validLength);
+			} catch (IOException e) {
+				Log.w(TAG, "Unable to truncate persisted location fixes: " + e.getMessage());
+			}
+		}
+
+		try (DataInputStream input =
+				 new DataInputStream(new BufferedInputStream(new FileInputStream(persistFile)))) {
+			while (true) {
+				append(input.readDouble(), input.readDouble(), input.readDouble(), input.readFloat(),
+					   input.readFloat(), input.readFloat(), input.readLong());
+			}
+		} catch (EOFException e) {
+			// End of file.
+		} catch (IOException e) {
+			Log.w(TAG, "Unable to restore persisted location fixes: " + e.getMessage());
+		}
+		if (count > 0) {
+			lastLatitude = latitudes[slot(count - 1)];
+			lastLongitude = longitudes[slot(count - 1)];
+		}
+
+		persistedCount = (int) (validLength / RECORD_SIZE);
+		if (persistedCount > count) {
+			compactPersisted();
+		}
+	}
+
+	private void clearPersisted()
+	{
+		if (persistFile == null) {
+			return;
+		}
+		close();
+		persistedCount = 0;
+		if (persistFile.exists() && !persistFile.delete()) {
+			Log.w(TAG, "Unable to clear persisted location fixes");
+		}
+	}
+}
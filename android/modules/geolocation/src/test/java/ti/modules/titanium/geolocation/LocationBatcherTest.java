@@ -0,0 +1,213 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.geolocation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.titanium.TiC;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LocationBatcherTest
+{
+	// Roughly 1.1 meters of latitude or of longitude at the equator.
+	private static final double METER = 0.00001;
+
+	private File directory;
+	private File file;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		this.directory = Files.createTempDirectory("batcher").toFile();
+		this.file = new File(this.directory, "fixes");
+	}
+
+	@After
+	public void tearDown()
+	{
+		this.file.delete();
+		this.directory.delete();
+	}
+
+	private static KrollDict options(Object... keyValues)
+	{
+		KrollDict options = new KrollDict();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			options.put((String) keyValues[i], keyValues[i + 1]);
+		}
+		return options;
+	}
+
+	private static void add(LocationBatcher batcher, double latitude, double longitude, long timestamp)
+	{
+		batcher.add(latitude, longitude, 0, 5, 0, 0, timestamp);
+	}
+
+	private static Object[] locations(KrollDict event)
+	{
+		return (Object[]) event.get("locations");
+	}
+
+	private static long timestampOf(Object location)
+	{
+		return ((Number) ((KrollDict) location).get(TiC.PROPERTY_TIMESTAMP)).longValue();
+	}
+
+	@Test
+	public void signalsFullBatch()
+	{
+		LocationBatcher batcher = new LocationBatcher(options("maxFixes", 3), null);
+		assertFalse(batcher.add(0, 0, 0, 5, 0, 0, 1));
+		assertFalse(batcher.add(0, 1, 0, 5, 0, 0, 2));
+		assertTrue(batcher.add(0, 2, 0, 5, 0, 0, 3));
+
+		KrollDict event = batcher.drain();
+		assertEquals(3, locations(event).length);
+		assertEquals(0, batcher.size());
+		assertNull(batcher.drain());
+	}
+
+	@Test
+	public void filtersInaccurateAndNearbyFixes()
+	{
+		LocationBatcher batcher =
+			new LocationBatcher(options("accuracyFilter", 50.0, "distanceFilter", 10.0), null);
+		batcher.add(0, 0, 0, 100, 0, 0, 1);
+		add(batcher, 0, 0, 2);
+		add(batcher, 0, 5 * METER, 3);
+		add(batcher, 0, 100 * METER, 4);
+		add(batcher, 5 * METER, 100 * METER, 5);
+
+		KrollDict event = batcher.drain();
+		Object[] locations = locations(event);
+		assertEquals(2, locations.length);
+		assertEquals(2, timestampOf(locations[0]));
+		assertEquals(4, timestampOf(locations[1]));
+		assertEquals(3, event.get("filtered"));
+	}
+
+	@Test
+	public void distanceBetweenMatchesKnownDistance()
+	{
+		// One degree of latitude is about 111.2 km.
+		assertEquals(111195, LocationBatcher.distanceBetween(0, 0, 1, 0), 1);
+		assertEquals(0, LocationBatcher.distanceBetween(45, 45, 45, 45), 0);
+	}
+
+	@Test
+	public void simplifiesTrack()
+	{
+		LocationBatcher batcher = new LocationBatcher(options("simplifyTolerance", 5.0), null);
+		// East along the equator, a corner, then north, with a 1 meter wobble on every other fix.
+		long timestamp = 0;
+		for (int i = 0; i <= 10; i++) {
+			add(batcher, (i % 2) * METER, i * 100 * METER, timestamp++);
+		}
+		for (int i = 1; i <= 10; i++) {
+			add(batcher, i * 100 * METER, 1000 * METER + (i % 2) * METER, timestamp++);
+		}
+
+		KrollDict event = batcher.drain();
+		Object[] locations = locations(event);
+		assertEquals(3, locations.length);
+		assertEquals(0, timestampOf(locations[0]));
+		assertEquals(10, timestampOf(locations[1]));
+		assertEquals(20, timestampOf(locations[2]));
+		assertEquals(18, event.get("simplified"));
+	}
+
+	@Test
+	public void dropsOldestFixesWhenBufferIsFull()
+	{
+		LocationBatcher batcher = new LocationBatcher(options("maxFixes", 2, "maxBufferedFixes", 40), null);
+		for (int i = 0; i < 100; i++) {
+			add(batcher, 0, i, i);
+		}
+		assertEquals(40, batcher.size());
+
+		KrollDict event = batcher.drain();
+		Object[] locations = locations(event);
+		assertEquals(40, locations.length);
+		for (int i = 0; i < 40; i++) {
+			assertEquals(60 + i, timestampOf(locations[i]));
+		}
+		assertEquals(60, event.get("dropped"));
+
+		// The ring starts over after a drain.
+		add(batcher, 0, 0, 100);
+		assertEquals(100, timestampOf(locations(batcher.drain())[0]));
+	}
+
+	@Test
+	public void restoresPersistedFixes()
+	{
+		LocationBatcher batcher = new LocationBatcher(options(), this.file);
+		for (int i = 0; i < 3; i++) {
+			add(batcher, 0, i, i);
+		}
+		batcher.close();
+
+		LocationBatcher restored = new LocationBatcher(options(), this.file);
+		assertEquals(3, restored.size());
+		assertEquals(2, timestampOf(locations(restored.drain())[2]));
+		assertFalse(this.file.exists());
+	}
+
+	@Test
+	public void compactsPersistedFixesWhenBufferIsFull()
+	{
+		LocationBatcher batcher = new LocationBatcher(options("maxFixes", 2, "maxBufferedFixes", 10), this.file);
+		for (int i = 0; i < 100; i++) {
+			add(batcher, 0, i, i);
+			assertTrue(this.file.length() <= 2 * 10 * LocationBatcher.RECORD_SIZE);
+		}
+		batcher.close();
+
+		LocationBatcher restored = new LocationBatcher(options("maxFixes", 2, "maxBufferedFixes", 10), this.file);
+		assertEquals(10 * LocationBatcher.RECORD_SIZE, this.file.length());
+		Object[] locations = locations(restored.drain());
+		assertEquals(10, locations.length);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(90 + i, timestampOf(locations[i]));
+		}
+	}
+
+	@Test
+	public void truncatesPartialRecord() throws IOException
+	{
+		LocationBatcher batcher = new LocationBatcher(options(), this.file);
+		add(batcher, 0, 0, 0);
+		add(batcher, 0, 1, 1);
+		batcher.close();
+		try (FileOutputStream output = new FileOutputStream(this.file, true)) {
+			output.write(new byte[] { 1, 2, 3, 4, 5 });
+		}
+
+		LocationBatcher restored = new LocationBatcher(options(), this.file);
+		assertEquals(2, restored.size());
+		assertEquals(2 * LocationBatcher.RECORD_SIZE, this.file.length());
+
+		// A fix appended after the partial record was cut off is restored intact.
+		add(restored, 0, 2, 2);
+		restored.close();
+		LocationBatcher reopened = new LocationBatcher(options(), this.file);
+		Object[] locations = locations(reopened.drain());
+		assertEquals(3, locations.length);
+		assertEquals(2, timestampOf(locations[2]));
+	}
+}
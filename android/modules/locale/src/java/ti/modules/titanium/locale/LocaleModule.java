@@ -12,6 +12,7 @@ import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Locale;
 
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
@@ -240,7 +241,11 @@ public class LocaleModule extends KrollModule
 		}
 
 		try {
-			int resid = TiRHelper.getResource("string." + key.replace(".", "_"));
+			int resid = StringTable.getResourceId(key);
+			if (resid == 0) {
+				// Not an i18n string, fall back to library and Android strings.
+				resid = TiRHelper.getResource("string." + StringTable.toResourceName(key));
+			}
 			if (resid != 0) {
 				return TiApplication.getInstance().getString(resid);
 			} else {
@@ -255,6 +260,16 @@ public class LocaleModule extends KrollModule
 		}
 	}
 
+	/**
+	 * Fetches all of the app's i18n strings in one call, so L() can look them up in JavaScript.
+	 * @return dictionary of keys and their values for the current locale. Periods in keys are replaced by underscores.
+	 */
+	@Kroll.method
+	public KrollDict getStrings()
+	{
+		return StringTable.getStrings();
+	}
+
 	private Locale getLocaleFrom(Object value, Locale defaultLocale)
 	{
 		String localeName = null;
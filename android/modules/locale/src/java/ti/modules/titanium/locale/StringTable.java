@@ -0,0 +1,98 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.locale;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiApplication;
+import org.appcelerator.titanium.util.TiRHelper;
+
+import android.content.res.Resources;
+
+/**
+ * Index of the application's own i18n strings, mapping resource names to resource IDs.
+ * <p>
+ * The build lists the names of the i18n strings in the "ti_i18n_string_names" array resource.
+ * Only those are indexed, since "R.string" also holds the strings of every bundled library.
+ * The index is built the first time it is needed and does not depend on the locale,
+ * only the values resolved through it do.
+ */
+class StringTable
+{
+	private static final String TAG = "StringTable";
+
+	private static Map<String, Integer> index;
+
+	private StringTable()
+	{
+	}
+
+	private static synchronized Map<String, Integer> getIndex()
+	{
+		if (index != null) {
+			return index;
+		}
+
+		HashMap<String, Integer> map = new HashMap<>();
+		TiApplication app = TiApplication.getInstance();
+		Resources resources = app.getResources();
+		String packageName = app.getPackageName();
+		try {
+			int namesId = TiRHelper.getApplicationResource("array.ti_i18n_string_names");
+			for (String key : resources.getStringArray(namesId)) {
+				String name = toResourceName(key);
+				int id = resources.getIdentifier(name, "string", packageName);
+				if (id != 0) {
+					map.put(name, id);
+				}
+			}
+		} catch (TiRHelper.ResourceNotFoundException e) {
+			Log.w(TAG, "App was built without a list of its i18n strings.");
+		}
+		index = map;
+		return index;
+	}
+
+	/**
+	 * Converts a localization key to its resource name, since resource names cannot contain periods.
+	 */
+	static String toResourceName(String key)
+	{
+		return (key.indexOf('.') >= 0) ? key.replace('.', '_') : key;
+	}
+
+	/**
+	 * @return the resource ID of the given localization key, or 0 if it is not one of the app's i18n strings.
+	 */
+	static int getResourceId(String key)
+	{
+		Integer id = getIndex().get(toResourceName(key));
+		return (id != null) ? id : 0;
+	}
+
+	/**
+	 * Resolves every i18n string of the app for the current locale.
+	 * @return dictionary of resource names and their localized values.
+	 */
+	static KrollDict getStrings()
+	{
+		Map<String, Integer> map = getIndex();
+		Resources resources = TiApplication.getInstance().getResources();
+		KrollDict result = new KrollDict(map.size());
+		for (Map.Entry<String, Integer> entry : map.entrySet()) {
+			try {
+				result.put(entry.getKey(), resources.getString(entry.getValue()));
+			} catch (Resources.NotFoundException e) {
+				// String has no value for the current configuration.
+			}
+		}
+		return result;
+	}
+}
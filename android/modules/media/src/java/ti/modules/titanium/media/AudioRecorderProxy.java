@@ -7,15 +7,20 @@
 package ti.modules.titanium.media;
 
 import org.appcelerator.kroll.annotations.Kroll;
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.KrollRuntime;
 import org.appcelerator.titanium.TiFileProxy;
 import org.appcelerator.titanium.io.TiBaseFile;
 import org.appcelerator.titanium.io.TiFileFactory;
 
+import ti.modules.titanium.BufferProxy;
+
 @Kroll.proxy(creatableInModule = MediaModule.class)
 public class AudioRecorderProxy extends KrollProxy
 {
+	private static final String EVENT_DATA = "data";
+
 	TiAudioRecorder tiAudioRecorder;
 	KrollRuntime.OnDisposingListener runtimeOnDisposingListener;
 
@@ -24,6 +29,25 @@ public class AudioRecorderProxy extends KrollProxy
 		// Create the microphone handler.
 		this.tiAudioRecorder = new TiAudioRecorder();
 
+		// Deliver recorded PCM to JavaScript while recording, if anyone is listening.
+		// Called on the recorder's writer thread. fireEvent() hands the copy over to the JS thread.
+		this.tiAudioRecorder.setPcmListener(new TiAudioRecorder.PcmListener() {
+			@Override
+			public void onPcmData(byte[] data, int length)
+			{
+				if (!hasListeners(EVENT_DATA)) {
+					return;
+				}
+				byte[] copy = new byte[length];
+				System.arraycopy(data, 0, copy, 0, length);
+				KrollDict event = new KrollDict();
+				event.put("buffer", new BufferProxy(copy));
+				event.put("sampleRate", tiAudioRecorder.getSampleRate());
+				event.put("channelCount", tiAudioRecorder.getChannelCount());
+				fireEvent(EVENT_DATA, event);
+			}
+		});
+
 		// Stop recording when the JavaScript runtime is being terminated.
 		// This releases the microphone to be used by another audio recorder instance.
 		this.runtimeOnDisposingListener = new KrollRuntime.OnDisposingListener() {
@@ -0,0 +1,103 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.media;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free byte ring buffer for exactly one producer thread and one consumer thread.
+ * <p>
+ * The producer never blocks. If the consumer falls so far behind that the buffer is full,
+ * the bytes that do not fit are dropped and counted, rather than stalling the thread
+ * reading from the microphone.
+ */
+class PcmRingBuffer
+{
+	private final byte[] buffer;
+	private final int mask;
+
+	// Total bytes ever written and read. Only the owning thread advances each position,
+	// the other thread only reads it.
+	private final AtomicLong writePosition = new AtomicLong();
+	private final AtomicLong readPosition = new AtomicLong();
+	private final AtomicLong droppedBytes = new AtomicLong();
+
+	/**
+	 * @param minCapacity minimum number of bytes the buffer can hold. Rounded up to a power of two.
+	 */
+	PcmRingBuffer(int minCapacity)
+	{
+		int capacity = Integer.highestOneBit(Math.max(minCapacity, 2) - 1) << 1;
+		this.buffer = new byte[capacity];
+		this.mask = capacity - 1;
+	}
+
+	int getCapacity()
+	{
+		return this.buffer.length;
+	}
+
+	/**
+	 * @return number of bytes that can currently be read.
+	 */
+	int available()
+	{
+		return (int) (this.writePosition.get() - this.readPosition.get());
+	}
+
+	/**
+	 * @return total number of bytes dropped because the buffer was full.
+	 */
+	long getDroppedBytes()
+	{
+		return this.droppedBytes.get();
+	}
+
+	/**
+	 * Copies bytes into the buffer. Must only be called from the producer thread.
+	 * @return number of bytes written, which is less than length if the buffer was full.
+	 */
+	int write(byte[] source, int offset, int length)
+	{
+		long write = this.writePosition.get();
+		int free = this.buffer.length - (int) (write - this.readPosition.get());
+		int count = Math.min(length, free);
+		if (count > 0) {
+			int start = (int) (write & this.mask);
+			int firstPart = Math.min(count, this.buffer.length - start);
+			System.arraycopy(source, offset, this.buffer, start, firstPart);
+			System.arraycopy(source, offset + firstPart, this.buffer, 0, count - firstPart);
+
+			// Publishes the copied bytes to the consumer.
+			this.writePosition.lazySet(write + count);
+		}
+		if (count < length) {
+			this.droppedBytes.addAndGet(length - count);
+		}
+		return Math.max(count, 0);
+	}
+
+	/**
+	 * Copies bytes out of the buffer. Must only be called from the consumer thread.
+	 * @return number of bytes read, 0 if the buffer is empty.
+	 */
+	int read(byte[] destination, int offset, int length)
+	{
+		long read = this.readPosition.get();
+		int count = Math.min(length, (int) (this.writePosition.get() - read));
+		if (count > 0) {
+			int start = (int) (read & this.mask);
+			int firstPart = Math.min(count, this.buffer.length - start);
+			System.arraycopy(this.buffer, start, destination, offset, firstPart);
+			System.arraycopy(this.buffer, 0, destination, offset + firstPart, count - firstPart);
+
+			// Hands the space back to the producer.
+			this.readPosition.lazySet(read + count);
+		}
+		return Math.max(count, 0);
+	}
+}
@@ -12,11 +12,73 @@ import android.media.MediaRecorder;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.titanium.util.TiFileHelper;
 
+/**
+ * Records PCM audio to a WAV file.
+ * <p>
+ * Capturing and writing run on separate threads connected by a {@link PcmRingBuffer}. The reader
+ * thread only copies PCM from the {@link AudioSource} into the ring buffer, so a slow file write
+ * on the writer thread can no longer cause audio to be dropped by the source.
+ */
 public class TiAudioRecorder
 {
+	/**
+	 * Provides PCM 16-bit audio. Replaceable so the capture pipeline can be driven by synthetic data.
+	 */
+	public interface AudioSource {
+		/**
+		 * Prepares the source for a new recording.
+		 * @return false if the source could not be initialized.
+		 */
+		boolean open();
+
+		/**
+		 * Starts or resumes capturing.
+		 * @return false if capturing could not be started.
+		 */
+		boolean start();
+
+		/**
+		 * Pauses capturing. A blocked read() must return.
+		 */
+		void stop();
+
+		/**
+		 * Blocks until PCM data is available.
+		 * @return number of bytes read, 0 or negative if nothing could be read.
+		 */
+		int read(byte[] buffer, int offset, int length);
+
+		int getSampleRate();
+
+		int getChannelCount();
+
+		/**
+		 * @return the number of bytes to read at a time.
+		 */
+		int getReadSize();
+
+		/**
+		 * Releases the source. open() is called again before the next recording.
+		 */
+		void release();
+	}
+
+	/**
+	 * Receives the recorded PCM on the writer thread, in the order it is written to the file.
+	 */
+	public interface PcmListener {
+		/**
+		 * @param data recorded bytes. Only valid for the duration of the call.
+		 * @param length number of valid bytes in data.
+		 */
+		void onPcmData(byte[] data, int length);
+	}
+
 	private static final String TAG = "TiAudioRecorder";
 
 	private static final int WAV_FILE_HEADER_RIFF_SUBCHUNK_BYTE_COUNT = 8;
@@ -36,39 +98,74 @@ public class TiAudioRecorder
 	private static final int RECORDER_CHANNEL_CONFIG = AudioFormat.CHANNEL_IN_STEREO;
 	private static final int RECORDER_AUDIO_ENCODING = AudioFormat.ENCODING_PCM_16BIT;
 
-	//Byte array used for reading from the native buffer to the output stream
-	private byte[] audioData;
-	private int bufferSize = 0;
+	// Number of source reads the ring buffer can hold before the writer thread falls behind.
+	private static final int RING_BUFFER_READS = 32;
+
+	// How long the writer thread sleeps when the ring buffer is empty, unless woken by the reader.
+	private static final long WRITER_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+	private final AudioSource audioSource;
+	private PcmListener pcmListener;
 	private File tempFileReference;
 	private RandomAccessFile randomAccessFile;
-	private AudioRecord audioRecord;
+	private PcmRingBuffer ringBuffer;
+	private Thread readerThread;
+	private Thread writerThread;
+	private final Object pauseLock = new Object();
+	private volatile boolean started = false;
+	private volatile boolean paused = false;
 
 	public TiAudioRecorder()
 	{
-		//Get the minimum buffer size according to the device recording capabilities
-		this.bufferSize = AudioRecord.getMinBufferSize(
-			RECORDER_SAMPLE_RATE, RECORDER_CHANNEL_CONFIG, RECORDER_AUDIO_ENCODING);
+		this(new MicrophoneAudioSource());
+	}
+
+	public TiAudioRecorder(AudioSource audioSource)
+	{
+		this.audioSource = audioSource;
+	}
+
+	/**
+	 * Sets a listener that receives recorded PCM as it is written to the file.
+	 * @param listener the listener, or null to remove it.
+	 */
+	public void setPcmListener(PcmListener listener)
+	{
+		this.pcmListener = listener;
+	}
+
+	public int getSampleRate()
+	{
+		return this.audioSource.getSampleRate();
+	}
+
+	public int getChannelCount()
+	{
+		return this.audioSource.getChannelCount();
+	}
+
+	/**
+	 * @return number of bytes dropped during the current recording because the writer fell behind.
+	 */
+	public long getDroppedBytes()
+	{
+		PcmRingBuffer buffer = this.ringBuffer;
+		return (buffer != null) ? buffer.getDroppedBytes() : 0;
 	}
 
 	public boolean isPaused()
 	{
-		if (this.audioRecord != null) {
-			return (this.audioRecord.getRecordingState() != AudioRecord.RECORDSTATE_RECORDING);
-		}
-		return false;
+		return this.started && this.paused;
 	}
 
 	public boolean isRecording()
 	{
-		if (this.audioRecord != null) {
-			return (this.audioRecord.getRecordingState() == AudioRecord.RECORDSTATE_RECORDING);
-		}
-		return false;
+		return this.started && !this.paused;
 	}
 
 	public boolean isStopped()
 	{
-		return (this.audioRecord == null);
+		return !this.started;
 	}
 
 	public void startRecording()
@@ -80,27 +177,46 @@ public class TiAudioRecorder
 			return;
 		}
 
+		try {
+			startRecording(TiFileHelper.getInstance().getTempFile(".wav", true));
+		} catch (Exception ex) {
+			Log.e(TAG, "AudioRecorder.start() failed to create audio file.", ex);
+		}
+	}
+
+	/**
+	 * Starts recording to the given WAV file.
+	 * @param file the file to write, which is overwritten.
+	 */
+	void startRecording(File file)
+	{
+		if (!isStopped()) {
+			Log.w(TAG, "AudioRecorder has already been started.");
+			return;
+		}
+
 		// Set up and start audio recording.
 		try {
 			// Create a WAV file to write microphone data to.
 			// We'll update the WAV file's header with the correct info when we stop recording.
-			this.tempFileReference = TiFileHelper.getInstance().getTempFile(".wav", true);
+			this.tempFileReference = file;
 			this.randomAccessFile = new RandomAccessFile(this.tempFileReference, "rw");
 			this.randomAccessFile.setLength(0);
 			writeWaveFileHeader(this.randomAccessFile, 0, 0, 0, 0, 0);
 
-			// Initialize audio recorder with a big enough buffer to ensure smooth reading from it without overlap.
-			this.audioRecord = new AudioRecord(
-				MediaRecorder.AudioSource.MIC, RECORDER_SAMPLE_RATE, RECORDER_CHANNEL_CONFIG,
-				RECORDER_AUDIO_ENCODING, bufferSize * 4);
-			this.audioData = new byte[bufferSize];
-			if (this.audioRecord.getState() == AudioRecord.STATE_INITIALIZED) {
-				this.audioRecord.setRecordPositionUpdateListener(onRecordPositionUpdateListener);
-				this.audioRecord.setPositionNotificationPeriod(bufferSize / 4);
-				this.audioRecord.startRecording();
-				if (!isRecording()) {
-					Log.e(TAG, "AudioRecorder.start() failed to start recording. Reason: Unknown");
-				}
+			if (this.audioSource.open() && this.audioSource.start()) {
+				int readSize = this.audioSource.getReadSize();
+				this.ringBuffer = new PcmRingBuffer(readSize * RING_BUFFER_READS);
+				this.paused = false;
+				this.started = true;
+				this.readerThread = new Thread(new ReaderRunnable(readSize), "TiAudioRecorder-Reader");
+				this.readerThread.setPriority(Thread.MAX_PRIORITY);
+				this.writerThread =
+					new Thread(new WriterRunnable(readSize * 4, this.readerThread), "TiAudioRecorder-Writer");
+				this.writerThread.start();
+				this.readerThread.start();
+			} else {
+				Log.e(TAG, "AudioRecorder.start() failed to start recording. Reason: Unknown");
 			}
 		} catch (Exception ex) {
 			Log.e(TAG, "AudioRecorder.start() failed to start recording.", ex);
@@ -116,34 +232,48 @@ public class TiAudioRecorder
 	{
 		// Stop recording and produce the WAV file.
 		File resultFile = null;
-		if (this.audioRecord != null) {
-			try {
-				// Stop recording.
-				int channelCount = this.audioRecord.getChannelCount();
-				if (this.audioRecord.getState() == AudioRecord.STATE_INITIALIZED) {
-					audioRecord.stop();
-				}
-				this.audioRecord.setRecordPositionUpdateListener(null);
-				this.audioRecord.release();
+		boolean wasStarted = this.started;
+		this.started = false;
 
+		// Stop capturing, then let the writer drain whatever the reader already buffered.
+		this.audioSource.stop();
+		synchronized (this.pauseLock)
+		{
+			this.pauseLock.notifyAll();
+		}
+		joinThread(this.readerThread);
+		this.readerThread = null;
+		if (this.writerThread != null) {
+			LockSupport.unpark(this.writerThread);
+		}
+		joinThread(this.writerThread);
+		this.writerThread = null;
+		this.audioSource.release();
+
+		if (wasStarted && (this.randomAccessFile != null)) {
+			try {
 				// Update recorded WAV file's header info.
-				if (this.randomAccessFile != null) {
-					this.randomAccessFile.seek(0);
-					long totalFileBytes = this.randomAccessFile.length();
-					writeWaveFileHeader(
-						this.randomAccessFile,
-						totalFileBytes - WAV_FILE_HEADER_TOTAL_BYTE_COUNT,
-						totalFileBytes - WAV_FILE_HEADER_RIFF_SUBCHUNK_BYTE_COUNT,
-						RECORDER_SAMPLE_RATE,
-						channelCount,
-						(long) RECORDER_BPP * RECORDER_SAMPLE_RATE * channelCount / 8);
-					resultFile = this.tempFileReference;
-				}
+				int channelCount = this.audioSource.getChannelCount();
+				int sampleRate = this.audioSource.getSampleRate();
+				this.randomAccessFile.seek(0);
+				long totalFileBytes = this.randomAccessFile.length();
+				writeWaveFileHeader(
+					this.randomAccessFile,
+					totalFileBytes - WAV_FILE_HEADER_TOTAL_BYTE_COUNT,
+					totalFileBytes - WAV_FILE_HEADER_RIFF_SUBCHUNK_BYTE_COUNT,
+					sampleRate,
+					channelCount,
+					(long) RECORDER_BPP * sampleRate * channelCount / 8);
+				resultFile = this.tempFileReference;
 			} catch (Exception ex) {
 				Log.e(TAG, "AudioRecorder.stop() failed to write audio file.", ex);
 			}
-			this.audioRecord = null;
 		}
+		if ((this.ringBuffer != null) && (this.ringBuffer.getDroppedBytes() > 0)) {
+			Log.w(TAG, "AudioRecorder dropped " + this.ringBuffer.getDroppedBytes()
+				+ " bytes because the file could not be written fast enough.");
+		}
+		this.ringBuffer = null;
 
 		// Close the output file.
 		if (this.randomAccessFile != null) {
@@ -162,14 +292,35 @@ public class TiAudioRecorder
 	public void pauseRecording()
 	{
 		if (isRecording()) {
-			this.audioRecord.stop();
+			this.paused = true;
+			this.audioSource.stop();
 		}
 	}
 
 	public void resumeRecording()
 	{
 		if (isPaused()) {
-			this.audioRecord.startRecording();
+			if (!this.audioSource.start()) {
+				Log.e(TAG, "AudioRecorder.resume() failed to resume recording.");
+				return;
+			}
+			synchronized (this.pauseLock)
+			{
+				this.paused = false;
+				this.pauseLock.notifyAll();
+			}
+		}
+	}
+
+	private static void joinThread(Thread thread)
+	{
+		if (thread == null) {
+			return;
+		}
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
@@ -212,24 +363,166 @@ public class TiAudioRecorder
 		out.write(header, 0, header.length);
 	}
 
-	private final AudioRecord.OnRecordPositionUpdateListener onRecordPositionUpdateListener =
-		new AudioRecord.OnRecordPositionUpdateListener() {
-			@Override
-			public void onMarkerReached(AudioRecord recorder)
-			{
+	/**
+	 * Copies PCM from the audio source into the ring buffer. Does no I/O of its own.
+	 */
+	private class ReaderRunnable implements Runnable
+	{
+		private final byte[] chunk;
+
+		ReaderRunnable(int readSize)
+		{
+			this.chunk = new byte[readSize];
+		}
+
+		@Override
+		public void run()
+		{
+			final PcmRingBuffer buffer = ringBuffer;
+			final Thread writer = writerThread;
+			while (started) {
+				if (paused) {
+					synchronized (pauseLock)
+					{
+						while (started && paused) {
+							try {
+								pauseLock.wait();
+							} catch (InterruptedException e) {
+								return;
+							}
+						}
+					}
+					continue;
+				}
+
+				int bytesRead = audioSource.read(this.chunk, 0, this.chunk.length);
+				if (bytesRead > 0) {
+					buffer.write(this.chunk, 0, bytesRead);
+					LockSupport.unpark(writer);
+				} else if (started && !paused) {
+					// Source is not delivering data, avoid spinning on it.
+					LockSupport.parkNanos(WRITER_IDLE_NANOS);
+				}
 			}
+		}
+	}
 
-			@Override
-			public void onPeriodicNotification(AudioRecord recorder)
-			{
-				try {
-					int bytesRead = recorder.read(audioData, 0, bufferSize);
-					if ((randomAccessFile != null) && (bytesRead > 0)) {
-						randomAccessFile.write(audioData, 0, bytesRead);
+	/**
+	 * Drains the ring buffer into the WAV file and the PCM listener.
+	 */
+	private class WriterRunnable implements Runnable
+	{
+		private final byte[] chunk;
+		private final Thread reader;
+
+		WriterRunnable(int chunkSize, Thread reader)
+		{
+			this.chunk = new byte[chunkSize];
+			this.reader = reader;
+		}
+
+		@Override
+		public void run()
+		{
+			final PcmRingBuffer buffer = ringBuffer;
+			final RandomAccessFile file = randomAccessFile;
+			while (true) {
+				// Check before reading, so everything the reader buffered before stopping is still written.
+				boolean stopping = !started && !this.reader.isAlive();
+				int bytesRead = buffer.read(this.chunk, 0, this.chunk.length);
+				if (bytesRead > 0) {
+					try {
+						file.write(this.chunk, 0, bytesRead);
+					} catch (IOException e) {
+						Log.e(TAG, "AudioRecorder failed to write audio data.", e);
 					}
-				} catch (Exception e) {
-					e.printStackTrace();
+					PcmListener listener = pcmListener;
+					if (listener != null) {
+						listener.onPcmData(this.chunk, bytesRead);
+					}
+				} else if (stopping) {
+					break;
+				} else {
+					LockSupport.parkNanos(WRITER_IDLE_NANOS);
 				}
 			}
-		};
+		}
+	}
+
+	/**
+	 * Captures audio from the device microphone.
+	 */
+	private static class MicrophoneAudioSource implements AudioSource
+	{
+		private AudioRecord audioRecord;
+		private final int bufferSize;
+
+		MicrophoneAudioSource()
+		{
+			//Get the minimum buffer size according to the device recording capabilities
+			this.bufferSize = AudioRecord.getMinBufferSize(
+				RECORDER_SAMPLE_RATE, RECORDER_CHANNEL_CONFIG, RECORDER_AUDIO_ENCODING);
+		}
+
+		@Override
+		public boolean open()
+		{
+			// Initialize audio recorder with a big enough buffer to ensure smooth reading from it without overlap.
+			this.audioRecord = new AudioRecord(
+				MediaRecorder.AudioSource.MIC, RECORDER_SAMPLE_RATE, RECORDER_CHANNEL_CONFIG,
+				RECORDER_AUDIO_ENCODING, bufferSize * 4);
+			return (this.audioRecord.getState() == AudioRecord.STATE_INITIALIZED);
+		}
+
+		@Override
+		public boolean start()
+		{
+			if (this.audioRecord == null) {
+				return false;
+			}
+			this.audioRecord.startRecording();
+			return (this.audioRecord.getRecordingState() == AudioRecord.RECORDSTATE_RECORDING);
+		}
+
+		@Override
+		public void stop()
+		{
+			if ((this.audioRecord != null) && (this.audioRecord.getState() == AudioRecord.STATE_INITIALIZED)) {
+				this.audioRecord.stop();
+			}
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length)
+		{
+			return (this.audioRecord != null) ? this.audioRecord.read(buffer, offset, length) : -1;
+		}
+
+		@Override
+		public int getSampleRate()
+		{
+			return RECORDER_SAMPLE_RATE;
+		}
+
+		@Override
+		public int getChannelCount()
+		{
+			return (this.audioRecord != null) ? this.audioRecord.getChannelCount() : 2;
+		}
+
+		@Override
+		public int getReadSize()
+		{
+			return this.bufferSize;
+		}
+
+		@Override
+		public void release()
+		{
+			if (this.audioRecord != null) {
+				this.audioRecord.release();
+				this.audioRecord = null;
+			}
+		}
+	}
 }
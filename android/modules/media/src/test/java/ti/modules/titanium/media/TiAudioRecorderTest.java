@@ -0,0 +1,249 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.media;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Drives the capture pipeline with synthetic PCM instead of the microphone.
+ */
+public class TiAudioRecorderTest
+{
+	private static final int HEADER_SIZE = 44;
+
+	/**
+	 * Delivers a fixed number of bytes of a known pattern, then blocks like a silent microphone until stopped.
+	 * Reads can be paced like a real microphone, which only returns once a period of audio was captured.
+	 */
+	private static class SyntheticAudioSource implements TiAudioRecorder.AudioSource
+	{
+		private final int totalBytes;
+		private final int readSize;
+		private final long paceMillis;
+		private int position;
+		private boolean running;
+
+		SyntheticAudioSource(int totalBytes, int readSize, long paceMillis)
+		{
+			this.totalBytes = totalBytes;
+			this.readSize = readSize;
+			this.paceMillis = paceMillis;
+		}
+
+		static byte valueAt(int position)
+		{
+			return (byte) (position * 31 + (position >> 8));
+		}
+
+		@Override
+		public boolean open()
+		{
+			return true;
+		}
+
+		@Override
+		public synchronized boolean start()
+		{
+			this.running = true;
+			return true;
+		}
+
+		@Override
+		public synchronized void stop()
+		{
+			this.running = false;
+			notifyAll();
+		}
+
+		@Override
+		public synchronized int read(byte[] buffer, int offset, int length)
+		{
+			try {
+				if (this.paceMillis > 0 && this.running) {
+					wait(this.paceMillis);
+				}
+				while (this.running && this.position >= this.totalBytes) {
+					wait();
+				}
+			} catch (InterruptedException e) {
+				return -1;
+			}
+			if (!this.running) {
+				return -1;
+			}
+			int count = Math.min(length, this.totalBytes - this.position);
+			for (int i = 0; i < count; i++) {
+				buffer[offset + i] = valueAt(this.position++);
+			}
+			notifyAll();
+			return count;
+		}
+
+		synchronized void awaitDelivered(long timeoutMillis) throws InterruptedException
+		{
+			long deadline = System.currentTimeMillis() + timeoutMillis;
+			while (this.position < this.totalBytes) {
+				long remaining = deadline - System.currentTimeMillis();
+				assertTrue("synthetic source was not drained in time", remaining > 0);
+				wait(remaining);
+			}
+		}
+
+		@Override
+		public int getSampleRate()
+		{
+			return 8000;
+		}
+
+		@Override
+		public int getChannelCount()
+		{
+			return 1;
+		}
+
+		@Override
+		public int getReadSize()
+		{
+			return this.readSize;
+		}
+
+		@Override
+		public void release()
+		{
+		}
+	}
+
+	private final List<Throwable> uncaughtErrors = Collections.synchronizedList(new ArrayList<>());
+	private Thread.UncaughtExceptionHandler previousHandler;
+	private File file;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		this.previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+		Thread.setDefaultUncaughtExceptionHandler((thread, error) -> this.uncaughtErrors.add(error));
+		this.file = File.createTempFile("TiAudioRecorderTest", ".wav");
+	}
+
+	@After
+	public void tearDown()
+	{
+		Thread.setDefaultUncaughtExceptionHandler(this.previousHandler);
+		this.file.delete();
+		assertTrue("pipeline threads threw " + this.uncaughtErrors, this.uncaughtErrors.isEmpty());
+	}
+
+	private static void assertPattern(byte[] data, int offset, int length)
+	{
+		for (int i = 0; i < length; i++) {
+			assertEquals("byte " + i, SyntheticAudioSource.valueAt(i), data[offset + i]);
+		}
+	}
+
+	@Test
+	public void writesAllPcmAndHeader() throws Exception
+	{
+		final int totalBytes = 256 * 1024;
+		SyntheticAudioSource source = new SyntheticAudioSource(totalBytes, 4096, 1);
+		TiAudioRecorder recorder = new TiAudioRecorder(source);
+		ByteArrayOutputStream received = new ByteArrayOutputStream();
+		recorder.setPcmListener((data, length) -> received.write(data, 0, length));
+
+		recorder.startRecording(this.file);
+		assertTrue(recorder.isRecording());
+		source.awaitDelivered(TimeUnit.SECONDS.toMillis(10));
+		String path = recorder.stopRecording();
+
+		assertEquals(this.file.getAbsolutePath(), path);
+		assertTrue(recorder.isStopped());
+		assertEquals(0, recorder.getDroppedBytes());
+
+		// Everything read before stopping is written, including the tail still buffered when stopped.
+		byte[] wav = Files.readAllBytes(this.file.toPath());
+		assertEquals(HEADER_SIZE + totalBytes, wav.length);
+		assertPattern(wav, HEADER_SIZE, totalBytes);
+		assertEquals(totalBytes, received.size());
+		assertPattern(received.toByteArray(), 0, totalBytes);
+
+		ByteBuffer header = ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals(wav.length - 8, header.getInt(4));
+		assertEquals(1, header.getShort(22));
+		assertEquals(8000, header.getInt(24));
+		assertEquals(totalBytes, header.getInt(40));
+	}
+
+	@Test
+	public void slowWriterDropsInsteadOfStallingReader() throws Exception
+	{
+		final int totalBytes = 512 * 1024;
+		SyntheticAudioSource source = new SyntheticAudioSource(totalBytes, 512, 0);
+		TiAudioRecorder recorder = new TiAudioRecorder(source);
+		recorder.setPcmListener((data, length) -> {
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		recorder.startRecording(this.file);
+		source.awaitDelivered(TimeUnit.SECONDS.toMillis(10));
+		long dropped = recorder.getDroppedBytes();
+		recorder.stopRecording();
+
+		// The reader delivered everything without waiting on the writer, so the overflow was dropped.
+		assertTrue(dropped > 0);
+		long written = this.file.length() - HEADER_SIZE;
+		assertTrue(written > 0);
+		assertTrue(written <= totalBytes - dropped);
+	}
+
+	@Test
+	public void pausedRecordingResumes() throws Exception
+	{
+		SyntheticAudioSource source = new SyntheticAudioSource(64 * 1024, 1024, 1);
+		TiAudioRecorder recorder = new TiAudioRecorder(source);
+
+		recorder.startRecording(this.file);
+		recorder.pauseRecording();
+		assertTrue(recorder.isPaused());
+		recorder.resumeRecording();
+		assertTrue(recorder.isRecording());
+		source.awaitDelivered(TimeUnit.SECONDS.toMillis(10));
+		assertNotNull(recorder.stopRecording());
+		assertEquals(HEADER_SIZE + 64 * 1024, this.file.length());
+	}
+
+	@Test
+	public void stopImmediatelyAfterStart() throws Exception
+	{
+		// Stopping races the writer thread's check for the reader, which must not fail.
+		for (int i = 0; i < 200; i++) {
+			TiAudioRecorder recorder = new TiAudioRecorder(new SyntheticAudioSource(4096, 256, 0));
+			recorder.startRecording(this.file);
+			assertNotNull(recorder.stopRecording());
+			assertTrue(recorder.isStopped());
+		}
+	}
+}
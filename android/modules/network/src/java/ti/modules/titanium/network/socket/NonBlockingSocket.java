@@ -0,0 +1,481 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.network.socket;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ti.modules.titanium.BufferProxy;
+
+/**
+ * A TCP connection or listener driven by the shared {@link SocketSelector}.
+ * <p>
+ * Incoming data is either handed to {@link Callback#onReceived(byte[])} as it arrives, or queued
+ * for {@link #read(BufferProxy, int, int, int)} so the regular TiStream API keeps working.
+ * Writes are queued and flushed by the selector thread whenever the channel can take more data.
+ * Closing the socket flushes the queued writes first, unless the socket failed.
+ */
+class NonBlockingSocket implements SocketSelector.Listener
+{
+	// Stop reading from the network when this much unread data is queued.
+	private static final int MAX_QUEUED_BYTES = 1024 * 1024;
+
+	// Writers block while this much written data is still queued.
+	private static final int MAX_PENDING_WRITE_BYTES = 1024 * 1024;
+
+	// Time close() waits for queued writes to be flushed before dropping them.
+	private static final int CLOSE_LINGER_TIMEOUT = 10000;
+
+	// Reads performed per readiness event before yielding to other sockets.
+	private static final int MAX_READS_PER_SELECT = 4;
+
+	private static final byte[] END_OF_STREAM = new byte[0];
+
+	interface Callback {
+		void onConnected();
+
+		void onAccepted(SocketChannel channel);
+
+		/**
+		 * @param data the bytes received, or null at the end of the stream.
+		 */
+		void onReceived(byte[] data);
+
+		void onFailed(IOException e);
+	}
+
+	private final SocketSelector selector;
+	private final Callback callback;
+	private SocketChannel channel;
+	private ServerSocketChannel serverChannel;
+
+	private final ConcurrentLinkedQueue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+	private final LinkedBlockingQueue<byte[]> receivedChunks = new LinkedBlockingQueue<>();
+	private final AtomicInteger queuedBytes = new AtomicInteger();
+	private int pendingWriteBytes;
+	private byte[] currentChunk;
+	private int currentOffset;
+
+	private volatile boolean connecting = false;
+	private volatile boolean accepting = false;
+	private volatile boolean deliverReceived = false;
+	private volatile boolean endOfStream = false;
+	private volatile boolean closing = false;
+	private volatile boolean closed = false;
+
+	NonBlockingSocket(SocketSelector selector, Callback callback)
+	{
+		this.selector = selector;
+		this.callback = callback;
+	}
+
+	/**
+	 * Wraps a channel that is already connected, such as one returned by accept().
+	 */
+	NonBlockingSocket(SocketSelector selector, SocketChannel channel, Callback callback) throws IOException
+	{
+		this(selector, callback);
+		this.channel = channel;
+		channel.configureBlocking(false);
+	}
+
+	SocketChannel getChannel()
+	{
+		return channel;
+	}
+
+	/**
+	 * @param deliver true to hand incoming data to the callback instead of queueing it for read().
+	 */
+	void setDeliverReceived(boolean deliver)
+	{
+		deliverReceived = deliver;
+	}
+
+	/**
+	 * Opens the channel for an outgoing connection so socket options can be applied before connect().
+	 */
+	SocketChannel open() throws IOException
+	{
+		channel = SocketChannel.open();
+		channel.configureBlocking(false);
+		return channel;
+	}
+
+	void connect(InetSocketAddress endpoint, int timeout) throws IOException
+	{
+		if (channel == null) {
+			open();
+		}
+		connecting = true;
+		if (channel.connect(endpoint)) {
+			connecting = false;
+		}
+		selector.register(channel, interestOps(), this);
+		if (!connecting) {
+			callback.onConnected();
+		} else if (timeout > 0) {
+			selector.schedule(new Runnable() {
+				@Override
+				public void run()
+				{
+					if (connecting && !closed) {
+						fail(new SocketTimeoutException("Connection timed out"));
+					}
+				}
+			}, timeout);
+		}
+	}
+
+	void listen(int port, int backlog) throws IOException
+	{
+		serverChannel = ServerSocketChannel.open();
+		serverChannel.configureBlocking(false);
+		serverChannel.socket().bind(new InetSocketAddress(port), backlog);
+		selector.register(serverChannel, 0, this);
+	}
+
+	/**
+	 * Starts watching the channel for reads once it is connected.
+	 */
+	void start()
+	{
+		selector.register(channel, interestOps(), this);
+	}
+
+	/**
+	 * Accepts the next pending connection. The selector is woken up immediately so a
+	 * connection that is already waiting is handed over without delay.
+	 */
+	void accept()
+	{
+		accepting = true;
+		updateInterestOps();
+	}
+
+	/**
+	 * Queues data to be written. Blocks while too much written data is still queued,
+	 * unless called on the selector thread, which is the one draining the queue.
+	 */
+	void write(BufferProxy data, int offset, int length) throws IOException
+	{
+		byte[] copy = new byte[length];
+		data.get(offset, copy, 0, length);
+		synchronized (pendingWrites)
+		{
+			boolean canWait = !selector.isSelectorThread();
+			while (canWait && !closing && !closed && pendingWriteBytes > 0
+				   && pendingWriteBytes + length > MAX_PENDING_WRITE_BYTES) {
+				try {
+					pendingWrites.wait();
+				} catch (InterruptedException e) {
+					throw new IOException("Write interrupted");
+				}
+			}
+			if (closing || closed) {
+				throw new IOException("Socket is closed");
+			}
+			pendingWriteBytes += length;
+			pendingWrites.add(ByteBuffer.wrap(copy));
+		}
+		selector.execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				try {
+					flushWrites();
+				} catch (IOException e) {
+					fail(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Blocks until queued data is available and copies it into the buffer.
+	 *
+	 * @return the number of bytes read, or -1 at the end of the stream.
+	 */
+	synchronized int read(BufferProxy buffer, int offset, int length, int timeout) throws IOException
+	{
+		if (deliverReceived) {
+			throw new IOException("Data on this socket is delivered through the received callback");
+		}
+		if (length == 0) {
+			return 0;
+		}
+
+		if (currentChunk == null) {
+			try {
+				if (timeout > 0) {
+					currentChunk = receivedChunks.poll(timeout, TimeUnit.MILLISECONDS);
+					if (currentChunk == null) {
+						throw new SocketTimeoutException("Read timed out");
+					}
+				} else {
+					currentChunk = receivedChunks.take();
+				}
+			} catch (InterruptedException e) {
+				throw new IOException("Read interrupted");
+			}
+			currentOffset = 0;
+		}
+		if (currentChunk == END_OF_STREAM) {
+			// Leave the marker in place so later reads see the end of the stream too.
+			return -1;
+		}
+
+		int count = Math.min(length, currentChunk.length - currentOffset);
+		buffer.put(offset, currentChunk, currentOffset, count);
+		currentOffset += count;
+		if (currentOffset == currentChunk.length) {
+			currentChunk = null;
+		}
+
+		// Resume reading from the network once the reader has caught up.
+		int remaining = queuedBytes.addAndGet(-count);
+		if (remaining < MAX_QUEUED_BYTES / 2 && remaining + count >= MAX_QUEUED_BYTES / 2) {
+			updateInterestOps();
+		}
+		return count;
+	}
+
+	/**
+	 * Stops reading and closes the socket once the queued writes have been flushed,
+	 * or once CLOSE_LINGER_TIMEOUT has passed.
+	 */
+	void close()
+	{
+		synchronized (pendingWrites)
+		{
+			if (closing || closed) {
+				return;
+			}
+			closing = true;
+			pendingWrites.notifyAll();
+		}
+		accepting = false;
+		receivedChunks.offer(END_OF_STREAM);
+		selector.execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				if (pendingWrites.isEmpty() || channel == null || serverChannel != null) {
+					closeNow();
+					return;
+				}
+				try {
+					flushWrites();
+				} catch (IOException e) {
+					fail(e);
+					return;
+				}
+				if (!closed) {
+					selector.schedule(new Runnable() {
+						@Override
+						public void run()
+						{
+							closeNow();
+						}
+					}, CLOSE_LINGER_TIMEOUT);
+				}
+			}
+		});
+	}
+
+	private void closeNow()
+	{
+		if (closed) {
+			return;
+		}
+		closed = true;
+		clearPendingWrites();
+		closeChannels();
+	}
+
+	private void clearPendingWrites()
+	{
+		synchronized (pendingWrites)
+		{
+			pendingWrites.clear();
+			pendingWriteBytes = 0;
+			pendingWrites.notifyAll();
+		}
+	}
+
+	private void closeChannels()
+	{
+		try {
+			if (channel != null) {
+				channel.close();
+			}
+			if (serverChannel != null) {
+				serverChannel.close();
+			}
+		} catch (IOException e) {
+			// Nothing left to do with a channel that fails to close.
+		}
+	}
+
+	private int interestOps()
+	{
+		if (serverChannel != null) {
+			return accepting ? SelectionKey.OP_ACCEPT : 0;
+		}
+		if (connecting) {
+			return SelectionKey.OP_CONNECT;
+		}
+		int ops = 0;
+		if (!closing && !endOfStream && (deliverReceived || queuedBytes.get() < MAX_QUEUED_BYTES)) {
+			ops |= SelectionKey.OP_READ;
+		}
+		if (!pendingWrites.isEmpty()) {
+			ops |= SelectionKey.OP_WRITE;
+		}
+		return ops;
+	}
+
+	private void updateInterestOps()
+	{
+		selector.execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				if (!closed) {
+					selector.setInterestOps((serverChannel != null) ? serverChannel : channel, interestOps());
+				}
+			}
+		});
+	}
+
+	@Override
+	public void onSelected(SelectionKey key) throws IOException
+	{
+		if (key.isConnectable()) {
+			if (channel.finishConnect()) {
+				connecting = false;
+				selector.setInterestOps(channel, interestOps());
+				callback.onConnected();
+			}
+			return;
+		}
+		if (key.isAcceptable()) {
+			SocketChannel accepted = serverChannel.accept();
+			if (accepted != null) {
+				accepting = false;
+				selector.setInterestOps(serverChannel, interestOps());
+				callback.onAccepted(accepted);
+			}
+			return;
+		}
+		if (key.isReadable()) {
+			readAvailable();
+		}
+		if (key.isValid() && key.isWritable()) {
+			flushWrites();
+		}
+	}
+
+	@Override
+	public void onSelectFailed(IOException e)
+	{
+		fail(e);
+	}
+
+	private void readAvailable() throws IOException
+	{
+		for (int i = 0; i < MAX_READS_PER_SELECT; i++) {
+			ByteBuffer readBuffer = selector.getReadBuffer();
+			int count = channel.read(readBuffer);
+			if (count < 0) {
+				endOfStream = true;
+				selector.setInterestOps(channel, interestOps());
+				deliver(null);
+				return;
+			}
+			if (count == 0) {
+				break;
+			}
+
+			byte[] data = new byte[count];
+			readBuffer.flip();
+			readBuffer.get(data);
+			deliver(data);
+
+			if (readBuffer.limit() < readBuffer.capacity()) {
+				// Drained everything the kernel had for us.
+				break;
+			}
+		}
+		selector.setInterestOps(channel, interestOps());
+	}
+
+	private void deliver(byte[] data)
+	{
+		if (deliverReceived) {
+			callback.onReceived(data);
+			return;
+		}
+		if (data == null) {
+			receivedChunks.offer(END_OF_STREAM);
+			return;
+		}
+		queuedBytes.addAndGet(data.length);
+		receivedChunks.offer(data);
+	}
+
+	private void flushWrites() throws IOException
+	{
+		if (closed || connecting || channel == null) {
+			return;
+		}
+		ByteBuffer buffer;
+		int written = 0;
+		while ((buffer = pendingWrites.peek()) != null) {
+			written += channel.write(buffer);
+			if (buffer.hasRemaining()) {
+				// Socket send buffer is full, wait for OP_WRITE.
+				break;
+			}
+			pendingWrites.poll();
+		}
+		if (written > 0) {
+			synchronized (pendingWrites)
+			{
+				pendingWriteBytes -= written;
+				pendingWrites.notifyAll();
+			}
+		}
+		if (closing && pendingWrites.isEmpty()) {
+			closeNow();
+			return;
+		}
+		selector.setInterestOps(channel, interestOps());
+	}
+
+	private void fail(IOException e)
+	{
+		if (closed) {
+			return;
+		}
+		closed = true;
+		connecting = false;
+		receivedChunks.offer(END_OF_STREAM);
+		clearPendingWrites();
+		closeChannels();
+		callback.onFailed(e);
+	}
+}
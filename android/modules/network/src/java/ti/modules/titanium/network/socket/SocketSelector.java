@@ -0,0 +1,206 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.network.socket;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.appcelerator.kroll.common.Log;
+
+/**
+ * Drives all non-blocking sockets from a single selector thread.
+ * <p>
+ * Channel registration and interest changes must happen on the selector thread, so other
+ * threads queue them through {@link #execute(Runnable)} which wakes the selector up.
+ */
+class SocketSelector implements Runnable
+{
+	private static final String TAG = "SocketSelector";
+
+	// Size of the receive buffer shared by every socket on the selector thread.
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	interface Listener {
+		/**
+		 * Called on the selector thread when the channel's key has ready operations.
+		 */
+		void onSelected(SelectionKey key) throws IOException;
+
+		/**
+		 * Called on the selector thread when onSelected() failed. The key has already been cancelled.
+		 */
+		void onSelectFailed(IOException e);
+	}
+
+	private static class ScheduledTask implements Comparable<ScheduledTask>
+	{
+		final long time;
+		final Runnable task;
+
+		ScheduledTask(long time, Runnable task)
+		{
+			this.time = time;
+			this.task = task;
+		}
+
+		@Override
+		public int compareTo(ScheduledTask other)
+		{
+			return Long.compare(time, other.time);
+		}
+	}
+
+	private static SocketSelector instance;
+
+	private final Selector selector;
+	private final Thread thread;
+	private final ConcurrentLinkedQueue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+	private final PriorityQueue<ScheduledTask> scheduledTasks = new PriorityQueue<>();
+	private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+
+	public static synchronized SocketSelector getInstance() throws IOException
+	{
+		if (instance == null) {
+			instance = new SocketSelector();
+		}
+		return instance;
+	}
+
+	private SocketSelector() throws IOException
+	{
+		selector = Selector.open();
+		thread = new Thread(this, "TiSocketSelector");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	public boolean isSelectorThread()
+	{
+		return Thread.currentThread() == thread;
+	}
+
+	/**
+	 * Runs the given task on the selector thread.
+	 */
+	public void execute(Runnable task)
+	{
+		if (isSelectorThread()) {
+			task.run();
+			return;
+		}
+		pendingTasks.add(task);
+		selector.wakeup();
+	}
+
+	/**
+	 * Runs the given task on the selector thread after a delay.
+	 */
+	public void schedule(final Runnable task, long delayMs)
+	{
+		final long time = System.currentTimeMillis() + delayMs;
+		execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				scheduledTasks.add(new ScheduledTask(time, task));
+			}
+		});
+	}
+
+	public void register(final SelectableChannel channel, final int ops, final Listener listener)
+	{
+		execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				try {
+					channel.register(selector, ops, listener);
+				} catch (IOException e) {
+					listener.onSelectFailed(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Must be called on the selector thread.
+	 */
+	public void setInterestOps(SelectableChannel channel, int ops)
+	{
+		SelectionKey key = channel.keyFor(selector);
+		if (key != null && key.isValid() && key.interestOps() != ops) {
+			key.interestOps(ops);
+		}
+	}
+
+	/**
+	 * @return the receive buffer shared by all sockets. Must only be used on the selector thread.
+	 */
+	public ByteBuffer getReadBuffer()
+	{
+		readBuffer.clear();
+		return readBuffer;
+	}
+
+	@Override
+	public void run()
+	{
+		while (true) {
+			try {
+				long timeout = runScheduledTasks();
+				selector.select(timeout);
+
+				Runnable task;
+				while ((task = pendingTasks.poll()) != null) {
+					task.run();
+				}
+
+				Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+				while (iterator.hasNext()) {
+					SelectionKey key = iterator.next();
+					iterator.remove();
+
+					Listener listener = (Listener) key.attachment();
+					if (!key.isValid() || listener == null) {
+						continue;
+					}
+					try {
+						listener.onSelected(key);
+					} catch (IOException e) {
+						key.cancel();
+						listener.onSelectFailed(e);
+					}
+				}
+			} catch (Exception e) {
+				// Never let one misbehaving socket take down every other socket.
+				Log.e(TAG, "Error in socket selector loop", e);
+			}
+		}
+	}
+
+	/**
+	 * Runs scheduled tasks that are due.
+	 *
+	 * @return milliseconds until the next scheduled task, or 0 to block indefinitely.
+	 */
+	private long runScheduledTasks()
+	{
+		long now = System.currentTimeMillis();
+		ScheduledTask next;
+		while ((next = scheduledTasks.peek()) != null && next.time <= now) {
+			scheduledTasks.poll();
+			next.task.run();
+		}
+		return (next != null) ? Math.max(next.time - now, 1) : 0;
+	}
+}
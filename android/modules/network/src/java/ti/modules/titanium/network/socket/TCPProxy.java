@@ -11,6 +11,8 @@ import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollFunction;
@@ -33,6 +35,8 @@ public class TCPProxy extends KrollProxy implements TiStream
 	//private boolean initialized = false;
 	private Socket clientSocket = null;
 	private ServerSocket serverSocket = null;
+	private volatile NonBlockingSocket nonBlockingSocket = null;
+	private final Object acceptLock = new Object();
 	private boolean accepting = false;
 	private KrollDict acceptOptions = null;
 	private int state = 0;
@@ -52,7 +56,11 @@ public class TCPProxy extends KrollProxy implements TiStream
 			Object port = getProperty("port");
 			secure = TiConvert.toBoolean(getProperty("secure"), false);
 			if ((host != null) && (port != null) && (TiConvert.toInt(port) > 0)) {
-				new ConnectedSocketThread().start();
+				if (useNonBlocking()) {
+					connectNonBlocking();
+				} else {
+					new ConnectedSocketThread().start();
+				}
 
 			} else {
 				throw new IllegalArgumentException("Unable to call connect, socket must have a valid host and port");
@@ -71,6 +79,13 @@ public class TCPProxy extends KrollProxy implements TiStream
 			Object listenQueueSize = getProperty("listenQueueSize");
 
 			try {
+				if (useNonBlocking()) {
+					nonBlockingSocket = new NonBlockingSocket(SocketSelector.getInstance(), new NonBlockingCallback());
+					nonBlockingSocket.listen(TiConvert.toInt(port, 0), TiConvert.toInt(listenQueueSize, 50));
+					state = SocketModule.LISTENING;
+					return;
+				}
+
 				if ((port != null) && (listenQueueSize != null)) {
 					serverSocket = new ServerSocket(TiConvert.toInt(port), TiConvert.toInt(listenQueueSize));
 
@@ -103,11 +118,105 @@ public class TCPProxy extends KrollProxy implements TiStream
 		}
 
 		this.acceptOptions = acceptOptions;
-		accepting = true;
+		if (nonBlockingSocket != null) {
+			nonBlockingSocket.accept();
+			return;
+		}
+
+		synchronized (acceptLock)
+		{
+			accepting = true;
+			acceptLock.notifyAll();
+		}
+	}
+
+	/**
+	 * Secure sockets always use a blocking SSLSocket, everything else can opt into the shared selector.
+	 */
+	private boolean useNonBlocking()
+	{
+		if (!TiConvert.toBoolean(getProperty("nonBlocking"), false)) {
+			return false;
+		}
+		if (secure) {
+			Log.w(TAG, "nonBlocking is not supported for secure sockets, using a blocking socket");
+			return false;
+		}
+		return true;
+	}
+
+	private void connectNonBlocking()
+	{
+		final String host = TiConvert.toString(getProperty("host"));
+		final int port = TiConvert.toInt(getProperty("port"));
+		final int timeout = TiConvert.toInt(getProperty("timeout"), 0);
+
+		// Resolve the host off the calling thread, the selector takes over from there.
+		TiStreamHelper.getIOExecutor().execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				try {
+					NonBlockingSocket socket =
+						new NonBlockingSocket(SocketSelector.getInstance(), new NonBlockingCallback());
+					socket.setDeliverReceived(getProperty("received") instanceof KrollFunction);
+					applySocketOptions(socket.open().socket());
+					nonBlockingSocket = socket;
+					socket.connect(new InetSocketAddress(host, port), timeout);
+
+				} catch (UnknownHostException e) {
+					updateState(SocketModule.ERROR, "error",
+								buildErrorCallbackArgs("Unable to connect, unknown host <" + host + ">", 0));
+
+				} catch (IOException e) {
+					Log.e(TAG, "Unable to connect", e);
+					updateState(SocketModule.ERROR, "error", buildErrorCallbackArgs("Unable to connect, IO error", 0));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Applies the "options" property to a socket: noDelay, keepAlive, sendBufferSize,
+	 * receiveBufferSize and linger.
+	 */
+	private void applySocketOptions(Socket socket)
+	{
+		Object value = getProperty("options");
+		if (!(value instanceof HashMap)) {
+			return;
+		}
+
+		KrollDict options = new KrollDict((HashMap) value);
+		try {
+			if (options.containsKey("noDelay")) {
+				socket.setTcpNoDelay(options.optBoolean("noDelay", false));
+			}
+			if (options.containsKey("keepAlive")) {
+				socket.setKeepAlive(options.optBoolean("keepAlive", false));
+			}
+			if (options.containsKey("sendBufferSize")) {
+				socket.setSendBufferSize(options.getInt("sendBufferSize"));
+			}
+			if (options.containsKey("receiveBufferSize")) {
+				socket.setReceiveBufferSize(options.getInt("receiveBufferSize"));
+			}
+			if (options.containsKey("linger")) {
+				int linger = options.getInt("linger");
+				socket.setSoLinger(linger >= 0, Math.max(linger, 0));
+			}
+		} catch (IOException e) {
+			Log.w(TAG, "Unable to apply socket options: " + e.getMessage());
+		}
 	}
 
 	private void closeSocket() throws IOException
 	{
+		if (nonBlockingSocket != null) {
+			nonBlockingSocket.close();
+			nonBlockingSocket = null;
+		}
+
 		if (clientSocket != null) {
 			clientSocket.close();
 			clientSocket = null;
@@ -117,6 +226,12 @@ public class TCPProxy extends KrollProxy implements TiStream
 			serverSocket.close();
 			serverSocket = null;
 		}
+
+		// Let a listening thread waiting for accept() notice the socket is gone.
+		synchronized (acceptLock)
+		{
+			acceptLock.notifyAll();
+		}
 	}
 
 	@Kroll.setProperty
@@ -140,8 +255,7 @@ public class TCPProxy extends KrollProxy implements TiStream
 	@Kroll.setProperty
 	public void setOptions(KrollDict options)
 	{
-		// not implemented yet - reserved for future use
-		Log.i(TAG, "setting options on socket is not supported yet");
+		setSocketProperty("options", options);
 	}
 
 	@Kroll.setProperty
@@ -168,6 +282,12 @@ public class TCPProxy extends KrollProxy implements TiStream
 		setSocketProperty("accepted", accepted);
 	}
 
+	@Kroll.setProperty
+	public void setReceived(KrollFunction received)
+	{
+		setSocketProperty("received", received);
+	}
+
 	private void setSocketProperty(String propertyName, Object propertyValue)
 	{
 		if ((state != SocketModule.LISTENING) && (state != SocketModule.CONNECTED)) {
@@ -204,6 +324,7 @@ public class TCPProxy extends KrollProxy implements TiStream
 				} else {
 					clientSocket = new Socket();
 				}
+				applySocketOptions(clientSocket);
 
 				InetSocketAddress endpoint = new InetSocketAddress(host, TiConvert.toInt(getProperty("port")));
 
@@ -238,61 +359,151 @@ public class TCPProxy extends KrollProxy implements TiStream
 		public void run()
 		{
 			while (true) {
-				if (accepting) {
-					try {
-						// Check if serverSocket is valid, if not exit
-						if (serverSocket == null) {
-							break;
+				// Wait for accept() to be called instead of polling for it.
+				synchronized (acceptLock)
+				{
+					while (!accepting && serverSocket != null) {
+						try {
+							acceptLock.wait();
+						} catch (InterruptedException e) {
+							Log.e(TAG, "Listening thread interrupted");
+							return;
 						}
-						Socket acceptedSocket = serverSocket.accept();
+					}
+				}
 
-						TCPProxy acceptedTcpProxy = new TCPProxy();
-						acceptedTcpProxy.clientSocket = acceptedSocket;
-						acceptedTcpProxy.setProperty("host",
-													 acceptedTcpProxy.clientSocket.getInetAddress().getHostAddress());
-						acceptedTcpProxy.setProperty("port", acceptedTcpProxy.clientSocket.getPort());
+				try {
+					// Check if serverSocket is valid, if not exit
+					ServerSocket listeningSocket = serverSocket;
+					if (listeningSocket == null) {
+						break;
+					}
+					Socket acceptedSocket = listeningSocket.accept();
 
-						Object optionValue;
-						if ((optionValue = acceptOptions.get("timeout")) != null) {
-							acceptedTcpProxy.setProperty("timeout", TiConvert.toInt(optionValue, 0));
-						}
-						if ((optionValue = acceptOptions.get("error")) != null) {
-							if (optionValue instanceof KrollFunction) {
-								acceptedTcpProxy.setProperty("error", (KrollFunction) optionValue);
-							}
-						}
+					TCPProxy acceptedTcpProxy = createAcceptedProxy(
+						acceptedSocket.getInetAddress().getHostAddress(), acceptedSocket.getPort());
+					acceptedTcpProxy.clientSocket = acceptedSocket;
+					applySocketOptions(acceptedSocket);
+					acceptedTcpProxy.state = SocketModule.CONNECTED;
 
-						acceptedTcpProxy.state = SocketModule.CONNECTED;
+					accepting = false;
+					fireAccepted(acceptedTcpProxy);
 
-						Object callback = getProperty("accepted");
-						if (callback instanceof KrollFunction) {
-							((KrollFunction) callback)
-								.callAsync(getKrollObject(), buildAcceptedCallbackArgs(acceptedTcpProxy));
-						}
+				} catch (IOException e) {
+					if (state == SocketModule.LISTENING) {
+						e.printStackTrace();
+						updateState(SocketModule.ERROR, "error",
+									buildErrorCallbackArgs("Unable to accept new connection, IO error", 0));
+					}
 
-						accepting = false;
+					break;
+				}
+			}
+		}
+	}
 
-					} catch (IOException e) {
-						if (state == SocketModule.LISTENING) {
-							e.printStackTrace();
-							updateState(SocketModule.ERROR, "error",
-										buildErrorCallbackArgs("Unable to accept new connection, IO error", 0));
-						}
+	private TCPProxy createAcceptedProxy(String host, int port)
+	{
+		TCPProxy acceptedTcpProxy = new TCPProxy();
+		acceptedTcpProxy.setProperty("host", host);
+		acceptedTcpProxy.setProperty("port", port);
+		acceptedTcpProxy.setProperty("options", getProperty("options"));
+
+		Object optionValue;
+		if ((optionValue = acceptOptions.get("timeout")) != null) {
+			acceptedTcpProxy.setProperty("timeout", TiConvert.toInt(optionValue, 0));
+		}
+		if ((optionValue = acceptOptions.get("error")) != null) {
+			if (optionValue instanceof KrollFunction) {
+				acceptedTcpProxy.setProperty("error", (KrollFunction) optionValue);
+			}
+		}
+		if ((optionValue = acceptOptions.get("received")) != null) {
+			if (optionValue instanceof KrollFunction) {
+				acceptedTcpProxy.setProperty("received", (KrollFunction) optionValue);
+			}
+		}
 
-						break;
-					}
+		return acceptedTcpProxy;
+	}
 
-				} else {
-					try {
-						sleep(500);
+	private void fireAccepted(TCPProxy acceptedTcpProxy)
+	{
+		Object callback = getProperty("accepted");
+		if (callback instanceof KrollFunction) {
+			((KrollFunction) callback).callAsync(getKrollObject(), buildAcceptedCallbackArgs(acceptedTcpProxy));
+		}
+	}
 
-					} catch (InterruptedException e) {
-						e.printStackTrace();
-						Log.e(TAG, "Listening thread interrupted");
-					}
+	/**
+	 * Receives events from the shared socket selector thread.
+	 */
+	private class NonBlockingCallback implements NonBlockingSocket.Callback
+	{
+		@Override
+		public void onConnected()
+		{
+			updateState(SocketModule.CONNECTED, "connected", buildConnectedCallbackArgs());
+		}
+
+		@Override
+		public void onAccepted(SocketChannel channel)
+		{
+			try {
+				TCPProxy acceptedTcpProxy = createAcceptedProxy(
+					channel.socket().getInetAddress().getHostAddress(), channel.socket().getPort());
+				applySocketOptions(channel.socket());
+
+				NonBlockingSocket socket = new NonBlockingSocket(
+					SocketSelector.getInstance(), channel, acceptedTcpProxy.new NonBlockingCallback());
+				socket.setDeliverReceived(acceptedTcpProxy.getProperty("received") instanceof KrollFunction);
+				acceptedTcpProxy.nonBlockingSocket = socket;
+				acceptedTcpProxy.state = SocketModule.CONNECTED;
+				socket.start();
+
+				fireAccepted(acceptedTcpProxy);
+
+			} catch (IOException e) {
+				Log.e(TAG, "Unable to accept new connection", e);
+				try {
+					channel.close();
+				} catch (IOException ex) {
+					// Connection is being dropped anyway.
 				}
 			}
 		}
+
+		@Override
+		public void onReceived(byte[] data)
+		{
+			Object callback = getProperty("received");
+			if (!(callback instanceof KrollFunction)) {
+				return;
+			}
+
+			KrollDict callbackArgs = new KrollDict();
+			callbackArgs.put("socket", TCPProxy.this);
+			if (data != null) {
+				callbackArgs.put("buffer", new BufferProxy(data));
+				callbackArgs.put("bytesProcessed", data.length);
+			} else {
+				callbackArgs.put("bytesProcessed", -1);
+			}
+			((KrollFunction) callback).callAsync(getKrollObject(), callbackArgs);
+		}
+
+		@Override
+		public void onFailed(IOException e)
+		{
+			if (state == SocketModule.CLOSED || state == 0) {
+				return;
+			}
+			String message = e.getMessage();
+			if (message == null) {
+				message = "Unknown Error";
+			}
+			updateState(SocketModule.ERROR, "error", buildErrorCallbackArgs("Socket error. Reason: " + message, 0));
+		}
 	}
 
 	private KrollDict buildConnectedCallbackArgs()
@@ -326,6 +537,9 @@ public class TCPProxy extends KrollProxy implements TiStream
 		this.state = state;
 
 		if (state == SocketModule.ERROR) {
+			if (nonBlockingSocket != null) {
+				nonBlockingSocket.close();
+			}
 			try {
 				if (clientSocket != null) {
 					clientSocket.close();
@@ -373,6 +587,10 @@ public class TCPProxy extends KrollProxy implements TiStream
 	public int readSync(Object bufferProxy, int offset, int length) throws IOException
 	{
 		try {
+			if (nonBlockingSocket != null) {
+				return nonBlockingSocket.read((BufferProxy) bufferProxy, offset, length,
+											  TiConvert.toInt(getProperty("timeout"), 0));
+			}
 			return TiStreamHelper.read(clientSocket.getInputStream(), (BufferProxy) bufferProxy, offset, length);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -405,6 +623,12 @@ public class TCPProxy extends KrollProxy implements TiStream
 	public int writeSync(Object buffer, int offset, int length) throws IOException
 	{
 		try {
+			if (nonBlockingSocket != null) {
+				// Queued and flushed by the selector thread as the socket drains.
+				// Blocks while too much written data is still waiting to be sent.
+				nonBlockingSocket.write((BufferProxy) buffer, offset, length);
+				return length;
+			}
 			return TiStreamHelper.write(clientSocket.getOutputStream(), (BufferProxy) buffer, offset, length);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -0,0 +1,730 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.network.socket;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.MembershipKey;
+import java.nio.channels.SelectionKey;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollFunction;
+import org.appcelerator.kroll.KrollProxy;
+import org.appcelerator.kroll.annotations.Kroll;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiApplication;
+import org.appcelerator.titanium.io.TiStream;
+import org.appcelerator.titanium.util.TiConvert;
+import org.appcelerator.titanium.util.TiStreamHelper;
+
+import android.content.Context;
+import android.net.wifi.WifiManager;
+import android.os.Build;
+
+import ti.modules.titanium.BufferProxy;
+
+/**
+ * UDP socket driven by the shared {@link SocketSelector}.
+ * <p>
+ * Received datagrams are copied into a reusable staging buffer on the selector thread and handed
+ * to JS in batches, one {@link BufferProxy} per batch, so a burst of small datagrams costs a single
+ * trip over the bridge. Without a "data" callback datagrams are queued for read() instead, in arrays
+ * that are reused once read() has copied them out.
+ */
+@Kroll.proxy(creatableInModule = SocketModule.class)
+public class UDPProxy extends KrollProxy implements TiStream
+{
+	private static final String TAG = "UDPProxy";
+
+	// Datagrams kept for read() before the oldest ones are dropped.
+	private static final int MAX_QUEUED_DATAGRAMS = 256;
+
+	private static final int INITIAL_STAGING_SIZE = 8 * 1024;
+
+	// Datagrams queued for read() up to this size are received into pooled arrays.
+	private static final int POOLED_DATAGRAM_SIZE = 2048;
+	private static final int MAX_POOLED_DATAGRAMS = 32;
+
+	private static class Datagram
+	{
+		final InetSocketAddress address;
+		final byte[] data;
+		final int offset;
+		final int length;
+
+		Datagram(InetSocketAddress address, byte[] data, int offset, int length)
+		{
+			this.address = address;
+			this.data = data;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	private static class PendingSend
+	{
+		final String host;
+		final int port;
+		final byte[] data;
+
+		PendingSend(String host, int port, byte[] data)
+		{
+			this.host = host;
+			this.port = port;
+			this.data = data;
+		}
+	}
+
+	private final ChannelListener channelListener = new ChannelListener();
+	private final ConcurrentHashMap<String, InetAddress> resolvedHosts = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<PendingSend> pendingResolves = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean resolving = new AtomicBoolean();
+	private final ConcurrentLinkedQueue<Datagram> pendingSends = new ConcurrentLinkedQueue<>();
+	private final HashMap<String, MembershipKey> memberships = new HashMap<>();
+	// Arrays of datagrams read() is done with, reused by the selector thread for the next ones.
+	private final ArrayBlockingQueue<byte[]> datagramPool = new ArrayBlockingQueue<>(MAX_POOLED_DATAGRAMS);
+
+	// Replaced on every start() so the end-of-stream marker offered by stop() only reaches that session's readers.
+	private volatile ArrayBlockingQueue<Datagram> receivedDatagrams = new ArrayBlockingQueue<>(MAX_QUEUED_DATAGRAMS);
+
+	private volatile SocketSelector selector;
+	private volatile DatagramChannel channel;
+	private WifiManager.MulticastLock multicastLock;
+	private volatile int state = SocketModule.INITIALIZED;
+	// True while start() is binding the channel on the I/O executor. Guarded by "this" together with state.
+	private boolean starting = false;
+	// Incremented by every start(), so a binding that was stopped and restarted meanwhile is discarded.
+	private int startCount = 0;
+
+	// Batch state, only touched on the selector thread.
+	private byte[] staging = new byte[INITIAL_STAGING_SIZE];
+	private int stagingLength = 0;
+	private final ArrayList<Datagram> batch = new ArrayList<>();
+	private boolean flushScheduled = false;
+	private int batchSize = 1;
+	private int batchInterval = 0;
+
+	public UDPProxy()
+	{
+		super();
+	}
+
+	@Kroll.method
+	public void start(final int port, @Kroll.argument(optional = true) final String host)
+	{
+		final int startId;
+		synchronized (this)
+		{
+			if (state == SocketModule.LISTENING || starting) {
+				Log.w(TAG, "Socket is already started");
+				return;
+			}
+			starting = true;
+			startId = ++startCount;
+			receivedDatagrams = new ArrayBlockingQueue<>(MAX_QUEUED_DATAGRAMS);
+		}
+
+		batchSize = Math.max(TiConvert.toInt(getProperty("batchSize"), 1), 1);
+		batchInterval = Math.max(TiConvert.toInt(getProperty("batchInterval"), 0), 0);
+		final boolean reuseAddress = TiConvert.toBoolean(getProperty("reuseAddress"), false);
+		final boolean broadcast = TiConvert.toBoolean(getProperty("broadcast"), false);
+
+		// Resolving the host may block, so the channel is bound off the calling thread.
+		TiStreamHelper.getIOExecutor().execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				open(startId, port, host, reuseAddress, broadcast);
+			}
+		});
+	}
+
+	private void open(int startId, int port, String host, boolean reuseAddress, boolean broadcast)
+	{
+		DatagramChannel channel = null;
+		try {
+			InetSocketAddress address =
+				(host != null) ? new InetSocketAddress(host, port) : new InetSocketAddress(port);
+			if (address.isUnresolved()) {
+				throw new IOException("unknown host <" + host + ">");
+			}
+			channel = DatagramChannel.open();
+			channel.configureBlocking(false);
+			channel.socket().setReuseAddress(reuseAddress);
+			channel.socket().setBroadcast(broadcast);
+			channel.socket().bind(address);
+
+			synchronized (this)
+			{
+				if (!starting || startId != startCount) {
+					// Stopped while binding.
+					channel.close();
+					return;
+				}
+				selector = SocketSelector.getInstance();
+				this.channel = channel;
+				selector.register(channel, SelectionKey.OP_READ, channelListener);
+				state = SocketModule.LISTENING;
+				starting = false;
+			}
+
+			KrollDict callbackArgs = new KrollDict();
+			callbackArgs.put("socket", this);
+			callbackArgs.put("address", channel.socket().getLocalAddress().getHostAddress());
+			callbackArgs.put("port", channel.socket().getLocalPort());
+			fireCallback("started", callbackArgs);
+
+		} catch (IOException e) {
+			synchronized (this)
+			{
+				if (startId == startCount) {
+					starting = false;
+				}
+			}
+			fireError("Unable to start socket: " + e.getMessage());
+			if (channel != null) {
+				try {
+					channel.close();
+				} catch (IOException closeException) {
+					Log.w(TAG, "Unable to close socket", Log.DEBUG_MODE);
+				}
+			}
+		}
+	}
+
+	@Kroll.method
+	public void stop()
+	{
+		final DatagramChannel channel;
+		synchronized (this)
+		{
+			if (starting) {
+				// The binding task closes the channel once it sees the socket was stopped.
+				starting = false;
+				receivedDatagrams.offer(new Datagram(null, null, 0, -1));
+				return;
+			}
+			if (state != SocketModule.LISTENING) {
+				return;
+			}
+			state = SocketModule.CLOSED;
+
+			// Close this session's channel, not the one a start() right after this may have bound.
+			channel = this.channel;
+			this.channel = null;
+		}
+		receivedDatagrams.offer(new Datagram(null, null, 0, -1));
+		selector.execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				flushBatch();
+				closeChannel(channel);
+			}
+		});
+	}
+
+	@Kroll.method
+	public void sendString(int port, String host, String data)
+	{
+		send(port, host, data.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Kroll.method
+	public void sendBytes(int port, String host, int[] data)
+	{
+		byte[] bytes = new byte[data.length];
+		for (int i = 0; i < data.length; i++) {
+			bytes[i] = (byte) data[i];
+		}
+		send(port, host, bytes);
+	}
+
+	@Kroll.method
+	public void sendBuffer(int port, String host, BufferProxy buffer)
+	{
+		send(port, host, copyOf(buffer, 0, buffer.getLength()));
+	}
+
+	/**
+	 * Joins a multicast group. Requires the CHANGE_WIFI_MULTICAST_STATE permission to receive
+	 * multicast traffic over Wi-Fi.
+	 */
+	@Kroll.method
+	public void joinGroup(String group, @Kroll.argument(optional = true) String interfaceName)
+	{
+		DatagramChannel channel = this.channel;
+		if (channel == null) {
+			throw new IllegalStateException("Socket must be started before joining a group");
+		}
+		if (Build.VERSION.SDK_INT < 24) {
+			fireError("Multicast groups require Android 7.0 or newer");
+			return;
+		}
+		try {
+			NetworkInterface networkInterface = findInterface(channel, interfaceName);
+			MembershipKey key = channel.join(InetAddress.getByName(group), networkInterface);
+			synchronized (memberships)
+			{
+				memberships.put(group, key);
+			}
+			acquireMulticastLock();
+		} catch (IOException e) {
+			fireError("Unable to join group <" + group + ">: " + e.getMessage());
+		}
+	}
+
+	@Kroll.method
+	public void leaveGroup(String group)
+	{
+		MembershipKey key;
+		synchronized (memberships)
+		{
+			key = memberships.remove(group);
+		}
+		if (key != null && Build.VERSION.SDK_INT >= 24) {
+			key.drop();
+		}
+		releaseMulticastLockIfUnused();
+	}
+
+	@Kroll.getProperty
+	public int getState()
+	{
+		return state;
+	}
+
+	private static NetworkInterface findInterface(DatagramChannel channel, String interfaceName) throws IOException
+	{
+		if (interfaceName != null) {
+			NetworkInterface networkInterface = NetworkInterface.getByName(interfaceName);
+			if (networkInterface == null) {
+				throw new IOException("Unknown network interface <" + interfaceName + ">");
+			}
+			return networkInterface;
+		}
+		NetworkInterface networkInterface = channel.socket().getLocalAddress().isAnyLocalAddress()
+												? null
+												: NetworkInterface.getByInetAddress(channel.socket().getLocalAddress());
+		if (networkInterface == null) {
+			// Fall back to the first interface that is up and supports multicast.
+			for (NetworkInterface candidate : Collections.list(NetworkInterface.getNetworkInterfaces())) {
+				if (candidate.isUp() && candidate.supportsMulticast() && !candidate.isLoopback()) {
+					return candidate;
+				}
+			}
+			throw new IOException("No multicast capable network interface");
+		}
+		return networkInterface;
+	}
+
+	private void acquireMulticastLock()
+	{
+		if (multicastLock != null) {
+			return;
+		}
+		try {
+			WifiManager wifiManager = (WifiManager) TiApplication.getInstance().getApplicationContext().getSystemService(
+				Context.WIFI_SERVICE);
+			if (wifiManager != null) {
+				multicastLock = wifiManager.createMulticastLock(TAG);
+				multicastLock.setReferenceCounted(false);
+				multicastLock.acquire();
+			}
+		} catch (SecurityException e) {
+			Log.w(TAG, "CHANGE_WIFI_MULTICAST_STATE permission missing, multicast may not be received over Wi-Fi");
+			multicastLock = null;
+		}
+	}
+
+	private void releaseMulticastLockIfUnused()
+	{
+		synchronized (memberships)
+		{
+			if (!memberships.isEmpty()) {
+				return;
+			}
+		}
+		if (multicastLock != null) {
+			multicastLock.release();
+			multicastLock = null;
+		}
+	}
+
+	/**
+	 * Queues a datagram. Host names are resolved in order on the shared I/O executor so the
+	 * calling thread never blocks on DNS, then handed to the selector thread for sending.
+	 */
+	private void send(int port, String host, byte[] data)
+	{
+		if (state != SocketModule.LISTENING) {
+			fireError("Unable to send, socket is not started");
+			return;
+		}
+		pendingResolves.add(new PendingSend(host, port, data));
+		if (resolving.compareAndSet(false, true)) {
+			TiStreamHelper.getIOExecutor().execute(new Runnable() {
+				@Override
+				public void run()
+				{
+					resolvePendingSends();
+				}
+			});
+		}
+	}
+
+	private void resolvePendingSends()
+	{
+		while (true) {
+			PendingSend pending;
+			while ((pending = pendingResolves.poll()) != null) {
+				try {
+					InetAddress address = resolvedHosts.get(pending.host);
+					if (address == null) {
+						address = InetAddress.getByName(pending.host);
+						resolvedHosts.put(pending.host, address);
+					}
+					pendingSends.add(new Datagram(new InetSocketAddress(address, pending.port), pending.data, 0,
+												  pending.data.length));
+				} catch (IOException e) {
+					fireError("Unable to send, unknown host <" + pending.host + ">");
+				}
+			}
+			resolving.set(false);
+			// Pick up anything queued after the last poll but before the flag was cleared.
+			if (pendingResolves.isEmpty() || !resolving.compareAndSet(false, true)) {
+				break;
+			}
+		}
+
+		selector.execute(new Runnable() {
+			@Override
+			public void run()
+			{
+				try {
+					flushSends();
+				} catch (IOException e) {
+					fireError("Unable to send: " + e.getMessage());
+				}
+			}
+		});
+	}
+
+	private void flushSends() throws IOException
+	{
+		DatagramChannel channel = this.channel;
+		if (channel == null || !channel.isOpen()) {
+			pendingSends.clear();
+			return;
+		}
+		Datagram datagram;
+		while ((datagram = pendingSends.peek()) != null) {
+			ByteBuffer buffer = ByteBuffer.wrap(datagram.data, datagram.offset, datagram.length);
+			if (channel.send(buffer, datagram.address) == 0) {
+				// Send buffer is full, wait for OP_WRITE.
+				break;
+			}
+			pendingSends.poll();
+		}
+		int ops = SelectionKey.OP_READ | (pendingSends.isEmpty() ? 0 : SelectionKey.OP_WRITE);
+		selector.setInterestOps(channel, ops);
+	}
+
+	private class ChannelListener implements SocketSelector.Listener
+	{
+		@Override
+		public void onSelected(SelectionKey key) throws IOException
+		{
+			if (key.isReadable()) {
+				receiveAvailable((DatagramChannel) key.channel());
+			}
+			if (key.isValid() && key.isWritable()) {
+				flushSends();
+			}
+		}
+
+		@Override
+		public void onSelectFailed(IOException e)
+		{
+			fireError("Socket error: " + e.getMessage());
+		}
+	}
+
+	private void receiveAvailable(DatagramChannel channel) throws IOException
+	{
+		boolean deliver = getProperty("data") instanceof KrollFunction;
+		ArrayBlockingQueue<Datagram> receivedDatagrams = this.receivedDatagrams;
+		while (true) {
+			ByteBuffer readBuffer = selector.getReadBuffer();
+			InetSocketAddress source = (InetSocketAddress) channel.receive(readBuffer);
+			if (source == null) {
+				break;
+			}
+			readBuffer.flip();
+			int length = readBuffer.remaining();
+
+			if (!deliver) {
+				byte[] data = (length <= POOLED_DATAGRAM_SIZE) ? datagramPool.poll() : null;
+				if (data == null) {
+					data = new byte[Math.max(length, POOLED_DATAGRAM_SIZE)];
+				}
+				readBuffer.get(data, 0, length);
+				while (!receivedDatagrams.offer(new Datagram(source, data, 0, length))) {
+					Datagram dropped = receivedDatagrams.poll();
+					if (dropped != null) {
+						recycle(dropped);
+					}
+				}
+				continue;
+			}
+
+			// Append to the reusable staging buffer; it only grows, so steady traffic allocates nothing here.
+			if (stagingLength + length > staging.length) {
+				byte[] grown = new byte[Math.max(staging.length * 2, stagingLength + length)];
+				System.arraycopy(staging, 0, grown, 0, stagingLength);
+				staging = grown;
+			}
+			readBuffer.get(staging, stagingLength, length);
+			batch.add(new Datagram(source, null, stagingLength, length));
+			stagingLength += length;
+
+			if (batch.size() >= batchSize) {
+				flushBatch();
+			}
+		}
+
+		if (!batch.isEmpty() && !flushScheduled) {
+			if (batchInterval > 0) {
+				flushScheduled = true;
+				selector.schedule(new Runnable() {
+					@Override
+					public void run()
+					{
+						flushScheduled = false;
+						flushBatch();
+					}
+				}, batchInterval);
+			} else {
+				flushBatch();
+			}
+		}
+	}
+
+	/**
+	 * Delivers the pending batch with a single callback. Must be called on the selector thread.
+	 */
+	private void flushBatch()
+	{
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		byte[] payload = new byte[stagingLength];
+		System.arraycopy(staging, 0, payload, 0, stagingLength);
+		BufferProxy buffer = new BufferProxy(payload);
+
+		KrollDict callbackArgs = new KrollDict();
+		callbackArgs.put("socket", this);
+		callbackArgs.put("buffer", buffer);
+
+		if (batchSize == 1 && batchInterval == 0) {
+			// Unbatched delivery keeps the classic single datagram event.
+			Datagram datagram = batch.get(0);
+			putDatagramInfo(callbackArgs, datagram);
+			int[] bytes = new int[payload.length];
+			for (int i = 0; i < payload.length; i++) {
+				bytes[i] = payload[i] & 0xFF;
+			}
+			callbackArgs.put("bytesData", bytes);
+			callbackArgs.put("stringData", new String(payload, StandardCharsets.UTF_8));
+		} else {
+			Object[] datagrams = new Object[batch.size()];
+			for (int i = 0; i < datagrams.length; i++) {
+				KrollDict info = new KrollDict();
+				putDatagramInfo(info, batch.get(i));
+				datagrams[i] = info;
+			}
+			callbackArgs.put("datagrams", datagrams);
+		}
+
+		batch.clear();
+		stagingLength = 0;
+		fireCallback("data", callbackArgs);
+	}
+
+	private static void putDatagramInfo(KrollDict info, Datagram datagram)
+	{
+		info.put("address", datagram.address.getAddress().getHostAddress());
+		info.put("port", datagram.address.getPort());
+		info.put("offset", datagram.offset);
+		info.put("length", datagram.length);
+	}
+
+	private void fireCallback(String callbackName, KrollDict callbackArgs)
+	{
+		Object callback = getProperty(callbackName);
+		if (callback instanceof KrollFunction) {
+			((KrollFunction) callback).callAsync(getKrollObject(), callbackArgs);
+		}
+	}
+
+	private void fireError(String message)
+	{
+		Log.e(TAG, message);
+		KrollDict callbackArgs = new KrollDict();
+		callbackArgs.put("socket", this);
+		callbackArgs.putCodeAndMessage(-1, message);
+		fireCallback("error", callbackArgs);
+	}
+
+	private void closeChannel(DatagramChannel channel)
+	{
+		synchronized (memberships)
+		{
+			memberships.clear();
+		}
+		releaseMulticastLockIfUnused();
+		try {
+			if (channel != null) {
+				channel.close();
+			}
+		} catch (IOException e) {
+			Log.w(TAG, "Unable to close socket", Log.DEBUG_MODE);
+		}
+	}
+
+	/**
+	 * Returns the array of a datagram read() is done with to the pool. Can be called from any thread.
+	 */
+	private void recycle(Datagram datagram)
+	{
+		if (datagram.data != null && datagram.data.length == POOLED_DATAGRAM_SIZE) {
+			datagramPool.offer(datagram.data);
+		}
+	}
+
+	private static byte[] copyOf(BufferProxy buffer, int offset, int length)
+	{
+		byte[] data = new byte[length];
+		buffer.get(offset, data, 0, length);
+		return data;
+	}
+
+	// TiStream interface methods
+	@Kroll.method
+	public int read(Object[] args) throws Exception
+	{
+		if (state != SocketModule.LISTENING) {
+			throw new IOException("Unable to read from socket, not started");
+		}
+		return TiStreamHelper.readTiStream(TAG, getKrollObject(), this, args);
+	}
+
+	/**
+	 * Reads the next queued datagram. Bytes that do not fit into the buffer are discarded,
+	 * matching the behavior of a datagram socket.
+	 */
+	public int readSync(Object bufferProxy, int offset, int length) throws IOException
+	{
+		if (getProperty("data") instanceof KrollFunction) {
+			throw new IOException("Datagrams on this socket are delivered through the data callback");
+		}
+		ArrayBlockingQueue<Datagram> receivedDatagrams = this.receivedDatagrams;
+		Datagram datagram;
+		try {
+			int timeout = TiConvert.toInt(getProperty("timeout"), 0);
+			if (timeout > 0) {
+				datagram = receivedDatagrams.poll(timeout, TimeUnit.MILLISECONDS);
+				if (datagram == null) {
+					throw new SocketTimeoutException("Read timed out");
+				}
+			} else {
+				datagram = receivedDatagrams.take();
+			}
+		} catch (InterruptedException e) {
+			throw new IOException("Read interrupted");
+		}
+		if (datagram.length < 0) {
+			// Socket was stopped, keep reporting the end of the stream.
+			receivedDatagrams.offer(datagram);
+			return -1;
+		}
+
+		int count = Math.min(length, datagram.length);
+		((BufferProxy) bufferProxy).put(offset, datagram.data, datagram.offset, count);
+		recycle(datagram);
+		return count;
+	}
+
+	@Kroll.method
+	public int write(Object[] args) throws Exception
+	{
+		if (state != SocketModule.LISTENING) {
+			throw new IOException("Unable to write to socket, not started");
+		}
+		return TiStreamHelper.writeTiStream(TAG, getKrollObject(), this, args);
+	}
+
+	/**
+	 * Sends the bytes as one datagram to the socket's "host" and "port" properties.
+	 */
+	public int writeSync(Object buffer, int offset, int length) throws IOException
+	{
+		String host = TiConvert.toString(getProperty("host"));
+		int port = TiConvert.toInt(getProperty("port"), 0);
+		if (host == null || port <= 0) {
+			throw new IOException("Unable to write to socket, host and port must be set");
+		}
+		send(port, host, copyOf((BufferProxy) buffer, offset, length));
+		return length;
+	}
+
+	@Kroll.method
+	public boolean isWritable()
+	{
+		return state == SocketModule.LISTENING;
+	}
+
+	@Kroll.method
+	public boolean isReadable()
+	{
+		return state == SocketModule.LISTENING;
+	}
+
+	@Kroll.method
+	public void close() throws IOException
+	{
+		stop();
+	}
+
+	@Override
+	public void release()
+	{
+		stop();
+		super.release();
+	}
+
+	@Override
+	public String getApiName()
+	{
+		return "Ti.Network.Socket.UDP";
+	}
+}
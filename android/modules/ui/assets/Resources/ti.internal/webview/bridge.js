@@ -0,0 +1,122 @@
+/**
+ * Titanium bridge for local web content, connected to the app through a message port.
+ * Messages are batched in both directions, each batch being a JSON array:
+ * - to the app: { fire: name, data: data }, { add: name } and { remove: name }
+ * - from the app: [ name, data ] pairs of fired Ti.App events
+ */
+(function () {
+	if (window.Ti && window.Ti._bridge) {
+		return;
+	}
+
+	var port = null;
+	var outbox = [];
+	var flushScheduled = false;
+	var listeners = {};
+	var listenerIds = {};
+	var nextListenerId = 1;
+
+	function flush() {
+		flushScheduled = false;
+		if (port && outbox.length > 0) {
+			port.postMessage(JSON.stringify(outbox));
+			outbox = [];
+		}
+	}
+
+	function post(message) {
+		outbox.push(message);
+		if (port && !flushScheduled) {
+			flushScheduled = true;
+			setTimeout(flush, 0);
+		}
+	}
+
+	function dispatch(batch) {
+		for (var i = 0; i < batch.length; i++) {
+			var list = listeners[batch[i][0]];
+			if (!list) {
+				continue;
+			}
+			list = list.slice();
+			for (var j = 0; j < list.length; j++) {
+				list[j].call(list[j], batch[i][1]);
+			}
+		}
+	}
+
+	window.addEventListener('message', function (e) {
+		if (e.data !== '__ti_bridge' || !e.ports || e.ports.length === 0) {
+			return;
+		}
+		e.stopImmediatePropagation();
+
+		port = e.ports[0];
+		port.onmessage = function (message) {
+			dispatch(JSON.parse(message.data));
+		};
+
+		// Register listeners added so far, ahead of events fired before the port arrived.
+		var pending = outbox;
+		outbox = [];
+		for (var name in listeners) {
+			outbox.push({ add: name });
+		}
+		for (var i = 0; i < pending.length; i++) {
+			if (pending[i].fire !== undefined) {
+				outbox.push(pending[i]);
+			}
+		}
+		flush();
+	});
+
+	function removeListener(name, listener) {
+		var list = listeners[name];
+		var index = list ? list.indexOf(listener) : -1;
+		if (index < 0) {
+			return;
+		}
+		list.splice(index, 1);
+		if (list.length === 0) {
+			delete listeners[name];
+			post({ remove: name });
+		}
+	}
+
+	var Ti = {
+		_bridge: true,
+		API: window.TiAPI,
+		App: {
+			addEventListener: function (name, listener) {
+				var list = listeners[name];
+				if (!list) {
+					list = listeners[name] = [];
+					post({ add: name });
+				}
+				list.push(listener);
+
+				var id = nextListenerId++;
+				listenerIds[id] = { name: name, listener: listener };
+				return id;
+			},
+
+			removeEventListener: function (name, listener) {
+				if (typeof listener === 'number') {
+					var entry = listenerIds[listener];
+					if (entry) {
+						delete listenerIds[listener];
+						removeListener(entry.name, entry.listener);
+					}
+					return;
+				}
+				removeListener(name, listener);
+			},
+
+			fireEvent: function (name, data) {
+				post({ fire: name, data: data });
+			}
+		}
+	};
+
+	window.Ti = window.Titanium = Ti;
+}());
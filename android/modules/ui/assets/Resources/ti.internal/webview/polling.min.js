@@ -1 +0,0 @@
-function checkForJSCode(){var a=TiApp.hasResult();-1!=a?1==a&&(a=TiApp.getJSCode(),void 0!=a?eval(a+""):clearInterval(refreshIntervalId)):clearInterval(refreshIntervalId)}var refreshIntervalId=setInterval(checkForJSCode,250);
\ No newline at end of file
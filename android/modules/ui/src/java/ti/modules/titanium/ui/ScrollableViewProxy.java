@@ -8,18 +8,22 @@ package ti.modules.titanium.ui;
 
 import android.app.Activity;
 import android.os.Message;
+import android.view.View;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.annotations.Kroll;
+import org.appcelerator.kroll.common.Log;
 import org.appcelerator.titanium.TiC;
 import org.appcelerator.titanium.proxy.TiViewProxy;
 import org.appcelerator.titanium.util.TiConvert;
 import org.appcelerator.titanium.view.TiUIView;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import ti.modules.titanium.ui.widget.TiScrollableViewPagePool;
 import ti.modules.titanium.ui.widget.TiUIScrollableView;
 
 @Kroll.proxy(creatableInModule = UIModule.class,
@@ -45,6 +49,7 @@ public class ScrollableViewProxy extends TiViewProxy
 	private static final int DEFAULT_PAGING_CONTROL_TIMEOUT = 3000;
 	protected AtomicBoolean inScroll;
 	private final List<TiViewProxy> views = new ArrayList<>();
+	private TiScrollableViewPagePool pagePool;
 	private TiUIScrollableView scrollableView;
 
 	public ScrollableViewProxy()
@@ -63,7 +68,16 @@ public class ScrollableViewProxy extends TiViewProxy
 	{
 		super.handleCreationDict(properties);
 
-		if (properties.containsKey(TiC.PROPERTY_VIEWS)) {
+		// Templates switch the scrollable view to creating its pages from "items" on demand.
+		KrollDict templates = properties.getKrollDict(TiC.PROPERTY_TEMPLATES);
+		if (templates != null && !templates.isEmpty()) {
+			String defaultTemplate = properties.optString(TiC.PROPERTY_DEFAULT_ITEM_TEMPLATE, null);
+			if (defaultTemplate == null) {
+				defaultTemplate = templates.keySet().iterator().next();
+			}
+			this.pagePool = new TiScrollableViewPagePool(this, templates, defaultTemplate);
+			setItems(properties.get(TiC.PROPERTY_ITEMS));
+		} else if (properties.containsKey(TiC.PROPERTY_VIEWS)) {
 			setViews(properties.get(TiC.PROPERTY_VIEWS));
 		}
 	}
@@ -135,6 +149,133 @@ public class ScrollableViewProxy extends TiViewProxy
 		return (ArrayList<TiViewProxy>) this.views;
 	}
 
+	/**
+	 * @return true if pages are created from "templates" and "items" instead of "views".
+	 */
+	public boolean hasPageTemplates()
+	{
+		return this.pagePool != null;
+	}
+
+	/**
+	 * @return the number of pages, whether they come from "views" or "items".
+	 */
+	public int getPageCount()
+	{
+		return (this.pagePool != null) ? this.pagePool.getCount() : this.views.size();
+	}
+
+	/**
+	 * Returns the proxy for the given page, creating or rebinding it from its template in items mode.
+	 * @param position index of the page.
+	 * @return the page's proxy, or null if the index is out of bounds.
+	 */
+	public TiViewProxy obtainPageProxy(int position)
+	{
+		if (this.pagePool != null) {
+			return this.pagePool.obtain(position);
+		}
+		return ((position >= 0) && (position < this.views.size())) ? this.views.get(position) : null;
+	}
+
+	/**
+	 * Returns the proxy for the given page without creating it.
+	 * In items mode, this is null for pages that are not currently held by the pager.
+	 * @param position index of the page.
+	 * @return the page's proxy, or null.
+	 */
+	public TiViewProxy getPageProxy(int position)
+	{
+		if (this.pagePool != null) {
+			return this.pagePool.getActivePage(position);
+		}
+		return ((position >= 0) && (position < this.views.size())) ? this.views.get(position) : null;
+	}
+
+	/**
+	 * @return index of the page displaying the given proxy, or -1.
+	 */
+	public int indexOfPage(TiViewProxy view)
+	{
+		return (this.pagePool != null) ? this.pagePool.indexOf(view) : this.views.indexOf(view);
+	}
+
+	/**
+	 * Determines if the pager can keep the given page in place after the pages changed.
+	 * Only pages created from templates are kept, and only while they are bound to the item at their position.
+	 * @param pageView the native view the pager holds for the page.
+	 * @return true if the page is unchanged. Returns false if it has to be recreated.
+	 */
+	public boolean isPageUnchanged(View pageView)
+	{
+		return (this.pagePool != null) && this.pagePool.isBoundToCurrentItem(pageView);
+	}
+
+	/**
+	 * Called when the pager no longer holds the given page.
+	 * Pages created from templates are kept for reuse, other pages have their native views released.
+	 * @param position index of the page.
+	 */
+	public void releasePage(int position)
+	{
+		if (this.pagePool != null) {
+			this.pagePool.recycle(position);
+		} else if ((position >= 0) && (position < this.views.size())) {
+			this.views.get(position).releaseViews();
+		}
+	}
+
+	/**
+	 * Prepares a view for the given page while the UI thread is idle, so it does not have to be
+	 * created while scrolling. Only applies to pages created from templates.
+	 * @param position index of the page.
+	 */
+	public void prefetchPage(int position)
+	{
+		if (this.pagePool != null) {
+			this.pagePool.prefetch(position);
+		}
+	}
+
+	@Kroll.getProperty
+	public Object[] getItems()
+	{
+		Object items = getProperty(TiC.PROPERTY_ITEMS);
+		return (items instanceof Object[]) ? (Object[]) items : new Object[0];
+	}
+
+	@Kroll.setProperty
+	public void setItems(Object items)
+	{
+		if (this.pagePool == null) {
+			Log.w(TAG, "ScrollableView 'items' requires 'templates' to be set on creation.");
+			return;
+		}
+
+		ArrayList<KrollDict> itemList = new ArrayList<>();
+		if (items instanceof Object[]) {
+			for (final Object item : (Object[]) items) {
+				if (item instanceof HashMap) {
+					itemList.add(new KrollDict((HashMap<String, Object>) item));
+				}
+			}
+		}
+		setProperty(TiC.PROPERTY_ITEMS, itemList.toArray());
+		this.pagePool.setItems(itemList);
+
+		// Notify native scrollable view about the item collection change.
+		// Pages currently shown whose item changed are returned to the pool and rebound to the new items.
+		if (this.scrollableView != null) {
+			final int currentPage = this.scrollableView.getCurrentPage();
+
+			this.scrollableView.getAdapter().notifyDataSetChanged();
+
+			if (currentPage >= itemList.size()) {
+				this.scrollableView.setCurrentPage(Math.max(itemList.size() - 1, 0));
+			}
+		}
+	}
+
 	@Kroll.getProperty
 	public TiViewProxy[] getViews()
 	{
@@ -385,6 +526,9 @@ public class ScrollableViewProxy extends TiViewProxy
 		for (final TiViewProxy view : this.views) {
 			view.releaseViews();
 		}
+		if (this.pagePool != null) {
+			this.pagePool.releaseViews();
+		}
 
 		// Remove out-of-date views from proxy.
 		// Prevents using old views upon re-creation.
@@ -406,6 +550,9 @@ public class ScrollableViewProxy extends TiViewProxy
 		for (final TiViewProxy view : this.views) {
 			view.setActivity(activity);
 		}
+		if (this.pagePool != null) {
+			this.pagePool.setActivity(activity);
+		}
 	}
 
 	@Override
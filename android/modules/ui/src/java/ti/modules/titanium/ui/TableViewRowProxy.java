@@ -60,6 +60,10 @@ public class TableViewRowProxy extends TiViewProxy
 	private boolean placeholder = false;
 	private boolean selected = false;
 
+	// Cached layout signature, requested by the table for every row it binds.
+	private int layoutSignature;
+	private boolean hasLayoutSignature = false;
+
 	// FIXME: On iOS the same row can be added to a table multiple times.
 	//        Due to constraints, we need to create a new proxy and track changes.
 	private final List<WeakReference<TableViewRowProxy>> clones = new ArrayList<>(0);
@@ -231,6 +235,57 @@ public class TableViewRowProxy extends TiViewProxy
 		}
 	}
 
+	/**
+	 * Get layout signature of row, used as its view type.
+	 * Rows specifying a `className` share the signature of their class name, other rows
+	 * share a signature with rows whose children have the same classes and property names.
+	 * <p>
+	 * The signature is computed once, and again after the row's properties or children change or the row is
+	 * invalidated. Changes further down its children are not noticed until then, which only costs new child
+	 * views, since recycled child views are checked against the row's children before they are adopted.
+	 *
+	 * @return Integer of layout signature.
+	 */
+	public int getLayoutSignature()
+	{
+		if (!this.hasLayoutSignature) {
+			this.layoutSignature = computeLayoutSignature();
+			this.hasLayoutSignature = true;
+		}
+		return this.layoutSignature;
+	}
+
+	private int computeLayoutSignature()
+	{
+		final Object className = getProperty(TiC.PROPERTY_CLASS_NAME);
+		if (className != null) {
+			return className.toString().hashCode();
+		}
+
+		int signature = 0;
+		for (final TiViewProxy child : getChildren()) {
+			signature = 31 * signature + getLayoutSignature(child);
+		}
+		return signature;
+	}
+
+	private static int getLayoutSignature(TiViewProxy proxy)
+	{
+		int signature = proxy.getClass().getName().hashCode();
+		final KrollDict properties = proxy.getProperties();
+		if (properties != null) {
+			int propertySignature = 0;
+			for (final String name : properties.keySet()) {
+				propertySignature += name.hashCode();
+			}
+			signature = 31 * signature + propertySignature;
+		}
+		for (final TiViewProxy child : proxy.getChildren()) {
+			signature = 31 * signature + getLayoutSignature(child);
+		}
+		return signature;
+	}
+
 	/**
 	 * Override getRect() to amend dimensions.
 	 *
@@ -353,6 +408,8 @@ public class TableViewRowProxy extends TiViewProxy
 	 */
 	public void invalidate()
 	{
+		this.hasLayoutSignature = false;
+
 		if (this.holder != null) {
 			this.holder.bind(this, this.holder.itemView.isActivated());
 		}
@@ -394,6 +451,8 @@ public class TableViewRowProxy extends TiViewProxy
 	{
 		final TableViewProxy tableViewProxy = getTableViewProxy();
 
+		this.hasLayoutSignature = false;
+
 		if (name.equals(TiC.PROPERTY_SELECTED_BACKGROUND_COLOR)) {
 			Log.w(TAG, "selectedBackgroundColor is deprecated, use backgroundSelectedColor instead.");
 			setProperty(TiC.PROPERTY_BACKGROUND_SELECTED_COLOR, value);
@@ -452,6 +511,30 @@ public class TableViewRowProxy extends TiViewProxy
 		}
 	}
 
+	@Override
+	public void add(Object args)
+	{
+		super.add(args);
+
+		this.hasLayoutSignature = false;
+	}
+
+	@Override
+	public void insertAt(TiViewProxy child, int position)
+	{
+		super.insertAt(child, position);
+
+		this.hasLayoutSignature = false;
+	}
+
+	@Override
+	public void remove(TiViewProxy child)
+	{
+		super.remove(child);
+
+		this.hasLayoutSignature = false;
+	}
+
 	/**
 	 * Release row views.
 	 */
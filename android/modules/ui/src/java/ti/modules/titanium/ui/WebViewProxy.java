@@ -639,9 +639,9 @@ public class WebViewProxy extends ViewProxy implements Handler.Callback, OnLifec
 			return;
 		}
 
-		// We allow JS polling to continue until we exit the app. If we want to stop the polling when the app is
-		// backgrounded, we would need to move this to onStop(), and add the appropriate logic in onResume() to restart
-		// the polling.
+		// Ti.App events keep reaching the page until we exit the app. If we want to stop them when the app is
+		// backgrounded, we would need to move this to onStop(), and add the appropriate logic in onResume() to
+		// restore the binding.
 		webView.destroyWebViewBinding();
 
 		WebView nativeWebView = webView.getWebView();
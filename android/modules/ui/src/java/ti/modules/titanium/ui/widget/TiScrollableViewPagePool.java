@@ -0,0 +1,388 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollEventCallback;
+import org.appcelerator.kroll.KrollFunction;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiC;
+import org.appcelerator.titanium.proxy.TiViewProxy;
+import org.appcelerator.titanium.view.TiUIView;
+
+import android.app.Activity;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.SparseArray;
+import android.view.View;
+
+import ti.modules.titanium.ui.ScrollableViewProxy;
+
+/**
+ * Creates ScrollableView pages from templates and item data on demand.
+ * <p>
+ * Only the pages the ViewPager currently holds are bound to items. Pages scrolled out of range
+ * are returned to a per-template pool with their native views intact and are rebound to the next
+ * item using the same template, so a data set of any size only ever creates a handful of views.
+ */
+public class TiScrollableViewPagePool
+{
+	private static final String TAG = "TiScrollableViewPagePool";
+
+	// Root proxy and bindId keys in a template processed by the JavaScript layer.
+	private static final String PROPERTY_TI_PROXY = "tiProxy";
+
+	// Unbound pages kept per template. Pages beyond that have their views released.
+	private static final int MAX_POOLED_PAGES = 2;
+
+	private static class Page
+	{
+		final String templateId;
+		final TiViewProxy root;
+		final HashMap<String, TiViewProxy> binds = new HashMap<>();
+		final HashMap<String, KrollDict> defaults = new HashMap<>();
+		final HashMap<String, HashSet<String>> boundKeys = new HashMap<>();
+		KrollDict item;
+		int position = -1;
+
+		Page(String templateId, TiViewProxy root)
+		{
+			this.templateId = templateId;
+			this.root = root;
+		}
+	}
+
+	private final ScrollableViewProxy owner;
+	private final KrollDict templates;
+	private final String defaultTemplateId;
+	private List<KrollDict> items = new ArrayList<>();
+	private final SparseArray<Page> activePages = new SparseArray<>();
+	private final HashMap<String, ArrayDeque<Page>> pooledPages = new HashMap<>();
+	private boolean prefetchScheduled = false;
+	private int prefetchPosition = -1;
+
+	public TiScrollableViewPagePool(ScrollableViewProxy owner, KrollDict templates, String defaultTemplateId)
+	{
+		this.owner = owner;
+		this.templates = (templates != null) ? templates : new KrollDict();
+		this.defaultTemplateId = defaultTemplateId;
+	}
+
+	public void setItems(List<KrollDict> items)
+	{
+		this.items = (items != null) ? items : new ArrayList<>();
+	}
+
+	public int getCount()
+	{
+		return this.items.size();
+	}
+
+	/**
+	 * Returns a page view bound to the item at the given position, reusing a pooled page if possible.
+	 * @return the page's root proxy, or null if the position is invalid or its template is unknown.
+	 */
+	public TiViewProxy obtain(int position)
+	{
+		if ((position < 0) || (position >= this.items.size())) {
+			return null;
+		}
+
+		Page page = this.activePages.get(position);
+		if (page == null) {
+			KrollDict item = this.items.get(position);
+			String templateId = item.optString(TiC.PROPERTY_TEMPLATE, this.defaultTemplateId);
+			ArrayDeque<Page> pool = this.pooledPages.get(templateId);
+			page = (pool != null) ? pool.poll() : null;
+			if (page == null) {
+				page = createPage(templateId);
+				if (page == null) {
+					return null;
+				}
+			}
+			this.activePages.put(position, page);
+			page.position = position;
+			bind(page, item);
+		}
+		return page.root;
+	}
+
+	/**
+	 * Unbinds the page at the given position and returns it to the pool.
+	 */
+	public void recycle(int position)
+	{
+		Page page = this.activePages.get(position);
+		if (page == null) {
+			return;
+		}
+		this.activePages.remove(position);
+		page.position = -1;
+		page.item = null;
+
+		ArrayDeque<Page> pool = this.pooledPages.get(page.templateId);
+		if (pool == null) {
+			pool = new ArrayDeque<>();
+			this.pooledPages.put(page.templateId, pool);
+		}
+		if (pool.size() < MAX_POOLED_PAGES) {
+			pool.push(page);
+		} else {
+			page.root.releaseViews();
+			page.root.setParent(null);
+		}
+	}
+
+	/**
+	 * @return the proxy currently bound to the item at the given position, or null if it is not instantiated.
+	 */
+	public TiViewProxy getActivePage(int position)
+	{
+		Page page = this.activePages.get(position);
+		return (page != null) ? page.root : null;
+	}
+
+	/**
+	 * Determines if the given native view belongs to a page that is still bound to the item at its position,
+	 * such as after the items were replaced with an equal item at that position.
+	 * @param view the outer view of a page, as handed to the pager.
+	 * @return true if the page can stay in place. Returns false if it has to be rebound or removed.
+	 */
+	public boolean isBoundToCurrentItem(View view)
+	{
+		for (int index = 0; index < this.activePages.size(); index++) {
+			Page page = this.activePages.valueAt(index);
+			TiUIView uiView = page.root.peekView();
+			if ((uiView != null) && (uiView.getOuterView() == view)) {
+				int position = this.activePages.keyAt(index);
+				return (position < this.items.size()) && this.items.get(position).equals(page.item);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the position of the item a page's root proxy is bound to, or -1.
+	 */
+	public int indexOf(TiViewProxy proxy)
+	{
+		for (int index = 0; index < this.activePages.size(); index++) {
+			if (this.activePages.valueAt(index).root == proxy) {
+				return this.activePages.keyAt(index);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Makes sure a page for the item at the given position can be taken from the pool without
+	 * creating views, doing the work when the UI thread is idle.
+	 */
+	public void prefetch(int position)
+	{
+		if ((position < 0) || (position >= this.items.size()) || (this.activePages.get(position) != null)) {
+			return;
+		}
+		this.prefetchPosition = position;
+		if (this.prefetchScheduled) {
+			return;
+		}
+		this.prefetchScheduled = true;
+		Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+			@Override
+			public boolean queueIdle()
+			{
+				prefetchScheduled = false;
+				int index = prefetchPosition;
+				if ((index < 0) || (index >= items.size()) || (activePages.get(index) != null)) {
+					return false;
+				}
+				String templateId = items.get(index).optString(TiC.PROPERTY_TEMPLATE, defaultTemplateId);
+				ArrayDeque<Page> pool = pooledPages.get(templateId);
+				if (pool == null) {
+					pool = new ArrayDeque<>();
+					pooledPages.put(templateId, pool);
+				}
+				if (pool.isEmpty()) {
+					Page page = createPage(templateId);
+					if (page != null) {
+						page.root.getOrCreateView();
+						pool.push(page);
+					}
+				}
+				return false;
+			}
+		});
+	}
+
+	public void setActivity(Activity activity)
+	{
+		for (int index = 0; index < this.activePages.size(); index++) {
+			this.activePages.valueAt(index).root.setActivity(activity);
+		}
+		for (ArrayDeque<Page> pool : this.pooledPages.values()) {
+			for (Page page : pool) {
+				page.root.setActivity(activity);
+			}
+		}
+	}
+
+	/**
+	 * Releases the native views of every page, bound or pooled.
+	 */
+	public void releaseViews()
+	{
+		for (int index = 0; index < this.activePages.size(); index++) {
+			this.activePages.valueAt(index).root.releaseViews();
+		}
+		this.activePages.clear();
+		for (ArrayDeque<Page> pool : this.pooledPages.values()) {
+			for (Page page : pool) {
+				page.root.releaseViews();
+				page.root.setParent(null);
+			}
+		}
+		this.pooledPages.clear();
+	}
+
+	private Page createPage(String templateId)
+	{
+		KrollDict template = this.templates.getKrollDict(templateId);
+		if (template == null) {
+			Log.w(TAG, "ScrollableView template '" + templateId + "' does not exist.");
+			return null;
+		}
+		TiViewProxy root = createProxy(template);
+		if (root == null) {
+			return null;
+		}
+		root.setParent(this.owner);
+
+		Page page = new Page(templateId, root);
+		addBinding(page, TiC.PROPERTY_PROPERTIES, root, template);
+		addChildren(page, root, template);
+		return page;
+	}
+
+	private void addChildren(Page page, TiViewProxy parent, KrollDict template)
+	{
+		Object childTemplates = template.get(TiC.PROPERTY_CHILD_TEMPLATES);
+		if (!(childTemplates instanceof Object[])) {
+			return;
+		}
+		for (Object object : (Object[]) childTemplates) {
+			if (!(object instanceof HashMap<?, ?>)) {
+				continue;
+			}
+			@SuppressWarnings("unchecked")
+			KrollDict childTemplate = new KrollDict((HashMap<String, Object>) object);
+			TiViewProxy child = createProxy(childTemplate);
+			if (child == null) {
+				continue;
+			}
+			String bindId = childTemplate.getString(TiC.PROPERTY_BIND_ID);
+			if (bindId != null) {
+				addBinding(page, bindId, child, childTemplate);
+			}
+			addChildren(page, child, childTemplate);
+			parent.add(child);
+		}
+	}
+
+	private TiViewProxy createProxy(KrollDict template)
+	{
+		Object templateProxy = template.get(PROPERTY_TI_PROXY);
+		if (!(templateProxy instanceof TiViewProxy)) {
+			return null;
+		}
+		try {
+			TiViewProxy proxy = (TiViewProxy) templateProxy.getClass().getDeclaredConstructor().newInstance();
+			proxy.setActivity(this.owner.getActivity());
+			proxy.handleCreationArgs(null,
+									 new Object[] { new KrollDict(((TiViewProxy) templateProxy).getProperties()) });
+			return proxy;
+		} catch (Exception e) {
+			Log.w(TAG, "Failed to create page view from template.", e);
+			return null;
+		}
+	}
+
+	private void addBinding(final Page page, final String bindId, final TiViewProxy proxy, KrollDict template)
+	{
+		page.binds.put(bindId, proxy);
+		KrollDict defaults = template.getKrollDict(TiC.PROPERTY_PROPERTIES);
+		page.defaults.put(bindId, (defaults != null) ? defaults : new KrollDict());
+
+		// Template listeners receive the index of the item the page is currently bound to.
+		KrollDict events = template.getKrollDict(TiC.PROPERTY_EVENTS);
+		if (events == null) {
+			return;
+		}
+		for (Map.Entry<String, Object> entry : events.entrySet()) {
+			if (!(entry.getValue() instanceof KrollFunction)) {
+				continue;
+			}
+			final KrollFunction callback = (KrollFunction) entry.getValue();
+			proxy.addEventListener(entry.getKey(), new KrollEventCallback() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public void call(Object data)
+				{
+					KrollDict event =
+						(data instanceof HashMap<?, ?>) ? new KrollDict((HashMap<String, Object>) data) : new KrollDict();
+					event.put(TiC.PROPERTY_ITEM_INDEX, page.position);
+					if (!TiC.PROPERTY_PROPERTIES.equals(bindId)) {
+						event.put(TiC.PROPERTY_BIND_ID, bindId);
+					}
+					callback.callAsync(proxy.getKrollObject(), new Object[] { event });
+				}
+			});
+		}
+	}
+
+	private void bind(Page page, KrollDict item)
+	{
+		page.item = item;
+		for (Map.Entry<String, TiViewProxy> entry : page.binds.entrySet()) {
+			String bindId = entry.getKey();
+			TiViewProxy proxy = entry.getValue();
+			KrollDict defaults = page.defaults.get(bindId);
+			KrollDict values = item.getKrollDict(bindId);
+
+			// Reset properties the previous item set that this one does not.
+			HashSet<String> previousKeys = page.boundKeys.get(bindId);
+			if (previousKeys != null) {
+				for (String key : previousKeys) {
+					if ((values == null || !values.containsKey(key)) && !defaults.containsKey(key)) {
+						proxy.setPropertyAndFire(key, null);
+					}
+				}
+			}
+
+			for (Map.Entry<String, Object> property : defaults.entrySet()) {
+				if (values == null || !values.containsKey(property.getKey())) {
+					proxy.setPropertyAndFire(property.getKey(), property.getValue());
+				}
+			}
+			if (values != null) {
+				for (Map.Entry<String, Object> property : values.entrySet()) {
+					proxy.setPropertyAndFire(property.getKey(), property.getValue());
+				}
+				page.boundKeys.put(bindId, new HashSet<>(values.keySet()));
+			} else {
+				page.boundKeys.remove(bindId);
+			}
+		}
+	}
+}
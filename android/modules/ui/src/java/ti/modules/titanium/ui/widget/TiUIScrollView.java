@@ -111,7 +111,10 @@ public class TiUIScrollView extends TiUIView
 			if (width < 0) {
 				width = 0;
 			}
-			this.parentContentWidth = width;
+			if (this.parentContentWidth != width) {
+				this.parentContentWidth = width;
+				invalidateMeasureCache();
+			}
 		}
 
 		/**
@@ -133,7 +136,10 @@ public class TiUIScrollView extends TiUIView
 			if (height < 0) {
 				height = 0;
 			}
-			this.parentContentHeight = height;
+			if (this.parentContentHeight != height) {
+				this.parentContentHeight = height;
+				invalidateMeasureCache();
+			}
 		}
 
 		/**
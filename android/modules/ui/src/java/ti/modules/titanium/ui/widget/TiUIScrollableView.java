@@ -6,7 +6,6 @@
  */
 package ti.modules.titanium.ui.widget;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 
 import org.appcelerator.kroll.KrollDict;
@@ -67,7 +66,7 @@ public class TiUIScrollableView extends TiUIView
 		mContainer = new TiViewPagerLayout(activity);
 
 		// Add ViewPager to container.
-		mAdapter = new ViewPagerAdapter(activity, proxy.getViewsList());
+		mAdapter = new ViewPagerAdapter(activity, proxy);
 		mPager = buildViewPager(activity, mAdapter);
 		if (proxy.hasPropertyAndNotNull(TiC.PROPERTY_CLIP_VIEWS)) {
 			mPager.setClipToPadding(TiConvert.toBoolean(proxy.getProperty(TiC.PROPERTY_CLIP_VIEWS), true));
@@ -178,7 +177,7 @@ public class TiUIScrollableView extends TiUIView
 			{
 				switch (scrollState) {
 					case ViewPager.SCROLL_STATE_DRAGGING: {
-						if (!this.isDragging && !getViews().isEmpty()) {
+						if (!this.isDragging && (getPageCount() > 0)) {
 							// This is the start of a touch/drag event by the end-user. Fire a "dragstart" event.
 							this.isDragging = true;
 							this.isScrolling = true;
@@ -200,8 +199,8 @@ public class TiUIScrollableView extends TiUIView
 
 							// Fetch the proxy for the currently selected page.
 							TiViewProxy pageProxy = null;
-							if ((this.lastSelectedPageIndex >= 0) && (this.lastSelectedPageIndex < getViews().size())) {
-								pageProxy = getViews().get(this.lastSelectedPageIndex);
+							if ((this.lastSelectedPageIndex >= 0) && (this.lastSelectedPageIndex < getPageCount())) {
+								pageProxy = getScrollableViewProxy().getPageProxy(this.lastSelectedPageIndex);
 							}
 
 							// Fire a "dragend" event if dragging. (We only support this event on Android.)
@@ -242,13 +241,18 @@ public class TiUIScrollableView extends TiUIView
 			public void onPageSelected(int pageIndex)
 			{
 				this.lastSelectedPageIndex = pageIndex;
+
+				// Prepare the page that becomes the next one to come into range in either direction.
+				int offscreenLimit = mPager.getOffscreenPageLimit();
+				getScrollableViewProxy().prefetchPage(pageIndex + offscreenLimit + 1);
+				getScrollableViewProxy().prefetchPage(pageIndex - offscreenLimit - 1);
 			}
 
 			@Override
 			public void onPageScrolled(int pageIndex, float pageOffsetNormalized, int pageOffsetPixels)
 			{
 				// Ignored scroll/drag events if there are no child pages within the ViewPager.
-				if (getViews().isEmpty()) {
+				if (getPageCount() == 0) {
 					return;
 				}
 
@@ -271,14 +275,15 @@ public class TiUIScrollableView extends TiUIView
 				int currentPageIndex = (int) Math.floor(currentPageAsFloat + 0.5f);
 				if (currentPageIndex < 0) {
 					currentPageIndex = 0;
-				} else if (currentPageIndex >= getViews().size()) {
-					currentPageIndex = getViews().size() - 1;
+				} else if (currentPageIndex >= getPageCount()) {
+					currentPageIndex = getPageCount() - 1;
 				}
 				mCurIndex = currentPageIndex;
 
 				// Fire a "scroll" event.
 				if (proxy != null) {
-					((ScrollableViewProxy) proxy).fireScroll(mCurIndex, currentPageAsFloat, getViews().get(mCurIndex));
+					((ScrollableViewProxy) proxy)
+						.fireScroll(mCurIndex, currentPageAsFloat, getScrollableViewProxy().getPageProxy(mCurIndex));
 				}
 			}
 		});
@@ -374,9 +379,9 @@ public class TiUIScrollableView extends TiUIView
 		return (ScrollableViewProxy) this.proxy;
 	}
 
-	private ArrayList<TiViewProxy> getViews()
+	private int getPageCount()
 	{
-		return getScrollableViewProxy().getViewsList();
+		return getScrollableViewProxy().getPageCount();
 	}
 
 	@Override
@@ -473,7 +478,7 @@ public class TiUIScrollableView extends TiUIView
 
 		v = mContainer.findViewById(PAGE_RIGHT_ID);
 		if (v != null) {
-			v.setVisibility(mCurIndex < (getViews().size() - 1) ? View.VISIBLE : View.INVISIBLE);
+			v.setVisibility(mCurIndex < (getPageCount() - 1) ? View.VISIBLE : View.INVISIBLE);
 		}
 
 		mPagingControl.setVisibility(View.VISIBLE);
@@ -497,7 +502,7 @@ public class TiUIScrollableView extends TiUIView
 
 	private void move(int index, boolean smoothScroll)
 	{
-		if (index < 0 || index >= getViews().size()) {
+		if (index < 0 || index >= getPageCount()) {
 			if (Log.isDebugModeEnabled()) {
 				Log.w(TAG, "Request to move to index " + index + " ignored, as it is out-of-bounds.", Log.DEBUG_MODE);
 			}
@@ -512,7 +517,7 @@ public class TiUIScrollableView extends TiUIView
 		if (view instanceof Number) {
 			move(((Number) view).intValue(), true);
 		} else if (view instanceof TiViewProxy) {
-			move(getViews().indexOf(view), true);
+			move(getScrollableViewProxy().indexOfPage((TiViewProxy) view), true);
 		}
 	}
 
@@ -577,13 +582,13 @@ public class TiUIScrollableView extends TiUIView
 
 	public static class ViewPagerAdapter extends PagerAdapter
 	{
-		private final ArrayList<TiViewProxy> mViewProxies;
-		public ViewPagerAdapter(Activity activity, ArrayList<TiViewProxy> viewProxies)
+		private final ScrollableViewProxy mProxy;
+		public ViewPagerAdapter(Activity activity, ScrollableViewProxy proxy)
 		{
-			if (viewProxies == null) {
+			if (proxy == null) {
 				throw new IllegalArgumentException();
 			}
-			mViewProxies = viewProxies;
+			mProxy = proxy;
 		}
 
 		@Override
@@ -606,13 +611,8 @@ public class TiUIScrollableView extends TiUIView
 				}
 			}
 
-			// Release/Destroy the page's native views.
-			if ((position >= 0) && (position < mViewProxies.size())) {
-				TiViewProxy proxy = mViewProxies.get(position);
-				if (proxy != null) {
-					proxy.releaseViews();
-				}
-			}
+			// Release/Destroy the page's native views, or keep them for reuse if created from a template.
+			mProxy.releasePage(position);
 		}
 
 		@Override
@@ -623,7 +623,7 @@ public class TiUIScrollableView extends TiUIView
 		@Override
 		public int getCount()
 		{
-			return mViewProxies.size();
+			return mProxy.getPageCount();
 		}
 
 		@Override
@@ -633,14 +633,14 @@ public class TiUIScrollableView extends TiUIView
 			if ((container instanceof ViewPager) == false) {
 				return null;
 			}
-			if ((position < 0) || (position >= mViewProxies.size())) {
+			if ((position < 0) || (position >= mProxy.getPageCount())) {
 				return null;
 			}
 
 			// Acquire the requested page view.
 			View pageView = null;
 			ViewGroup.LayoutParams layoutParams = null;
-			TiViewProxy proxy = mViewProxies.get(position);
+			TiViewProxy proxy = mProxy.obtainPageProxy(position);
 			if (proxy != null) {
 				TiUIView uiView = proxy.getOrCreateView();
 				if (uiView != null) {
@@ -714,7 +714,11 @@ public class TiUIScrollableView extends TiUIView
 		@Override
 		public int getItemPosition(Object object)
 		{
-			return mViewProxies.contains(object) ? POSITION_UNCHANGED : POSITION_NONE;
+			// Keep pages still showing their item, recreate all others.
+			if ((object instanceof View) && mProxy.isPageUnchanged((View) object)) {
+				return POSITION_UNCHANGED;
+			}
+			return POSITION_NONE;
 		}
 	}
 
@@ -9,12 +9,12 @@ package ti.modules.titanium.ui.widget.listview;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollEventCallback;
 import org.appcelerator.kroll.KrollFunction;
-import org.appcelerator.kroll.KrollObject;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.titanium.TiC;
@@ -53,7 +53,7 @@ public class ListItemProxy extends TiViewProxy
 
 	private int filteredIndex = -1;
 	private ListViewHolder holder;
-	private KrollDict template;
+	private ListViewTemplate template;
 	private String templateId;
 	private boolean placeholder = false;
 	private boolean hasAddedItemEvents = false;
@@ -95,7 +95,7 @@ public class ListItemProxy extends TiViewProxy
 		}
 
 		// Apply template defined properties to this ListItem.
-		final KrollDict templateProperties = this.template.getKrollDict(TiC.PROPERTY_PROPERTIES);
+		final KrollDict templateProperties = this.template.getProperties();
 		if (templateProperties != null) {
 			for (KrollDict.Entry<String, Object> entry : templateProperties.entrySet()) {
 				if (!this.ignoredTemplateKeys.contains(entry.getKey())) {
@@ -106,7 +106,8 @@ public class ListItemProxy extends TiViewProxy
 
 		// Generate all child proxies from template and create all views.
 		if (!hasChildren()) {
-			generateViewFromTemplate(this, this.template);
+			generateViewFromTemplate(this, this.template.getRoot());
+			this.template.onItemGenerated();
 		}
 		return new ItemView(this);
 	}
@@ -196,29 +197,25 @@ public class ListItemProxy extends TiViewProxy
 	}
 
 	/**
-	 * Generate views from specified template.
+	 * Generate views from specified template node.
+	 * Child proxies defer creating their JavaScript object until JavaScript accesses them.
 	 *
-	 * @param parent   Parent proxy to add child views from template. (Creates new proxy when null)
-	 * @param template Template to generate views from.
+	 * @param parent Parent proxy to add child views from template. (Creates new proxy when null)
+	 * @param node   Compiled template node to generate views from.
 	 * @return Generated TiViewProxy.
 	 */
-	protected TiViewProxy generateViewFromTemplate(TiViewProxy parent, KrollDict template)
+	protected TiViewProxy generateViewFromTemplate(TiViewProxy parent, ListViewTemplate.Node node)
 	{
-		final TiViewProxy tiProxy = (TiViewProxy) template.get("tiProxy");
-		final KrollDict templateProperties = template.getKrollDict(TiC.PROPERTY_PROPERTIES);
-		final Object[] childTemplates = (Object[]) template.get(TiC.PROPERTY_CHILD_TEMPLATES);
-		final String bindId = template.getString(TiC.PROPERTY_BIND_ID);
-
 		if (parent == null) {
 			try {
 
 				// Parent undefined, create new proxy instance.
-				parent = tiProxy.getClass().newInstance();
+				parent = node.proxyClass.getDeclaredConstructor().newInstance();
 
-				final KrollDict properties = new KrollDict(tiProxy.getProperties());
+				final KrollDict properties = new KrollDict(node.properties);
 
-				if (this.childProperties.containsKey(bindId)) {
-					final Object childPropertiesObj = this.childProperties.get(bindId);
+				if (this.childProperties.containsKey(node.bindId)) {
+					final Object childPropertiesObj = this.childProperties.get(node.bindId);
 
 					if (childPropertiesObj instanceof KrollDict childProperties) {
 
@@ -228,49 +225,40 @@ public class ListItemProxy extends TiViewProxy
 				}
 
 				// Create instance with new properties.
+				parent.deferKrollObject();
 				parent.setActivity(getActivity());
 				parent.handleCreationArgs(null, new Object[] { properties });
+				this.template.onProxyCreated();
 
 			} catch (Exception e) {
 				Log.w(TAG, "Failed to create child proxy instance from template.");
+				return null;
 			}
 		}
-		if (bindId != null) {
+		if (node.bindId != null) {
 
 			// Include new instance binding.
-			binds.put(bindId, parent);
+			binds.put(node.bindId, parent);
 		}
 
-		// Fetch event listeners from template and add them to the proxy.
-		addTemplateEventListeners(parent, template);
+		// Add template event listeners to the proxy.
+		addTemplateEventListeners(parent, node);
 
-		if (childTemplates != null) {
-
-			// Recursively process child templates.
-			for (Object o : childTemplates) {
-				if (o instanceof HashMap) {
-					final KrollDict childTemplate = new KrollDict((HashMap) o);
-					final TiViewProxy childView = generateViewFromTemplate(null, childTemplate);
-					if (childView != null) {
-						parent.add(childView);
-					}
-				}
+		// Recursively process child templates.
+		for (ListViewTemplate.Node childNode : node.children) {
+			final TiViewProxy childView = generateViewFromTemplate(null, childNode);
+			if (childView != null) {
+				parent.add(childView);
 			}
 		}
 
 		return parent;
 	}
 
-	private void addTemplateEventListeners(final TiViewProxy proxy, KrollDict template)
+	private void addTemplateEventListeners(final TiViewProxy proxy, ListViewTemplate.Node node)
 	{
 		// Validate arguments.
-		if ((proxy == null) || (template == null)) {
-			return;
-		}
-
-		// Fetch events assigned to given template.
-		final KrollDict eventDictionary = template.getKrollDict(TiC.PROPERTY_EVENTS);
-		if (eventDictionary == null) {
+		if ((proxy == null) || node.events.isEmpty()) {
 			return;
 		}
 
@@ -284,23 +272,22 @@ public class ListItemProxy extends TiViewProxy
 		}
 
 		// Add event listeners to given proxy.
-		for (KrollDict.Entry<String, Object> entry : eventDictionary.entrySet()) {
-			if (!(entry.getValue() instanceof KrollFunction callback)) {
-				continue;
-			}
+		// Note: The proxy's JavaScript object is only created once a listener is called.
+		for (Map.Entry<String, KrollFunction> entry : node.events.entrySet()) {
 			final String eventName = entry.getKey();
-			final KrollObject krollObject = proxy.getKrollObject();
+			final KrollFunction callback = entry.getValue();
 			proxy.addEventListener(eventName, new KrollEventCallback() {
 				@Override
 				public void call(Object data)
 				{
 					ListItemProxy itemProxy = getListItemContainerFor(proxy);
 					if (itemProxy != null) {
-						callback.call(krollObject, new Object[] { itemProxy.handleEvent(eventName, data, false) });
+						callback.call(proxy.getKrollObject(),
+							new Object[] { itemProxy.handleEvent(eventName, data, false) });
 					}
 				}
 			});
-			krollObject.setHasListenersForEventType(eventName, true);
+			proxy.setHasListenersForEventType(eventName);
 		}
 	}
 
@@ -350,7 +337,10 @@ public class ListItemProxy extends TiViewProxy
 		// Move this proxy's children to given proxy and overwrite their properties.
 		// Note: This also moves their native views. Updating properties will also update the native views.
 		proxy.loadTemplate();
-		proxy.copyChildPropertiesTo(childProxies, proxy.template);
+		if (proxy.template != null) {
+			proxy.copyChildPropertiesTo(childProxies, proxy.template.getRoot().children);
+			proxy.template.onItemReused();
+		}
 		proxy.add(childProxies);
 
 		// Now that this proxy has no children, release this proxy's 1 native view container.
@@ -358,7 +348,7 @@ public class ListItemProxy extends TiViewProxy
 		releaseViews();
 
 		// Remove all child binding IDs from this proxy except for the ListItem itself.
-		final String bindId = this.template.getString(TiC.PROPERTY_BIND_ID);
+		final String bindId = this.template != null ? this.template.getRoot().bindId : null;
 		this.binds.clear();
 		if (bindId != null) {
 			this.binds.put(bindId, this);
@@ -391,45 +381,25 @@ public class ListItemProxy extends TiViewProxy
 		}
 	}
 
-	private void copyChildPropertiesTo(TiViewProxy[] proxies, KrollDict template)
+	private void copyChildPropertiesTo(TiViewProxy[] proxies, ListViewTemplate.Node[] nodes)
 	{
 		// Validate arguments.
-		if ((proxies == null) || (proxies.length <= 0) || (template == null)) {
+		if ((proxies == null) || (proxies.length <= 0)) {
 			return;
 		}
 
-		// Fetch child templates nested under given template.
-		final Object[] childTemplates = (Object[]) template.get(TiC.PROPERTY_CHILD_TEMPLATES);
-
 		// Update all child proxies.
 		var excludeKeys = new TreeSet<String>();
 		for (int index = 0; index < proxies.length; index++) {
-			// Fetch child's template.
-			KrollDict childTemplate = null;
-			if ((childTemplates != null) && (index < childTemplates.length)) {
-				Object objectTemplate = childTemplates[index];
-				if (objectTemplate instanceof KrollDict) {
-					childTemplate = (KrollDict) objectTemplate;
-				} else if (objectTemplate instanceof HashMap) {
-					childTemplate = new KrollDict((HashMap) objectTemplate);
-				}
-			}
-
-			// Fetch child's assigned configuration.
-			TiViewProxy tiProxy = null;
-			String bindId = null;
-			KrollDict events = null;
-			if (childTemplate != null) {
-				tiProxy = (TiViewProxy) childTemplate.get("tiProxy");
-				bindId = childTemplate.getString(TiC.PROPERTY_BIND_ID);
-				events = childTemplate.getKrollDict(TiC.PROPERTY_EVENTS);
-			}
+			// Fetch child's compiled template.
+			final ListViewTemplate.Node node = (nodes != null) && (index < nodes.length) ? nodes[index] : null;
+			final String bindId = node != null ? node.bindId : null;
 
 			// Fetch child's properties.
 			TiViewProxy proxy = proxies[index];
 			final KrollDict properties = new KrollDict();
-			if (tiProxy != null) {
-				properties.putAll(tiProxy.getProperties());
+			if (node != null) {
+				properties.putAll(node.properties);
 			}
 			final Object childPropertiesObj = this.childProperties.get(bindId);
 			if (childPropertiesObj instanceof HashMap) {
@@ -471,7 +441,7 @@ public class ListItemProxy extends TiViewProxy
 			}
 
 			// Update child's children. (This is recursive.)
-			copyChildPropertiesTo(proxy.getChildren(), childTemplate);
+			copyChildPropertiesTo(proxy.getChildren(), node != null ? node.children : null);
 		}
 	}
 
@@ -599,6 +569,19 @@ public class ListItemProxy extends TiViewProxy
 		return this.templateId;
 	}
 
+	/**
+	 * Get compiled template of item.
+	 *
+	 * @return ListViewTemplate, or null if the item is not in a ListView or its template is not defined.
+	 */
+	public ListViewTemplate getTemplate()
+	{
+		if (this.template == null) {
+			loadTemplate();
+		}
+		return this.template;
+	}
+
 	/**
 	 * Determine if item is currently selected.
 	 *
@@ -844,17 +827,17 @@ public class ListItemProxy extends TiViewProxy
 		}
 
 		// Fetch template that this ListItem should use, if not done already.
-		final KrollDict listViewProperties = listViewProxy.getProperties();
-		final KrollDict listViewTemplates = listViewProperties.getKrollDict(TiC.PROPERTY_TEMPLATES);
 		if (this.templateId == null) {
 			// Attempt to obtain ListItem `template` identifier. If not set, then use default template.
-			final String defaultTemplateId = listViewProperties.optString(
+			final String defaultTemplateId = listViewProxy.getProperties().optString(
 				TiC.PROPERTY_DEFAULT_ITEM_TEMPLATE, UIModule.LIST_ITEM_TEMPLATE_DEFAULT);
 			this.templateId = properties.optString(TiC.PROPERTY_TEMPLATE, defaultTemplateId);
 		}
-		if ((listViewTemplates != null) && listViewTemplates.containsKey(this.templateId)) {
-			// Obtain specified template for item.
-			this.template = listViewTemplates.getKrollDict(this.templateId);
+
+		// Obtain compiled template for item.
+		final ListViewTemplate template = listViewProxy.getTemplate(this.templateId);
+		if (template != null) {
+			this.template = template;
 		}
 	}
 
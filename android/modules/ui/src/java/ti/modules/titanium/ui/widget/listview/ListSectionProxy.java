@@ -295,8 +295,10 @@ public class ListSectionProxy extends TiViewProxy
 		if (object instanceof HashMap) {
 
 			// Create ListItem from ListItemData.
+			// Its JavaScript object is only created if JavaScript accesses the item, such as in an event.
 			final ListItemProxy item = new ListItemProxy();
 
+			item.deferKrollObject();
 			item.setParent(this);
 			item.handleCreationDataItem(new KrollDict((HashMap) object));
 
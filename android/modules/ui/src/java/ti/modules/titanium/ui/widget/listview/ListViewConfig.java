@@ -0,0 +1,64 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget.listview;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.titanium.TiC;
+
+/**
+ * Immutable snapshot of the ListView properties consulted when binding items.
+ * <p>
+ * ListViewProxy bumps its version once one of these properties changes and creates a new snapshot when
+ * items are bound next, so holders read plain fields instead of looking up the ListView properties for
+ * every item.
+ */
+final class ListViewConfig
+{
+	/**
+	 * ListView properties the snapshot is computed from.
+	 */
+	static final Set<String> PROPERTY_NAMES = new HashSet<>(Arrays.asList(
+		TiC.PROPERTY_EDITING,
+		TiC.PROPERTY_REQUIRES_EDITING_TO_MOVE,
+		TiC.PROPERTY_SHOW_SELECTION_CHECK,
+		TiC.PROPERTY_ALLOWS_SELECTION_DURING_EDITING,
+		TiC.PROPERTY_ALLOWS_MULTIPLE_SELECTION_DURING_EDITING,
+		TiC.PROPERTY_CAN_MOVE,
+		TiC.PROPERTY_TOUCH_FEEDBACK,
+		TiC.PROPERTY_TOUCH_FEEDBACK_COLOR
+	));
+
+	final int version;
+	final boolean editing;
+	final boolean showSelectionCheck;
+	final boolean canMove;
+	final boolean touchFeedback;
+	final String touchFeedbackColor;
+
+	ListViewConfig(KrollDict properties, int version)
+	{
+		this.version = version;
+		this.editing = properties.optBoolean(TiC.PROPERTY_EDITING, false);
+
+		final boolean canEdit = this.editing
+			|| !properties.optBoolean(TiC.PROPERTY_REQUIRES_EDITING_TO_MOVE, true);
+
+		// Selection checkmarks are only shown while items can be selected during editing.
+		this.showSelectionCheck = properties.optBoolean(TiC.PROPERTY_SHOW_SELECTION_CHECK, false)
+			&& canEdit
+			&& properties.optBoolean(TiC.PROPERTY_ALLOWS_SELECTION_DURING_EDITING, false)
+			&& properties.optBoolean(TiC.PROPERTY_ALLOWS_MULTIPLE_SELECTION_DURING_EDITING, false);
+
+		this.canMove = properties.optBoolean(TiC.PROPERTY_CAN_MOVE, false);
+		this.touchFeedback = properties.optBoolean(TiC.PROPERTY_TOUCH_FEEDBACK, false);
+		this.touchFeedbackColor = properties.optString(TiC.PROPERTY_TOUCH_FEEDBACK_COLOR, null);
+	}
+}
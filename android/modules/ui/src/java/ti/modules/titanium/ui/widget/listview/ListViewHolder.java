@@ -102,7 +102,7 @@ public class ListViewHolder extends TiRecyclerViewHolder<ListItemProxy>
 		if (listViewProxy == null) {
 			return;
 		}
-		final KrollDict listViewProperties = listViewProxy.getProperties();
+		final ListViewConfig config = listViewProxy.getConfig();
 
 		// Attempt to obtain parent section proxy is available.
 		final ListSectionProxy section =
@@ -112,19 +112,19 @@ public class ListViewHolder extends TiRecyclerViewHolder<ListItemProxy>
 		final KrollDict properties = proxy.getProperties();
 
 		// Set minimum row height.
-		final String rawMinHeight = properties.optString(TiC.PROPERTY_MIN_ROW_HEIGHT, "0");
-		final int minHeight = TiConvert.toTiDimension(rawMinHeight, TiDimension.TYPE_HEIGHT).getAsPixels(itemView);
+		// Parsed dimension is cached by the item's template, as items usually share its value.
+		int minHeight = 0;
+		final String rawMinHeight = properties.optString(TiC.PROPERTY_MIN_ROW_HEIGHT, null);
+		if (rawMinHeight != null) {
+			final ListViewTemplate template = proxy.getTemplate();
+			final TiDimension minRowHeight = template != null ? template.getMinRowHeight(rawMinHeight)
+				: TiConvert.toTiDimension(rawMinHeight, TiDimension.TYPE_HEIGHT);
+			minHeight = minRowHeight.getAsPixels(itemView);
+		}
 		this.content.setMinimumHeight(minHeight);
 
-		boolean canEdit = listViewProperties.optBoolean(TiC.PROPERTY_EDITING, false)
-			|| !listViewProperties.optBoolean(TiC.PROPERTY_REQUIRES_EDITING_TO_MOVE, true);
-
 		// Handle selection checkmark.
-		if (listViewProperties.optBoolean(TiC.PROPERTY_SHOW_SELECTION_CHECK, false)
-			&& canEdit
-			&& listViewProperties.optBoolean(TiC.PROPERTY_ALLOWS_SELECTION_DURING_EDITING, false)
-			&& listViewProperties.optBoolean(TiC.PROPERTY_ALLOWS_MULTIPLE_SELECTION_DURING_EDITING, false)
-			&& !proxy.isPlaceholder()) {
+		if (config.showSelectionCheck && !proxy.isPlaceholder()) {
 
 			if (selected) {
 				this.leftImage.setImageDrawable(checkcircleDrawable);
@@ -154,10 +154,8 @@ public class ListViewHolder extends TiRecyclerViewHolder<ListItemProxy>
 		}
 
 		// Display drag drawable when item can move.
-		final boolean isEditing = listViewProperties.optBoolean(TiC.PROPERTY_EDITING, false);
-		final boolean canMove = properties.optBoolean(TiC.PROPERTY_CAN_MOVE,
-			listViewProperties.optBoolean(TiC.PROPERTY_CAN_MOVE, false));
-		if (isEditing && canMove) {
+		final boolean canMove = properties.optBoolean(TiC.PROPERTY_CAN_MOVE, config.canMove);
+		if (config.editing && canMove) {
 			this.rightImage.setImageDrawable(dragDrawable);
 			this.rightImage.setVisibility(View.VISIBLE);
 
@@ -227,13 +225,9 @@ public class ListViewHolder extends TiRecyclerViewHolder<ListItemProxy>
 						parentView.removeView(borderView);
 					}
 
-					final boolean touchFeedback = listViewProperties.optBoolean(TiC.PROPERTY_TOUCH_FEEDBACK, false);
-					final String touchFeedbackColor =
-						listViewProperties.optString(TiC.PROPERTY_TOUCH_FEEDBACK_COLOR, null);
-
 					// Set ripple background.
-					if (touchFeedback) {
-						backgroundDrawable = generateRippleDrawable(backgroundDrawable, touchFeedbackColor);
+					if (config.touchFeedback) {
+						backgroundDrawable = generateRippleDrawable(backgroundDrawable, config.touchFeedbackColor);
 					}
 
 					// Support selected backgrounds.
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ti.modules.titanium.ui.UIModule;
 import ti.modules.titanium.ui.ListViewScrollPositionModule;
@@ -71,6 +72,9 @@ public class ListViewProxy extends RecyclerViewProxy
 	private HashMap<Integer, Set<Integer>> markers = new HashMap<>();
 	private KrollDict contentOffset = null;
 	private final MoveEventInfo moveEventInfo = new MoveEventInfo();
+	private final HashMap<String, ListViewTemplate> compiledTemplates = new HashMap<>();
+	private final AtomicInteger configVersion = new AtomicInteger();
+	private volatile ListViewConfig config;
 	private boolean shouldUpdate = true;
 
 	public ListViewProxy()
@@ -357,6 +361,72 @@ public class ListViewProxy extends RecyclerViewProxy
 		return null;
 	}
 
+	/**
+	 * Get snapshot of the ListView properties consulted when binding items.
+	 * A new snapshot is created after one of these properties changed.
+	 *
+	 * @return ListViewConfig
+	 */
+	ListViewConfig getConfig()
+	{
+		// Read version first, so a change made while creating the snapshot invalidates it.
+		final int version = this.configVersion.get();
+		ListViewConfig config = this.config;
+		if (config == null || config.version != version) {
+			config = new ListViewConfig(getProperties(), version);
+			this.config = config;
+		}
+		return config;
+	}
+
+	/**
+	 * Get compiled template for specified identifier.
+	 * Templates are compiled once, until the `templates` property changes.
+	 *
+	 * @param templateId Template identifier.
+	 * @return ListViewTemplate, or null if not defined.
+	 */
+	public ListViewTemplate getTemplate(String templateId)
+	{
+		if (templateId == null) {
+			return null;
+		}
+
+		synchronized (this.compiledTemplates)
+		{
+			ListViewTemplate template = this.compiledTemplates.get(templateId);
+			if (template == null) {
+				final KrollDict templates = getProperties().getKrollDict(TiC.PROPERTY_TEMPLATES);
+				final KrollDict templateDict = templates != null ? templates.getKrollDict(templateId) : null;
+				if (templateDict == null) {
+					return null;
+				}
+				template = ListViewTemplate.compile(templateId, templateDict);
+				this.compiledTemplates.put(templateId, template);
+			}
+			return template;
+		}
+	}
+
+	/**
+	 * Get instantiation counters of all templates used so far.
+	 *
+	 * @return Dictionary of counters per template identifier.
+	 */
+	@Kroll.method
+	public KrollDict getTemplateStats()
+	{
+		final KrollDict stats = new KrollDict();
+
+		synchronized (this.compiledTemplates)
+		{
+			for (ListViewTemplate template : this.compiledTemplates.values()) {
+				stats.put(template.getId(), template.getStats());
+			}
+		}
+		return stats;
+	}
+
 	/**
 	 * Get current section count.
 	 *
@@ -424,6 +494,20 @@ public class ListViewProxy extends RecyclerViewProxy
 		processProperty(name, value);
 	}
 
+	@Override
+	public void onPropertiesChanged(Object[][] changes)
+	{
+		super.onPropertiesChanged(changes);
+
+		// Properties changed in bulk skip processProperty(), only invalidate the item binding snapshot.
+		for (Object[] change : changes) {
+			if (change.length > 0 && ListViewConfig.PROPERTY_NAMES.contains(change[0])) {
+				this.configVersion.incrementAndGet();
+				break;
+			}
+		}
+	}
+
 	/**
 	 * Sets the activity this proxy's view should be attached to.
 	 * @param activity The activity this proxy's view should be attached to.
@@ -533,6 +617,12 @@ public class ListViewProxy extends RecyclerViewProxy
 	 */
 	private void processProperty(String name, Object value)
 	{
+		if (ListViewConfig.PROPERTY_NAMES.contains(name)) {
+
+			// Snapshot is re-created when items are bound next.
+			this.configVersion.incrementAndGet();
+		}
+
 		if (name.equals(TiC.PROPERTY_SECTIONS)) {
 
 			// Set list sections.
@@ -549,6 +639,14 @@ public class ListViewProxy extends RecyclerViewProxy
 				parent.recreateChild(this);
 			}
 
+		} else if (name.equals(TiC.PROPERTY_TEMPLATES)) {
+
+			// Re-compile templates when used next.
+			synchronized (this.compiledTemplates)
+			{
+				this.compiledTemplates.clear();
+			}
+
 		} else if (name.equals(TiC.PROPERTY_SHOW_SELECTION_CHECK)) {
 			// Update and refresh list.
 			update(true);
@@ -0,0 +1,191 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget.listview;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollFunction;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiC;
+import org.appcelerator.titanium.TiDimension;
+import org.appcelerator.titanium.proxy.TiViewProxy;
+import org.appcelerator.titanium.util.TiConvert;
+
+/**
+ * ListView item template, compiled once per ListView from its `templates` dictionary.
+ * <p>
+ * Items generate their child proxies from the compiled nodes instead of walking the template dictionary,
+ * and count how often the template was instantiated.
+ */
+public final class ListViewTemplate
+{
+	private static final String TAG = "ListViewTemplate";
+
+	private final String id;
+	private final KrollDict properties;
+	private final Node root;
+
+	private final AtomicInteger generatedCount = new AtomicInteger();
+	private final AtomicInteger reusedCount = new AtomicInteger();
+	private final AtomicInteger proxyCount = new AtomicInteger();
+
+	private String minRowHeightValue;
+	private TiDimension minRowHeight;
+
+	/**
+	 * Node of a template, describing a view and its children.
+	 */
+	static final class Node
+	{
+		final Class<? extends TiViewProxy> proxyClass;
+		final KrollDict properties;
+		final String bindId;
+		final Map<String, KrollFunction> events;
+		final Node[] children;
+
+		private Node(String templateId, KrollDict template, boolean isRoot)
+		{
+			final Object tiProxy = template.get(TiC.PROPERTY_TI_PROXY);
+
+			if (!isRoot && tiProxy instanceof TiViewProxy prototype) {
+				this.proxyClass = prototype.getClass();
+				this.properties = new KrollDict(prototype.getProperties());
+			} else {
+				this.proxyClass = null;
+				this.properties = null;
+			}
+			this.bindId = template.getString(TiC.PROPERTY_BIND_ID);
+
+			// Only keep callbacks, other event values are ignored when adding listeners.
+			final KrollDict eventDictionary = template.getKrollDict(TiC.PROPERTY_EVENTS);
+			final Map<String, KrollFunction> events = new LinkedHashMap<>();
+			if (eventDictionary != null) {
+				for (KrollDict.Entry<String, Object> entry : eventDictionary.entrySet()) {
+					if (entry.getValue() instanceof KrollFunction callback) {
+						events.put(entry.getKey(), callback);
+					}
+				}
+			}
+			this.events = events;
+
+			// Compile child templates, skipping those which do not define a view.
+			final Object childTemplates = template.get(TiC.PROPERTY_CHILD_TEMPLATES);
+			final List<Node> children = new ArrayList<>();
+			if (childTemplates instanceof Object[]) {
+				for (Object childTemplate : (Object[]) childTemplates) {
+					if (!(childTemplate instanceof HashMap)) {
+						continue;
+					}
+					final Node child = new Node(templateId, new KrollDict((HashMap) childTemplate), false);
+					if (child.proxyClass == null) {
+						Log.w(TAG, "Ignoring child of template \"" + templateId + "\" without a valid type.");
+						continue;
+					}
+					children.add(child);
+				}
+			}
+			this.children = children.toArray(new Node[0]);
+		}
+	}
+
+	private ListViewTemplate(String id, KrollDict template)
+	{
+		this.id = id;
+		this.properties = template.getKrollDict(TiC.PROPERTY_PROPERTIES);
+		this.root = new Node(id, template, true);
+	}
+
+	/**
+	 * Compile template from its dictionary.
+	 *
+	 * @param id Template identifier.
+	 * @param template Template dictionary, as processed by `Ti.UI.createListView()`.
+	 * @return ListViewTemplate
+	 */
+	public static ListViewTemplate compile(String id, KrollDict template)
+	{
+		return new ListViewTemplate(id, template);
+	}
+
+	/**
+	 * Get template identifier.
+	 *
+	 * @return String
+	 */
+	public String getId()
+	{
+		return this.id;
+	}
+
+	/**
+	 * Get properties the template applies to its items.
+	 *
+	 * @return Template item properties, or null if none are defined.
+	 */
+	public KrollDict getProperties()
+	{
+		return this.properties;
+	}
+
+	Node getRoot()
+	{
+		return this.root;
+	}
+
+	/**
+	 * Get parsed `minRowHeight` of an item using this template.
+	 * Items normally share the value of their template, so the last parsed value is kept.
+	 *
+	 * @param value Item `minRowHeight` property value.
+	 * @return TiDimension
+	 */
+	synchronized TiDimension getMinRowHeight(String value)
+	{
+		if (this.minRowHeight == null || !value.equals(this.minRowHeightValue)) {
+			this.minRowHeight = TiConvert.toTiDimension(value, TiDimension.TYPE_HEIGHT);
+			this.minRowHeightValue = value;
+		}
+		return this.minRowHeight;
+	}
+
+	void onItemGenerated()
+	{
+		this.generatedCount.incrementAndGet();
+	}
+
+	void onItemReused()
+	{
+		this.reusedCount.incrementAndGet();
+	}
+
+	void onProxyCreated()
+	{
+		this.proxyCount.incrementAndGet();
+	}
+
+	/**
+	 * Get instantiation counters of template.
+	 *
+	 * @return Dictionary of counters.
+	 */
+	public KrollDict getStats()
+	{
+		final KrollDict stats = new KrollDict();
+
+		stats.put("generated", this.generatedCount.get());
+		stats.put("reused", this.reusedCount.get());
+		stats.put("proxies", this.proxyCount.get());
+
+		return stats;
+	}
+}
@@ -0,0 +1,176 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget.tableview;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.titanium.proxy.TiViewProxy;
+import org.appcelerator.titanium.view.TiUIView;
+
+import android.content.Context;
+import android.view.View;
+
+import ti.modules.titanium.ui.TableViewRowProxy;
+
+/**
+ * Native view of a recycled row's child, detached from its proxy so another row can adopt it.
+ * <p>
+ * A TableViewHolder keeps the child views of the last row it displayed once that row is scrolled away.
+ * Since the holder's view type is the row's layout signature, the next row bound to it normally has the same
+ * child structure and adopts those views instead of creating new ones. A view is only adopted by a proxy of
+ * the same class with the same property names as the proxy the view was created for, so applying the new
+ * proxy's properties overwrites everything the view displayed.
+ */
+final class RecycledChildViews
+{
+	private final TiUIView view;
+	private final Class<?> proxyClass;
+	private final Set<String> propertyNames;
+	private final RecycledChildViews[] children;
+
+	private RecycledChildViews(TiUIView view)
+	{
+		final TiViewProxy proxy = view.getProxy();
+		final KrollDict properties = proxy != null ? proxy.getProperties() : null;
+
+		this.view = view;
+		this.proxyClass = proxy != null ? proxy.getClass() : null;
+		this.propertyNames = properties != null ? new HashSet<>(properties.keySet()) : null;
+
+		final List<TiUIView> childViews = view.getChildren();
+		final int childCount = childViews != null ? childViews.size() : 0;
+		this.children = new RecycledChildViews[childCount];
+		for (int i = 0; i < childCount; i++) {
+			this.children[i] = new RecycledChildViews(childViews.get(i));
+		}
+
+		// Detach view from its proxy, which will create a new view if displayed again.
+		if (proxy != null && proxy.peekView() == view) {
+			proxy.setView(null);
+			proxy.setModelListener(null);
+		}
+		view.setProxy(null);
+	}
+
+	/**
+	 * Detach the child views of given row.
+	 *
+	 * @param row Row being recycled.
+	 * @return Detached child views, or null if the row has no child views to recycle.
+	 */
+	static RecycledChildViews[] detach(TableViewRowProxy row)
+	{
+		final TiUIView rowView = row.peekView();
+		final TiViewProxy[] childProxies = row.getChildren();
+		if (rowView == null || childProxies.length == 0) {
+			return null;
+		}
+		for (final TiViewProxy childProxy : childProxies) {
+			if (childProxy.peekView() == null) {
+				return null;
+			}
+		}
+
+		final RecycledChildViews[] childViews = new RecycledChildViews[childProxies.length];
+		for (int i = 0; i < childProxies.length; i++) {
+			final TiUIView childView = childProxies[i].peekView();
+			rowView.remove(childView);
+			childViews[i] = new RecycledChildViews(childView);
+		}
+		return childViews;
+	}
+
+	/**
+	 * Let given row adopt recycled child views, if they match its children.
+	 *
+	 * @param childViews Views detached from a previous row.
+	 * @param row Row to bind.
+	 * @param context Context of the holder the row is bound to.
+	 * @return Boolean determining if views were adopted.
+	 */
+	static boolean adopt(RecycledChildViews[] childViews, TableViewRowProxy row, Context context)
+	{
+		final TiViewProxy[] childProxies = row.getChildren();
+		if (row.peekView() != null || childProxies.length != childViews.length) {
+			return false;
+		}
+		for (int i = 0; i < childViews.length; i++) {
+			if (!childViews[i].matches(childProxies[i], context)) {
+				return false;
+			}
+		}
+
+		// Row will add adopted views to its new row view when created.
+		for (int i = 0; i < childViews.length; i++) {
+			childViews[i].adopt(childProxies[i]);
+		}
+		return true;
+	}
+
+	/**
+	 * Release recycled views which have not been adopted.
+	 *
+	 * @param childViews Views detached from a previous row.
+	 */
+	static void release(RecycledChildViews[] childViews)
+	{
+		for (final RecycledChildViews childView : childViews) {
+			childView.release();
+		}
+	}
+
+	private boolean matches(TiViewProxy proxy, Context context)
+	{
+		final View nativeView = this.view.getNativeView();
+		final TiViewProxy[] childProxies = proxy.getChildren();
+
+		if (proxy.getClass() != this.proxyClass
+			|| proxy.peekView() != null
+			|| nativeView == null
+			|| nativeView.getContext() != context
+			|| !this.propertyNames.equals(proxy.getProperties().keySet())
+			|| childProxies.length != this.children.length) {
+			return false;
+		}
+		for (int i = 0; i < this.children.length; i++) {
+			if (!this.children[i].matches(childProxies[i], context)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void adopt(TiViewProxy proxy)
+	{
+		final TiViewProxy[] childProxies = proxy.getChildren();
+
+		this.view.setProxy(proxy);
+		proxy.setView(this.view);
+
+		// Re-add children to update their parent, keeping their order.
+		for (int i = 0; i < this.children.length; i++) {
+			final TiUIView childView = this.children[i].view;
+			this.view.remove(childView);
+			this.children[i].adopt(childProxies[i]);
+			this.view.add(childView);
+		}
+
+		// Rebind view to new proxy, applying its properties.
+		proxy.setModelListener(this.view);
+	}
+
+	private void release()
+	{
+		for (final RecycledChildViews child : this.children) {
+			child.release();
+		}
+		this.view.release();
+	}
+}
@@ -39,6 +39,21 @@ public class TableViewAdapter extends TiRecyclerViewAdapter<TableViewHolder, Tab
 		}
 	}
 
+	/**
+	 * Get layout signature of row as view type.
+	 * This tells the RecyclerView to only bind scrolled-in rows to holders of rows with the same layout,
+	 * which allows rows to adopt the child views of the row previously displayed by the holder.
+	 *
+	 * @param position Index position of item to obtain view type.
+	 * @return Integer of row layout signature.
+	 */
+	@Override
+	public int getItemViewType(int position)
+	{
+		final TableViewRowProxy row = this.models.get(position);
+		return row != null ? row.getLayoutSignature() : 0;
+	}
+
 	/**
 	 * Bind item to holder.
 	 * This is the listener that updates our table holders to the correct items.
@@ -87,9 +102,12 @@ public class TableViewAdapter extends TiRecyclerViewAdapter<TableViewHolder, Tab
 	{
 		super.onViewRecycled(holder);
 
-		// Release child views for recycled holder.
+		// Release views for recycled holder, keeping child views for the next row bound to it.
 		final TiViewProxy proxy = holder.getProxy();
 		if (proxy != null) {
+			if (proxy instanceof TableViewRowProxy row && row.getHolder() == holder) {
+				holder.recycleChildViews(row);
+			}
 			proxy.releaseViews();
 		}
 	}
@@ -66,6 +66,9 @@ public class TableViewHolder extends TiRecyclerViewHolder<TableViewRowProxy>
 	private final TiCompositeLayout footer;
 	private final TextView footerTitle;
 
+	// Child views of the last row displayed, for the next row to adopt.
+	private RecycledChildViews[] recycledChildViews;
+
 	public TableViewHolder(final Context context, final ViewGroup viewGroup)
 	{
 		super(context, viewGroup);
@@ -162,6 +165,14 @@ public class TableViewHolder extends TiRecyclerViewHolder<TableViewRowProxy>
 		}
 		final Activity activity = proxy.getActivity();
 
+		// Adopt child views of the previously displayed row, avoiding creation of new views.
+		if (this.recycledChildViews != null) {
+			if (!RecycledChildViews.adopt(this.recycledChildViews, proxy, context)) {
+				RecycledChildViews.release(this.recycledChildViews);
+			}
+			this.recycledChildViews = null;
+		}
+
 		// Obtain row view.
 		final TableViewRowProxy.RowView rowView = (TableViewRowProxy.RowView) proxy.getOrCreateView();
 		if (rowView != null) {
@@ -440,6 +451,28 @@ public class TableViewHolder extends TiRecyclerViewHolder<TableViewRowProxy>
 		proxy.setHolder(this);
 	}
 
+	/**
+	 * Keep child views of row being recycled, so the next row bound to this holder can adopt them.
+	 *
+	 * @param proxy TableViewRowProxy being recycled.
+	 */
+	public void recycleChildViews(final TableViewRowProxy proxy)
+	{
+		releaseRecycledChildViews();
+		this.recycledChildViews = RecycledChildViews.detach(proxy);
+	}
+
+	/**
+	 * Release child views kept for the next row, since this holder will not be bound again.
+	 */
+	public void releaseRecycledChildViews()
+	{
+		if (this.recycledChildViews != null) {
+			RecycledChildViews.release(this.recycledChildViews);
+			this.recycledChildViews = null;
+		}
+	}
+
 	/**
 	 * Set header or footer title attribute values.
 	 *
@@ -0,0 +1,74 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget.tableview;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import android.util.SparseIntArray;
+
+import androidx.recyclerview.widget.RecyclerView;
+
+/**
+ * Pool of recycled TableViewHolders.
+ * <p>
+ * A recycled holder keeps the child views of its last row for the next row bound to it. The RecyclerView drops
+ * holders without notice when the pool of their view type is full or cleared, so this pool releases the child
+ * views of those holders itself.
+ */
+final class TableViewHolderPool extends RecyclerView.RecycledViewPool
+{
+	// Default maximum of RecycledViewPool, which it does not expose.
+	private static final int DEFAULT_MAX_RECYCLED_VIEWS = 5;
+
+	private final SparseIntArray maxRecycledViews = new SparseIntArray();
+	private final Set<Integer> viewTypes = new HashSet<>();
+
+	@Override
+	public void setMaxRecycledViews(int viewType, int max)
+	{
+		super.setMaxRecycledViews(viewType, max);
+		this.maxRecycledViews.put(viewType, max);
+	}
+
+	@Override
+	public void putRecycledView(RecyclerView.ViewHolder holder)
+	{
+		final int viewType = holder.getItemViewType();
+		final int max = this.maxRecycledViews.get(viewType, DEFAULT_MAX_RECYCLED_VIEWS);
+
+		if (getRecycledViewCount(viewType) >= max) {
+
+			// Pool is full, holder will be dropped.
+			releaseChildViews(holder);
+		} else {
+			this.viewTypes.add(viewType);
+		}
+		super.putRecycledView(holder);
+	}
+
+	@Override
+	public void clear()
+	{
+		for (final int viewType : this.viewTypes) {
+			for (RecyclerView.ViewHolder holder = getRecycledView(viewType); holder != null;
+				 holder = getRecycledView(viewType)) {
+				releaseChildViews(holder);
+			}
+		}
+		this.viewTypes.clear();
+
+		super.clear();
+	}
+
+	private static void releaseChildViews(RecyclerView.ViewHolder holder)
+	{
+		if (holder instanceof TableViewHolder tableViewHolder) {
+			tableViewHolder.releaseRecycledChildViews();
+		}
+	}
+}
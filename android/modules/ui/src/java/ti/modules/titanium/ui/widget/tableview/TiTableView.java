@@ -55,6 +55,7 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 	private static final int PRELOAD_INTERVAL = 800;
 
 	private final TableViewAdapter adapter;
+	private final TableViewHolderPool holderPool = new TableViewHolderPool();
 	private final DividerItemDecoration decoration;
 	private final TableViewProxy proxy;
 	private final TiNestedRecyclerView recyclerView;
@@ -151,6 +152,7 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 		this.recyclerView.addItemDecoration(decoration);
 
 		this.adapter = new TableViewAdapter(getContext(), this.rows);
+		this.recyclerView.setRecycledViewPool(this.holderPool);
 		this.recyclerView.setAdapter(this.adapter);
 
 		// Create ItemTouchHelper for swipe-to-delete and move gestures.
@@ -581,6 +583,9 @@ public class TiTableView extends TiSwipeRefreshLayout implements OnSearchChangeL
 			row.releaseViews();
 		}
 		this.rows.clear();
+
+		// Release child views kept by recycled holders.
+		this.holderPool.clear();
 	}
 
 	/**
@@ -1035,6 +1035,11 @@ public class TiUIWebView extends TiUIView
 		}
 	}
 
+	public boolean isLocalHTML()
+	{
+		return isLocalHTML;
+	}
+
 	public boolean shouldInjectBindingCode()
 	{
 		return isLocalHTML && !bindingCodeInjected;
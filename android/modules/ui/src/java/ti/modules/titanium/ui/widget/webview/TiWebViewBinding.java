@@ -11,7 +11,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.HashMap;
-import java.util.Stack;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -40,21 +39,17 @@ public class TiWebViewBinding
 	protected final static String INJECTION_CODE;
 	protected final static String SCRIPT_TAG_INJECTION_CODE;
 
-	// This is based on polling.min.js. If you have to change anything...
-	// - change polling.js
-	// - minify polling.js to create polling.min.js
-	protected static String POLLING_CODE = "";
+	// Time to wait for the result of a synchronous evaluation. It blocks the calling thread,
+	// so the main thread, which also runs the app's JS by default, gives up sooner.
+	private static final long RETURN_TIMEOUT = 3500;
+	private static final long UI_THREAD_RETURN_TIMEOUT = 500;
+
 	static
 	{
-		StringBuilder jsonCode = readResourceFile("json2.js");
-		StringBuilder tiCode = readResourceFile("binding.min.js");
-		StringBuilder pollingCode = readResourceFile("polling.min.js");
-
-		if (pollingCode == null) {
-			Log.w(TAG, "Unable to read polling code");
-		} else {
-			POLLING_CODE = pollingCode.toString();
-		}
+		// JSON is native in all WebViews supporting message ports, only older ones need json2.js.
+		final boolean useMessageBridge = TiWebViewMessageBridge.isSupported();
+		StringBuilder jsonCode = useMessageBridge ? new StringBuilder() : readResourceFile("json2.js");
+		StringBuilder tiCode = readResourceFile(useMessageBridge ? "bridge.js" : "binding.min.js");
 
 		StringBuilder scriptCode = new StringBuilder();
 		StringBuilder injectionCode = new StringBuilder();
@@ -82,24 +77,44 @@ public class TiWebViewBinding
 		injectionCode = null;
 	}
 
-	private Stack<String> codeSnippets;
 	private boolean destroyed;
 
 	private ApiBinding apiBinding;
 	private AppBinding appBinding;
 	private TiReturn tiReturn;
+	private TiWebViewMessageBridge messageBridge;
 	private WebView webView;
 	private TiViewProxy proxy;
 	private boolean interfacesAdded = false;
 
 	public TiWebViewBinding(WebView webView, TiViewProxy proxy)
 	{
-		codeSnippets = new Stack<String>();
 		this.webView = webView;
 		this.proxy = proxy;
 		apiBinding = new ApiBinding();
 		appBinding = new AppBinding();
 		tiReturn = new TiReturn();
+		if (TiWebViewMessageBridge.isSupported()) {
+			messageBridge = new TiWebViewMessageBridge(proxy);
+		}
+	}
+
+	/**
+	 * @return whether Ti.App events of web content go through a message port instead of the injected binding.
+	 */
+	public boolean usesMessageBridge()
+	{
+		return messageBridge != null;
+	}
+
+	/**
+	 * Connect the bridge script of the loaded page. Must be called on the main thread once it ran.
+	 */
+	public void connectMessageBridge()
+	{
+		if (messageBridge != null && webView != null && !destroyed) {
+			messageBridge.connect(webView);
+		}
 	}
 
 	public void addJavascriptInterfaces()
@@ -117,9 +132,11 @@ public class TiWebViewBinding
 		// remove any event listener that have already been added to the Ti.APP through
 		// this web view instance
 		appBinding.clearEventListeners();
+		if (messageBridge != null) {
+			messageBridge.close();
+		}
 		webView = null;
 		returnSemaphore.release();
-		codeSnippets.clear();
 		destroyed = true;
 	}
 
@@ -150,7 +167,7 @@ public class TiWebViewBinding
 	}
 
 	private final Semaphore returnSemaphore = new Semaphore(0);
-	private String returnValue;
+	private volatile String returnValue;
 
 	synchronized public String getJSValue(String expression)
 	{
@@ -160,17 +177,20 @@ public class TiWebViewBinding
 						  + "+\"\";}catch(ti_eval_err){return '';}})());";
 			Log.d(TAG, "getJSValue:" + code, Log.DEBUG_MODE);
 			returnSemaphore.drainPermits();
-			synchronized (codeSnippets)
-			{
-				codeSnippets.add(0, code);
+			returnValue = null;
+
+			// The result is returned through _TiReturn on a binder thread, so waiting does not block it.
+			if (!evaluateJavascript(code)) {
+				return null;
 			}
+			boolean isUIThread = TiApplication.isUIThread();
 			try {
-				if (!returnSemaphore.tryAcquire(3500, TimeUnit.MILLISECONDS)) {
-					synchronized (codeSnippets)
-					{
-						codeSnippets.removeElement(code);
-					}
+				if (!returnSemaphore.tryAcquire(isUIThread ? UI_THREAD_RETURN_TIMEOUT : RETURN_TIMEOUT,
+												TimeUnit.MILLISECONDS)) {
 					Log.w(TAG, "Timeout waiting to evaluate JS");
+					if (isUIThread) {
+						Log.w(TAG, "Pass a callback to evalJS() to evaluate without blocking the main thread");
+					}
 				}
 				return returnValue;
 			} catch (InterruptedException e) {
@@ -180,6 +200,24 @@ public class TiWebViewBinding
 		return null;
 	}
 
+	/**
+	 * Evaluates the given code in the page on the main thread.
+	 * @return false if the binding has been destroyed.
+	 */
+	private boolean evaluateJavascript(final String code)
+	{
+		final WebView webView = this.webView;
+		if (webView == null || destroyed) {
+			return false;
+		}
+		if (TiApplication.isUIThread()) {
+			webView.evaluateJavascript(code, null);
+		} else {
+			webView.post(() -> webView.evaluateJavascript(code, null));
+		}
+		return true;
+	}
+
 	private class TiReturn
 	{
 		@JavascriptInterface
@@ -213,11 +251,8 @@ public class TiWebViewBinding
 				dataString = ", " + String.valueOf(data);
 			}
 
-			String code = "Ti.executeListener(" + id + dataString + ");";
-			synchronized (codeSnippets)
-			{
-				codeSnippets.add(0, code);
-			}
+			// Pages which registered listeners through the TiApp interface without the binding script have no Ti.
+			evaluateJavascript("if (window.Ti) { Ti.executeListener(" + id + dataString + "); }");
 		}
 	}
 
@@ -227,7 +262,6 @@ public class TiWebViewBinding
 		private KrollModule module;
 		private final HashMap<String, Integer> appListeners = new HashMap<>();
 		private int counter = 0;
-		private String code = null;
 		public AppBinding()
 		{
 			module = TiApplication.getInstance().getModuleByName("App");
@@ -272,34 +306,6 @@ public class TiWebViewBinding
 				removeEventListener(event, appListeners.get(event));
 			}
 		}
-
-		@JavascriptInterface
-		public String getJSCode()
-		{
-			if (destroyed) {
-				return null;
-			}
-			return code;
-		}
-
-		@JavascriptInterface
-		public int hasResult()
-		{
-			if (destroyed) {
-				return -1;
-			}
-			int result = 0;
-			synchronized (codeSnippets)
-			{
-				if (codeSnippets.empty()) {
-					code = "";
-				} else {
-					result = 1;
-					code = codeSnippets.pop();
-				}
-			}
-			return result;
-		}
 	}
 
 	private static class ApiBinding
@@ -68,11 +68,16 @@ public class TiWebViewClient extends WebViewClient
 		if (enableJavascriptInjection) {
 			WebView nativeWebView = webView.getWebView();
 
-			if (nativeWebView != null) {
+			if (nativeWebView != null && binding.usesMessageBridge()) {
+				// Hand a message port to the bridge script of local content.
 				if (webView.shouldInjectBindingCode()) {
-					nativeWebView.loadUrl("javascript:" + TiWebViewBinding.INJECTION_CODE);
+					nativeWebView.evaluateJavascript(TiWebViewBinding.INJECTION_CODE,
+						value -> binding.connectMessageBridge());
+				} else if (webView.isLocalHTML()) {
+					binding.connectMessageBridge();
 				}
-				nativeWebView.loadUrl("javascript:" + TiWebViewBinding.POLLING_CODE);
+			} else if (nativeWebView != null && webView.shouldInjectBindingCode()) {
+				nativeWebView.loadUrl("javascript:" + TiWebViewBinding.INJECTION_CODE);
 			}
 		}
 		webView.setBindingCodeInjected(false);
@@ -0,0 +1,200 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.ui.widget.webview;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollEventCallback;
+import org.appcelerator.kroll.KrollModule;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiApplication;
+import org.appcelerator.titanium.proxy.TiViewProxy;
+import org.appcelerator.titanium.util.TiConvert;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import android.annotation.TargetApi;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.webkit.WebMessage;
+import android.webkit.WebMessagePort;
+import android.webkit.WebView;
+
+/**
+ * Connects the Ti.App events of local web content to the app through a message port.
+ * <p>
+ * Replaces the TiApp JavaScript interface on Android 6.0 and newer. The page's bridge script (bridge.js)
+ * receives one end of a message channel once loaded. Events are sent in batches of JSON arrays in both
+ * directions, so a burst of events costs one message instead of one evaluation per event.
+ */
+@TargetApi(Build.VERSION_CODES.M)
+public class TiWebViewMessageBridge
+{
+	private static final String TAG = "TiWebViewMessageBridge";
+	private static final String CONNECT_MESSAGE = "__ti_bridge";
+
+	private final Handler mainHandler = new Handler(Looper.getMainLooper());
+	private final KrollModule module;
+	private final TiViewProxy proxy;
+	private final HashMap<String, Integer> appListeners = new HashMap<>();
+	private JSONArray outbox = new JSONArray();
+	private boolean flushScheduled = false;
+	private WebMessagePort port;
+
+	public TiWebViewMessageBridge(TiViewProxy proxy)
+	{
+		this.proxy = proxy;
+		this.module = TiApplication.getInstance().getModuleByName("App");
+	}
+
+	/**
+	 * @return whether message ports are available on this device.
+	 */
+	public static boolean isSupported()
+	{
+		return Build.VERSION.SDK_INT >= Build.VERSION_CODES.M;
+	}
+
+	/**
+	 * Hand a new message port to the bridge script of the loaded page, closing the previous page's port.
+	 * Must be called on the main thread.
+	 *
+	 * @param webView WebView which loaded the page.
+	 */
+	public void connect(WebView webView)
+	{
+		close();
+
+		final WebMessagePort[] channel = webView.createWebMessageChannel();
+		this.port = channel[0];
+		this.port.setWebMessageCallback(new WebMessagePort.WebMessageCallback() {
+			@Override
+			public void onMessage(WebMessagePort port, WebMessage message)
+			{
+				if (port == TiWebViewMessageBridge.this.port) {
+					onBatchReceived(message.getData());
+				}
+			}
+		}, this.mainHandler);
+		webView.postWebMessage(new WebMessage(CONNECT_MESSAGE, new WebMessagePort[] { channel[1] }), Uri.parse("*"));
+	}
+
+	/**
+	 * Close the port and remove the Ti.App listeners added by the page. Must be called on the main thread.
+	 */
+	public void close()
+	{
+		for (Map.Entry<String, Integer> entry : this.appListeners.entrySet()) {
+			this.module.removeEventListener(entry.getKey(), entry.getValue());
+		}
+		this.appListeners.clear();
+
+		synchronized (this)
+		{
+			this.outbox = new JSONArray();
+		}
+		if (this.port != null) {
+			this.port.close();
+			this.port = null;
+		}
+	}
+
+	private void onBatchReceived(String data)
+	{
+		final JSONArray batch;
+		try {
+			batch = new JSONArray(data);
+		} catch (JSONException e) {
+			Log.e(TAG, "Error parsing message from web content", e);
+			return;
+		}
+
+		for (int i = 0; i < batch.length(); i++) {
+			final JSONObject message = batch.optJSONObject(i);
+			if (message == null) {
+				continue;
+			}
+
+			if (message.has("fire")) {
+				final String event = message.optString("fire");
+				KrollDict dict = new KrollDict();
+				final JSONObject eventData = message.optJSONObject("data");
+				if (eventData != null) {
+					try {
+						dict = new KrollDict(eventData);
+					} catch (JSONException e) {
+						Log.e(TAG, "Error parsing event JSON", e);
+					}
+				}
+				dict.put("source", this.proxy);
+				this.module.fireEvent(event, dict);
+
+			} else if (message.has("add")) {
+				final String event = message.optString("add");
+				if (!this.appListeners.containsKey(event)) {
+					this.appListeners.put(event, this.module.addEventListener(event, new KrollEventCallback() {
+						@Override
+						public void call(Object data)
+						{
+							queueEvent(event, data);
+						}
+					}));
+				}
+
+			} else if (message.has("remove")) {
+				final Integer listenerId = this.appListeners.remove(message.optString("remove"));
+				if (listenerId != null) {
+					this.module.removeEventListener(message.optString("remove"), listenerId);
+				}
+			}
+		}
+	}
+
+	private void flush()
+	{
+		final JSONArray batch;
+		synchronized (this)
+		{
+			this.flushScheduled = false;
+			if (this.outbox.length() == 0) {
+				return;
+			}
+			batch = this.outbox;
+			this.outbox = new JSONArray();
+		}
+		if (this.port != null) {
+			this.port.postMessage(new WebMessage(batch.toString()));
+		}
+	}
+
+	// Called on the thread firing the Ti.App event, sends it with the next batch.
+	private void queueEvent(String event, Object data)
+	{
+		final JSONArray entry = new JSONArray();
+		entry.put(event);
+		if (data instanceof HashMap) {
+			entry.put(TiConvert.toJSON((HashMap) data));
+		} else if (data != null) {
+			entry.put(JSONObject.wrap(data));
+		}
+
+		synchronized (this)
+		{
+			this.outbox.put(entry);
+			if (this.flushScheduled) {
+				return;
+			}
+			this.flushScheduled = true;
+		}
+		this.mainHandler.post(this::flush);
+	}
+}
@@ -6,6 +6,7 @@
  */
 package ti.modules.titanium.xml;
 
+import org.appcelerator.kroll.KrollLazyDict;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.annotations.Kroll;
 import org.w3c.dom.Attr;
@@ -289,6 +290,12 @@ public class NodeProxy extends KrollProxy
 		return XPathUtil.evaluate(this, xpath);
 	}
 
+	@Kroll.method
+	public Object toObject(@Kroll.argument(optional = true) KrollLazyDict options)
+	{
+		return new XMLObjectConverter(options).convert(node);
+	}
+
 	@Override
 	public boolean equals(Object o)
 	{
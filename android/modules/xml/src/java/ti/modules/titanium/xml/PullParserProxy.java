@@ -0,0 +1,223 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollProxy;
+import org.appcelerator.kroll.annotations.Kroll;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiBlob;
+import org.appcelerator.titanium.TiC;
+import org.appcelerator.titanium.TiFileProxy;
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import android.util.Xml;
+
+/**
+ * Streams parse events out of an XML String, Blob or File without building a DOM.
+ * <p>
+ * Events are handed to JavaScript in batches of plain dictionaries through {@link #nextEvents()},
+ * so only one batch is alive at a time no matter how large the document is.
+ */
+@Kroll.proxy(creatableInModule = XMLModule.class)
+public class PullParserProxy extends KrollProxy
+{
+	private static final String TAG = "PullParserProxy";
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	@Kroll.constant
+	public static final String START_ELEMENT = "startElement";
+	@Kroll.constant
+	public static final String END_ELEMENT = "endElement";
+	@Kroll.constant
+	public static final String TEXT = "text";
+
+	private static final String PROPERTY_SOURCE = "source";
+	private static final String PROPERTY_ENCODING = "encoding";
+	private static final String PROPERTY_BATCH_SIZE = "batchSize";
+	private static final String PROPERTY_IGNORE_WHITESPACE = "ignoreWhitespace";
+	private static final String PROPERTY_ATTRIBUTES = "attributes";
+	private static final String PROPERTY_DEPTH = "depth";
+	private static final String PROPERTY_NAMESPACE = "namespace";
+
+	private XmlPullParser parser;
+	private InputStream inputStream;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private boolean ignoreWhitespace = true;
+	private boolean finished = false;
+
+	public PullParserProxy()
+	{
+		super();
+	}
+
+	@Override
+	public void handleCreationDict(KrollDict dict)
+	{
+		super.handleCreationDict(dict);
+
+		this.batchSize = Math.max(dict.optInt(PROPERTY_BATCH_SIZE, DEFAULT_BATCH_SIZE), 1);
+		this.ignoreWhitespace = dict.optBoolean(PROPERTY_IGNORE_WHITESPACE, true);
+
+		// Do not keep the source in the proxy's properties, a large String would stay in memory while parsing.
+		Object source = dict.get(PROPERTY_SOURCE);
+		this.properties.remove(PROPERTY_SOURCE);
+		String encoding = dict.optString(PROPERTY_ENCODING, null);
+		try {
+			XmlPullParser parser = Xml.newPullParser();
+			parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+			if (source instanceof String) {
+				parser.setInput(new StringReader((String) source));
+			} else if (source instanceof TiBlob) {
+				this.inputStream = ((TiBlob) source).getInputStream();
+			} else if (source instanceof TiFileProxy) {
+				this.inputStream = ((TiFileProxy) source).getInputStream();
+			} else {
+				Log.e(TAG, "PullParser 'source' must be a String, Ti.Blob or Ti.Filesystem.File");
+				this.finished = true;
+				return;
+			}
+			if (this.inputStream != null) {
+				parser.setInput(this.inputStream, encoding);
+			}
+			this.parser = parser;
+		} catch (IOException | XmlPullParserException e) {
+			Log.e(TAG, "Unable to open XML source", e);
+			close();
+		}
+	}
+
+	/**
+	 * Reads up to "batchSize" events.
+	 * @return the events, or an empty array once the end of the document has been reached.
+	 */
+	@Kroll.method
+	public Object[] nextEvents() throws XmlPullParserException, IOException
+	{
+		if (this.finished || this.parser == null) {
+			return new Object[0];
+		}
+
+		ArrayList<KrollDict> events = new ArrayList<>(this.batchSize);
+		try {
+			while (events.size() < this.batchSize) {
+				int eventType = this.parser.next();
+				if (eventType == XmlPullParser.END_DOCUMENT) {
+					close();
+					break;
+				}
+				KrollDict event = toEvent(eventType);
+				if (event != null) {
+					events.add(event);
+				}
+			}
+		} catch (XmlPullParserException | IOException e) {
+			Log.e(TAG, "Error parsing XML", e);
+			close();
+			throw e;
+		}
+		return events.toArray();
+	}
+
+	private KrollDict toEvent(int eventType) throws XmlPullParserException
+	{
+		KrollDict event;
+		switch (eventType) {
+			case XmlPullParser.START_TAG: {
+				event = new KrollDict();
+				event.put(TiC.PROPERTY_TYPE, START_ELEMENT);
+				putName(event);
+				int count = this.parser.getAttributeCount();
+				KrollDict attributes = new KrollDict(Math.max(count, 1));
+				for (int index = 0; index < count; index++) {
+					attributes.put(this.parser.getAttributeName(index), this.parser.getAttributeValue(index));
+				}
+				event.put(PROPERTY_ATTRIBUTES, attributes);
+				break;
+			}
+			case XmlPullParser.END_TAG:
+				event = new KrollDict();
+				event.put(TiC.PROPERTY_TYPE, END_ELEMENT);
+				putName(event);
+				break;
+			case XmlPullParser.TEXT:
+				if (this.ignoreWhitespace && this.parser.isWhitespace()) {
+					return null;
+				}
+				event = new KrollDict();
+				event.put(TiC.PROPERTY_TYPE, TEXT);
+				event.put(TiC.PROPERTY_TEXT, this.parser.getText());
+				break;
+			default:
+				return null;
+		}
+		event.put(PROPERTY_DEPTH, this.parser.getDepth());
+		return event;
+	}
+
+	private void putName(KrollDict event)
+	{
+		event.put(TiC.PROPERTY_NAME, this.parser.getName());
+		String namespace = this.parser.getNamespace();
+		if (namespace != null && !namespace.isEmpty()) {
+			event.put(PROPERTY_NAMESPACE, namespace);
+		}
+	}
+
+	/**
+	 * @return true once the end of the document has been reached, an error occurred or close() was called.
+	 */
+	@Kroll.getProperty
+	public boolean getFinished()
+	{
+		return this.finished;
+	}
+
+	@Kroll.getProperty
+	public int getLineNumber()
+	{
+		return (this.parser != null) ? this.parser.getLineNumber() : -1;
+	}
+
+	/**
+	 * Stops parsing and closes the underlying stream.
+	 */
+	@Kroll.method
+	public void close()
+	{
+		this.finished = true;
+		this.parser = null;
+		if (this.inputStream != null) {
+			try {
+				this.inputStream.close();
+			} catch (IOException e) {
+				// Nothing else to do.
+			}
+			this.inputStream = null;
+		}
+	}
+
+	@Override
+	public void release()
+	{
+		close();
+		super.release();
+	}
+
+	@Override
+	public String getApiName()
+	{
+		return "Ti.XML.PullParser";
+	}
+}
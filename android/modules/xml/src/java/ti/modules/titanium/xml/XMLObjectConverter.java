@@ -0,0 +1,150 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.xml;
+
+import java.util.ArrayList;
+
+import org.appcelerator.kroll.KrollDict;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Converts a DOM subtree into nested dictionaries, arrays and strings that cross to JavaScript
+ * in a single call, instead of one bridge call per node, child list or attribute.
+ * <p>
+ * An element becomes a dictionary holding its attributes under the attribute prefix, its text
+ * under the text key and its child elements under their names. Child elements sharing a name
+ * are collected into an array. An element without attributes or child elements becomes its text.
+ */
+class XMLObjectConverter
+{
+	private static final String OPTION_ATTRIBUTE_PREFIX = "attributePrefix";
+	private static final String OPTION_TEXT_KEY = "textKey";
+	private static final String OPTION_ALWAYS_ARRAY = "alwaysArray";
+
+	private final String attributePrefix;
+	private final String textKey;
+	private final boolean alwaysArray;
+
+	XMLObjectConverter(KrollDict options)
+	{
+		if (options == null) {
+			options = new KrollDict();
+		}
+		this.attributePrefix = options.optString(OPTION_ATTRIBUTE_PREFIX, "@");
+		this.textKey = options.optString(OPTION_TEXT_KEY, "#text");
+		this.alwaysArray = options.optBoolean(OPTION_ALWAYS_ARRAY, false);
+	}
+
+	Object convert(Node node)
+	{
+		if (node == null) {
+			return null;
+		}
+		switch (node.getNodeType()) {
+			case Node.DOCUMENT_NODE: {
+				Node root = ((Document) node).getDocumentElement();
+				KrollDict result = new KrollDict(1);
+				if (root != null) {
+					result.put(getName(root), convertElement(root));
+				}
+				return result;
+			}
+			case Node.ELEMENT_NODE:
+				return convertElement(node);
+			case Node.ATTRIBUTE_NODE:
+			case Node.TEXT_NODE:
+			case Node.CDATA_SECTION_NODE:
+			case Node.COMMENT_NODE:
+			case Node.PROCESSING_INSTRUCTION_NODE:
+				return node.getNodeValue();
+			default:
+				return node.getTextContent();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object convertElement(Node element)
+	{
+		KrollDict result = null;
+		StringBuilder text = null;
+
+		NamedNodeMap attributes = element.getAttributes();
+		int attributeCount = (attributes != null) ? attributes.getLength() : 0;
+		if (attributeCount > 0) {
+			result = new KrollDict(attributeCount + 1);
+			for (int index = 0; index < attributeCount; index++) {
+				Node attribute = attributes.item(index);
+				result.put(this.attributePrefix + getName(attribute), attribute.getNodeValue());
+			}
+		}
+
+		for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+			switch (child.getNodeType()) {
+				case Node.ELEMENT_NODE: {
+					if (result == null) {
+						result = new KrollDict();
+					}
+					String name = getName(child);
+					Object value = convertElement(child);
+					Object existing = result.get(name);
+					if (existing instanceof ArrayList) {
+						((ArrayList<Object>) existing).add(value);
+					} else if (existing != null) {
+						ArrayList<Object> values = new ArrayList<>();
+						values.add(existing);
+						values.add(value);
+						result.put(name, values);
+					} else if (this.alwaysArray) {
+						ArrayList<Object> values = new ArrayList<>();
+						values.add(value);
+						result.put(name, values);
+					} else {
+						result.put(name, value);
+					}
+					break;
+				}
+				case Node.TEXT_NODE:
+				case Node.CDATA_SECTION_NODE:
+				case Node.ENTITY_REFERENCE_NODE: {
+					if (text == null) {
+						text = new StringBuilder();
+					}
+					text.append(child.getTextContent());
+					break;
+				}
+			}
+		}
+
+		if (result == null) {
+			return (text != null) ? text.toString() : "";
+		}
+
+		// Whitespace between child elements is formatting, not content.
+		if (text != null) {
+			String value = text.toString();
+			if (!value.trim().isEmpty()) {
+				result.put(this.textKey, value);
+			}
+		}
+
+		// Convert collected child arrays last, so they are appended to in place while walking.
+		for (KrollDict.Entry<String, Object> entry : result.entrySet()) {
+			if (entry.getValue() instanceof ArrayList) {
+				entry.setValue(((ArrayList<Object>) entry.getValue()).toArray());
+			}
+		}
+		return result;
+	}
+
+	private static String getName(Node node)
+	{
+		String name = node.getLocalName();
+		return (name != null) ? name : node.getNodeName();
+	}
+}
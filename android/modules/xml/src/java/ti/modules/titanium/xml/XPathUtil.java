@@ -14,15 +14,22 @@ import org.jaxen.JaxenException;
 import org.jaxen.XPath;
 import org.jaxen.dom.DOMXPath;
 
+import android.util.LruCache;
+
 public class XPathUtil
 {
 
 	private static final String TAG = "XPath";
+	private static final int MAX_CACHED_EXPRESSIONS = 64;
+
+	// Compiled expressions keyed by their source. Evaluating does not modify a compiled expression,
+	// so the same instance can be reused for any start node.
+	private static final LruCache<String, XPath> cache = new LruCache<>(MAX_CACHED_EXPRESSIONS);
 
 	public static XPathNodeListProxy evaluate(NodeProxy start, String xpathExpr)
 	{
 		try {
-			XPath xpath = new DOMXPath(xpathExpr);
+			XPath xpath = compile(xpathExpr);
 			List nodes = xpath.selectNodes(start.getNode());
 
 			return new XPathNodeListProxy(nodes);
@@ -32,4 +39,14 @@ public class XPathUtil
 
 		return new XPathNodeListProxy(new ArrayList());
 	}
+
+	private static XPath compile(String xpathExpr) throws JaxenException
+	{
+		XPath xpath = cache.get(xpathExpr);
+		if (xpath == null) {
+			xpath = new DOMXPath(xpathExpr);
+			cache.put(xpathExpr, xpath);
+		}
+		return xpath;
+	}
 }
@@ -0,0 +1,134 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts for memory that Java objects wrapped by JavaScript keep alive, such as bitmaps and byte arrays.
+ * <p>
+ * The JavaScript engine only sees the small wrapper object and would otherwise not collect it any sooner
+ * for holding on to megabytes of Java memory. Owners report their size with {@link #track(Object, long)}
+ * and keep the returned handle to update or release it. When an owner is garbage collected without
+ * releasing its handle, its size is subtracted once the runtime next polls for collected owners.
+ * <p>
+ * The runtime passes changes of {@link #getTotalBytes()} on to the engine. All methods can be called from any thread.
+ */
+public final class KrollExternalMemory extends PhantomReference<Object>
+{
+	private static final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+	private static final Set<KrollExternalMemory> handles =
+		Collections.newSetFromMap(new ConcurrentHashMap<KrollExternalMemory, Boolean>());
+	private static final AtomicLong totalBytes = new AtomicLong();
+	private static final AtomicLong peakBytes = new AtomicLong();
+
+	/**
+	 * Allocations below this size are not worth accounting for, see {@link #update(KrollExternalMemory, Object, long)}.
+	 */
+	public static final long MIN_TRACKED_BYTES = 16 * 1024;
+
+	private final AtomicLong bytes = new AtomicLong();
+
+	private KrollExternalMemory(Object owner)
+	{
+		super(owner, collectedOwners);
+	}
+
+	/**
+	 * Starts accounting for memory kept alive by the given owner.
+	 * @param owner object keeping the memory alive, typically a proxy.
+	 * @param bytes size of the memory in bytes.
+	 * @return handle to update the size with, which the owner must keep a reference to.
+	 */
+	public static KrollExternalMemory track(Object owner, long bytes)
+	{
+		KrollExternalMemory handle = new KrollExternalMemory(owner);
+		handles.add(handle);
+		handle.update(bytes);
+		return handle;
+	}
+
+	/**
+	 * Updates the size accounted for an owner, starting to track it once its size is worth accounting for.
+	 * <pre>this.externalMemory = KrollExternalMemory.update(this.externalMemory, this, size);</pre>
+	 * @param handle the owner's current handle, null if not tracked yet.
+	 * @return the handle the owner should keep, null if it is still not tracked.
+	 */
+	public static KrollExternalMemory update(KrollExternalMemory handle, Object owner, long bytes)
+	{
+		if (handle != null) {
+			handle.update(bytes);
+			return handle;
+		}
+		return (bytes >= MIN_TRACKED_BYTES) ? track(owner, bytes) : null;
+	}
+
+	/**
+	 * Changes the size accounted for this handle, such as after a buffer was resized.
+	 */
+	public void update(long newBytes)
+	{
+		long delta = Math.max(newBytes, 0) - this.bytes.getAndSet(Math.max(newBytes, 0));
+		if (delta != 0) {
+			adjust(delta);
+		}
+	}
+
+	/**
+	 * Stops accounting for this handle. Can be called more than once.
+	 */
+	public void release()
+	{
+		update(0);
+		handles.remove(this);
+		clear();
+	}
+
+	private static void adjust(long delta)
+	{
+		long total = totalBytes.addAndGet(delta);
+		long peak = peakBytes.get();
+		while (total > peak && !peakBytes.compareAndSet(peak, total)) {
+			peak = peakBytes.get();
+		}
+	}
+
+	/**
+	 * Releases the handles of owners that were garbage collected without releasing them.
+	 * @return number of handles released.
+	 */
+	public static int releaseCollected()
+	{
+		int count = 0;
+		KrollExternalMemory handle;
+		while ((handle = (KrollExternalMemory) collectedOwners.poll()) != null) {
+			handle.release();
+			count++;
+		}
+		return count;
+	}
+
+	public static long getTotalBytes()
+	{
+		return totalBytes.get();
+	}
+
+	public static long getPeakBytes()
+	{
+		return peakBytes.get();
+	}
+
+	public static int getTrackedCount()
+	{
+		return handles.size();
+	}
+}
@@ -119,16 +119,6 @@ public abstract class KrollRuntime implements Handler.Callback
 		return instance;
 	}
 
-	/**
-	 * Suggest V8 garbage collection during idle.
-	 */
-	public static void suggestGC()
-	{
-		if (instance != null) {
-			instance.setGCFlag();
-		}
-	}
-
 	/**
 	 * Force V8 garbage collection.
 	 */
@@ -465,14 +455,39 @@ public abstract class KrollRuntime implements Handler.Callback
 		evaluator = eval;
 	}
 
-	public void setGCFlag()
+	public void forceGC()
 	{
 		// No-op V8 should override.
 	}
 
-	public void forceGC()
+	/**
+	 * @return hits, misses, rejects, writes, consume time and compile time (microseconds) of the
+	 *         runtime's code cache, or null if the runtime has none or it is disabled.
+	 */
+	public long[] getCodeCacheStats()
+	{
+		// No-op V8 should override.
+		return null;
+	}
+
+	/**
+	 * @return queue depth and drain time metrics of the runtime's async callback queue,
+	 *         or null if the runtime has none.
+	 */
+	public KrollDict getCallbackQueueStats()
 	{
 		// No-op V8 should override.
+		return null;
+	}
+
+	/**
+	 * @return heap usage, external memory and garbage collection counters of the runtime,
+	 *         or null if the runtime does not track them.
+	 */
+	public KrollDict getMemoryStats()
+	{
+		// No-op V8 should override.
+		return null;
 	}
 
 	public State getRuntimeState()
@@ -0,0 +1,148 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll.runtime.v8;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollObject;
+import org.appcelerator.kroll.KrollRuntime;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.kroll.common.TiMessenger;
+
+import android.os.SystemClock;
+
+/**
+ * Queue of pending {@link V8Function#callAsync(KrollObject, Object[])} calls.
+ * <p>
+ * Instead of posting one runtime message per call, the first call queued posts a single drain.
+ * The drain hands every call queued up to that point to V8 in one native call, which enters the
+ * isolate once. Calls queued while draining are handled by the next drain, so a callback that
+ * queues another callback cannot keep the runtime thread busy forever.
+ */
+final class V8CallbackQueue
+{
+	private static final String TAG = "V8CallbackQueue";
+
+	private static final ConcurrentLinkedQueue<PendingCall> queue = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger queueSize = new AtomicInteger();
+	private static final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+
+	// Metrics. Only written on the runtime thread.
+	private static volatile int maxQueueDepth;
+	private static volatile long drainCount;
+	private static volatile long callCount;
+	private static volatile long totalDrainNanos;
+	private static volatile long maxDrainNanos;
+
+	private static final Runnable drainRunnable = new Runnable() {
+		@Override
+		public void run()
+		{
+			drain();
+		}
+	};
+
+	private static final class PendingCall
+	{
+		final V8Function function;
+		final KrollObject thisObject;
+		final Object[] args;
+
+		PendingCall(V8Function function, KrollObject thisObject, Object[] args)
+		{
+			this.function = function;
+			this.thisObject = thisObject;
+			this.args = args;
+		}
+	}
+
+	private V8CallbackQueue()
+	{
+	}
+
+	/**
+	 * Queues a function call to be made on the runtime thread. Can be called from any thread.
+	 */
+	static void enqueue(V8Function function, KrollObject thisObject, Object[] args)
+	{
+		queue.add(new PendingCall(function, thisObject, args));
+		queueSize.incrementAndGet();
+		if (drainScheduled.compareAndSet(false, true)) {
+			TiMessenger.postOnRuntime(drainRunnable);
+		}
+	}
+
+	private static void drain()
+	{
+		// Allow calls queued from here on to schedule the next drain.
+		drainScheduled.set(false);
+
+		int count = queueSize.get();
+		if (count <= 0) {
+			return;
+		}
+		if (count > maxQueueDepth) {
+			maxQueueDepth = count;
+		}
+
+		// Pointers are read by the native side right before each call, since an earlier
+		// callback in the batch can release the proxy or function of a later one.
+		V8Object[] thisObjects = new V8Object[count];
+		V8Function[] functions = new V8Function[count];
+		Object[][] args = new Object[count][];
+		int index = 0;
+		while (index < count) {
+			PendingCall call = queue.poll();
+			if (call == null) {
+				break;
+			}
+			queueSize.decrementAndGet();
+			thisObjects[index] = (V8Object) call.thisObject;
+			functions[index] = call.function;
+			args[index] = call.args;
+			index++;
+		}
+
+		if (KrollRuntime.isDisposed()) {
+			Log.w(TAG, "Runtime disposed, dropping " + index + " queued function calls.");
+			return;
+		}
+
+		long start = SystemClock.elapsedRealtimeNanos();
+		nativeInvokeAll(thisObjects, functions, args, index);
+		long duration = SystemClock.elapsedRealtimeNanos() - start;
+
+		drainCount++;
+		callCount += index;
+		totalDrainNanos += duration;
+		if (duration > maxDrainNanos) {
+			maxDrainNanos = duration;
+		}
+	}
+
+	/**
+	 * @return queue depth and drain time metrics, times in milliseconds.
+	 */
+	static KrollDict getStats()
+	{
+		KrollDict stats = new KrollDict();
+		stats.put("pending", Math.max(queueSize.get(), 0));
+		stats.put("maxQueueDepth", maxQueueDepth);
+		stats.put("drains", drainCount);
+		stats.put("calls", callCount);
+		stats.put("totalDrainTime", totalDrainNanos / 1000000.0);
+		stats.put("maxDrainTime", maxDrainNanos / 1000000.0);
+		return stats;
+	}
+
+	// JNI method prototypes
+	private static native void nativeInvokeAll(V8Object[] thisObjects, V8Function[] functions, Object[][] args,
+											   int count);
+}
@@ -62,12 +62,8 @@ public class V8Function extends V8Object implements KrollFunction, Handler.Callb
 
 	public void callAsync(final KrollObject krollObject, final Object[] args)
 	{
-		TiMessenger.postOnRuntime(new Runnable() {
-			public void run()
-			{
-				call(krollObject, args);
-			}
-		});
+		// Calls are batched, so a burst of callbacks costs one runtime message and one native call.
+		V8CallbackQueue.enqueue(this, krollObject, args);
 	}
 
 	@Override
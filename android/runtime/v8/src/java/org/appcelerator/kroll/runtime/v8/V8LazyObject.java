@@ -0,0 +1,85 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll.runtime.v8;
+
+import org.appcelerator.kroll.KrollLazyDict;
+import org.appcelerator.kroll.KrollRuntime;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.kroll.common.TiMessenger;
+
+/**
+ * Backs a {@link KrollLazyDict} with a JavaScript object held by the native TypeConverter.
+ */
+final class V8LazyObject implements KrollLazyDict.Source
+{
+	private static final String TAG = "V8LazyObject";
+
+	private long pointer;
+
+	private V8LazyObject(long pointer)
+	{
+		this.pointer = pointer;
+	}
+
+	// Called from native code (TypeConverter::jsObjectToJavaLazyDict).
+	static KrollLazyDict createDict(long pointer, String[] keys)
+	{
+		return new KrollLazyDict(keys, new V8LazyObject(pointer));
+	}
+
+	private boolean canAccess()
+	{
+		if (this.pointer == 0 || KrollRuntime.isDisposed()) {
+			return false;
+		}
+		if (!KrollRuntime.getInstance().isRuntimeThread()) {
+			Log.w(TAG, "A lazy dictionary can only be read on the runtime thread, value is unavailable.");
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public Object get(String key)
+	{
+		return canAccess() ? nativeGet(this.pointer, key) : null;
+	}
+
+	@Override
+	public Object[] getAll(String[] keys)
+	{
+		return canAccess() ? nativeGetAll(this.pointer, keys) : null;
+	}
+
+	@Override
+	public void release()
+	{
+		final long pointer = this.pointer;
+		this.pointer = 0;
+		if (pointer == 0 || KrollRuntime.isDisposed()) {
+			return;
+		}
+		if (KrollRuntime.getInstance().isRuntimeThread()) {
+			nativeRelease(pointer);
+		} else {
+			TiMessenger.postOnRuntime(new Runnable() {
+				@Override
+				public void run()
+				{
+					nativeRelease(pointer);
+				}
+			});
+		}
+	}
+
+	// JNI method prototypes
+	private static native Object nativeGet(long pointer, String key);
+
+	private static native Object[] nativeGetAll(long pointer, String[] keys);
+
+	private static native void nativeRelease(long pointer);
+}
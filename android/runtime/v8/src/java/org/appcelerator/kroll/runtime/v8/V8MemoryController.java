@@ -0,0 +1,137 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll.runtime.v8;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollExternalMemory;
+import org.appcelerator.kroll.common.Log;
+
+import android.os.SystemClock;
+
+/**
+ * Decides when to run V8 garbage collections, based on the memory of both heaps.
+ * <p>
+ * Java memory kept alive by JavaScript wrappers is reported to V8 as external memory, which V8 takes
+ * into account when scheduling its own collections. On top of that, a full collection is requested
+ * while idle when the combined V8 heap, Java heap and external memory grew well past what was in use
+ * after the last collection, or when the Java heap is nearly full. Collecting V8 wrappers is what
+ * allows the JVM to collect the Java objects behind them.
+ * <p>
+ * Only used on the runtime thread.
+ */
+final class V8MemoryController
+{
+	private static final String TAG = "V8MemoryController";
+
+	private static final long MIN_GC_INTERVAL = 5 * 1000; // ms
+	private static final long SAMPLE_INTERVAL = 1000; // ms
+	private static final long MIN_GROWTH_BYTES = 16 * 1024 * 1024;
+	private static final double GROWTH_FACTOR = 0.5;
+	private static final double JAVA_HEAP_PRESSURE = 0.8;
+
+	private final V8Runtime runtime;
+
+	private long reportedExternalBytes;
+	private long baselineBytes = -1;
+	private long lastGCTime;
+	private long lastSampleTime;
+
+	// Last sample.
+	private long v8UsedBytes;
+	private long v8LimitBytes;
+	private long javaUsedBytes;
+	private long javaMaxBytes;
+
+	// Counters.
+	private int gcCount;
+	private long gcMillis;
+
+	V8MemoryController(V8Runtime runtime)
+	{
+		this.runtime = runtime;
+		this.lastGCTime = SystemClock.uptimeMillis();
+	}
+
+	/**
+	 * Reports external memory changes to V8 and runs a collection if memory pressure calls for one.
+	 */
+	void onIdle()
+	{
+		KrollExternalMemory.releaseCollected();
+		long externalBytes = KrollExternalMemory.getTotalBytes();
+		boolean externalChanged = externalBytes != this.reportedExternalBytes;
+		if (externalChanged) {
+			nativeAdjustExternalMemory(externalBytes - this.reportedExternalBytes);
+			this.reportedExternalBytes = externalBytes;
+		}
+
+		long now = SystemClock.uptimeMillis();
+		if (!externalChanged && (now - this.lastSampleTime) < SAMPLE_INTERVAL) {
+			return;
+		}
+		this.lastSampleTime = now;
+		long combinedBytes = sample(externalBytes);
+		if (this.baselineBytes < 0) {
+			this.baselineBytes = combinedBytes;
+		}
+		if ((now - this.lastGCTime) < MIN_GC_INTERVAL) {
+			return;
+		}
+
+		long allowedGrowth = Math.max(MIN_GROWTH_BYTES, (long) (this.baselineBytes * GROWTH_FACTOR));
+		boolean grown = (combinedBytes - this.baselineBytes) > allowedGrowth;
+		boolean javaPressure = this.javaUsedBytes > (long) (this.javaMaxBytes * JAVA_HEAP_PRESSURE);
+		if (grown || javaPressure) {
+			collect(externalBytes);
+		}
+	}
+
+	private long sample(long externalBytes)
+	{
+		long[] heap = nativeGetHeapStatistics();
+		this.v8UsedBytes = heap[0];
+		this.v8LimitBytes = heap[1];
+
+		Runtime javaRuntime = Runtime.getRuntime();
+		this.javaUsedBytes = javaRuntime.totalMemory() - javaRuntime.freeMemory();
+		this.javaMaxBytes = javaRuntime.maxMemory();
+		return this.v8UsedBytes + this.javaUsedBytes + externalBytes;
+	}
+
+	private void collect(long externalBytes)
+	{
+		long start = SystemClock.uptimeMillis();
+		this.runtime.forceGC();
+		long end = SystemClock.uptimeMillis();
+
+		this.gcCount++;
+		this.gcMillis += end - start;
+		this.lastGCTime = end;
+		this.baselineBytes = sample(externalBytes);
+		Log.d(TAG, "V8 GC took " + (end - start) + "ms, heap in use: " + this.baselineBytes + " bytes", Log.DEBUG_MODE);
+	}
+
+	KrollDict getStats()
+	{
+		KrollDict stats = new KrollDict();
+		stats.put("externalBytes", KrollExternalMemory.getTotalBytes());
+		stats.put("peakExternalBytes", KrollExternalMemory.getPeakBytes());
+		stats.put("externalObjects", KrollExternalMemory.getTrackedCount());
+		stats.put("v8HeapBytes", this.v8UsedBytes);
+		stats.put("v8HeapLimitBytes", this.v8LimitBytes);
+		stats.put("javaHeapBytes", this.javaUsedBytes);
+		stats.put("javaHeapMaxBytes", this.javaMaxBytes);
+		stats.put("gcCount", this.gcCount);
+		stats.put("gcTime", this.gcMillis);
+		return stats;
+	}
+
+	// JNI method prototypes
+	private static native long nativeAdjustExternalMemory(long delta);
+
+	private static native long[] nativeGetHeapStatistics();
+}
@@ -6,14 +6,15 @@
  */
 package org.appcelerator.kroll.runtime.v8;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.appcelerator.kroll.KrollApplication;
+import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollExternalModule;
 import org.appcelerator.kroll.KrollPromise;
 import org.appcelerator.kroll.KrollProxySupport;
@@ -21,7 +22,10 @@ import org.appcelerator.kroll.KrollRuntime;
 import org.appcelerator.kroll.common.KrollSourceCodeProvider;
 import org.appcelerator.kroll.common.Log;
 import org.appcelerator.kroll.common.TiDeployData;
+import org.appcelerator.kroll.util.KrollAssetHelper;
 
+import android.content.Context;
+import android.content.pm.PackageInfo;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
@@ -33,20 +37,14 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 {
 	private static final String TAG = "KrollV8Runtime";
 	private static final String NAME = "v8";
-	private static final int MAX_V8_IDLE_INTERVAL = 5 * 1000; // ms
+	private static final String CODE_CACHE_DIRECTORY = "v8-code-cache";
 
 	private boolean libLoaded = false;
 
 	private final HashMap<String, Class<? extends KrollExternalModule>> externalModules = new HashMap<>();
 	private static final HashMap<String, KrollSourceCodeProvider> externalCommonJsModules = new HashMap<>();
 	private final ArrayList<String> loadedLibs = new ArrayList<>();
-	private final AtomicBoolean shouldGC = new AtomicBoolean(false);
-	private long lastV8Idle;
-
-	/**
-	 * Setup JVM garbage collection watcher to initiate V8 garbage collections
-	 */
-	private static GCWatcher watcher = new GCWatcher();
+	private V8MemoryController memoryController;
 
 	public static boolean isEmulator()
 	{
@@ -104,27 +102,80 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 
 		if (jsDebugger != null) {
 			jsDebugger.start();
+		} else {
+			// Cached code does not carry the source positions a debugger relies on.
+			initCodeCache(application);
 		}
 
 		loadExternalModules();
 		loadExternalCommonJsModules();
 
+		memoryController = new V8MemoryController(this);
 		Looper.myQueue().addIdleHandler(new IdleHandler() {
 			@Override
 			public boolean queueIdle()
 			{
-				// determine if we should suggest a V8 garbage collection
-				if (shouldGC.getAndSet(false) && (System.currentTimeMillis() - lastV8Idle) > MAX_V8_IDLE_INTERVAL) {
+				// report external memory to V8 and collect garbage if either heap is under pressure
+				memoryController.onIdle();
 
-					// attempt garbage collection
-					nativeIdle();
-					lastV8Idle = System.currentTimeMillis();
-				}
+				// write code caches for scripts compiled since the last idle, now that their functions have run
+				nativeFlushCodeCache();
 				return true;
 			}
 		});
 	}
 
+	/**
+	 * Enables the V8 code cache for application scripts.
+	 * Caches live in a directory named after the app and SDK version, so an upgrade never loads stale caches.
+	 */
+	private void initCodeCache(KrollApplication application)
+	{
+		String cacheDir = KrollAssetHelper.getCacheDir();
+		if (cacheDir == null || !(application instanceof Context)) {
+			return;
+		}
+
+		String versionKey;
+		try {
+			Context context = (Context) application;
+			PackageInfo info = context.getPackageManager().getPackageInfo(context.getPackageName(), 0);
+			versionKey = info.versionCode + "-" + info.lastUpdateTime + "-" + application.getSDKVersion();
+		} catch (Exception e) {
+			Log.w(TAG, "Unable to determine app version, V8 code cache disabled", e);
+			return;
+		}
+
+		// Remove caches written by previous app or SDK versions.
+		File rootDir = new File(cacheDir, CODE_CACHE_DIRECTORY);
+		File[] oldDirs = rootDir.listFiles();
+		if (oldDirs != null) {
+			for (File oldDir : oldDirs) {
+				if (!oldDir.getName().equals(versionKey)) {
+					deleteRecursive(oldDir);
+				}
+			}
+		}
+
+		File cacheVersionDir = new File(rootDir, versionKey);
+		if (!cacheVersionDir.isDirectory() && !cacheVersionDir.mkdirs()) {
+			Log.w(TAG, "Unable to create V8 code cache directory: " + cacheVersionDir);
+			return;
+		}
+		nativeSetCodeCacheDirectory(cacheVersionDir.getAbsolutePath());
+	}
+
+	private static void deleteRecursive(File file)
+	{
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				deleteRecursive(child);
+			}
+		}
+		file.delete();
+	}
+
 	private void loadExternalModules()
 	{
 		for (String libName : externalModules.keySet()) {
@@ -206,10 +257,26 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 		}
 	}
 
+	/**
+	 * @return hits, misses, rejects, writes, consume time and compile time (microseconds) of the code cache,
+	 *         or null if the cache is disabled.
+	 */
 	@Override
-	public void setGCFlag()
+	public long[] getCodeCacheStats()
 	{
-		shouldGC.set(true);
+		return nativeGetCodeCacheStats();
+	}
+
+	@Override
+	public KrollDict getCallbackQueueStats()
+	{
+		return V8CallbackQueue.getStats();
+	}
+
+	@Override
+	public KrollDict getMemoryStats()
+	{
+		return (memoryController != null) ? memoryController.getStats() : null;
 	}
 
 	@Override
@@ -236,4 +303,10 @@ public final class V8Runtime extends KrollRuntime implements Handler.Callback
 	private native void nativeDispose();
 
 	private native void nativeAddExternalCommonJsModule(String moduleName, KrollSourceCodeProvider sourceProvider);
+
+	private native void nativeSetCodeCacheDirectory(String directory);
+
+	private native int nativeFlushCodeCache();
+
+	private native long[] nativeGetCodeCacheStats();
 }
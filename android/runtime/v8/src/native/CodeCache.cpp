@@ -0,0 +1,210 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+#include <chrono>
+#include <stdio.h>
+#include <unistd.h>
+#include <v8.h>
+
+#include "AndroidUtil.h"
+#include "CodeCache.h"
+
+#define TAG "CodeCache"
+
+// Written at the start of every cache file. Bump when the file layout changes.
+#define CODE_CACHE_MAGIC 0x54494343u // "TICC"
+#define CODE_CACHE_FORMAT 1u
+
+namespace titanium {
+using namespace v8;
+
+std::string CodeCache::directory;
+std::vector<CodeCache::PendingScript> CodeCache::pending;
+int64_t CodeCache::hits = 0;
+int64_t CodeCache::misses = 0;
+int64_t CodeCache::rejects = 0;
+int64_t CodeCache::writes = 0;
+int64_t CodeCache::consumeMicros = 0;
+int64_t CodeCache::compileMicros = 0;
+
+static int64_t nowMicros()
+{
+	return std::chrono::duration_cast<std::chrono::microseconds>(
+		std::chrono::steady_clock::now().time_since_epoch()).count();
+}
+
+struct CodeCacheHeader
+{
+	uint32_t magic;
+	uint32_t format;
+	uint64_t sourceHash;
+	int32_t length;
+};
+
+void CodeCache::setDirectory(const std::string& value)
+{
+	directory = value;
+	if (!directory.empty() && directory.back() != '/') {
+		directory += '/';
+	}
+}
+
+bool CodeCache::isEnabled()
+{
+	return !directory.empty();
+}
+
+MaybeLocal<Script> CodeCache::compile(Isolate* isolate, Local<Context> context, Local<String> source, Local<String> filename)
+{
+	ScriptOrigin origin(filename);
+	if (!isEnabled()) {
+		return Script::Compile(context, source, &origin);
+	}
+
+	std::string path = getPath(isolate, filename);
+	uint64_t sourceHash = hashString(isolate, source);
+	std::vector<uint8_t> data;
+	int64_t start = nowMicros();
+
+	if (read(path, sourceHash, data)) {
+		// Source takes ownership of the cached data, which does not own the buffer.
+		ScriptCompiler::CachedData* cachedData = new ScriptCompiler::CachedData(data.data(), static_cast<int>(data.size()));
+		ScriptCompiler::Source scriptSource(source, origin, cachedData);
+		MaybeLocal<Script> maybeScript = ScriptCompiler::Compile(context, &scriptSource, ScriptCompiler::kConsumeCodeCache);
+		Local<Script> script;
+		if (!maybeScript.ToLocal(&script)) {
+			return maybeScript;
+		}
+		if (!cachedData->rejected) {
+			hits++;
+			consumeMicros += nowMicros() - start;
+			return script;
+		}
+
+		// V8 compiled from source instead. Produce a new cache for this V8 version and flags.
+		rejects++;
+		LOGD(TAG, "Code cache rejected: %s", path.c_str());
+		compileMicros += nowMicros() - start;
+		pending.push_back(PendingScript { Global<UnboundScript>(isolate, script->GetUnboundScript()), path, sourceHash });
+		return script;
+	}
+
+	misses++;
+	MaybeLocal<Script> maybeScript = Script::Compile(context, source, &origin);
+	Local<Script> script;
+	if (maybeScript.ToLocal(&script)) {
+		compileMicros += nowMicros() - start;
+		pending.push_back(PendingScript { Global<UnboundScript>(isolate, script->GetUnboundScript()), path, sourceHash });
+	}
+	return maybeScript;
+}
+
+int CodeCache::flush(Isolate* isolate)
+{
+	if (pending.empty()) {
+		return 0;
+	}
+
+	HandleScope scope(isolate);
+	int written = 0;
+	for (PendingScript& entry : pending) {
+		Local<UnboundScript> script = entry.script.Get(isolate);
+		std::unique_ptr<ScriptCompiler::CachedData> cachedData(ScriptCompiler::CreateCodeCache(script));
+		if (cachedData && write(entry.path, entry.sourceHash, cachedData->data, cachedData->length)) {
+			written++;
+		}
+		entry.script.Reset();
+	}
+	pending.clear();
+	writes += written;
+	return written;
+}
+
+void CodeCache::getStats(int64_t stats[6])
+{
+	stats[0] = hits;
+	stats[1] = misses;
+	stats[2] = rejects;
+	stats[3] = writes;
+	stats[4] = consumeMicros;
+	stats[5] = compileMicros;
+}
+
+void CodeCache::dispose()
+{
+	for (PendingScript& entry : pending) {
+		entry.script.Reset();
+	}
+	pending.clear();
+}
+
+uint64_t CodeCache::hashString(Isolate* isolate, Local<String> value)
+{
+	// FNV-1a over the UTF-16 code units.
+	String::Value chars(isolate, value);
+	uint64_t hash = 14695981039346656037ull;
+	const uint16_t* data = *chars;
+	for (int i = 0; i < chars.length(); i++) {
+		hash ^= data[i] & 0xff;
+		hash *= 1099511628211ull;
+		hash ^= data[i] >> 8;
+		hash *= 1099511628211ull;
+	}
+	return hash;
+}
+
+std::string CodeCache::getPath(Isolate* isolate, Local<String> filename)
+{
+	char name[32];
+	snprintf(name, sizeof(name), "%016llx.cache", (unsigned long long) hashString(isolate, filename));
+	return directory + name;
+}
+
+bool CodeCache::read(const std::string& path, uint64_t sourceHash, std::vector<uint8_t>& data)
+{
+	FILE* file = fopen(path.c_str(), "rb");
+	if (!file) {
+		return false;
+	}
+
+	CodeCacheHeader header;
+	bool valid = fread(&header, sizeof(header), 1, file) == 1
+		&& header.magic == CODE_CACHE_MAGIC
+		&& header.format == CODE_CACHE_FORMAT
+		&& header.sourceHash == sourceHash
+		&& header.length > 0;
+	if (valid) {
+		data.resize(header.length);
+		valid = fread(data.data(), 1, header.length, file) == (size_t) header.length;
+	}
+	fclose(file);
+	return valid;
+}
+
+bool CodeCache::write(const std::string& path, uint64_t sourceHash, const uint8_t* data, int length)
+{
+	// Write to a temporary file and rename it, so a crash never leaves a truncated cache behind.
+	std::string tempPath = path + ".tmp";
+	FILE* file = fopen(tempPath.c_str(), "wb");
+	if (!file) {
+		LOGW(TAG, "Unable to write code cache: %s", path.c_str());
+		return false;
+	}
+
+	CodeCacheHeader header = { CODE_CACHE_MAGIC, CODE_CACHE_FORMAT, sourceHash, length };
+	bool success = fwrite(&header, sizeof(header), 1, file) == 1
+		&& fwrite(data, 1, length, file) == (size_t) length;
+	success = (fclose(file) == 0) && success;
+	if (success) {
+		success = rename(tempPath.c_str(), path.c_str()) == 0;
+	}
+	if (!success) {
+		unlink(tempPath.c_str());
+	}
+	return success;
+}
+
+} // namespace titanium
@@ -0,0 +1,84 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+#ifndef CODE_CACHE_H
+#define CODE_CACHE_H
+
+#include <stdint.h>
+#include <string>
+#include <vector>
+#include <v8.h>
+
+namespace titanium {
+
+/**
+ * Persists V8 code caches for application scripts so they do not have to be compiled
+ * from source on every launch.
+ *
+ * Each script's cache is stored in its own file, named after a hash of the script's filename.
+ * The file starts with a hash of the full source, so a cache is only handed to V8 for the exact
+ * source it was produced from. V8 performs its own checks on top and may still reject it.
+ *
+ * Caches are not written right after compiling, since most functions have not been compiled
+ * yet at that point. Scripts are remembered instead and their caches are written by flush(),
+ * which V8Runtime.java calls once the app has been idle, so they include the functions that ran.
+ */
+class CodeCache
+{
+public:
+	/**
+	 * Enables the cache and sets the directory cache files are stored in.
+	 * Passing an empty string disables the cache.
+	 */
+	static void setDirectory(const std::string& directory);
+
+	static bool isEnabled();
+
+	/**
+	 * Compiles a script, using and recording cached data when enabled.
+	 */
+	static v8::MaybeLocal<v8::Script> compile(v8::Isolate* isolate, v8::Local<v8::Context> context,
+		v8::Local<v8::String> source, v8::Local<v8::String> filename);
+
+	/**
+	 * Writes caches for the scripts compiled without an accepted cache since the last call.
+	 * @return number of cache files written.
+	 */
+	static int flush(v8::Isolate* isolate);
+
+	/**
+	 * Fills stats with hits, misses, rejects, writes, consume time and compile time (microseconds).
+	 */
+	static void getStats(int64_t stats[6]);
+
+	static void dispose();
+
+private:
+	struct PendingScript
+	{
+		v8::Global<v8::UnboundScript> script;
+		std::string path;
+		uint64_t sourceHash;
+	};
+
+	static std::string directory;
+	static std::vector<PendingScript> pending;
+	static int64_t hits;
+	static int64_t misses;
+	static int64_t rejects;
+	static int64_t writes;
+	static int64_t consumeMicros;
+	static int64_t compileMicros;
+
+	static uint64_t hashString(v8::Isolate* isolate, v8::Local<v8::String> value);
+	static std::string getPath(v8::Isolate* isolate, v8::Local<v8::String> filename);
+	static bool read(const std::string& path, uint64_t sourceHash, std::vector<uint8_t>& data);
+	static bool write(const std::string& path, uint64_t sourceHash, const uint8_t* data, int length);
+};
+
+} // namespace titanium
+
+#endif
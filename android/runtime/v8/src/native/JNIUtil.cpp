@@ -31,6 +31,7 @@ jclass JNIUtil::booleanClass = NULL;
 jclass JNIUtil::stringArrayClass = NULL;
 jclass JNIUtil::objectArrayClass = NULL;
 jclass JNIUtil::byteArrayClass = NULL;
+jclass JNIUtil::byteBufferClass = NULL;
 jclass JNIUtil::shortArrayClass = NULL;
 jclass JNIUtil::intArrayClass = NULL;
 jclass JNIUtil::longArrayClass = NULL;
@@ -49,6 +50,7 @@ jclass JNIUtil::stackTraceElementClass = NULL;
 jclass JNIUtil::v8PromiseClass = NULL;
 jclass JNIUtil::v8ObjectClass = NULL;
 jclass JNIUtil::v8FunctionClass = NULL;
+jclass JNIUtil::v8LazyObjectClass = NULL;
 jclass JNIUtil::krollRuntimeClass = NULL;
 jclass JNIUtil::krollInvocationClass = NULL;
 jclass JNIUtil::krollExceptionClass = NULL;
@@ -57,6 +59,7 @@ jclass JNIUtil::krollProxyClass = NULL;
 jclass JNIUtil::krollAssetHelperClass = NULL;
 jclass JNIUtil::krollLoggingClass = NULL;
 jclass JNIUtil::krollDictClass = NULL;
+jclass JNIUtil::krollLazyDictClass = NULL;
 jclass JNIUtil::referenceTableClass = NULL;
 jclass JNIUtil::jsErrorClass = NULL;
 
@@ -73,13 +76,17 @@ jmethodID JNIUtil::hashMapRemoveMethod = NULL;
 
 jmethodID JNIUtil::krollDictInitMethod = NULL;
 jmethodID JNIUtil::krollDictPutMethod = NULL;
+jmethodID JNIUtil::v8LazyObjectCreateDictMethod = NULL;
+jmethodID JNIUtil::krollLazyDictDetachMethod = NULL;
 
 jmethodID JNIUtil::setToArrayMethod = NULL;
 jmethodID JNIUtil::dateInitMethod = NULL;
 jmethodID JNIUtil::dateGetTimeMethod = NULL;
 jmethodID JNIUtil::doubleInitMethod = NULL;
 jmethodID JNIUtil::integerInitMethod = NULL;
+jmethodID JNIUtil::integerValueOfMethod = NULL;
 jmethodID JNIUtil::booleanInitMethod = NULL;
+jmethodID JNIUtil::booleanValueOfMethod = NULL;
 jmethodID JNIUtil::booleanBooleanValueMethod = NULL;
 jmethodID JNIUtil::longInitMethod = NULL;
 jmethodID JNIUtil::numberDoubleValueMethod = NULL;
@@ -110,6 +117,8 @@ jmethodID JNIUtil::krollObjectSetHasListenersForEventTypeMethod = NULL;
 jmethodID JNIUtil::krollObjectOnEventFiredMethod = NULL;
 jmethodID JNIUtil::krollProxyCreateProxyMethod = NULL;
 jfieldID JNIUtil::krollProxyKrollObjectField = NULL;
+jfieldID JNIUtil::krollProxyDeferredKrollObjectField = NULL;
+jmethodID JNIUtil::krollProxyOnKrollObjectCreatedMethod = NULL;
 jfieldID JNIUtil::krollProxyModelListenerField = NULL;
 jmethodID JNIUtil::krollProxySetIndexedPropertyMethod = NULL;
 jmethodID JNIUtil::krollProxyGetIndexedPropertyMethod = NULL;
@@ -322,6 +331,7 @@ void JNIUtil::initCache()
 	floatArrayClass = findClass("[F");
 	doubleArrayClass = findClass("[D");
 	booleanArrayClass = findClass("[Z");
+	byteBufferClass = findClass("java/nio/ByteBuffer");
 	stringArrayClass = findClass("[Ljava/lang/String;");
 	objectArrayClass = findClass("[Ljava/lang/Object;");
 	arrayListClass = findClass("java/util/ArrayList");
@@ -336,6 +346,7 @@ void JNIUtil::initCache()
 	v8PromiseClass = findClass("org/appcelerator/kroll/runtime/v8/V8Promise");
 	v8ObjectClass = findClass("org/appcelerator/kroll/runtime/v8/V8Object");
 	v8FunctionClass = findClass("org/appcelerator/kroll/runtime/v8/V8Function");
+	v8LazyObjectClass = findClass("org/appcelerator/kroll/runtime/v8/V8LazyObject");
 	krollRuntimeClass = findClass("org/appcelerator/kroll/KrollRuntime");
 	krollInvocationClass = findClass("org/appcelerator/kroll/KrollInvocation");
 	krollObjectClass = findClass("org/appcelerator/kroll/KrollObject");
@@ -344,6 +355,7 @@ void JNIUtil::initCache()
 	krollLoggingClass = findClass("org/appcelerator/kroll/KrollLogging");
 	krollExceptionClass = findClass("org/appcelerator/kroll/KrollException");
 	krollDictClass = findClass("org/appcelerator/kroll/KrollDict");
+	krollLazyDictClass = findClass("org/appcelerator/kroll/KrollLazyDict");
 	referenceTableClass = findClass("org/appcelerator/kroll/runtime/v8/ReferenceTable");
 	jsErrorClass = findClass("org/appcelerator/kroll/JSError");
 
@@ -366,8 +378,10 @@ void JNIUtil::initCache()
 	dateGetTimeMethod = getMethodID(dateClass, "getTime", "()J", false);
 
 	integerInitMethod = getMethodID(integerClass, "<init>", "(I)V", false);
+	integerValueOfMethod = getMethodID(integerClass, "valueOf", "(I)Ljava/lang/Integer;", true);
 	doubleInitMethod = getMethodID(doubleClass, "<init>", "(D)V", false);
 	booleanInitMethod = getMethodID(booleanClass, "<init>", "(Z)V", false);
+	booleanValueOfMethod = getMethodID(booleanClass, "valueOf", "(Z)Ljava/lang/Boolean;", true);
 	booleanBooleanValueMethod = getMethodID(booleanClass, "booleanValue", "()Z", false);
 	longInitMethod = getMethodID(longClass, "<init>", "(J)V", false);
 	numberDoubleValueMethod = getMethodID(numberClass, "doubleValue", "()D", false);
@@ -383,6 +397,9 @@ void JNIUtil::initCache()
 	krollDictInitMethod = getMethodID(krollDictClass, "<init>", "(I)V", false);
 	krollDictPutMethod = getMethodID(krollDictClass, "put", "(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;",
 			false);
+	v8LazyObjectCreateDictMethod = getMethodID(v8LazyObjectClass, "createDict",
+		"(J[Ljava/lang/String;)Lorg/appcelerator/kroll/KrollLazyDict;", true);
+	krollLazyDictDetachMethod = getMethodID(krollLazyDictClass, "detach", "()V", false);
 
 	referenceTableCreateReferenceMethod = getMethodID(referenceTableClass, "createReference", "(Ljava/lang/Object;)J", true);
 	referenceTableDestroyReferenceMethod = getMethodID(referenceTableClass, "destroyReference", "(J)V", true);
@@ -406,6 +423,8 @@ void JNIUtil::initCache()
 	krollProxyCreateProxyMethod = getMethodID(krollProxyClass, "createProxy", createProxySignature, true);
 
 	krollProxyKrollObjectField = getFieldID(krollProxyClass, "krollObject", "Lorg/appcelerator/kroll/KrollObject;");
+	krollProxyDeferredKrollObjectField = getFieldID(krollProxyClass, "deferredKrollObject", "Z");
+	krollProxyOnKrollObjectCreatedMethod = getMethodID(krollProxyClass, "onKrollObjectCreated", "()V");
 	krollProxyModelListenerField = getFieldID(krollProxyClass, "modelListener", "Lorg/appcelerator/kroll/KrollProxyListener;");
 	krollProxySetIndexedPropertyMethod = getMethodID(krollProxyClass, "setIndexedProperty", "(ILjava/lang/Object;)V");
 	krollProxyGetIndexedPropertyMethod = getMethodID(krollProxyClass, "getIndexedProperty", "(I)Ljava/lang/Object;");
@@ -85,6 +85,7 @@ public:
 	static jclass floatArrayClass;
 	static jclass doubleArrayClass;
 	static jclass booleanArrayClass;
+	static jclass byteBufferClass;
 
 	static jclass arrayListClass;
 	static jclass hashMapClass;
@@ -99,6 +100,7 @@ public:
 	static jclass v8PromiseClass;
 	static jclass v8ObjectClass;
 	static jclass v8FunctionClass;
+	static jclass v8LazyObjectClass;
 	static jclass krollRuntimeClass;
 	static jclass krollInvocationClass;
 	static jclass krollExceptionClass;
@@ -107,6 +109,7 @@ public:
 	static jclass krollAssetHelperClass;
 	static jclass krollLoggingClass;
 	static jclass krollDictClass;
+	static jclass krollLazyDictClass;
 	static jclass tiJsErrorDialogClass;
 	static jclass referenceTableClass;
 	static jclass jsErrorClass;
@@ -126,8 +129,10 @@ public:
 	static jmethodID dateInitMethod;
 	static jmethodID dateGetTimeMethod;
 	static jmethodID integerInitMethod;
+	static jmethodID integerValueOfMethod;
 	static jmethodID doubleInitMethod;
 	static jmethodID booleanInitMethod;
+	static jmethodID booleanValueOfMethod;
 	static jmethodID booleanBooleanValueMethod;
 	static jmethodID longInitMethod;
 	static jmethodID numberDoubleValueMethod;
@@ -145,6 +150,10 @@ public:
 	static jmethodID krollDictInitMethod;
 	static jmethodID krollDictPutMethod;
 
+	// KrollLazyDict
+	static jmethodID v8LazyObjectCreateDictMethod;
+	static jmethodID krollLazyDictDetachMethod;
+
 	// ReferenceTable
 	static jmethodID referenceTableCreateReferenceMethod;
 	static jmethodID referenceTableDestroyReferenceMethod;
@@ -169,6 +178,8 @@ public:
 	// KrollProxy
 	static jmethodID krollProxyCreateProxyMethod;
 	static jfieldID krollProxyKrollObjectField;
+	static jfieldID krollProxyDeferredKrollObjectField;
+	static jmethodID krollProxyOnKrollObjectCreatedMethod;
 	static jfieldID krollProxyModelListenerField;
 	static jmethodID krollProxySetIndexedPropertyMethod;
 	static jmethodID krollProxyGetIndexedPropertyMethod;
@@ -97,6 +97,15 @@ Local<Object> ProxyFactory::createV8Proxy(v8::Isolate* isolate, Local<Value> cla
 	env->SetObjectField(javaProxy, JNIUtil::krollProxyKrollObjectField, javaV8Object);
 	env->DeleteLocalRef(javaV8Object);
 
+	// A proxy which deferred creating its JS object has not pushed its properties to it yet, let it do so now.
+	if (env->GetBooleanField(javaProxy, JNIUtil::krollProxyDeferredKrollObjectField)) {
+		env->CallVoidMethod(javaProxy, JNIUtil::krollProxyOnKrollObjectCreatedMethod);
+		if (env->ExceptionCheck()) {
+			JSException::fromJavaException(isolate);
+			env->ExceptionClear();
+		}
+	}
+
 	return scope.Escape(v8Proxy);
 }
 
@@ -33,7 +33,42 @@ std::map<int64_t, Persistent<Function, CopyablePersistentTraits<Function>>> Type
 int64_t TypeConverter::resolverIndex = std::numeric_limits<int64_t>::min();
 std::map<int64_t, Persistent<Promise::Resolver, CopyablePersistentTraits<Promise::Resolver>>> TypeConverter::resolvers;
 
+int64_t TypeConverter::lazyObjectIndex = std::numeric_limits<int64_t>::min();
+std::map<int64_t, Persistent<Object, CopyablePersistentTraits<Object>>> TypeConverter::lazyObjects;
+
+// Global references to the boxes java.lang.Integer.valueOf() caches, filled on first use.
+#define INTEGER_CACHE_LOW -128
+#define INTEGER_CACHE_HIGH 127
+static jobject integerCache[INTEGER_CACHE_HIGH - INTEGER_CACHE_LOW + 1];
+static jobject booleanCache[2];
+
 /****************************** public methods ******************************/
+jobject TypeConverter::javaIntegerObject(JNIEnv *env, jint value)
+{
+	if (value < INTEGER_CACHE_LOW || value > INTEGER_CACHE_HIGH) {
+		return env->NewObject(JNIUtil::integerClass, JNIUtil::integerInitMethod, value);
+	}
+	jobject& cached = integerCache[value - INTEGER_CACHE_LOW];
+	if (!cached) {
+		jobject box = env->CallStaticObjectMethod(JNIUtil::integerClass, JNIUtil::integerValueOfMethod, value);
+		cached = env->NewGlobalRef(box);
+		env->DeleteLocalRef(box);
+	}
+	// callers own the returned reference and may delete it
+	return env->NewLocalRef(cached);
+}
+
+jobject TypeConverter::javaBooleanObject(JNIEnv *env, jboolean value)
+{
+	jobject& cached = booleanCache[value ? 1 : 0];
+	if (!cached) {
+		jobject box = env->CallStaticObjectMethod(JNIUtil::booleanClass, JNIUtil::booleanValueOfMethod, value);
+		cached = env->NewGlobalRef(box);
+		env->DeleteLocalRef(box);
+	}
+	return env->NewLocalRef(cached);
+}
+
 jshort TypeConverter::jsNumberToJavaShort(Local<Number> jsNumber)
 {
 	return ((jshort) jsNumber->Value());
@@ -607,6 +642,51 @@ Local<ArrayBuffer> TypeConverter::javaByteArrayToJsArrayBuffer(Isolate* isolate,
 	return jsArray;
 }
 
+// Deleter for array buffers backed by a direct java.nio.ByteBuffer.
+// May be invoked on a V8 background thread, so attach to the VM if needed.
+static void releaseJavaByteBuffer(void* data, size_t length, void* deleterData)
+{
+	JNIEnv *env = JNIUtil::getJNIEnv();
+	bool attached = false;
+	if (env == NULL) {
+		if (JNIUtil::javaVm->AttachCurrentThread(&env, NULL) != JNI_OK) {
+			LOGE(TAG, "Unable to attach thread to release direct ByteBuffer");
+			return;
+		}
+		attached = true;
+	}
+	env->DeleteGlobalRef((jobject) deleterData);
+	if (attached) {
+		JNIUtil::javaVm->DetachCurrentThread();
+	}
+}
+
+Local<ArrayBuffer> TypeConverter::javaByteBufferToJsArrayBuffer(Isolate* isolate, jobject javaByteBuffer)
+{
+	JNIEnv *env = JNIScope::getEnv();
+	if (env == NULL) {
+		return Local<ArrayBuffer>();
+	}
+	return TypeConverter::javaByteBufferToJsArrayBuffer(isolate, env, javaByteBuffer);
+}
+
+// Wraps the memory of a direct ByteBuffer without copying. The ByteBuffer is kept alive
+// by a global reference until V8 frees the backing store.
+Local<ArrayBuffer> TypeConverter::javaByteBufferToJsArrayBuffer(Isolate* isolate, JNIEnv *env, jobject javaByteBuffer)
+{
+	void* data = env->GetDirectBufferAddress(javaByteBuffer);
+	jlong byteCount = env->GetDirectBufferCapacity(javaByteBuffer);
+	if (data == NULL || byteCount < 0) {
+		LOGW(TAG, "ByteBuffer is not direct, returning empty ArrayBuffer.");
+		return ArrayBuffer::New(isolate, 0);
+	}
+
+	jobject globalByteBuffer = env->NewGlobalRef(javaByteBuffer);
+	std::shared_ptr<BackingStore> backingStore = ArrayBuffer::NewBackingStore(
+		data, (size_t) byteCount, releaseJavaByteBuffer, globalByteBuffer);
+	return ArrayBuffer::New(isolate, std::move(backingStore));
+}
+
 jlongArray TypeConverter::jsArrayToJavaLongArray(Isolate* isolate, Local<Array> jsArray)
 {
 	JNIEnv *env = JNIScope::getEnv();
@@ -800,7 +880,7 @@ jobject TypeConverter::jsValueToJavaObject(Isolate* isolate, JNIEnv *env, Local<
 		Local<Number> number = jsValue.As<Number>();
 		if (jsValue->IsInt32()) {
 			jint javaInt = TypeConverter::jsNumberToJavaInt(number);
-			return env->NewObject(JNIUtil::integerClass, JNIUtil::integerInitMethod, javaInt);
+			return TypeConverter::javaIntegerObject(env, javaInt);
 		}
 		jdouble javaDouble = TypeConverter::jsNumberToJavaDouble(number);
 		return env->NewObject(JNIUtil::doubleClass, JNIUtil::doubleInitMethod, javaDouble);
@@ -808,7 +888,7 @@ jobject TypeConverter::jsValueToJavaObject(Isolate* isolate, JNIEnv *env, Local<
 	} else if (jsValue->IsBoolean()) {
 		jboolean javaBoolean = TypeConverter::jsBooleanToJavaBoolean(jsValue.As<Boolean>());
 		*isNew = true;
-		return env->NewObject(JNIUtil::booleanClass, JNIUtil::booleanInitMethod, javaBoolean);
+		return TypeConverter::javaBooleanObject(env, javaBoolean);
 
 	} else if (jsValue->IsString()) {
 		*isNew = true;
@@ -951,6 +1031,57 @@ jobject TypeConverter::jsObjectToJavaKrollDict(Isolate* isolate, JNIEnv *env, Lo
 }
 
 
+// wraps js object in a KrollLazyDict, only its keys are converted here
+jobject TypeConverter::jsObjectToJavaLazyDict(Isolate* isolate, JNIEnv *env, Local<Value> jsValue, bool *isNew)
+{
+	if (!jsValue->IsObject() || jsValue->IsArray() || jsValue->IsFunction()) {
+		return TypeConverter::jsObjectToJavaKrollDict(isolate, env, jsValue, isNew);
+	}
+
+	Local<Context> context = isolate->GetCurrentContext();
+	Local<Object> jsObject = jsValue.As<Object>();
+	Local<Array> objectKeys;
+	if (!jsObject->GetOwnPropertyNames(context).ToLocal(&objectKeys)) {
+		return TypeConverter::jsObjectToJavaKrollDict(isolate, env, jsValue, isNew);
+	}
+	jobjectArray javaKeys = TypeConverter::jsArrayToJavaStringArray(isolate, env, objectKeys);
+	if (javaKeys == NULL) {
+		return NULL;
+	}
+
+	int64_t index = lazyObjectIndex++;
+	Persistent<Object, CopyablePersistentTraits<Object>> persistent(isolate, jsObject);
+	lazyObjects[index] = persistent;
+
+	jobject javaLazyDict = env->CallStaticObjectMethod(JNIUtil::v8LazyObjectClass, JNIUtil::v8LazyObjectCreateDictMethod,
+		(jlong) index, javaKeys);
+	env->DeleteLocalRef(javaKeys);
+	*isNew = true;
+	return javaLazyDict;
+}
+
+// called by generated bindings once the method a KrollLazyDict was passed to returned
+void TypeConverter::detachLazyDict(JNIEnv *env, jobject javaLazyDict)
+{
+	if (!javaLazyDict) {
+		return;
+	}
+
+	// the method may have thrown, keep its exception pending for the caller
+	jthrowable exception = env->ExceptionOccurred();
+	if (exception) {
+		env->ExceptionClear();
+	}
+	if (env->IsInstanceOf(javaLazyDict, JNIUtil::krollLazyDictClass)) {
+		env->CallVoidMethod(javaLazyDict, JNIUtil::krollLazyDictDetachMethod);
+		env->ExceptionClear();
+	}
+	if (exception) {
+		env->Throw(exception);
+		env->DeleteLocalRef(exception);
+	}
+}
+
 // converts js value to java error
 jobject TypeConverter::jsValueToJavaError(Isolate* isolate, Local<Value> jsValue, bool* isNew)
 {
@@ -1103,6 +1234,9 @@ Local<Value> TypeConverter::javaObjectToJsValue(Isolate* isolate, JNIEnv *env, j
 	} else if (env->IsInstanceOf(javaObject, JNIUtil::byteArrayClass)) {
 		return javaByteArrayToJsArrayBuffer(isolate, (jbyteArray) javaObject);
 
+	} else if (env->IsInstanceOf(javaObject, JNIUtil::byteBufferClass)) {
+		return javaByteBufferToJsArrayBuffer(isolate, env, javaObject);
+
 	} else if (env->IsInstanceOf(javaObject, JNIUtil::shortArrayClass)) {
 		return javaArrayToJsArray(isolate, (jshortArray) javaObject);
 
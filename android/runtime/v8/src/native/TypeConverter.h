@@ -28,6 +28,15 @@ public:
 	// The incrementing key to store the persistent functions
 	static int64_t resolverIndex;
 
+	// Our global map of "pointers" to the JS objects backing KrollLazyDict instances
+	static std::map<int64_t, v8::Persistent<v8::Object, v8::CopyablePersistentTraits<v8::Object>>> lazyObjects;
+	// The incrementing key to store the lazy objects
+	static int64_t lazyObjectIndex;
+
+	// boxes primitives, reusing the boxes Java caches for small integers and booleans
+	static jobject javaIntegerObject(JNIEnv *env, jint value);
+	static jobject javaBooleanObject(JNIEnv *env, jboolean value);
+
 	// short convert methods
 	static jshort jsNumberToJavaShort(v8::Local<v8::Number> jsNumber);
 	static v8::Local<v8::Number> javaShortToJsNumber(v8::Isolate* isolate, jshort javaShort);
@@ -154,6 +163,7 @@ public:
 	static jshortArray jsArrayToJavaShortArray(v8::Isolate* isolate, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, jshortArray javaShortArray);
 	static v8::Local<v8::ArrayBuffer> javaByteArrayToJsArrayBuffer(v8::Isolate* isolate, jbyteArray javaByteArray);
+	static v8::Local<v8::ArrayBuffer> javaByteBufferToJsArrayBuffer(v8::Isolate* isolate, jobject javaByteBuffer);
 	static jintArray jsArrayToJavaIntArray(v8::Isolate* isolate, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, jintArray javaIntArray);
 	static jlongArray jsArrayToJavaLongArray(v8::Isolate* isolate, v8::Local<v8::Array> jsArray);
@@ -168,6 +178,7 @@ public:
 	static jobjectArray jsArrayToJavaStringArray(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, JNIEnv *env, jbooleanArray javaBooleanArray);
 	static v8::Local<v8::ArrayBuffer> javaByteArrayToJsArrayBuffer(v8::Isolate* isolate, JNIEnv *env, jbyteArray javaByteArray);
+	static v8::Local<v8::ArrayBuffer> javaByteBufferToJsArrayBuffer(v8::Isolate* isolate, JNIEnv *env, jobject javaByteBuffer);
 	static jshortArray jsArrayToJavaShortArray(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Array> jsArray);
 	static v8::Local<v8::Array> javaArrayToJsArray(v8::Isolate* isolate, JNIEnv *env, jshortArray javaShortArray);
 	static jintArray jsArrayToJavaIntArray(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Array> jsArray);
@@ -205,6 +216,10 @@ public:
 	static v8::Local<v8::Value> javaObjectToJsValue(v8::Isolate* isolate, JNIEnv *env, jobject javaObject);
 	static jobject jsObjectToJavaKrollDict(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Value> jsValue, bool *isNew);
 
+	// lazy dict convert methods, values are converted when read from Java
+	static jobject jsObjectToJavaLazyDict(v8::Isolate* isolate, JNIEnv *env, v8::Local<v8::Value> jsValue, bool *isNew);
+	static void detachLazyDict(JNIEnv *env, jobject javaLazyDict);
+
 	// Convert a JS object's indexed properties to a Java object array.
 	// Starts at index zero and continues until length is reached.
 	static jobjectArray jsObjectIndexPropsToJavaArray(v8::Isolate* isolate, v8::Local<v8::Object> jsObject, int start, int length);
@@ -224,6 +239,42 @@ private:
 	static v8::Local<v8::Array> javaShortArrayToJsNumberArray(v8::Isolate* isolate, JNIEnv *env, jshortArray javaShortArray);
 
 };
+
+// Runs a TypeConverter cleanup method, such as detachLazyDict(), on a converted method argument.
+// Generated bindings run it once the Java method returned, otherwise it runs when they return early.
+class ArgumentCleanup
+{
+public:
+	typedef void (*CleanupMethod)(JNIEnv *env, jobject javaObject);
+
+	ArgumentCleanup(JNIEnv *env, CleanupMethod method)
+		: env(env), method(method), javaObject(NULL)
+	{
+	}
+
+	~ArgumentCleanup()
+	{
+		run();
+	}
+
+	void set(jobject javaObject)
+	{
+		this->javaObject = javaObject;
+	}
+
+	void run()
+	{
+		if (javaObject) {
+			method(env, javaObject);
+			javaObject = NULL;
+		}
+	}
+
+private:
+	JNIEnv *env;
+	CleanupMethod method;
+	jobject javaObject;
+};
 }
 
 #endif
@@ -0,0 +1,92 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+
+#include <jni.h>
+#include <v8.h>
+
+#include "JNIUtil.h"
+#include "Proxy.h"
+#include "TypeConverter.h"
+#include "V8Runtime.h"
+#include "V8Util.h"
+
+#define TAG "V8CallbackQueue"
+
+using namespace titanium;
+using namespace v8;
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8CallbackQueue
+ * Method:    nativeInvokeAll
+ * Signature: ([Lorg/appcelerator/kroll/runtime/v8/V8Object;[Lorg/appcelerator/kroll/runtime/v8/V8Function;[[Ljava/lang/Object;I)V
+ *
+ * Calls every queued function in order, entering the isolate once for the whole batch.
+ * An exception thrown by one callback is reported and does not stop the remaining ones.
+ * Pointers are read right before each call, since a callback can release the proxy or function of a later one.
+ */
+JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8CallbackQueue_nativeInvokeAll(
+	JNIEnv *env, jclass clazz, jobjectArray thisObjects, jobjectArray functions, jobjectArray functionArguments, jint count)
+{
+	Isolate* isolate = V8Runtime::v8_isolate;
+	HandleScope scope(isolate);
+	titanium::JNIScope jniScope(env);
+	Local<Context> context = isolate->GetCurrentContext();
+
+	for (jint i = 0; i < count; i++) {
+		// Each call gets its own scope, so a large batch does not pile up handles.
+		HandleScope callScope(isolate);
+		jobjectArray javaArguments = (jobjectArray) env->GetObjectArrayElement(functionArguments, i);
+
+		jobject javaThis = env->GetObjectArrayElement(thisObjects, i);
+		jobject javaFunction = env->GetObjectArrayElement(functions, i);
+		jlong thisPointer = env->GetLongField(javaThis, JNIUtil::v8ObjectPtrField);
+		jlong functionPointer = env->GetLongField(javaFunction, JNIUtil::v8ObjectPtrField);
+		env->DeleteLocalRef(javaThis);
+		env->DeleteLocalRef(javaFunction);
+
+		if (thisPointer == 0) {
+			LOGE(TAG, "!!!Received a bad pointer to the Proxy for 'this'. Proxy may have been destroyed already. Skipping call.");
+			env->DeleteLocalRef(javaArguments);
+			continue;
+		}
+		auto it = TypeConverter::functions.find(functionPointer);
+		if (it == TypeConverter::functions.end()) {
+			LOGE(TAG, "!!!Received a bad 'pointer' to the V8Function, unable to find an entry for it. Skipping call.");
+			env->DeleteLocalRef(javaArguments);
+			continue;
+		}
+
+		titanium::Proxy* proxy = (titanium::Proxy*) thisPointer;
+		Local<Object> thisObject = proxy->handle(isolate);
+		Local<Function> jsFunction = it->second.Get(isolate);
+
+		int length = 0;
+		Local<Value>* jsFunctionArguments = NULL;
+		if (javaArguments) {
+			jsFunctionArguments = TypeConverter::javaObjectArrayToJsArguments(isolate, env, javaArguments, &length);
+			env->DeleteLocalRef(javaArguments);
+		}
+
+		TryCatch tryCatch(isolate);
+		MaybeLocal<Value> result = jsFunction->Call(context, thisObject, length, jsFunctionArguments);
+		if (jsFunctionArguments) {
+			delete[] jsFunctionArguments;
+		}
+		if (tryCatch.HasCaught()) {
+			V8Util::openJSErrorDialog(isolate, tryCatch);
+			V8Util::reportException(isolate, tryCatch);
+		}
+	}
+}
+
+#ifdef __cplusplus
+}
+#endif
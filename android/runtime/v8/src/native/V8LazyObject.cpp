@@ -0,0 +1,120 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+
+#include <jni.h>
+#include <v8.h>
+
+#include "JNIUtil.h"
+#include "TypeConverter.h"
+#include "V8Runtime.h"
+#include "V8Util.h"
+
+#define TAG "V8LazyObject"
+
+using namespace titanium;
+using namespace v8;
+
+static bool getLazyObject(jlong pointer, Local<Object> *jsObject)
+{
+	auto it = TypeConverter::lazyObjects.find(pointer);
+	if (it == TypeConverter::lazyObjects.end()) {
+		LOGE(TAG, "!!!Received a bad 'pointer' to a lazy object, unable to find an entry for it.");
+		return false;
+	}
+	*jsObject = it->second.Get(V8Runtime::v8_isolate);
+	return true;
+}
+
+static jobject getJavaValue(JNIEnv *env, Local<Context> context, Local<Object> jsObject, jstring javaKey, bool *isNew)
+{
+	*isNew = false;
+	Local<Value> jsKey = TypeConverter::javaStringToJsString(V8Runtime::v8_isolate, env, javaKey);
+	TryCatch tryCatch(V8Runtime::v8_isolate);
+	Local<Value> jsValue;
+	if (!jsObject->Get(context, jsKey).ToLocal(&jsValue)) {
+		V8Util::reportException(V8Runtime::v8_isolate, tryCatch);
+		return NULL;
+	}
+
+	return TypeConverter::jsValueToJavaObject(V8Runtime::v8_isolate, env, jsValue, isNew);
+}
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8LazyObject
+ * Method:    nativeGet
+ * Signature: (JLjava/lang/String;)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_org_appcelerator_kroll_runtime_v8_V8LazyObject_nativeGet(
+	JNIEnv *env, jclass clazz, jlong pointer, jstring key)
+{
+	HandleScope scope(V8Runtime::v8_isolate);
+	titanium::JNIScope jniScope(env);
+
+	Local<Object> jsObject;
+	if (!getLazyObject(pointer, &jsObject)) {
+		return NULL;
+	}
+	bool isNew;
+	return getJavaValue(env, V8Runtime::v8_isolate->GetCurrentContext(), jsObject, key, &isNew);
+}
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8LazyObject
+ * Method:    nativeGetAll
+ * Signature: (J[Ljava/lang/String;)[Ljava/lang/Object;
+ *
+ * Converts the values of several keys in one call, used when a lazy dictionary is iterated.
+ */
+JNIEXPORT jobjectArray JNICALL Java_org_appcelerator_kroll_runtime_v8_V8LazyObject_nativeGetAll(
+	JNIEnv *env, jclass clazz, jlong pointer, jobjectArray keys)
+{
+	HandleScope scope(V8Runtime::v8_isolate);
+	titanium::JNIScope jniScope(env);
+
+	Local<Object> jsObject;
+	if (!getLazyObject(pointer, &jsObject)) {
+		return NULL;
+	}
+
+	Local<Context> context = V8Runtime::v8_isolate->GetCurrentContext();
+	int length = env->GetArrayLength(keys);
+	jobjectArray javaValues = env->NewObjectArray(length, JNIUtil::objectClass, NULL);
+	for (int index = 0; index < length; index++) {
+		jstring javaKey = (jstring) env->GetObjectArrayElement(keys, index);
+		bool isNew;
+		jobject javaValue = getJavaValue(env, context, jsObject, javaKey, &isNew);
+		env->SetObjectArrayElement(javaValues, index, javaValue);
+		env->DeleteLocalRef(javaKey);
+		if (isNew) {
+			env->DeleteLocalRef(javaValue);
+		}
+	}
+	return javaValues;
+}
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8LazyObject
+ * Method:    nativeRelease
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8LazyObject_nativeRelease(
+	JNIEnv *env, jclass clazz, jlong pointer)
+{
+	auto it = TypeConverter::lazyObjects.find(pointer);
+	if (it != TypeConverter::lazyObjects.end()) {
+		it->second.Reset();
+		TypeConverter::lazyObjects.erase(it);
+	}
+}
+
+#ifdef __cplusplus
+}
+#endif
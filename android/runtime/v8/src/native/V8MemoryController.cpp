@@ -0,0 +1,58 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+
+#include <jni.h>
+#include <v8.h>
+
+#include "V8Runtime.h"
+
+using namespace titanium;
+using namespace v8;
+
+#ifdef __cplusplus
+extern "C" {
+#endif
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8MemoryController
+ * Method:    nativeAdjustExternalMemory
+ * Signature: (J)J
+ *
+ * Tells V8 how much Java memory its objects keep alive, so it is considered when scheduling collections.
+ */
+JNIEXPORT jlong JNICALL Java_org_appcelerator_kroll_runtime_v8_V8MemoryController_nativeAdjustExternalMemory(
+	JNIEnv *env, jclass clazz, jlong delta)
+{
+	return (jlong) V8Runtime::v8_isolate->AdjustAmountOfExternalAllocatedMemory((int64_t) delta);
+}
+
+/*
+ * Class:     org_appcelerator_kroll_runtime_v8_V8MemoryController
+ * Method:    nativeGetHeapStatistics
+ * Signature: ()[J
+ *
+ * Returns the used heap size, heap size limit and external memory in bytes.
+ */
+JNIEXPORT jlongArray JNICALL Java_org_appcelerator_kroll_runtime_v8_V8MemoryController_nativeGetHeapStatistics(
+	JNIEnv *env, jclass clazz)
+{
+	HeapStatistics statistics;
+	V8Runtime::v8_isolate->GetHeapStatistics(&statistics);
+
+	jlong values[3] = {
+		(jlong) statistics.used_heap_size(),
+		(jlong) statistics.heap_size_limit(),
+		(jlong) statistics.external_memory()
+	};
+	jlongArray result = env->NewLongArray(3);
+	env->SetLongArrayRegion(result, 0, 3, values);
+	return result;
+}
+
+#ifdef __cplusplus
+}
+#endif
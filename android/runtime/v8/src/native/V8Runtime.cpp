@@ -11,6 +11,7 @@
 #include <libplatform/libplatform.h>
 
 #include "AndroidUtil.h"
+#include "CodeCache.h"
 #include "EventEmitter.h"
 #include "Proxy.h"
 #include "JNIUtil.h"
@@ -433,6 +434,45 @@ JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeAd
 	env->ReleaseStringUTFChars(moduleName, mName);
 }
 
+/*
+ * Called by V8Runtime.java to enable the code cache for application scripts.
+ * An empty directory disables it.
+ */
+JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeSetCodeCacheDirectory
+	(JNIEnv *env, jobject self, jstring directory)
+{
+	if (!directory) {
+		CodeCache::setDirectory("");
+		return;
+	}
+	const char* path = env->GetStringUTFChars(directory, NULL);
+	CodeCache::setDirectory(path);
+	env->ReleaseStringUTFChars(directory, path);
+}
+
+JNIEXPORT jint JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeFlushCodeCache(JNIEnv *env, jobject self)
+{
+	return CodeCache::flush(V8Runtime::v8_isolate);
+}
+
+JNIEXPORT jlongArray JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeGetCodeCacheStats(JNIEnv *env, jobject self)
+{
+	if (!CodeCache::isEnabled()) {
+		return nullptr;
+	}
+
+	int64_t stats[6];
+	CodeCache::getStats(stats);
+
+	jlong values[6];
+	for (int i = 0; i < 6; i++) {
+		values[i] = (jlong) stats[i];
+	}
+	jlongArray result = env->NewLongArray(6);
+	env->SetLongArrayRegion(result, 0, 6, values);
+	return result;
+}
+
 // This method disposes of all native resources used by V8 when
 // all activities have been destroyed by the application.
 //
@@ -462,6 +502,7 @@ JNIEXPORT void JNICALL Java_org_appcelerator_kroll_runtime_v8_V8Runtime_nativeDi
 	}
 
 	// Dispose of each class' static cache / resources
+	CodeCache::dispose();
 	V8Util::dispose();
 	ProxyFactory::dispose();
 
@@ -8,6 +8,7 @@
 #include <jni.h>
 
 #include "AndroidUtil.h"
+#include "CodeCache.h"
 #include "NativeObject.h"
 #include "ScriptsModule.h"
 #include "V8Runtime.h"
@@ -277,8 +278,14 @@ void WrappedScript::EvalMachine(const FunctionCallbackInfo<Value>& args)
 	if (input_flag == compileCode) {
 		// well, here WrappedScript::New would suffice in all cases, but maybe
 		// Compile has a little better performance where possible
-		ScriptOrigin origin(filename);
-		MaybeLocal<Script> maybeScript = Script::Compile(contextToUse, code, &origin);
+		// Application modules are run in this context, those go through the persistent code cache.
+		MaybeLocal<Script> maybeScript;
+		if (context_flag == thisContext && args.Length() > filename_index) {
+			maybeScript = CodeCache::compile(isolate, contextToUse, code, filename);
+		} else {
+			ScriptOrigin origin(filename);
+			maybeScript = Script::Compile(contextToUse, code, &origin);
+		}
 		if (maybeScript.IsEmpty()) {
 			// Hack because I can't get a proper stacktrace on SyntaxError
 			args.GetReturnValue().Set(v8::Undefined(isolate));
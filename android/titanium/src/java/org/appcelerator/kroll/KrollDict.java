@@ -179,6 +179,19 @@ public class KrollDict extends HashMap<String, Object>
 		return TiConvert.toDouble(get(key));
 	}
 
+	public Double optDouble(String key, Double defaultValue)
+	{
+		Double result = defaultValue;
+
+		if (containsKey(key)) {
+			try {
+				result = getDouble(key);
+			} catch (Exception e) {
+			}
+		}
+		return result;
+	}
+
 	public String[] getStringArray(String key)
 	{
 		return TiConvert.toStringArray((Object[]) get(key));
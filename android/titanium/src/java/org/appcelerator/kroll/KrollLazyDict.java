@@ -0,0 +1,283 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.kroll;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link KrollDict} view of a JavaScript object whose values are converted when first read.
+ * <p>
+ * Only the object's keys are fetched up front. Reading a key converts just that value, while iterating,
+ * copying or comparing the dictionary converts all remaining values in a single call. Passing a large
+ * options object to a method that reads a few of its keys therefore only pays for those keys.
+ * <p>
+ * Methods opt in by declaring a <code>KrollLazyDict</code> parameter instead of a <code>KrollDict</code>.
+ * The view is only backed by the JavaScript object until the method returns, after which keys that were
+ * not read are dropped. A method keeping the dictionary for later must call {@link #resolveAll()} or copy
+ * it first. Like the JavaScript object itself, it must only be read on the runtime thread until then.
+ */
+public class KrollLazyDict extends KrollDict
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Converts the values of the JavaScript object backing a lazy dictionary. Implemented by the runtime.
+	 */
+	public interface Source {
+		Object get(String key);
+
+		Object[] getAll(String[] keys);
+
+		void release();
+	}
+
+	private transient Source source;
+	private final HashSet<String> pendingKeys;
+
+	public KrollLazyDict(String[] keys, Source source)
+	{
+		super(keys.length);
+		this.pendingKeys = new HashSet<>(Arrays.asList(keys));
+		this.source = source;
+		if (this.pendingKeys.isEmpty()) {
+			releaseSource();
+		}
+	}
+
+	private void resolve(Object key)
+	{
+		if (!this.pendingKeys.isEmpty() && this.pendingKeys.remove(key)) {
+			String name = (String) key;
+			super.put(name, this.source.get(name));
+			if (this.pendingKeys.isEmpty()) {
+				releaseSource();
+			}
+		}
+	}
+
+	/**
+	 * Converts all values not read yet, so the dictionary no longer depends on the JavaScript object.
+	 */
+	public void resolveAll()
+	{
+		if (this.pendingKeys.isEmpty()) {
+			return;
+		}
+		String[] keys = this.pendingKeys.toArray(new String[0]);
+		Object[] values = this.source.getAll(keys);
+		this.pendingKeys.clear();
+		for (int index = 0; index < keys.length; index++) {
+			super.put(keys[index], (values != null) ? values[index] : null);
+		}
+		releaseSource();
+	}
+
+	/**
+	 * Called once the method the dictionary was passed to returned. Drops the keys that were not read.
+	 */
+	public void detach()
+	{
+		this.pendingKeys.clear();
+		releaseSource();
+	}
+
+	/**
+	 * @return number of keys whose values have not been converted yet.
+	 */
+	public int getPendingCount()
+	{
+		return this.pendingKeys.size();
+	}
+
+	private void releaseSource()
+	{
+		if (this.source != null) {
+			this.source.release();
+			this.source = null;
+		}
+	}
+
+	@Override
+	public Object get(Object key)
+	{
+		resolve(key);
+		return super.get(key);
+	}
+
+	@Override
+	public Object getOrDefault(Object key, Object defaultValue)
+	{
+		resolve(key);
+		return super.getOrDefault(key, defaultValue);
+	}
+
+	@Override
+	public boolean containsKey(Object key)
+	{
+		return this.pendingKeys.contains(key) || super.containsKey(key);
+	}
+
+	@Override
+	public int size()
+	{
+		return super.size() + this.pendingKeys.size();
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return size() == 0;
+	}
+
+	@Override
+	public Object put(String key, Object value)
+	{
+		this.pendingKeys.remove(key);
+		return super.put(key, value);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ?> map)
+	{
+		for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	@Override
+	public Object putIfAbsent(String key, Object value)
+	{
+		resolve(key);
+		return super.putIfAbsent(key, value);
+	}
+
+	@Override
+	public Object remove(Object key)
+	{
+		resolve(key);
+		return super.remove(key);
+	}
+
+	@Override
+	public void clear()
+	{
+		detach();
+		super.clear();
+	}
+
+	@Override
+	public boolean containsValue(Object value)
+	{
+		resolveAll();
+		return super.containsValue(value);
+	}
+
+	@Override
+	public Set<String> keySet()
+	{
+		resolveAll();
+		return super.keySet();
+	}
+
+	@Override
+	public Collection<Object> values()
+	{
+		resolveAll();
+		return super.values();
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet()
+	{
+		resolveAll();
+		return super.entrySet();
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> action)
+	{
+		resolveAll();
+		super.forEach(action);
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super String, ? super Object, ?> function)
+	{
+		resolveAll();
+		super.replaceAll(function);
+	}
+
+	@Override
+	public Object compute(String key, BiFunction<? super String, ? super Object, ?> function)
+	{
+		resolve(key);
+		return super.compute(key, function);
+	}
+
+	@Override
+	public Object computeIfAbsent(String key, Function<? super String, ?> function)
+	{
+		resolve(key);
+		return super.computeIfAbsent(key, function);
+	}
+
+	@Override
+	public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> function)
+	{
+		resolve(key);
+		return super.computeIfPresent(key, function);
+	}
+
+	@Override
+	public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> function)
+	{
+		resolve(key);
+		return super.merge(key, value, function);
+	}
+
+	@Override
+	public Object replace(String key, Object value)
+	{
+		resolve(key);
+		return super.replace(key, value);
+	}
+
+	@Override
+	public boolean replace(String key, Object oldValue, Object newValue)
+	{
+		resolve(key);
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public Object clone()
+	{
+		resolveAll();
+		return new KrollDict(this);
+	}
+
+	@Override
+	public boolean equals(Object other)
+	{
+		resolveAll();
+		return super.equals(other);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		resolveAll();
+		return super.hashCode();
+	}
+}
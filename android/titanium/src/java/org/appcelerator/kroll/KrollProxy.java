@@ -10,6 +10,7 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -85,6 +86,8 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 
 	private KrollDict langConversionTable = null;
 	private boolean bubbleParent = true;
+	private boolean deferredKrollObject = false; // Read by native code (ProxyFactory::createV8Proxy).
+	private HashSet<String> deferredListenerEvents;
 
 	public static final String PROXY_ID_PREFIX = "proxy$";
 	public static final int INVALID_EVENT_LISTENER_ID = -1;
@@ -479,6 +482,56 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		return krollObject;
 	}
 
+	/**
+	 * Defers creating the JavaScript object of a proxy created from Java until it is passed to JavaScript
+	 * or {@link #getKrollObject()} is called. Until then, properties are only set on the Java side and
+	 * are copied to the JavaScript object once it is created.
+	 * <p>
+	 * Meant for proxies created in bulk which JavaScript may never access, such as the views of ListView
+	 * items generated from templates. Has no effect once the JavaScript object exists.
+	 */
+	public void deferKrollObject()
+	{
+		if (krollObject == null) {
+			deferredKrollObject = true;
+		}
+	}
+
+	/**
+	 * @return whether the JavaScript object of this proxy has been created.
+	 */
+	public boolean hasKrollObject()
+	{
+		return krollObject != null;
+	}
+
+	private boolean isKrollObjectDeferred()
+	{
+		return deferredKrollObject && krollObject == null;
+	}
+
+	// Called from native code once the JavaScript object of a deferred proxy has been created.
+	protected void onKrollObjectCreated()
+	{
+		deferredKrollObject = false;
+
+		final KrollObject krollObject = this.krollObject;
+		if (krollObject == null) {
+			return;
+		}
+		if (properties != null) {
+			for (Map.Entry<String, Object> entry : properties.entrySet()) {
+				krollObject.setProperty(entry.getKey(), entry.getValue());
+			}
+		}
+		if (deferredListenerEvents != null) {
+			for (String event : deferredListenerEvents) {
+				krollObject.setHasListenersForEventType(event, true);
+			}
+			deferredListenerEvents = null;
+		}
+	}
+
 	public void initKrollObject()
 	{
 		if (!KrollRuntime.isDisposed()) {
@@ -751,6 +804,11 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 
 	protected void doSetProperty(String name, Object value)
 	{
+		// Copied to the JavaScript object by onKrollObjectCreated() instead.
+		if (isKrollObjectDeferred()) {
+			return;
+		}
+
 		final KrollObject krollObject = getKrollObject();
 		if (krollObject == null) {
 			return;
@@ -869,8 +927,11 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public boolean doFireEvent(String event, Object data)
 	{
+		if (!hierarchyHasListener(event) || eventListeners == null) {
+			return false;
+		}
 		final KrollObject krollObject = getKrollObject();
-		if (krollObject == null || !hierarchyHasListener(event) || eventListeners == null) {
+		if (krollObject == null) {
 			return false;
 		}
 
@@ -1011,6 +1072,11 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 	 */
 	public boolean hasListeners(String event)
 	{
+		// JavaScript cannot have added listeners to a proxy it has not seen yet.
+		if (isKrollObjectDeferred()) {
+			return deferredListenerEvents != null && deferredListenerEvents.contains(event);
+		}
+
 		final KrollObject krollObject = getKrollObject();
 		if (krollObject == null) {
 			return false;
@@ -1018,6 +1084,27 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 		return krollObject.hasListeners(event);
 	}
 
+	/**
+	 * Flags the passed in event as having listeners, such as callbacks added on behalf of JavaScript with
+	 * {@link #addEventListener(String, KrollEventCallback)}. Does not create a deferred JavaScript object.
+	 * @param event the event to flag.
+	 */
+	public void setHasListenersForEventType(String event)
+	{
+		if (isKrollObjectDeferred()) {
+			if (deferredListenerEvents == null) {
+				deferredListenerEvents = new HashSet<>();
+			}
+			deferredListenerEvents.add(event);
+			return;
+		}
+
+		final KrollObject krollObject = getKrollObject();
+		if (krollObject != null) {
+			krollObject.setHasListenersForEventType(event, true);
+		}
+	}
+
 	/**
 	 * Returns true if any view in the hierarchy has the event listener.
 	 */
@@ -1426,6 +1513,7 @@ public class KrollProxy implements Handler.Callback, KrollProxySupport, OnLifecy
 			krollObject.release();
 			krollObject = null;
 		}
+		deferredListenerEvents = null;
 	}
 
 	/**
@@ -92,6 +92,7 @@ public abstract class TiApplication extends Application implements KrollApplicat
 	private final TiWeakList<KrollProxy> appEventProxies = new TiWeakList<>();
 	private WeakReference<TiRootActivity> rootActivity;
 	private TiProperties appProperties;
+	private boolean appPropertiesLoaded = false;
 	private WeakReference<Activity> currentActivity;
 	private String density;
 	private String defaultUnit;
@@ -332,6 +333,12 @@ public abstract class TiApplication extends Application implements KrollApplicat
 	@Override
 	public void loadAppProperties()
 	{
+		// Already loaded by onCreate(), the properties select the store of the app properties.
+		if (appPropertiesLoaded) {
+			return;
+		}
+		appPropertiesLoaded = true;
+
 		// Load the JSON file:
 		String appPropertiesString = KrollAssetHelper.readAsset("Resources/_app_props_.json");
 		if (appPropertiesString != null) {
@@ -385,6 +392,8 @@ public abstract class TiApplication extends Application implements KrollApplicat
 			}
 		});
 
+		KrollAssetHelper.init(this);
+		loadAppProperties();
 		appProperties = new TiProperties(getApplicationContext(), APPLICATION_PREFERENCES_NAME, false);
 
 		File fullPath = new File(TiC.URL_ANDROID_ASSET_RESOURCES, "app.js");
@@ -21,6 +21,7 @@ import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollExternalMemory;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.KrollRuntime;
 import org.appcelerator.kroll.annotations.Kroll;
@@ -61,6 +62,9 @@ public class TiBlob extends KrollProxy
 	private int uprightHeight;
 	private Object rotation;
 
+	// Reports the memory held by "data" and "image" to the JavaScript runtime.
+	private KrollExternalMemory externalMemory;
+
 	// This handles the memory cache of images.
 	private final TiBlobLruCache mMemoryCache = TiBlobLruCache.getInstance();
 
@@ -76,6 +80,19 @@ public class TiBlob extends KrollProxy
 		this.uprightWidth = 0;
 		this.uprightHeight = 0;
 		this.rotation = KrollRuntime.UNDEFINED;
+		updateExternalMemory();
+	}
+
+	private void updateExternalMemory()
+	{
+		long bytes = 0;
+		if (this.data instanceof byte[]) {
+			bytes += ((byte[]) this.data).length;
+		}
+		if (this.image != null) {
+			bytes += this.image.getAllocationByteCount();
+		}
+		this.externalMemory = KrollExternalMemory.update(this.externalMemory, this, bytes);
 	}
 
 	/**
@@ -144,6 +161,7 @@ public class TiBlob extends KrollProxy
 		blob.height = image.getHeight();
 		blob.uprightWidth = blob.width;
 		blob.uprightHeight = blob.height;
+		blob.updateExternalMemory();
 		return blob;
 	}
 
@@ -351,6 +369,7 @@ public class TiBlob extends KrollProxy
 			default:
 				throw new IllegalArgumentException("Unknown Blob type id " + type);
 		}
+		updateExternalMemory();
 	}
 
 	@Kroll.getProperty
@@ -1097,6 +1116,10 @@ public class TiBlob extends KrollProxy
 		if (image != null) {
 			image = null;
 		}
+		if (externalMemory != null) {
+			externalMemory.release();
+			externalMemory = null;
+		}
 		super.release();
 	}
 
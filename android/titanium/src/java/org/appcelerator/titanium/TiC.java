@@ -87,6 +87,7 @@ public class TiC
 	public static final String EVENT_LOAD = "load";
 	public static final String EVENT_LOADSTATE = "loadstate";
 	public static final String EVENT_LOCATION = "location";
+	public static final String EVENT_LOCATIONS = "locations";
 	public static final String EVENT_LONGCLICK = "longclick";
 	public static final String EVENT_LONGPRESS = "longpress";
 	public static final String EVENT_MARKER = "marker";
@@ -406,6 +407,7 @@ public class TiC
 	public static final String PROPERTY_DELETE_INTENT = "deleteIntent";
 	public static final String PROPERTY_DEST = "dest";
 	public static final String PROPERTY_DEST_POSITION = "destPosition";
+	public static final String PROPERTY_DIRECT = "direct";
 	public static final String PROPERTY_DIRECTION = "direction";
 	public static final String PROPERTY_DISABLE_CONTEXT_MENU = "disableContextMenu";
 	public static final String PROPERTY_DISPLAY_ADDRESS = "displayAddress";
@@ -817,6 +819,7 @@ public class TiC
 	public static final String PROPERTY_URL = "url";
 	public static final String PROPERTY_USE_COMPAT_PADDING = "useCompatPadding";
 	public static final String PROPERTY_USE_SPINNER = "useSpinner";
+	public static final String PROPERTY_USE_TRANSFORMS = "useTransforms";
 	public static final String PROPERTY_USER_AGENT = "userAgent";
 	public static final String PROPERTY_USERNAME = "username";
 	public static final String PROPERTY_USER_LOCATION = "userLocation";
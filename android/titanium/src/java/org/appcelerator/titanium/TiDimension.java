@@ -128,27 +128,7 @@ public class TiDimension
 					if (unit == null) {
 						unit = TiApplication.getInstance().getDefaultUnit();
 					}
-					if (UNIT_PX.equals(unit) || UNIT_SYSTEM.equals(unit)) {
-						this.units = TypedValue.COMPLEX_UNIT_PX;
-					} else if (UNIT_PT.equals(unit)) {
-						this.units = TypedValue.COMPLEX_UNIT_PT;
-					} else if (UNIT_DP.equals(unit) || UNIT_DIP.equals(unit)) {
-						this.units = TypedValue.COMPLEX_UNIT_DIP;
-					} else if (UNIT_SP.equals(unit) || UNIT_SIP.equals(unit)) {
-						this.units = TypedValue.COMPLEX_UNIT_SP;
-					} else if (UNIT_PERCENT.equals(unit)) {
-						this.units = COMPLEX_UNIT_PERCENT;
-					} else if (UNIT_MM.equals(unit)) {
-						this.units = TypedValue.COMPLEX_UNIT_MM;
-					} else if (UNIT_CM.equals(unit)) {
-						this.units = COMPLEX_UNIT_CM;
-					} else if (UNIT_IN.equals(unit)) {
-						this.units = TypedValue.COMPLEX_UNIT_IN;
-					} else {
-						if (unit != null) {
-							Log.w(TAG, "Unknown unit: " + unit, Log.DEBUG_MODE);
-						}
-					}
+					this.units = toUnits(unit, this.units);
 				}
 			} else if (svalue.trim().equals(UNIT_AUTO)) {
 				this.value = Integer.MIN_VALUE;
@@ -157,6 +137,37 @@ public class TiDimension
 		}
 	}
 
+	/**
+	 * Converts a unit string such as "dp" or "%" to its TypedValue/TiDimension unit constant.
+	 * @param unit the unit string.
+	 * @param defaultUnits the units to return if the unit is not recognized.
+	 * @return the unit constant.
+	 */
+	public static int toUnits(String unit, int defaultUnits)
+	{
+		if (UNIT_PX.equals(unit) || UNIT_SYSTEM.equals(unit)) {
+			return TypedValue.COMPLEX_UNIT_PX;
+		} else if (UNIT_PT.equals(unit)) {
+			return TypedValue.COMPLEX_UNIT_PT;
+		} else if (UNIT_DP.equals(unit) || UNIT_DIP.equals(unit)) {
+			return TypedValue.COMPLEX_UNIT_DIP;
+		} else if (UNIT_SP.equals(unit) || UNIT_SIP.equals(unit)) {
+			return TypedValue.COMPLEX_UNIT_SP;
+		} else if (UNIT_PERCENT.equals(unit)) {
+			return COMPLEX_UNIT_PERCENT;
+		} else if (UNIT_MM.equals(unit)) {
+			return TypedValue.COMPLEX_UNIT_MM;
+		} else if (UNIT_CM.equals(unit)) {
+			return COMPLEX_UNIT_CM;
+		} else if (UNIT_IN.equals(unit)) {
+			return TypedValue.COMPLEX_UNIT_IN;
+		}
+		if (unit != null) {
+			Log.w(TAG, "Unknown unit: " + unit, Log.DEBUG_MODE);
+		}
+		return defaultUnits;
+	}
+
 	/**
 	 * @return the TiDimension's value.
 	 */
@@ -0,0 +1,929 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.util.TiStreamHelper;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Base64;
+
+/**
+ * A {@link SharedPreferences} implementation persisting to an append-only, memory-mapped log file.
+ * <p>
+ * Every change appends a checksummed record to the log, instead of rewriting the whole XML file like the
+ * platform's preferences do on every <code>apply()</code>. On load, records are replayed up to the first one
+ * that is incomplete or fails its checksum, so a write interrupted by a crash is discarded. Once the log holds
+ * considerably more data than the live values, it is compacted into a new file which atomically replaces it.
+ * Compaction runs on a background thread, records appended meanwhile are copied over before the swap.
+ * <p>
+ * Besides the standard preference types, byte arrays can be stored with {@link MappedEditor#putBytes(String, byte[])}.
+ * Values are kept in memory, so reads never touch the file.
+ */
+final class TiMappedPreferences implements SharedPreferences
+{
+	private static final String TAG = "TiMappedPreferences";
+
+	private static final String DIRECTORY_NAME = "ti_properties";
+	private static final String FILE_EXTENSION = ".kv";
+
+	private static final int MAGIC = 0x54494B56; // "TIKV"
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+	private static final int RECORD_OVERHEAD = 8; // length + checksum
+	private static final int INITIAL_CAPACITY = 64 * 1024;
+	private static final int COMPACT_MIN_BYTES = 256 * 1024;
+
+	private static final byte TYPE_REMOVE = 1;
+	private static final byte TYPE_CLEAR = 2;
+	private static final byte TYPE_STRING = 3;
+	private static final byte TYPE_INT = 4;
+	private static final byte TYPE_LONG = 5;
+	private static final byte TYPE_FLOAT = 6;
+	private static final byte TYPE_BOOLEAN = 7;
+	private static final byte TYPE_BYTES = 8;
+	private static final byte TYPE_STRING_SET = 9;
+
+	private static final HashMap<String, TiMappedPreferences> instances = new HashMap<>();
+
+	private final File file;
+	private final HashMap<String, Object> values = new HashMap<>();
+	private final HashMap<String, Integer> recordSizes = new HashMap<>();
+	private final WeakHashMap<OnSharedPreferenceChangeListener, Object> listeners = new WeakHashMap<>();
+	private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+	private RandomAccessFile randomAccessFile;
+	private MappedByteBuffer buffer;
+	private int writePosition;
+	private long liveBytes;
+
+	// Set while a compaction runs in the background, collecting the records appended in the meantime.
+	private Future<?> compaction;
+	private ArrayList<byte[]> compactionTail;
+
+	private TiMappedPreferences(File file) throws IOException
+	{
+		this.file = file;
+		load();
+	}
+
+	private static File getFile(Context context, String name)
+	{
+		return new File(new File(context.getFilesDir(), DIRECTORY_NAME), name + FILE_EXTENSION);
+	}
+
+	/**
+	 * @return true if a store with the given name was created before.
+	 */
+	static boolean exists(Context context, String name)
+	{
+		return getFile(context, name).exists();
+	}
+
+	/**
+	 * Opens the store with the given name. When it does not exist yet, it is created with
+	 * the values of the platform preferences of the same name, which are then cleared.
+	 * @return the store, or null if it could not be opened.
+	 */
+	static TiMappedPreferences open(Context context, String name)
+	{
+		synchronized (instances)
+		{
+			TiMappedPreferences preferences = instances.get(name);
+			if (preferences != null) {
+				return preferences;
+			}
+
+			File file = getFile(context, name);
+			SharedPreferences legacyPreferences =
+				file.exists() ? null : context.getSharedPreferences(name, Context.MODE_PRIVATE);
+			try {
+				preferences = open(file, legacyPreferences);
+			} catch (IOException e) {
+				Log.e(TAG, "Unable to open " + file, e);
+				return null;
+			}
+			instances.put(name, preferences);
+			return preferences;
+		}
+	}
+
+	/**
+	 * Opens the store in the given file. When it does not exist yet, it is created with the values of
+	 * the given platform preferences, which are then cleared.
+	 * <p>
+	 * Migrated values are committed to a separate file, which only becomes the store once complete.
+	 * If migration is interrupted, the store does not exist on the next launch and migration starts over.
+	 */
+	static TiMappedPreferences open(File file, SharedPreferences legacyPreferences) throws IOException
+	{
+		if (file.exists() || legacyPreferences == null) {
+			return new TiMappedPreferences(file);
+		}
+		Map<String, ?> legacyValues = legacyPreferences.getAll();
+		if (legacyValues.isEmpty()) {
+			return new TiMappedPreferences(file);
+		}
+
+		File migrationFile = new File(file.getPath() + ".migrating");
+		if (migrationFile.exists() && !migrationFile.delete()) {
+			throw new IOException("Unable to delete " + migrationFile);
+		}
+		TiMappedPreferences migrated = new TiMappedPreferences(migrationFile);
+		MappedEditor editor = migrated.edit();
+		for (Map.Entry<String, ?> entry : legacyValues.entrySet()) {
+			editor.put(entry.getKey(), entry.getValue());
+		}
+		boolean committed = editor.commit();
+		synchronized (migrated)
+		{
+			migrated.close();
+		}
+		if (!committed || !migrationFile.renameTo(file)) {
+			migrationFile.delete();
+			throw new IOException("Unable to migrate preferences to " + file);
+		}
+		legacyPreferences.edit().clear().commit();
+		return new TiMappedPreferences(file);
+	}
+
+	/**
+	 * Moves the values of the store with the given name back to the platform preferences and deletes it.
+	 */
+	static void migrateTo(Context context, String name, SharedPreferences preferences)
+	{
+		TiMappedPreferences store = open(context, name);
+		if (store == null) {
+			return;
+		}
+
+		synchronized (instances)
+		{
+			if (store.migrateTo(preferences)) {
+				instances.remove(name);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the values of the given preferences with the values of this store, then deletes it.
+	 * @return true if the store was deleted.
+	 */
+	boolean migrateTo(SharedPreferences preferences)
+	{
+		Map<String, ?> storedValues = getAll();
+		SharedPreferences.Editor editor = preferences.edit();
+
+		// Values left over from before migrating to this store are outdated.
+		editor.clear();
+		for (Map.Entry<String, ?> entry : storedValues.entrySet()) {
+			putValue(editor, entry.getKey(), entry.getValue());
+		}
+		if (!editor.commit()) {
+			return false;
+		}
+
+		synchronized (this)
+		{
+			close();
+		}
+		if (!this.file.delete()) {
+			Log.w(TAG, "Unable to delete " + this.file);
+		}
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void putValue(SharedPreferences.Editor editor, String key, Object value)
+	{
+		if (value instanceof String) {
+			editor.putString(key, (String) value);
+		} else if (value instanceof Integer) {
+			editor.putInt(key, (Integer) value);
+		} else if (value instanceof Long) {
+			editor.putLong(key, (Long) value);
+		} else if (value instanceof Float) {
+			editor.putFloat(key, (Float) value);
+		} else if (value instanceof Boolean) {
+			editor.putBoolean(key, (Boolean) value);
+		} else if (value instanceof Set) {
+			editor.putStringSet(key, (Set<String>) value);
+		} else if (value instanceof byte[]) {
+			// Same encoding as TiProperties.setBytes() uses with the preferences XML store.
+			editor.putString(key, Base64.encodeToString((byte[]) value, Base64.NO_WRAP));
+		}
+	}
+
+	private void load() throws IOException
+	{
+		File directory = this.file.getParentFile();
+		if (directory != null && !directory.exists() && !directory.mkdirs()) {
+			throw new IOException("Unable to create " + directory);
+		}
+
+		map();
+		if (this.buffer.getInt(0) != MAGIC) {
+			// New or unreadable file, start over.
+			this.buffer.putInt(0, MAGIC);
+			this.buffer.putInt(4, VERSION);
+			this.writePosition = HEADER_SIZE;
+			return;
+		}
+
+		int position = HEADER_SIZE;
+		boolean damaged = false;
+		CRC32 crc = new CRC32();
+		while (position + RECORD_OVERHEAD <= this.buffer.capacity()) {
+			int bodyLength = this.buffer.getInt(position);
+			if (bodyLength == 0) {
+				break;
+			}
+			if (bodyLength < 0 || position + RECORD_OVERHEAD + (long) bodyLength > this.buffer.capacity()) {
+				damaged = true;
+				break;
+			}
+
+			byte[] body = new byte[bodyLength];
+			this.buffer.position(position + 4);
+			this.buffer.get(body);
+			crc.reset();
+			crc.update(body);
+			if ((int) crc.getValue() != this.buffer.getInt(position + 4 + bodyLength)) {
+				damaged = true;
+				break;
+			}
+			if (!replay(ByteBuffer.wrap(body), bodyLength + RECORD_OVERHEAD)) {
+				damaged = true;
+				break;
+			}
+			position += bodyLength + RECORD_OVERHEAD;
+		}
+		this.writePosition = position;
+
+		if (damaged) {
+			// Drop the incomplete record and anything after it.
+			Log.w(TAG, "Discarding damaged records at offset " + position + " of " + this.file);
+			try {
+				compact();
+			} catch (IOException e) {
+				// Keep appending to the current log instead, after erasing the damaged records.
+				Log.e(TAG, "Unable to compact " + this.file, e);
+				for (int index = this.writePosition; index < this.buffer.capacity(); index++) {
+					this.buffer.put(index, (byte) 0);
+				}
+			}
+		}
+	}
+
+	private boolean replay(ByteBuffer body, int recordSize)
+	{
+		byte type = body.get();
+		String key = readString(body);
+		switch (type) {
+			case TYPE_CLEAR:
+				this.values.clear();
+				this.recordSizes.clear();
+				this.liveBytes = 0;
+				return true;
+			case TYPE_REMOVE:
+				setValue(key, null, 0);
+				return true;
+			case TYPE_STRING:
+				setValue(key, readString(body), recordSize);
+				return true;
+			case TYPE_INT:
+				setValue(key, body.getInt(), recordSize);
+				return true;
+			case TYPE_LONG:
+				setValue(key, body.getLong(), recordSize);
+				return true;
+			case TYPE_FLOAT:
+				setValue(key, body.getFloat(), recordSize);
+				return true;
+			case TYPE_BOOLEAN:
+				setValue(key, body.get() != 0, recordSize);
+				return true;
+			case TYPE_BYTES: {
+				byte[] bytes = new byte[body.getInt()];
+				body.get(bytes);
+				setValue(key, bytes, recordSize);
+				return true;
+			}
+			case TYPE_STRING_SET: {
+				int count = body.getInt();
+				HashSet<String> set = new HashSet<>(count);
+				for (int index = 0; index < count; index++) {
+					set.add(readString(body));
+				}
+				setValue(key, set, recordSize);
+				return true;
+			}
+			default:
+				return false;
+		}
+	}
+
+	private void setValue(String key, Object value, int recordSize)
+	{
+		Integer previousSize = this.recordSizes.remove(key);
+		if (previousSize != null) {
+			this.liveBytes -= previousSize;
+		}
+		if (value == null) {
+			this.values.remove(key);
+		} else {
+			this.values.put(key, value);
+			this.recordSizes.put(key, recordSize);
+			this.liveBytes += recordSize;
+		}
+	}
+
+	private static String readString(ByteBuffer body)
+	{
+		byte[] bytes = new byte[body.getInt()];
+		body.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int stringSize(byte[] utf8)
+	{
+		return 4 + utf8.length;
+	}
+
+	/**
+	 * Encodes a record, including its length and checksum.
+	 */
+	@SuppressWarnings("unchecked")
+	private static byte[] encode(String key, Object value)
+	{
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		int bodyLength = 1 + stringSize(keyBytes);
+		byte type;
+		byte[] stringBytes = null;
+		ArrayList<byte[]> setBytes = null;
+		if (value == null) {
+			type = TYPE_REMOVE;
+		} else if (value instanceof String) {
+			type = TYPE_STRING;
+			stringBytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+			bodyLength += stringSize(stringBytes);
+		} else if (value instanceof Integer) {
+			type = TYPE_INT;
+			bodyLength += 4;
+		} else if (value instanceof Long) {
+			type = TYPE_LONG;
+			bodyLength += 8;
+		} else if (value instanceof Float) {
+			type = TYPE_FLOAT;
+			bodyLength += 4;
+		} else if (value instanceof Boolean) {
+			type = TYPE_BOOLEAN;
+			bodyLength += 1;
+		} else if (value instanceof byte[]) {
+			type = TYPE_BYTES;
+			bodyLength += 4 + ((byte[]) value).length;
+		} else if (value instanceof Set) {
+			type = TYPE_STRING_SET;
+			setBytes = new ArrayList<>();
+			bodyLength += 4;
+			for (String item : (Set<String>) value) {
+				byte[] itemBytes = (item != null ? item : "").getBytes(StandardCharsets.UTF_8);
+				setBytes.add(itemBytes);
+				bodyLength += stringSize(itemBytes);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+		}
+
+		ByteBuffer record = ByteBuffer.allocate(bodyLength + RECORD_OVERHEAD);
+		record.putInt(bodyLength);
+		record.put(type);
+		record.putInt(keyBytes.length);
+		record.put(keyBytes);
+		switch (type) {
+			case TYPE_STRING:
+				record.putInt(stringBytes.length);
+				record.put(stringBytes);
+				break;
+			case TYPE_INT:
+				record.putInt((Integer) value);
+				break;
+			case TYPE_LONG:
+				record.putLong((Long) value);
+				break;
+			case TYPE_FLOAT:
+				record.putFloat((Float) value);
+				break;
+			case TYPE_BOOLEAN:
+				record.put((byte) (((Boolean) value) ? 1 : 0));
+				break;
+			case TYPE_BYTES:
+				record.putInt(((byte[]) value).length);
+				record.put((byte[]) value);
+				break;
+			case TYPE_STRING_SET:
+				record.putInt(setBytes.size());
+				for (byte[] itemBytes : setBytes) {
+					record.putInt(itemBytes.length);
+					record.put(itemBytes);
+				}
+				break;
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(record.array(), 4, bodyLength);
+		record.putInt((int) crc.getValue());
+		return record.array();
+	}
+
+	private static byte[] encodeClear()
+	{
+		ByteBuffer record = ByteBuffer.allocate(5 + RECORD_OVERHEAD);
+		record.putInt(5);
+		record.put(TYPE_CLEAR);
+		record.putInt(0);
+		CRC32 crc = new CRC32();
+		crc.update(record.array(), 4, 5);
+		record.putInt((int) crc.getValue());
+		return record.array();
+	}
+
+	private void map() throws IOException
+	{
+		if (this.randomAccessFile == null) {
+			this.randomAccessFile = new RandomAccessFile(this.file, "rw");
+		}
+		long length = this.randomAccessFile.length();
+		if (length < INITIAL_CAPACITY) {
+			length = INITIAL_CAPACITY;
+			this.randomAccessFile.setLength(length);
+		}
+		this.buffer = this.randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+	}
+
+	private void append(byte[] record) throws IOException
+	{
+		int end = this.writePosition + record.length;
+		if (end + 4 > this.buffer.capacity()) {
+			long capacity = this.buffer.capacity();
+			while (end + 4 > capacity) {
+				capacity *= 2;
+			}
+			if (capacity > Integer.MAX_VALUE) {
+				throw new IOException("Store exceeds maximum size");
+			}
+			this.randomAccessFile.setLength(capacity);
+			map();
+		}
+
+		// Write the record's length last, so an interrupted write is never taken for a complete record.
+		this.buffer.position(this.writePosition + 4);
+		this.buffer.put(record, 4, record.length - 4);
+		this.buffer.putInt(this.writePosition, record.length - RECORD_OVERHEAD);
+		this.writePosition = end;
+
+		if (this.compactionTail != null) {
+			this.compactionTail.add(record);
+		}
+	}
+
+	private File getCompactionFile()
+	{
+		return new File(this.file.getPath() + ".tmp");
+	}
+
+	/**
+	 * Writes records to the compaction file, creating it with the given values or appending to it.
+	 * @return the size of the file.
+	 */
+	private static long writeRecords(File tempFile, Map<String, Object> values, ArrayList<byte[]> records)
+		throws IOException
+	{
+		boolean append = (values == null);
+		FileOutputStream fileStream = new FileOutputStream(tempFile, append);
+		try {
+			BufferedOutputStream stream = new BufferedOutputStream(fileStream, 64 * 1024);
+			if (!append) {
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+				header.putInt(MAGIC);
+				header.putInt(VERSION);
+				stream.write(header.array());
+				for (Map.Entry<String, Object> entry : values.entrySet()) {
+					stream.write(encode(entry.getKey(), entry.getValue()));
+				}
+			}
+			if (records != null) {
+				for (byte[] record : records) {
+					stream.write(record);
+				}
+			}
+			stream.flush();
+			fileStream.getFD().sync();
+		} finally {
+			fileStream.close();
+		}
+		return tempFile.length();
+	}
+
+	/**
+	 * Replaces the log with the compaction file. If that fails, the current log is kept.
+	 */
+	private void replaceLog(File tempFile, long size) throws IOException
+	{
+		close();
+		if (!tempFile.renameTo(this.file)) {
+			tempFile.delete();
+			map();
+			throw new IOException("Unable to replace " + this.file);
+		}
+		map();
+		this.writePosition = (int) size;
+		Log.d(TAG, "Compacted " + this.file + " to " + size + " bytes", Log.DEBUG_MODE);
+	}
+
+	/**
+	 * Writes the live values to a new file, which then replaces the log.
+	 */
+	private void compact() throws IOException
+	{
+		File tempFile = getCompactionFile();
+		replaceLog(tempFile, writeRecords(tempFile, this.values, null));
+	}
+
+	/**
+	 * Starts compacting the log on a background thread. Must hold the lock.
+	 */
+	private void scheduleCompaction()
+	{
+		if (this.compaction != null) {
+			return;
+		}
+		final HashMap<String, Object> snapshot = new HashMap<>(this.values);
+		this.compactionTail = new ArrayList<>();
+		this.compaction = TiStreamHelper.getIOExecutor().submit(new Runnable() {
+			@Override
+			public void run()
+			{
+				compactInBackground(snapshot);
+			}
+		});
+	}
+
+	private void compactInBackground(HashMap<String, Object> snapshot)
+	{
+		File tempFile = getCompactionFile();
+		try {
+			long size = writeRecords(tempFile, snapshot, null);
+			synchronized (this)
+			{
+				if (this.buffer == null) {
+					// Closed meanwhile.
+					tempFile.delete();
+					return;
+				}
+				if (!this.compactionTail.isEmpty()) {
+					size = writeRecords(tempFile, null, this.compactionTail);
+				}
+				replaceLog(tempFile, size);
+			}
+		} catch (IOException e) {
+			Log.e(TAG, "Unable to compact " + this.file, e);
+			tempFile.delete();
+		} finally {
+			synchronized (this)
+			{
+				this.compaction = null;
+				this.compactionTail = null;
+			}
+		}
+	}
+
+	/**
+	 * Waits for a compaction started before the call to finish.
+	 */
+	void awaitCompaction()
+	{
+		Future<?> compaction;
+		synchronized (this)
+		{
+			compaction = this.compaction;
+		}
+		if (compaction == null) {
+			return;
+		}
+		try {
+			compaction.get();
+		} catch (ExecutionException e) {
+			Log.e(TAG, "Unable to compact " + this.file, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// Must hold the lock, unless called while loading.
+	private void close()
+	{
+		this.buffer = null;
+		if (this.randomAccessFile != null) {
+			try {
+				this.randomAccessFile.close();
+			} catch (IOException e) {
+				// Ignore.
+			}
+			this.randomAccessFile = null;
+		}
+	}
+
+	/**
+	 * Applies an editor's changes.
+	 * @return the keys whose values changed, a null key standing for a clear.
+	 */
+	private synchronized ArrayList<String> write(boolean clear, HashMap<String, Object> changes, boolean sync)
+		throws IOException
+	{
+		ArrayList<String> changedKeys = new ArrayList<>();
+		if (clear && !this.values.isEmpty()) {
+			append(encodeClear());
+			this.values.clear();
+			this.recordSizes.clear();
+			this.liveBytes = 0;
+			changedKeys.add(null);
+		}
+		for (Map.Entry<String, Object> entry : changes.entrySet()) {
+			String key = entry.getKey();
+			Object value = entry.getValue();
+			Object currentValue = this.values.get(key);
+			if (value == null ? currentValue == null : isEqual(value, currentValue)) {
+				continue;
+			}
+			byte[] record = encode(key, value);
+			append(record);
+			setValue(key, value, record.length);
+			changedKeys.add(key);
+		}
+
+		if (sync && !changedKeys.isEmpty()) {
+			this.buffer.force();
+		}
+		if (this.writePosition > COMPACT_MIN_BYTES && this.writePosition > 2 * (HEADER_SIZE + this.liveBytes)) {
+			scheduleCompaction();
+		}
+		return changedKeys;
+	}
+
+	private static boolean isEqual(Object value, Object currentValue)
+	{
+		if (value instanceof byte[] && currentValue instanceof byte[]) {
+			return Arrays.equals((byte[]) value, (byte[]) currentValue);
+		}
+		return value.equals(currentValue);
+	}
+
+	private void notifyListeners(final ArrayList<String> changedKeys)
+	{
+		if (changedKeys.isEmpty()) {
+			return;
+		}
+		if (Looper.myLooper() != Looper.getMainLooper()) {
+			this.mainHandler.post(new Runnable() {
+				@Override
+				public void run()
+				{
+					notifyListeners(changedKeys);
+				}
+			});
+			return;
+		}
+
+		ArrayList<OnSharedPreferenceChangeListener> listenersCopy;
+		synchronized (this.listeners)
+		{
+			listenersCopy = new ArrayList<>(this.listeners.keySet());
+		}
+		for (String key : changedKeys) {
+			for (OnSharedPreferenceChangeListener listener : listenersCopy) {
+				if (listener != null) {
+					listener.onSharedPreferenceChanged(this, key);
+				}
+			}
+		}
+	}
+
+	@Override
+	public synchronized Map<String, ?> getAll()
+	{
+		return new HashMap<>(this.values);
+	}
+
+	@Override
+	public synchronized String getString(String key, String defValue)
+	{
+		String value = (String) this.values.get(key);
+		return (value != null) ? value : defValue;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized Set<String> getStringSet(String key, Set<String> defValues)
+	{
+		Set<String> value = (Set<String>) this.values.get(key);
+		return (value != null) ? value : defValues;
+	}
+
+	@Override
+	public synchronized int getInt(String key, int defValue)
+	{
+		Integer value = (Integer) this.values.get(key);
+		return (value != null) ? value : defValue;
+	}
+
+	@Override
+	public synchronized long getLong(String key, long defValue)
+	{
+		Long value = (Long) this.values.get(key);
+		return (value != null) ? value : defValue;
+	}
+
+	@Override
+	public synchronized float getFloat(String key, float defValue)
+	{
+		Float value = (Float) this.values.get(key);
+		return (value != null) ? value : defValue;
+	}
+
+	@Override
+	public synchronized boolean getBoolean(String key, boolean defValue)
+	{
+		Boolean value = (Boolean) this.values.get(key);
+		return (value != null) ? value : defValue;
+	}
+
+	public synchronized byte[] getBytes(String key, byte[] defValue)
+	{
+		byte[] value = (byte[]) this.values.get(key);
+		return (value != null) ? value : defValue;
+	}
+
+	@Override
+	public synchronized boolean contains(String key)
+	{
+		return this.values.containsKey(key);
+	}
+
+	@Override
+	public MappedEditor edit()
+	{
+		return new MappedEditor();
+	}
+
+	@Override
+	public void registerOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener)
+	{
+		synchronized (this.listeners)
+		{
+			this.listeners.put(listener, Boolean.TRUE);
+		}
+	}
+
+	@Override
+	public void unregisterOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener)
+	{
+		synchronized (this.listeners)
+		{
+			this.listeners.remove(listener);
+		}
+	}
+
+	final class MappedEditor implements SharedPreferences.Editor
+	{
+		private final HashMap<String, Object> changes = new HashMap<>();
+		private boolean clear;
+
+		private MappedEditor put(String key, Object value)
+		{
+			synchronized (this)
+			{
+				this.changes.put(key, value);
+			}
+			return this;
+		}
+
+		@Override
+		public MappedEditor putString(String key, String value)
+		{
+			return put(key, value);
+		}
+
+		@Override
+		public MappedEditor putStringSet(String key, Set<String> values)
+		{
+			return put(key, (values != null) ? new HashSet<>(values) : null);
+		}
+
+		@Override
+		public MappedEditor putInt(String key, int value)
+		{
+			return put(key, value);
+		}
+
+		@Override
+		public MappedEditor putLong(String key, long value)
+		{
+			return put(key, value);
+		}
+
+		@Override
+		public MappedEditor putFloat(String key, float value)
+		{
+			return put(key, value);
+		}
+
+		@Override
+		public MappedEditor putBoolean(String key, boolean value)
+		{
+			return put(key, value);
+		}
+
+		public MappedEditor putBytes(String key, byte[] value)
+		{
+			return put(key, (value != null) ? value.clone() : null);
+		}
+
+		@Override
+		public MappedEditor remove(String key)
+		{
+			return put(key, null);
+		}
+
+		@Override
+		public synchronized MappedEditor clear()
+		{
+			this.clear = true;
+			return this;
+		}
+
+		private boolean write(boolean sync)
+		{
+			HashMap<String, Object> changes;
+			boolean clear;
+			synchronized (this)
+			{
+				changes = new HashMap<>(this.changes);
+				clear = this.clear;
+				this.changes.clear();
+				this.clear = false;
+			}
+
+			try {
+				notifyListeners(TiMappedPreferences.this.write(clear, changes, sync));
+				if (sync) {
+					awaitCompaction();
+				}
+				return true;
+			} catch (IOException e) {
+				Log.e(TAG, "Unable to write to " + file, e);
+				return false;
+			}
+		}
+
+		@Override
+		public boolean commit()
+		{
+			return write(true);
+		}
+
+		@Override
+		public void apply()
+		{
+			// Appending to the mapped file is cheap, only commit() waits for it to reach the disk.
+			write(false);
+		}
+	}
+}
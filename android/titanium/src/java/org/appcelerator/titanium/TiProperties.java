@@ -7,25 +7,58 @@
 package org.appcelerator.titanium;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.appcelerator.kroll.common.Log;
-import org.json.JSONException;
+import org.appcelerator.titanium.util.TiConvert;
 import org.json.JSONObject;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.util.Base64;
 
 /**
  * API for accessing, storing, and modifying application properties that are
  * exposed via Ti.App.Properties.
+ * <p>
+ * Values are read from an in-memory index of the preferences, so lookups neither hit
+ * SharedPreferences nor copy its map. The index is updated directly by the setters here
+ * and kept in sync with changes made through other SharedPreferences handles by a listener.
+ * <p>
+ * Setting the tiapp.xml property <code>ti.android.properties.store</code> to <code>mapped</code> persists the
+ * properties to a memory-mapped log instead of the preferences XML file, see {@link TiMappedPreferences}.
+ * Existing values are migrated when switching the store either way.
  */
 public class TiProperties
 {
 	private static final String TAG = "TiProperties";
-	private static JSONObject systemProperties;
+	private static final String PROPERTY_STORE = "ti.android.properties.store";
+	private static final String STORE_MAPPED = "mapped";
+	private static final Pattern LIST_ITEM_KEY = Pattern.compile(".+\\.\\d+$");
+	private static Map<String, Object> systemProperties = Collections.emptyMap();
 
 	SharedPreferences preferences;
+	private final ConcurrentHashMap<String, Object> values = new ConcurrentHashMap<>();
+
+	// SharedPreferences only keeps a weak reference to its listeners.
+	private final SharedPreferences.OnSharedPreferenceChangeListener changeListener =
+		new SharedPreferences.OnSharedPreferenceChangeListener() {
+			@Override
+			public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key)
+			{
+				if (key == null) {
+					// Preferences were cleared.
+					reloadValues();
+				} else {
+					updateValue(key, readValue(key, values.get(key)));
+				}
+			}
+		};
 
 	/**
 	 * Instantiates the private SharedPreferences collection with the given name and context.
@@ -36,10 +69,75 @@ public class TiProperties
 	 */
 	public TiProperties(Context context, String name, boolean clear)
 	{
-		preferences = context.getSharedPreferences(name, Context.MODE_PRIVATE);
+		preferences = openPreferences(context, name);
 		if (clear) {
 			preferences.edit().clear().apply();
 		}
+		reloadValues();
+		preferences.registerOnSharedPreferenceChangeListener(changeListener);
+	}
+
+	private static SharedPreferences openPreferences(Context context, String name)
+	{
+		if (STORE_MAPPED.equals(systemProperties.get(PROPERTY_STORE))) {
+			SharedPreferences mappedPreferences = TiMappedPreferences.open(context, name);
+			if (mappedPreferences != null) {
+				return mappedPreferences;
+			}
+		}
+
+		SharedPreferences sharedPreferences = context.getSharedPreferences(name, Context.MODE_PRIVATE);
+		if (TiMappedPreferences.exists(context, name)) {
+			// The app switched back from the mapped store.
+			TiMappedPreferences.migrateTo(context, name, sharedPreferences);
+		}
+		return sharedPreferences;
+	}
+
+	private void reloadValues()
+	{
+		Map<String, ?> all = preferences.getAll();
+		values.clear();
+		for (Map.Entry<String, ?> entry : all.entrySet()) {
+			updateValue(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void updateValue(String key, Object value)
+	{
+		if (value == null) {
+			values.remove(key);
+		} else {
+			values.put(key, value);
+		}
+	}
+
+	/**
+	 * Reads a single preference, using the type of its indexed value to avoid copying all preferences.
+	 */
+	private Object readValue(String key, Object hint)
+	{
+		if (!preferences.contains(key)) {
+			return null;
+		}
+		try {
+			if (hint instanceof String) {
+				return preferences.getString(key, null);
+			} else if (hint instanceof Integer) {
+				return preferences.getInt(key, 0);
+			} else if (hint instanceof Boolean) {
+				return preferences.getBoolean(key, false);
+			} else if (hint instanceof Long) {
+				return preferences.getLong(key, 0L);
+			} else if (hint instanceof Float) {
+				return preferences.getFloat(key, 0F);
+			} else if (hint instanceof byte[] && preferences instanceof TiMappedPreferences) {
+				return ((TiMappedPreferences) preferences).getBytes(key, null);
+			}
+		} catch (ClassCastException e) {
+			// Stored with a different type by other code.
+		}
+		return preferences.getAll().get(key);
 	}
 
 	/**
@@ -64,20 +162,27 @@ public class TiProperties
 
 	public Object getPreference(String key)
 	{
-		Object value = null;
-		if (systemProperties != null) {
-			try {
-				value = systemProperties.get(key);
-			} catch (JSONException e) {
-				value = preferences.getAll().get(key);
-			}
+		if (key == null) {
+			return null;
 		}
+		Object value = systemProperties.get(key);
 		if (value == null) {
-			value = preferences.getAll().get(key);
+			value = values.get(key);
 		}
 		return value;
 	}
 
+	private boolean isSystemProperty(String key)
+	{
+		if (systemProperties.containsKey(key)) {
+			if (Log.isDebugModeEnabled()) {
+				Log.w(TAG, "Cannot overwrite/delete read-only property: " + key);
+			}
+			return true;
+		}
+		return false;
+	}
+
 	/**
 	 * Maps the specified key with a String value. If value is null, existing key will be removed from preferences.
 	 * Otherwise, its value will be overwritten.
@@ -90,13 +195,11 @@ public class TiProperties
 			Log.d(TAG, "setString called with key:" + key + ", value:" + value);
 		}
 
-		if (systemProperties != null && systemProperties.has(key)) {
-			if (Log.isDebugModeEnabled()) {
-				Log.w(TAG, "Cannot overwrite/delete read-only property: " + key);
-			}
+		if (isSystemProperty(key)) {
 			return;
 		}
 
+		updateValue(key, value);
 		SharedPreferences.Editor editor = preferences.edit();
 		if (value == null) {
 			editor.remove(key);
@@ -117,26 +220,18 @@ public class TiProperties
 		if (Log.isDebugModeEnabled()) {
 			Log.d(TAG, "getInt called with key:" + key + ", def:" + def);
 		}
+		Object value = getPreference(key);
+		if (value instanceof Number) {
+			return ((Number) value).intValue();
+		} else if (value == null) {
+			return def;
+		}
+
+		//Value stored as something other than int. Try and convert to int
 		try {
-			int value = def;
-			if (systemProperties != null) {
-				try {
-					value = systemProperties.getInt(key);
-				} catch (JSONException e) {
-					value = preferences.getInt(key, def);
-				}
-			} else {
-				value = preferences.getInt(key, def);
-			}
-			return value;
-		} catch (ClassCastException cce) {
-			//Value stored as something other than int. Try and convert to int
-			String val = getString(key, "");
-			try {
-				return Integer.parseInt(val);
-			} catch (NumberFormatException nfe) {
-				return def;
-			}
+			return Integer.parseInt(value.toString());
+		} catch (NumberFormatException nfe) {
+			return def;
 		}
 	}
 
@@ -151,13 +246,11 @@ public class TiProperties
 			Log.d(TAG, "setInt called with key:" + key + ", value:" + value);
 		}
 
-		if (systemProperties != null && systemProperties.has(key)) {
-			if (Log.isDebugModeEnabled()) {
-				Log.w(TAG, "Cannot overwrite read-only property: " + key);
-			}
+		if (isSystemProperty(key)) {
 			return;
 		}
 
+		updateValue(key, value);
 		SharedPreferences.Editor editor = preferences.edit();
 		editor.putInt(key, value);
 		editor.apply();
@@ -174,14 +267,14 @@ public class TiProperties
 		if (Log.isDebugModeEnabled()) {
 			Log.d(TAG, "getDouble called with key:" + key + ", def:" + def);
 		}
-		String stringValue = null;
-		Object string = getPreference(key);
-		if (string == null) {
+		Object value = getPreference(key);
+		if (value == null) {
 			return def;
+		} else if (value instanceof Double || value instanceof Integer || value instanceof Long) {
+			return ((Number) value).doubleValue();
 		}
-		stringValue = string.toString();
 		try {
-			return Double.parseDouble(stringValue);
+			return Double.parseDouble(value.toString());
 		} catch (NumberFormatException e) {
 			return def;
 		}
@@ -199,15 +292,14 @@ public class TiProperties
 			Log.d(TAG, "setDouble called with key:" + key + ", value:" + value);
 		}
 
-		if (systemProperties != null && systemProperties.has(key)) {
-			if (Log.isDebugModeEnabled()) {
-				Log.w(TAG, "Cannot overwrite read-only property: " + key);
-			}
+		if (isSystemProperty(key)) {
 			return;
 		}
 
+		String stringValue = value + "";
+		updateValue(key, stringValue);
 		SharedPreferences.Editor editor = preferences.edit();
-		editor.putString(key, value + "");
+		editor.putString(key, stringValue);
 		editor.apply();
 	}
 
@@ -222,27 +314,15 @@ public class TiProperties
 		if (Log.isDebugModeEnabled()) {
 			Log.d(TAG, "getBool called with key:" + key + ", def:" + def);
 		}
-		try {
-			boolean value = def;
-			if (systemProperties != null) {
-				try {
-					value = systemProperties.getBoolean(key);
-				} catch (JSONException e) {
-					value = preferences.getBoolean(key, def);
-				}
-			} else {
-				value = preferences.getBoolean(key, def);
-			}
-			return value;
-		} catch (ClassCastException cce) {
-			//Value stored as something other than boolean. Try and convert to boolean
-			String val = getString(key, "");
-			try {
-				return Boolean.valueOf(val).booleanValue();
-			} catch (Exception e) {
-				return def;
-			}
+		Object value = getPreference(key);
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		} else if (value == null) {
+			return def;
 		}
+
+		//Value stored as something other than boolean. Try and convert to boolean
+		return Boolean.parseBoolean(value.toString());
 	}
 
 	/**
@@ -257,18 +337,58 @@ public class TiProperties
 			Log.d(TAG, "setBool called with key:" + key + ", value:" + value);
 		}
 
-		if (systemProperties != null && systemProperties.has(key)) {
-			if (Log.isDebugModeEnabled()) {
-				Log.w(TAG, "Cannot overwrite read-only property: " + key);
-			}
+		if (isSystemProperty(key)) {
 			return;
 		}
 
+		updateValue(key, value);
 		SharedPreferences.Editor editor = preferences.edit();
 		editor.putBoolean(key, value);
 		editor.apply();
 	}
 
+	/**
+	 * Returns the mapping of a specified key as a byte array. If key does not exist, returns the default value.
+	 * @param key the lookup key.
+	 * @param def the default value.
+	 * @return mapping of key, or default value.
+	 */
+	public byte[] getBytes(String key, byte[] def)
+	{
+		Object value = getPreference(key);
+		if (value instanceof byte[]) {
+			return (byte[]) value;
+		} else if (value instanceof String) {
+			// Stored as Base64 by the preferences XML store.
+			try {
+				return Base64.decode((String) value, Base64.NO_WRAP);
+			} catch (IllegalArgumentException e) {
+				return def;
+			}
+		}
+		return def;
+	}
+
+	/**
+	 * Maps the specified key with a byte array value. If value is null, existing key will be removed from preferences.
+	 * The mapped store keeps the bytes as they are, the preferences XML store encodes them as a Base64 string.
+	 * @param key the key to set.
+	 * @param value the value to set.
+	 */
+	public void setBytes(String key, byte[] value)
+	{
+		if (!(preferences instanceof TiMappedPreferences)) {
+			setString(key, (value != null) ? Base64.encodeToString(value, Base64.NO_WRAP) : null);
+			return;
+		}
+		if (isSystemProperty(key)) {
+			return;
+		}
+
+		updateValue(key, value);
+		((TiMappedPreferences) preferences).edit().putBytes(key, value).apply();
+	}
+
 	/**
 	 * Returns the mapping of a specified key as a String array. If key does not exist, returns the default value.
 	 * @param key the lookup key.
@@ -281,14 +401,15 @@ public class TiProperties
 			Log.d(TAG, "getList called with key:" + key + ", def:" + def);
 		}
 
-		int length = preferences.getInt(key + ".length", -1);
-		if (length == -1) {
+		Object length = values.get(key + ".length");
+		if (!(length instanceof Integer)) {
 			return def;
 		}
 
-		String[] list = new String[length];
-		for (int i = 0; i < length; i++) {
-			list[i] = preferences.getString(key + "." + i, "");
+		String[] list = new String[(Integer) length];
+		for (int i = 0; i < list.length; i++) {
+			Object item = values.get(key + "." + i);
+			list[i] = (item != null) ? item.toString() : "";
 		}
 		return list;
 	}
@@ -306,12 +427,18 @@ public class TiProperties
 		}
 
 		SharedPreferences.Editor editor = preferences.edit();
+		putList(editor, key, value);
+		editor.apply();
+	}
+
+	private void putList(SharedPreferences.Editor editor, String key, String[] value)
+	{
 		for (int i = 0; i < value.length; i++) {
+			updateValue(key + "." + i, value[i]);
 			editor.putString(key + "." + i, value[i]);
 		}
+		updateValue(key + ".length", value.length);
 		editor.putInt(key + ".length", value.length);
-
-		editor.apply();
 	}
 
 	/**
@@ -330,8 +457,7 @@ public class TiProperties
 	 */
 	public boolean hasProperty(String key)
 	{
-		return systemProperties != null ? systemProperties.has(key) || preferences.contains(key)
-										: preferences.contains(key);
+		return key != null && (systemProperties.containsKey(key) || values.containsKey(key));
 	}
 
 	/**
@@ -340,20 +466,13 @@ public class TiProperties
 	 */
 	public String[] listProperties()
 	{
-		ArrayList<String> properties = new ArrayList<String>();
-		if (systemProperties != null) {
-			Iterator<?> keys = systemProperties.keys();
-			while (keys.hasNext()) {
-				String key = (String) keys.next();
-				properties.add(key);
-			}
-		}
-		for (String key : preferences.getAll().keySet()) {
+		ArrayList<String> properties = new ArrayList<String>(systemProperties.keySet());
+		for (String key : values.keySet()) {
 			if (key.endsWith(".length")) {
 				properties.add(key.substring(0, key.length() - 7));
-			} else if (key.matches(".+\\.\\d+$")) {
+			} else if (LIST_ITEM_KEY.matcher(key).matches()) {
 
-			} else if (!properties.contains(key)) {
+			} else if (!systemProperties.containsKey(key)) {
 				properties.add(key);
 			}
 		}
@@ -367,14 +486,11 @@ public class TiProperties
 	 */
 	public void removeProperty(String key)
 	{
-		if (systemProperties != null && systemProperties.has(key)) {
-			if (Log.isDebugModeEnabled()) {
-				Log.w(TAG, "Cannot remove a read-only property: " + key);
-			}
+		if (isSystemProperty(key)) {
 			return;
 		}
 
-		if (preferences.contains(key)) {
+		if (values.remove(key) != null) {
 			SharedPreferences.Editor editor = preferences.edit();
 			editor.remove(key);
 			editor.apply();
@@ -386,11 +502,105 @@ public class TiProperties
 	 */
 	public void removeAllProperties()
 	{
+		values.clear();
 		preferences.edit().clear().apply();
 	}
 
+	/**
+	 * Returns the values of the given keys, or of all properties if no keys are given.
+	 * Keys without a value are left out. Values are returned as stored, doubles being stored as strings.
+	 * @param keys the lookup keys, or null for all properties.
+	 * @return a new map of keys to values.
+	 */
+	public HashMap<String, Object> getAll(String[] keys)
+	{
+		HashMap<String, Object> result;
+		if (keys == null) {
+			result = new HashMap<>(values);
+			result.putAll(systemProperties);
+			return result;
+		}
+
+		result = new HashMap<>(keys.length);
+		for (String key : keys) {
+			Object value = getPreference(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Stores several values with a single write. A null value removes its key. Booleans and integers keep
+	 * their type, other numbers are stored as strings like {@link #setDouble(String, double)} does, arrays
+	 * and maps are stored as JSON strings like Ti.App.Properties.setList() and setObject() store them, and
+	 * anything else as its string form. Read-only properties are skipped.
+	 * @param properties the keys and values to set.
+	 * @return true if any property was changed.
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean setAll(Map<String, ?> properties)
+	{
+		if (properties == null || properties.isEmpty()) {
+			return false;
+		}
+
+		boolean changed = false;
+		SharedPreferences.Editor editor = preferences.edit();
+		for (Map.Entry<String, ?> entry : properties.entrySet()) {
+			String key = entry.getKey();
+			Object value = entry.getValue();
+			if (key == null || isSystemProperty(key)) {
+				continue;
+			}
+
+			if (value == null) {
+				if (values.remove(key) != null) {
+					editor.remove(key);
+					changed = true;
+				}
+				continue;
+			}
+
+			if (value instanceof Boolean) {
+				editor.putBoolean(key, (Boolean) value);
+			} else if (value instanceof Integer) {
+				editor.putInt(key, (Integer) value);
+			} else if (value instanceof Number) {
+				value = ((Number) value).doubleValue() + "";
+				editor.putString(key, (String) value);
+			} else if (value instanceof Object[]) {
+				value = TiConvert.toJSONArray((Object[]) value).toString();
+				editor.putString(key, (String) value);
+			} else if (value instanceof HashMap) {
+				value = TiConvert.toJSON((HashMap<String, Object>) value).toString();
+				editor.putString(key, (String) value);
+			} else {
+				value = value.toString();
+				editor.putString(key, (String) value);
+			}
+			if (!value.equals(values.put(key, value))) {
+				changed = true;
+			}
+		}
+		editor.apply();
+		return changed;
+	}
+
 	public static void setSystemProperties(JSONObject prop)
 	{
-		systemProperties = prop;
+		HashMap<String, Object> properties = new HashMap<>();
+		if (prop != null) {
+			Iterator<String> keys = prop.keys();
+			while (keys.hasNext()) {
+				String key = keys.next();
+				Object value = prop.opt(key);
+				if (value != null && value != JSONObject.NULL) {
+					properties.put(key, value);
+				}
+			}
+		}
+		systemProperties = Collections.unmodifiableMap(properties);
 	}
 }
@@ -31,6 +31,7 @@ import android.graphics.Matrix;
 import android.graphics.Rect;
 import android.graphics.RectF;
 import android.util.TypedValue;
+import android.view.Choreographer;
 import android.view.View;
 import android.view.ViewGroup;
 import android.view.ViewParent;
@@ -103,6 +104,20 @@ public class TiAnimationBuilder
 	private static final ArrayList<WeakReference<View>> sRunningViews = new ArrayList<>();
 	private static final TiAnimationCurve DEFAULT_CURVE = TiAnimationCurve.EASE_IN_OUT;
 
+	// Transform based animations requested since the last frame. Started together on the next frame.
+	private static final ArrayList<AnimatorSet> sPendingStarts = new ArrayList<>();
+	private static final Choreographer.FrameCallback sStartPendingCallback = new Choreographer.FrameCallback() {
+		@Override
+		public void doFrame(long frameTimeNanos)
+		{
+			ArrayList<AnimatorSet> batch = new ArrayList<>(sPendingStarts);
+			sPendingStarts.clear();
+			for (AnimatorSet set : batch) {
+				set.start();
+			}
+		}
+	};
+
 	protected float anchorX;
 	protected float anchorY;
 	protected float elevation = -1;
@@ -123,6 +138,11 @@ public class TiAnimationBuilder
 	protected TiAnimation animationProxy;
 	protected KrollFunction callback;
 	protected boolean relayoutChild = false, applyOpacity = false;
+	protected boolean useTransforms = false;
+	protected boolean layoutTransformed = false;
+	// Transform of the view before a transform based layout animation, restored once the real layout is applied.
+	private float layoutBaseTranslationX, layoutBaseTranslationY;
+	private float layoutBaseScaleX = 1, layoutBaseScaleY = 1;
 	@SuppressWarnings("rawtypes")
 	protected HashMap options;
 	protected View view;
@@ -251,6 +271,10 @@ public class TiAnimationBuilder
 		if (options.containsKey(TiC.PROPERTY_ROTATION_X)) {
 			rotationX = TiConvert.toFloat(options, TiC.PROPERTY_ROTATION_X, -1);
 		}
+
+		if (options.containsKey(TiC.PROPERTY_USE_TRANSFORMS)) {
+			useTransforms = TiConvert.toBoolean(options, TiC.PROPERTY_USE_TRANSFORMS, false);
+		}
 		this.options = options;
 	}
 
@@ -428,7 +452,12 @@ public class TiAnimationBuilder
 			setAnchor(w, h, anchorX, anchorY);
 		}
 
-		if (top != null || bottom != null || left != null || right != null || centerX != null || centerY != null) {
+		layoutTransformed = canAnimateLayoutWithTransforms(w, h);
+		if (layoutTransformed) {
+			addLayoutTransformAnimators(animators, x, y, w, h, parentWidth, parentHeight);
+		}
+
+		if (!layoutTransformed && (top != null || bottom != null || left != null || right != null || centerX != null || centerY != null)) {
 			TiDimension optionTop = null, optionBottom = null;
 			TiDimension optionLeft = null, optionRight = null;
 			TiDimension optionCenterX = null, optionCenterY = null;
@@ -575,7 +604,7 @@ public class TiAnimationBuilder
 			relayoutChild = !includesRotation && (autoreverse == null || !autoreverse.booleanValue());
 		}
 
-		if (tdm == null && (width != null || height != null)) {
+		if (!layoutTransformed && tdm == null && (width != null || height != null)) {
 			TiDimension optionWidth, optionHeight;
 
 			if (width != null) {
@@ -635,6 +664,123 @@ public class TiAnimationBuilder
 		return as;
 	}
 
+	/**
+	 * Determines if this animation's position and size changes can be played as a translation and scale
+	 * of the view's current bounds, with the final layout applied once at the end, instead of
+	 * re-laying out the view on every frame.
+	 */
+	private boolean canAnimateLayoutWithTransforms(int w, int h)
+	{
+		if (!useTransforms || tdm != null || w <= 0 || h <= 0) {
+			return false;
+		}
+		if (top == null && bottom == null && left == null && right == null && centerX == null && centerY == null
+			&& width == null && height == null) {
+			return false;
+		}
+
+		// Positions can only be predicted for pin based layouts.
+		ViewParent parent = view.getParent();
+		return (parent instanceof TiCompositeLayout)
+			&& ((TiCompositeLayout) parent).isDefaultArrangement()
+			&& (view.getLayoutParams() instanceof TiCompositeLayout.LayoutParams);
+	}
+
+	private void addLayoutTransformAnimators(List<Animator> animators, int x, int y, int w, int h, int parentWidth,
+											 int parentHeight)
+	{
+		View parentView = (View) view.getParent();
+		LayoutParams params = (LayoutParams) view.getLayoutParams();
+
+		layoutBaseTranslationX = view.getTranslationX();
+		layoutBaseTranslationY = view.getTranslationY();
+		layoutBaseScaleX = view.getScaleX();
+		layoutBaseScaleY = view.getScaleY();
+
+		int toWidth = w;
+		if (width != null) {
+			toWidth = Math.max(new TiDimension(width, TiDimension.TYPE_WIDTH).getAsPixels(parentView), 0);
+		}
+		int toHeight = h;
+		if (height != null) {
+			toHeight = Math.max(new TiDimension(height, TiDimension.TYPE_HEIGHT).getAsPixels(parentView), 0);
+		}
+
+		// Resolve the final position from the animated pins, or from the view's own pins
+		// on an axis that is only being resized.
+		int[] horizontal = new int[] { x, x + toWidth };
+		if (left != null || right != null || centerX != null) {
+			TiCompositeLayout.computePosition(
+				parentView, (left != null) ? new TiDimension(left, TiDimension.TYPE_LEFT) : null,
+				(centerX != null) ? new TiDimension(centerX, TiDimension.TYPE_CENTER_X) : null,
+				(right != null) ? new TiDimension(right, TiDimension.TYPE_RIGHT) : null, toWidth, 0, parentWidth,
+				horizontal);
+		} else if (toWidth != w) {
+			TiCompositeLayout.computePosition(parentView, params.optionLeft, params.optionCenterX, params.optionRight,
+											  toWidth, 0, parentWidth, horizontal);
+		}
+		int[] vertical = new int[] { y, y + toHeight };
+		if (top != null || bottom != null || centerY != null) {
+			TiCompositeLayout.computePosition(
+				parentView, (top != null) ? new TiDimension(top, TiDimension.TYPE_TOP) : null,
+				(centerY != null) ? new TiDimension(centerY, TiDimension.TYPE_CENTER_Y) : null,
+				(bottom != null) ? new TiDimension(bottom, TiDimension.TYPE_BOTTOM) : null, toHeight, 0, parentHeight,
+				vertical);
+		} else if (toHeight != h) {
+			TiCompositeLayout.computePosition(parentView, params.optionTop, params.optionCenterY, params.optionBottom,
+											  toHeight, 0, parentHeight, vertical);
+		}
+
+		// Scaling happens around the pivot, so shift by how far the scaled edge moves away from it.
+		float scaleX = (float) toWidth / w;
+		float scaleY = (float) toHeight / h;
+		float translationX = horizontal[0] - x - view.getPivotX() * (1 - scaleX);
+		float translationY = vertical[0] - y - view.getPivotY() * (1 - scaleY);
+
+		// Played on top of the view's own transform, which stays in place afterwards.
+		addAnimator(animators, ObjectAnimator.ofFloat(view, "translationX", layoutBaseTranslationX + translationX));
+		addAnimator(animators, ObjectAnimator.ofFloat(view, "translationY", layoutBaseTranslationY + translationY));
+		if (toWidth != w) {
+			addAnimator(animators, ObjectAnimator.ofFloat(view, "scaleX", layoutBaseScaleX * scaleX));
+		}
+		if (toHeight != h) {
+			addAnimator(animators, ObjectAnimator.ofFloat(view, "scaleY", layoutBaseScaleY * scaleY));
+		}
+	}
+
+	private void applyFinalProperties()
+	{
+		for (Object key : options.keySet()) {
+			String name = TiConvert.toString(key);
+			Object value = options.get(key);
+			viewProxy.setProperty(name, value);
+		}
+	}
+
+	/**
+	 * Replaces the transforms played by a transform based layout animation with the real layout,
+	 * putting back the transform the view had before.
+	 */
+	private void commitLayoutTransform()
+	{
+		view.setTranslationX(layoutBaseTranslationX);
+		view.setTranslationY(layoutBaseTranslationY);
+		view.setScaleX(layoutBaseScaleX);
+		view.setScaleY(layoutBaseScaleY);
+
+		LayoutParams params = (LayoutParams) view.getLayoutParams();
+		TiConvert.fillLayout(viewProxy.getProperties(), params);
+		view.setLayoutParams(params);
+	}
+
+	private static void startOnNextFrame(AnimatorSet set)
+	{
+		if (sPendingStarts.isEmpty()) {
+			Choreographer.getInstance().postFrameCallback(sStartPendingCallback);
+		}
+		sPendingStarts.add(set);
+	}
+
 	private void addAnimation(AnimationSet animationSet, Animation animation)
 	{
 		// repeatCount is ignored at the AnimationSet level, so it needs to
@@ -910,10 +1056,9 @@ public class TiAnimationBuilder
 				setAnimationRunningFor(view, false);
 				if (autoreverse == null || !autoreverse.booleanValue()) {
 					// Update the underlying properties post-animation if not auto-reversing
-					for (Object key : options.keySet()) {
-						String name = TiConvert.toString(key);
-						Object value = options.get(key);
-						viewProxy.setProperty(name, value);
+					applyFinalProperties();
+					if (layoutTransformed) {
+						commitLayoutTransform();
 					}
 				}
 				if (callback != null) {
@@ -1032,17 +1177,30 @@ public class TiAnimationBuilder
 		this.viewProxy = viewProxy;
 
 		if (tdm == null || tdm.canUsePropertyAnimators()) {
-			buildPropertyAnimators().start();
+			AnimatorSet set = buildPropertyAnimators();
+			if (layoutTransformed) {
+				// Line up with other transform based animations started during this frame.
+				startOnNextFrame(set);
+			} else {
+				set.start();
+			}
 		}
 	}
 
 	public void stop(View view)
 	{
 		if (animatorSet != null) {
+			sPendingStarts.remove(animatorSet);
 			animatorSet.removeAllListeners();
 			animatorSet.cancel();
 			animatorSet = null;
 		}
+		if (layoutTransformed && view == this.view) {
+			// The transforms only approximate an intermediate layout, so finish at the final one.
+			applyFinalProperties();
+			commitLayoutTransform();
+			layoutTransformed = false;
+		}
 		view.clearAnimation();
 		setAnimationRunningFor(view, false);
 		if (animationProxy != null) {
@@ -65,8 +65,30 @@ public class TiColorHelper
 			return Color.TRANSPARENT;
 		}
 
+		Integer cachedColor = TiParsedValueCache.getColor(value);
+		if (cachedColor != null) {
+			return cachedColor;
+		}
+
 		String lowval = value.trim().toLowerCase();
 
+		// Hex and rgb()/rgba() values do not depend on the theme or resources, so they can be cached.
+		Integer literalColor = parseLiteralColor(lowval);
+		if (literalColor != null) {
+			TiParsedValueCache.putColor(value, literalColor);
+			return literalColor;
+		}
+
+		return parseNamedColor(value, lowval, context);
+	}
+
+	/**
+	 * Parses hex, rgb() and rgba() colors.
+	 * @param lowval the trimmed, lower case color string.
+	 * @return the color, or null if the value is not in one of these formats.
+	 */
+	private static Integer parseLiteralColor(String lowval)
+	{
 		Matcher m = null;
 		if ((m = shortHexPattern.matcher(lowval)).matches()) {
 			StringBuilder sb = new StringBuilder();
@@ -107,7 +129,22 @@ public class TiColorHelper
 				Math.round(Float.valueOf(m.group(4)) * 255f), Math.round(Float.valueOf(m.group(1)) * 255f),
 				Math.round(Float.valueOf(m.group(2)) * 255f), Math.round(Float.valueOf(m.group(3)) * 255f));
 		}
+		// #rrggbb or #aarrggbb
+		if (lowval.startsWith("#")) {
+			try {
+				return Color.parseColor(lowval);
+			} catch (IllegalArgumentException e) {
+				return null;
+			}
+		}
+		return null;
+	}
 
+	/**
+	 * Resolves semantic colors, color resources and color names.
+	 */
+	private static int parseNamedColor(String value, String lowval, Context context)
+	{
 		// Check if this a "semantic.colors.json" generated string from our common "ti.ui.js" script.
 		// Example: "ti.semantic.color:dark=<ColorString>;light=<ColorString>"
 		final String TI_SEMANTIC_COLOR_PREFIX = "ti.semantic.color:";
@@ -17,7 +17,6 @@ import java.util.TimeZone;
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.common.Log;
-import org.appcelerator.titanium.TiApplication;
 import org.appcelerator.titanium.TiBlob;
 import org.appcelerator.titanium.TiC;
 import org.appcelerator.titanium.TiDimension;
@@ -641,34 +640,33 @@ public class TiConvert
 	}
 
 	/**
-	 * Returns a new TiDimension object given a String value and type.
+	 * Returns a TiDimension object given a String value and type.
 	 * Refer to {@link TiDimension#TiDimension(String, int)} for more details.
+	 * Parsed values are interned by {@link TiParsedValueCache}, so repeated values are not parsed again.
 	 * @param value the dimension value.
 	 * @param valueType the dimension type.
 	 * @return a TiDimension instance.
 	 */
 	public static TiDimension toTiDimension(String value, int valueType)
 	{
-		return new TiDimension(value, valueType);
+		if (value == null) {
+			return new TiDimension((String) null, valueType);
+		}
+		return TiParsedValueCache.getDimension(value, valueType);
 	}
 
 	/**
-	 * Converts value to String, and if value is a Number, appends "px" to value,
-	 * then creates and returns a new TiDimension object with the new value and valueType.
+	 * Returns a TiDimension object for a String or Number value and valueType.
+	 * Numbers are expressed in the app's default unit.
 	 * Refer to {@link TiDimension#TiDimension(String, int)} for more details.
+	 * Parsed values are interned by {@link TiParsedValueCache}, so repeated values are not parsed again.
 	 * @param value the dimension value.
 	 * @param valueType the dimension type.
 	 * @return a TiDimension instance.
 	 */
 	public static TiDimension toTiDimension(Object value, int valueType)
 	{
-		if (value instanceof Number) {
-			value = value.toString() + TiApplication.getInstance().getDefaultUnit();
-		}
-		if (value instanceof String) {
-			return toTiDimension((String) value, valueType);
-		}
-		return null;
+		return TiParsedValueCache.getDimension(value, valueType);
 	}
 	/**
 	 * Takes a value out of a hash table then attempts to convert it using {@link #toTiDimension(Object, int)} for more details.
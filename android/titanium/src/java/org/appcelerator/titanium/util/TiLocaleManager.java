@@ -25,6 +25,7 @@ public class TiLocaleManager
 {
 	private static boolean didUserChangeLanguage = false;
 	private static final String KEY_LOCALE = "currentLocale";
+	private static final String EVENT_STRINGS_CHANGE = "stringschange";
 	private static final boolean isPerAppLanguageSupported = Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU;
 	private static Locale systemLocale = getSystemLocale(); // Always keeps the system locale updated.
 
@@ -111,6 +112,10 @@ public class TiLocaleManager
 	private static void softRestartAppIfNeeded()
 	{
 		final KrollModule localeModule = TiApplication.getInstance().getModuleByName("Locale");
+
+		// Let the JavaScript side drop its string table before any "change" listener calls L() again.
+		localeModule.fireEvent(EVENT_STRINGS_CHANGE, null);
+
 		boolean hasLocaleChangeListener = localeModule.hasListeners(TiC.EVENT_CHANGE);
 
 		if (hasLocaleChangeListener) {
@@ -0,0 +1,144 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.util;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.titanium.TiApplication;
+import org.appcelerator.titanium.TiDimension;
+
+import android.util.TypedValue;
+
+import androidx.collection.LruCache;
+
+/**
+ * Interns parsed dimension and color values keyed by the raw value handed in from JavaScript,
+ * so restyling or animating many views does not re-run the regex parsers for values like
+ * "10dp", 50 or "#ff0000" over and over.
+ * <p>
+ * Only the parse result is shared. Every lookup returns a new {@link TiDimension}, so callers
+ * may modify it like one they created themselves.
+ */
+public class TiParsedValueCache
+{
+	private static final int MAX_DIMENSIONS = 512;
+	private static final int MAX_COLORS = 256;
+
+	// Doubles outside of this range are stringified in scientific notation, which the
+	// dimension parser does not accept. Those keep going through the string path.
+	private static final double MAX_PLAIN_NUMBER = 1e7;
+	private static final double MIN_PLAIN_NUMBER = 1e-3;
+
+	/**
+	 * The immutable result of parsing a dimension. It does not depend on the value type,
+	 * so one entry serves every TiDimension.TYPE_* a value is used with.
+	 */
+	private static final class ParsedDimension
+	{
+		final double value;
+		final int units;
+
+		ParsedDimension(double value, int units)
+		{
+			this.value = value;
+			this.units = units;
+		}
+	}
+
+	private static final LruCache<Object, ParsedDimension> dimensionCache =
+		new LruCache<Object, ParsedDimension>(MAX_DIMENSIONS) {
+			@Override
+			protected ParsedDimension create(Object key)
+			{
+				TiDimension dimension;
+				if (key instanceof Number) {
+					double value = ((Number) key).doubleValue();
+					double magnitude = Math.abs(value);
+					if (Double.isNaN(value) || magnitude >= MAX_PLAIN_NUMBER
+						|| (magnitude > 0 && magnitude < MIN_PLAIN_NUMBER)) {
+						dimension = new TiDimension(key.toString() + TiApplication.getInstance().getDefaultUnit(),
+													TiDimension.TYPE_UNDEFINED);
+					} else {
+						// Same result as parsing the number with the default unit appended, minus the string round-trip.
+						int units = TiDimension.toUnits(TiApplication.getInstance().getDefaultUnit(),
+														TypedValue.COMPLEX_UNIT_PX);
+						return new ParsedDimension((float) value, units);
+					}
+				} else {
+					dimension = new TiDimension((String) key, TiDimension.TYPE_UNDEFINED);
+				}
+				return new ParsedDimension(dimension.getValue(), dimension.getUnits());
+			}
+		};
+
+	private static final LruCache<String, Integer> colorCache = new LruCache<>(MAX_COLORS);
+
+	/**
+	 * Returns the parsed dimension for a String or Number value.
+	 * @param value the raw dimension value. Numbers use the app's default unit.
+	 * @param valueType one of the TiDimension.TYPE_* constants.
+	 * @return a new TiDimension, or null if value is not a String or Number.
+	 */
+	public static TiDimension getDimension(Object value, int valueType)
+	{
+		if (!(value instanceof String) && !(value instanceof Number)) {
+			return null;
+		}
+		ParsedDimension parsed = dimensionCache.get(value);
+		return new TiDimension(parsed.value, valueType, parsed.units);
+	}
+
+	/**
+	 * @return the cached color for the value, or null if it has not been cached.
+	 */
+	public static Integer getColor(String value)
+	{
+		return colorCache.get(value);
+	}
+
+	/**
+	 * Caches a parsed color. Only colors that do not depend on the current theme or
+	 * configuration may be cached.
+	 */
+	public static void putColor(String value, int color)
+	{
+		colorCache.put(value, color);
+	}
+
+	/**
+	 * Drops every cached value, for example when the default unit or configuration changes.
+	 */
+	public static void clear()
+	{
+		dimensionCache.evictAll();
+		colorCache.evictAll();
+	}
+
+	/**
+	 * @return hit/miss/eviction counts and current sizes of the dimension and color caches.
+	 */
+	public static KrollDict getStats()
+	{
+		KrollDict stats = new KrollDict();
+		stats.put("dimensions", buildStats(dimensionCache.hitCount(), dimensionCache.missCount(),
+										   dimensionCache.evictionCount(), dimensionCache.size()));
+		stats.put("colors", buildStats(colorCache.hitCount(), colorCache.missCount(), colorCache.evictionCount(),
+									   colorCache.size()));
+		return stats;
+	}
+
+	private static KrollDict buildStats(int hits, int misses, int evictions, int size)
+	{
+		KrollDict stats = new KrollDict();
+		stats.put("hits", hits);
+		stats.put("misses", misses);
+		stats.put("evictions", evictions);
+		stats.put("size", size);
+		int lookups = hits + misses;
+		stats.put("hitRate", (lookups > 0) ? (double) hits / lookups : 0.0);
+		return stats;
+	}
+}
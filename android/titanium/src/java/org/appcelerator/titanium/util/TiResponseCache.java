@@ -442,7 +442,7 @@ public class TiResponseCache extends ResponseCache
 		return new TiCacheResponse(headers, new FileInputStream(bFile));
 	}
 
-	private static Map<String, List<String>> readHeaders(File hFile) throws IOException
+	static Map<String, List<String>> readHeaders(File hFile) throws IOException
 	{
 		// Read in the headers
 		Map<String, List<String>> headers = new HashMap<>();
@@ -489,7 +489,7 @@ public class TiResponseCache extends ResponseCache
 		}
 	}
 
-	private Map<String, List<String>> makeLowerCaseHeaders(Map<String, List<String>> origHeaders)
+	static Map<String, List<String>> makeLowerCaseHeaders(Map<String, List<String>> origHeaders)
 	{
 		Map<String, List<String>> headers = new HashMap<>(origHeaders.size());
 		for (String key : origHeaders.keySet()) {
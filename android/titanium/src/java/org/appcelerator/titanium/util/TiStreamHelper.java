@@ -10,6 +10,9 @@ package org.appcelerator.titanium.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollFunction;
 import org.appcelerator.kroll.KrollObject;
@@ -19,6 +22,24 @@ import ti.modules.titanium.BufferProxy;
 
 public class TiStreamHelper
 {
+	private static class ExecutorHolder
+	{
+		private static final AtomicInteger threadCount = new AtomicInteger();
+
+		// Stream operations can block for the lifetime of a connection, so use a cached pool
+		// rather than a fixed one that could be starved by long-running reads.
+		private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(
+			runnable -> new Thread(runnable, "TiStreamIO-" + threadCount.incrementAndGet()));
+	}
+
+	/**
+	 * @return The shared executor used to run asynchronous stream operations.
+	 */
+	public static ExecutorService getIOExecutor()
+	{
+		return ExecutorHolder.INSTANCE;
+	}
+
 	/**
 	 * Common code for handling JS calls for #read() on a Ti.IOStream.
 	 * @param  TAG         logging tag
@@ -212,19 +233,17 @@ public class TiStreamHelper
 
 	public static int read(InputStream inputStream, BufferProxy bufferProxy, int offset, int length) throws IOException
 	{
-		byte[] buffer = bufferProxy.getBuffer();
-
-		if ((offset + length) > buffer.length) {
-			length = buffer.length - offset;
+		if ((offset + length) > bufferProxy.getLength()) {
+			length = bufferProxy.getLength() - offset;
 		}
 
-		return inputStream.read(buffer, offset, length);
+		return bufferProxy.readFrom(inputStream, offset, length);
 	}
 
 	public static void readAsync(final KrollObject krollObject, final TiStream sourceStream, final BufferProxy buffer,
 								 final int offset, final int length, final KrollFunction resultsCallback)
 	{
-		new Thread(new Runnable() {
+		getIOExecutor().execute(new Runnable() {
 			public void run()
 			{
 				int bytesRead = -1;
@@ -241,20 +260,17 @@ public class TiStreamHelper
 
 				resultsCallback.callAsync(krollObject, buildRWCallbackArgs(sourceStream, bytesRead, code, error));
 			}
-		})
-			.start();
+		});
 	}
 
 	public static int write(OutputStream outputStream, BufferProxy bufferProxy, int offset, int length)
 		throws IOException
 	{
-		byte[] buffer = bufferProxy.getBuffer();
-
-		if ((offset + length) > buffer.length) {
-			length = buffer.length - offset;
+		if ((offset + length) > bufferProxy.getLength()) {
+			length = bufferProxy.getLength() - offset;
 		}
 
-		outputStream.write(buffer, offset, length);
+		bufferProxy.writeTo(outputStream, offset, length);
 		outputStream.flush();
 
 		return length;
@@ -263,7 +279,7 @@ public class TiStreamHelper
 	public static void writeAsync(final KrollObject krollObject, final TiStream outputStream, final BufferProxy buffer,
 								  final int offset, final int length, final KrollFunction resultsCallback)
 	{
-		new Thread(new Runnable() {
+		getIOExecutor().execute(new Runnable() {
 			public void run()
 			{
 				int bytesWritten = -1;
@@ -280,8 +296,7 @@ public class TiStreamHelper
 
 				resultsCallback.callAsync(krollObject, buildRWCallbackArgs(outputStream, bytesWritten, code, error));
 			}
-		})
-			.start();
+		});
 	}
 
 	public static KrollDict buildRWCallbackArgs(TiStream sourceStream, int bytesProcessed, int code, String error)
@@ -102,6 +102,21 @@ public class TiCompositeLayout extends ViewGroup implements OnHierarchyChangeLis
 
 	private WeakReference<TiViewProxy> proxy;
 
+	/**
+	 * Inputs and result of the last onMeasure() call in the current layout pass.
+	 * <p>
+	 * A view whose descendant requested a layout is re-measured on every measure() call until it
+	 * has been laid out, even when its parent hands it the same specs again. With nested Ti.UI.SIZE
+	 * views each ancestor measures its children more than once per pass, so this grows with depth.
+	 * The last measurement is reused when nothing that feeds into it has changed since.
+	 */
+	private boolean hasMeasureCache = false;
+	private int cachedWidthSpec;
+	private int cachedHeightSpec;
+	private int cachedChildSizing;
+	private int cachedMeasuredWidth;
+	private int cachedMeasuredHeight;
+
 	// We need these two constructors for backwards compatibility with modules
 
 	/**
@@ -535,9 +550,82 @@ public class TiCompositeLayout extends ViewGroup implements OnHierarchyChangeLis
 		this.previousInsets = null;
 	}
 
+	@Override
+	public void requestLayout()
+	{
+		invalidateMeasureCache();
+		super.requestLayout();
+	}
+
+	@Override
+	public void forceLayout()
+	{
+		invalidateMeasureCache();
+		super.forceLayout();
+	}
+
+	/**
+	 * Discards the last measurement so the next onMeasure() call measures all children again.
+	 * Must be called when a subclass changes state that onMeasure() depends on without requesting a layout.
+	 */
+	protected void invalidateMeasureCache()
+	{
+		this.hasMeasureCache = false;
+	}
+
+	/**
+	 * Determines if the last measurement can be reused when measured again with the same specs in the
+	 * same layout pass. Subclasses whose measured size depends on state outside of this layout must
+	 * return false or call invalidateMeasureCache() when that state changes.
+	 * @return Returns true if the measurement can be reused. Returns false if not.
+	 */
+	protected boolean isMeasureCacheEnabled()
+	{
+		return true;
+	}
+
+	private int getChildSizingHash()
+	{
+		int hash = this.childFillWidth;
+		hash = 31 * hash + this.childFillHeight;
+		hash = 31 * hash + this.childRelativeSizingWidth;
+		hash = 31 * hash + this.childRelativeSizingHeight;
+		return hash;
+	}
+
+	/**
+	 * A child's requestLayout() does not always reach this view, such as when it is made while this view is
+	 * being laid out, so the children are asked directly.
+	 * @return Returns true if a child has requested a layout since it was last laid out.
+	 */
+	private boolean isChildLayoutRequested()
+	{
+		for (int i = getChildCount() - 1; i >= 0; i--) {
+			if (getChildAt(i).isLayoutRequested()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec)
 	{
+		long profileStartTime = TiLayoutProfiler.isEnabled() ? System.nanoTime() : 0;
+
+		// Every child still holds the measurement made for these specs, so there is nothing to redo.
+		int childSizing = getChildSizingHash();
+		if (this.hasMeasureCache && (widthMeasureSpec == this.cachedWidthSpec)
+			&& (heightMeasureSpec == this.cachedHeightSpec) && (childSizing == this.cachedChildSizing)
+			&& isMeasureCacheEnabled() && !isChildLayoutRequested()) {
+			setMeasuredDimension(this.cachedMeasuredWidth, this.cachedMeasuredHeight);
+			if (profileStartTime != 0) {
+				TiLayoutProfiler.recordMeasure(getProfilerOwner(), System.nanoTime() - profileStartTime, true);
+			}
+			return;
+		}
+		this.hasMeasureCache = false;
+
 		int childCount = getChildCount();
 		int wFromSpec = MeasureSpec.getSize(widthMeasureSpec);
 		int hFromSpec = MeasureSpec.getSize(heightMeasureSpec);
@@ -642,6 +730,23 @@ public class TiCompositeLayout extends ViewGroup implements OnHierarchyChangeLis
 		int measuredWidth = getMeasuredWidth(maxWidth, widthMeasureSpec);
 		int measuredHeight = getMeasuredHeight(maxHeight, heightMeasureSpec);
 		setMeasuredDimension(measuredWidth, measuredHeight);
+
+		this.cachedWidthSpec = widthMeasureSpec;
+		this.cachedHeightSpec = heightMeasureSpec;
+		this.cachedChildSizing = childSizing;
+		this.cachedMeasuredWidth = measuredWidth;
+		this.cachedMeasuredHeight = measuredHeight;
+		this.hasMeasureCache = true;
+
+		if (profileStartTime != 0) {
+			TiLayoutProfiler.recordMeasure(getProfilerOwner(), System.nanoTime() - profileStartTime, false);
+		}
+	}
+
+	private Object getProfilerOwner()
+	{
+		TiViewProxy viewProxy = (this.proxy != null) ? this.proxy.get() : null;
+		return (viewProxy != null) ? viewProxy : this;
 	}
 
 	protected void constrainChild(View child, int width, int wMode, int height, int hMode, int remainWidth,
@@ -828,6 +933,11 @@ public class TiCompositeLayout extends ViewGroup implements OnHierarchyChangeLis
 	@Override
 	protected void onLayout(boolean changed, int l, int t, int r, int b)
 	{
+		long profileStartTime = TiLayoutProfiler.isEnabled() ? System.nanoTime() : 0;
+
+		// Children may be re-measured below, and the pass ends here either way.
+		invalidateMeasureCache();
+
 		int count = getChildCount();
 
 		int left = 0;
@@ -945,6 +1055,10 @@ public class TiCompositeLayout extends ViewGroup implements OnHierarchyChangeLis
 			}
 		}
 
+		if (profileStartTime != 0) {
+			TiLayoutProfiler.recordLayout(getProfilerOwner(), System.nanoTime() - profileStartTime);
+		}
+
 		if (changed) {
 			TiViewProxy viewProxy = (proxy == null ? null : proxy.get());
 			TiUIHelper.firePostLayoutEvent(viewProxy);
@@ -1221,7 +1335,7 @@ public class TiCompositeLayout extends ViewGroup implements OnHierarchyChangeLis
 		return (arrangement == LayoutArrangement.HORIZONTAL);
 	}
 
-	protected boolean isDefaultArrangement()
+	public boolean isDefaultArrangement()
 	{
 		return (arrangement == LayoutArrangement.DEFAULT);
 	}
@@ -1235,11 +1349,13 @@ public class TiCompositeLayout extends ViewGroup implements OnHierarchyChangeLis
 		} else {
 			arrangement = LayoutArrangement.DEFAULT;
 		}
+		invalidateMeasureCache();
 	}
 
 	public void setEnableHorizontalWrap(boolean enable)
 	{
 		enableHorizontalWrap = enable;
+		invalidateMeasureCache();
 	}
 
 	public void setProxy(TiViewProxy proxy)
@@ -0,0 +1,269 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.view;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollProxy;
+import org.appcelerator.kroll.common.Log;
+import org.appcelerator.titanium.TiC;
+
+import android.os.SystemClock;
+import android.view.animation.AnimationUtils;
+
+/**
+ * Opt-in counters for the measure and layout work done by Titanium views.
+ * <p>
+ * While enabled, {@link TiCompositeLayout} reports every measure and layout pass and
+ * {@link TiUIView} reports every layout it requests, along with the property change that
+ * caused it. Counts are kept per view proxy and per frame so views that are measured or
+ * laid out several times within one frame stand out. All hooks are a single volatile read
+ * when profiling is disabled.
+ */
+public class TiLayoutProfiler
+{
+	private static final String TAG = "TiLayoutProfiler";
+
+	private static volatile boolean enabled = false;
+	private static final Map<Object, ViewStats> stats = new WeakHashMap<>();
+	private static long startTime;
+	private static long lastFrameTime = -1;
+	private static int frameCount;
+
+	private static class ViewStats
+	{
+		String name;
+		String id;
+		int measures;
+		int cachedMeasures;
+		int layouts;
+		long measureNanos;
+		long layoutNanos;
+		int layoutRequests;
+		int propertyLayoutRequests;
+		Map<String, Integer> properties;
+
+		long frameTime = -1;
+		int frameMeasures;
+		int frameLayouts;
+		int maxFrameMeasures;
+		int maxFrameLayouts;
+
+		void enterFrame(long time)
+		{
+			if (time != frameTime) {
+				frameTime = time;
+				frameMeasures = 0;
+				frameLayouts = 0;
+			}
+		}
+	}
+
+	/**
+	 * Clears previous results and starts collecting.
+	 */
+	public static void start()
+	{
+		synchronized (stats)
+		{
+			stats.clear();
+			startTime = SystemClock.uptimeMillis();
+			lastFrameTime = -1;
+			frameCount = 0;
+		}
+		enabled = true;
+	}
+
+	/**
+	 * Stops collecting. Results remain available through {@link #getReport()}.
+	 */
+	public static void stop()
+	{
+		enabled = false;
+	}
+
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Records one onMeasure() call.
+	 * @param owner the view's proxy, or the view itself if it has none.
+	 * @param nanos time spent, including measuring children.
+	 * @param cached true if a previous measurement was reused.
+	 */
+	public static void recordMeasure(Object owner, long nanos, boolean cached)
+	{
+		synchronized (stats)
+		{
+			ViewStats entry = getStats(owner);
+			if (entry == null) {
+				return;
+			}
+			entry.measures++;
+			if (cached) {
+				entry.cachedMeasures++;
+			}
+			entry.measureNanos += nanos;
+			entry.frameMeasures++;
+			entry.maxFrameMeasures = Math.max(entry.maxFrameMeasures, entry.frameMeasures);
+		}
+	}
+
+	/**
+	 * Records one onLayout() call.
+	 * @param owner the view's proxy, or the view itself if it has none.
+	 * @param nanos time spent, including laying out children.
+	 */
+	public static void recordLayout(Object owner, long nanos)
+	{
+		synchronized (stats)
+		{
+			ViewStats entry = getStats(owner);
+			if (entry == null) {
+				return;
+			}
+			entry.layouts++;
+			entry.layoutNanos += nanos;
+			entry.frameLayouts++;
+			entry.maxFrameLayouts = Math.max(entry.maxFrameLayouts, entry.frameLayouts);
+		}
+	}
+
+	/**
+	 * Records a layout requested by TiUIView.layoutNativeView().
+	 * @param owner the view's proxy.
+	 * @param property the property whose change requested the layout, or null if it was not a property change.
+	 */
+	public static void recordLayoutRequest(Object owner, String property)
+	{
+		synchronized (stats)
+		{
+			ViewStats entry = getStats(owner);
+			if (entry == null) {
+				return;
+			}
+			entry.layoutRequests++;
+			if (property != null) {
+				entry.propertyLayoutRequests++;
+				if (entry.properties == null) {
+					entry.properties = new HashMap<>();
+				}
+				Integer count = entry.properties.get(property);
+				entry.properties.put(property, (count != null) ? count + 1 : 1);
+			}
+		}
+	}
+
+	private static ViewStats getStats(Object owner)
+	{
+		if (!enabled || owner == null) {
+			return null;
+		}
+
+		// Within a frame the animation clock is fixed to the frame's start time.
+		long frameTime = AnimationUtils.currentAnimationTimeMillis();
+		if (frameTime != lastFrameTime) {
+			lastFrameTime = frameTime;
+			frameCount++;
+		}
+
+		ViewStats entry = stats.get(owner);
+		if (entry == null) {
+			entry = new ViewStats();
+			if (owner instanceof KrollProxy) {
+				KrollProxy proxy = (KrollProxy) owner;
+				entry.name = proxy.getApiName();
+				Object id = proxy.getProperty(TiC.PROPERTY_ID);
+				entry.id = (id != null) ? id.toString() : null;
+			} else {
+				entry.name = owner.getClass().getName();
+			}
+			stats.put(owner, entry);
+		}
+		entry.enterFrame(frameTime);
+		return entry;
+	}
+
+	/**
+	 * Returns the collected counts, with the views that spent the most time first.
+	 * Times are in milliseconds and include the time spent on child views.
+	 * @return a dictionary with "frames", "duration" and a "views" array.
+	 */
+	public static KrollDict getReport()
+	{
+		ArrayList<ViewStats> entries;
+		KrollDict report = new KrollDict();
+		synchronized (stats)
+		{
+			entries = new ArrayList<>(stats.values());
+			report.put("frames", frameCount);
+			report.put("duration", (startTime > 0) ? SystemClock.uptimeMillis() - startTime : 0);
+		}
+		Collections.sort(entries, new Comparator<ViewStats>() {
+			@Override
+			public int compare(ViewStats a, ViewStats b)
+			{
+				return Long.compare(b.measureNanos + b.layoutNanos, a.measureNanos + a.layoutNanos);
+			}
+		});
+
+		Object[] views = new Object[entries.size()];
+		for (int i = 0; i < views.length; i++) {
+			ViewStats entry = entries.get(i);
+			KrollDict view = new KrollDict();
+			view.put("name", entry.name);
+			if (entry.id != null) {
+				view.put(TiC.PROPERTY_ID, entry.id);
+			}
+			view.put("measures", entry.measures);
+			view.put("cachedMeasures", entry.cachedMeasures);
+			view.put("layouts", entry.layouts);
+			view.put("measureTime", entry.measureNanos / 1e6);
+			view.put("layoutTime", entry.layoutNanos / 1e6);
+			view.put("maxMeasuresPerFrame", entry.maxFrameMeasures);
+			view.put("maxLayoutsPerFrame", entry.maxFrameLayouts);
+			view.put("layoutRequests", entry.layoutRequests);
+			view.put("propertyLayoutRequests", entry.propertyLayoutRequests);
+			view.put("properties", (entry.properties != null) ? new KrollDict(entry.properties) : new KrollDict());
+			views[i] = view;
+		}
+		report.put("views", views);
+		return report;
+	}
+
+	/**
+	 * Writes the report to the log, one line per view.
+	 */
+	public static void dump()
+	{
+		KrollDict report = getReport();
+		Object[] views = (Object[]) report.get("views");
+		Log.i(TAG, "Layout report: " + views.length + " views, " + report.get("frames") + " frames, "
+					   + report.get("duration") + "ms");
+		for (Object value : views) {
+			KrollDict view = (KrollDict) value;
+			String name = view.getString("name");
+			if (view.containsKey(TiC.PROPERTY_ID)) {
+				name += "#" + view.getString(TiC.PROPERTY_ID);
+			}
+			Log.i(TAG, name + ": measures=" + view.get("measures") + " (cached " + view.get("cachedMeasures")
+						   + ", max/frame " + view.get("maxMeasuresPerFrame") + ", "
+						   + String.format("%.2f", view.getDouble("measureTime")) + "ms), layouts="
+						   + view.get("layouts") + " (max/frame " + view.get("maxLayoutsPerFrame") + ", "
+						   + String.format("%.2f", view.getDouble("layoutTime")) + "ms), requests="
+						   + view.get("layoutRequests") + " " + view.get("properties"));
+		}
+	}
+}
@@ -155,6 +155,9 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 	protected GestureDetector detector = null;
 
 	private final AtomicBoolean bLayoutPending = new AtomicBoolean();
+
+	// Property being applied while layout profiling is enabled, used to attribute layout requests.
+	private String layoutTriggerProperty;
 	private final AtomicBoolean bTransformPending = new AtomicBoolean();
 
 	private TiAnimationBuilder tiBuilder;
@@ -592,6 +595,9 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 
 	protected void layoutNativeView(boolean informParent)
 	{
+		if (TiLayoutProfiler.isEnabled()) {
+			TiLayoutProfiler.recordLayoutRequest(proxy, layoutTriggerProperty);
+		}
 		if (nativeView != null) {
 			Animation a = nativeView.getAnimation();
 			if (a instanceof TiMatrixAnimation) {
@@ -670,12 +676,28 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 	}
 
 	public void propertyChanged(String key, Object oldValue, Object newValue, KrollProxy proxy)
+	{
+		if (!TiLayoutProfiler.isEnabled()) {
+			applyPropertyChange(key, oldValue, newValue, proxy);
+			return;
+		}
+
+		String previousTrigger = layoutTriggerProperty;
+		layoutTriggerProperty = key;
+		try {
+			applyPropertyChange(key, oldValue, newValue, proxy);
+		} finally {
+			layoutTriggerProperty = previousTrigger;
+		}
+	}
+
+	private void applyPropertyChange(String key, Object oldValue, Object newValue, KrollProxy proxy)
 	{
 		if (key.equals(TiC.PROPERTY_LEFT)) {
 			resetPostAnimationValues();
 			resetTranslationX();
 			if (newValue != null) {
-				layoutParams.optionLeft = TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_LEFT);
+				layoutParams.optionLeft = TiConvert.toTiDimension(newValue, TiDimension.TYPE_LEFT);
 			} else {
 				layoutParams.optionLeft = null;
 			}
@@ -684,7 +706,7 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 			resetPostAnimationValues();
 			resetTranslationY();
 			if (newValue != null) {
-				layoutParams.optionTop = TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_TOP);
+				layoutParams.optionTop = TiConvert.toTiDimension(newValue, TiDimension.TYPE_TOP);
 			} else {
 				layoutParams.optionTop = null;
 			}
@@ -700,7 +722,7 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 			resetTranslationX();
 			if (newValue != null) {
 				layoutParams.optionRight =
-					TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_RIGHT);
+					TiConvert.toTiDimension(newValue, TiDimension.TYPE_RIGHT);
 			} else {
 				layoutParams.optionRight = null;
 			}
@@ -710,7 +732,7 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 			resetTranslationY();
 			if (newValue != null) {
 				layoutParams.optionBottom =
-					TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_BOTTOM);
+					TiConvert.toTiDimension(newValue, TiDimension.TYPE_BOTTOM);
 			} else {
 				layoutParams.optionBottom = null;
 			}
@@ -736,7 +758,7 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 					layoutParams.autoFillsHeight = true;
 				} else if (!newValue.equals(TiC.SIZE_AUTO)) {
 					layoutParams.optionHeight =
-						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_HEIGHT);
+						TiConvert.toTiDimension(newValue, TiDimension.TYPE_HEIGHT);
 					layoutParams.sizeOrFillHeightEnabled = false;
 				}
 			} else {
@@ -759,7 +781,7 @@ public abstract class TiUIView implements KrollProxyListener, OnFocusChangeListe
 					layoutParams.autoFillsWidth = true;
 				} else if (!newValue.equals(TiC.SIZE_AUTO)) {
 					layoutParams.optionWidth =
-						TiConvert.toTiDimension(TiConvert.toString(newValue), TiDimension.TYPE_WIDTH);
+						TiConvert.toTiDimension(newValue, TiDimension.TYPE_WIDTH);
 					layoutParams.sizeOrFillWidthEnabled = false;
 				}
 			} else {
@@ -7,6 +7,7 @@
 package ti.modules.titanium;
 
 import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollExternalMemory;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.KrollProxy;
 import org.appcelerator.kroll.annotations.Kroll;
@@ -15,7 +16,12 @@ import org.appcelerator.titanium.TiBlob;
 import org.appcelerator.titanium.TiC;
 import org.appcelerator.titanium.util.TiConvert;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 
 import ti.modules.titanium.codec.CodecModule;
@@ -33,8 +39,26 @@ public class BufferProxy extends KrollProxy
 {
 	private static final String TAG = "BufferProxy";
 
+	// Smallest capacity allocated when a buffer has to grow.
+	private static final int MIN_GROW_CAPACITY = 16;
+
+	// Largest chunk moved at once between a direct buffer and a stream.
+	private static final int TRANSFER_CHUNK_SIZE = 8192;
+
+	// Heap storage. The array length is the capacity and may exceed the buffer's length.
 	private byte[] buffer;
 
+	// Direct storage, used instead of "buffer" when created with "direct: true".
+	private ByteBuffer directBuffer;
+
+	private int length;
+
+	// Reports the storage's capacity to the JavaScript runtime.
+	private KrollExternalMemory externalMemory;
+
+	// Reused for stream transfers of direct buffers, allocated on first use.
+	private byte[] transferBuffer;
+
 	public BufferProxy()
 	{
 		this(0);
@@ -42,12 +66,20 @@ public class BufferProxy extends KrollProxy
 
 	public BufferProxy(int bufferSize)
 	{
-		buffer = new byte[bufferSize];
+		this(bufferSize, false);
+	}
+
+	public BufferProxy(int bufferSize, boolean direct)
+	{
+		allocate(bufferSize, direct);
+		length = bufferSize;
 	}
 
 	public BufferProxy(byte[] existingBuffer)
 	{
 		buffer = existingBuffer;
+		length = existingBuffer.length;
+		updateExternalMemory();
 	}
 
 	@Override
@@ -55,7 +87,8 @@ public class BufferProxy extends KrollProxy
 	{
 		// If no arguments are provided in create, allocate an empty buffer.
 		if (args.length == 0) {
-			buffer = new byte[0];
+			allocate(0, false);
+			length = 0;
 		} else {
 			super.handleCreationArgs(createdInModule, args);
 		}
@@ -78,7 +111,8 @@ public class BufferProxy extends KrollProxy
 			setProperty(TiC.PROPERTY_BYTE_ORDER, CodecModule.getByteOrder(null));
 		}
 
-		buffer = new byte[length];
+		allocate(length, TiConvert.toBoolean(dict, TiC.PROPERTY_DIRECT, false));
+		this.length = length;
 		Object value = dict.get(TiC.PROPERTY_VALUE);
 		if (value instanceof Number) {
 			encodeNumber((Number) value, dict);
@@ -94,12 +128,12 @@ public class BufferProxy extends KrollProxy
 			throw new IllegalArgumentException("data is a Number, but no type was given");
 		}
 
-		if (buffer.length == 0) {
-			buffer = new byte[CodecModule.getWidth(type)];
+		if (length == 0) {
+			grow(CodecModule.getWidth(type));
 		}
 
 		int byteOrder = CodecModule.getByteOrder(dict.get(TiC.PROPERTY_BYTE_ORDER));
-		CodecModule.encodeNumber(value, type, buffer, 0, byteOrder);
+		putNumber(0, value, type, byteOrder);
 	}
 
 	protected void encodeString(String value, KrollDict dict)
@@ -112,10 +146,15 @@ public class BufferProxy extends KrollProxy
 		String charset = CodecModule.getCharset(type);
 		try {
 			byte[] bytes = value.getBytes(charset);
-			if (buffer.length == 0) {
+			if (length == 0 && directBuffer == null) {
 				buffer = bytes;
+				length = bytes.length;
+				updateExternalMemory();
 			} else {
-				System.arraycopy(bytes, 0, buffer, 0, bytes.length);
+				if (length == 0) {
+					grow(bytes.length);
+				}
+				put(0, bytes, 0, bytes.length);
 			}
 		} catch (UnsupportedEncodingException e) {
 			Log.w(TAG, e.getMessage(), e);
@@ -124,16 +163,62 @@ public class BufferProxy extends KrollProxy
 	}
 
 	/**
+	 * Returns the buffer's bytes as an array whose length matches this buffer's length.
+	 * <p>
+	 * For heap buffers this is the live backing array (trimmed to length if spare capacity exists),
+	 * so writes into it are reflected in the buffer. For direct buffers this is a copy; use
+	 * {@link #put(int, byte[], int, int)} or {@link #write(int, byte[], int, int)} to modify them.
+	 * Trimming gives up the spare capacity, so code reading the buffer repeatedly should prefer
+	 * {@link #asByteBuffer()} or {@link #get(int, byte[], int, int)}.
+	 *
 	 * @return The native buffer for this proxy
 	 */
 	public byte[] getBuffer()
 	{
+		if (directBuffer != null) {
+			byte[] copy = new byte[length];
+			get(0, copy, 0, length);
+			return copy;
+		}
+		if (buffer.length != length) {
+			buffer = copyOf(buffer, length);
+			updateExternalMemory();
+		}
 		return buffer;
 	}
 
+	/**
+	 * Returns a view of this buffer's bytes, positioned at 0 and limited to the buffer's length.
+	 * The view shares storage with this buffer without copying, until the buffer is re-allocated.
+	 *
+	 * @return a big endian ByteBuffer over this buffer's contents
+	 */
+	public ByteBuffer asByteBuffer()
+	{
+		if (directBuffer != null) {
+			ByteBuffer view = directBuffer.duplicate();
+			view.clear();
+			view.limit(length);
+			return view.slice();
+		}
+		return ByteBuffer.wrap(buffer, 0, length).slice();
+	}
+
+	/**
+	 * @return true if this buffer's storage is a direct ByteBuffer shared with JS array buffers
+	 */
+	public boolean isDirect()
+	{
+		return directBuffer != null;
+	}
+
 	@Override
 	public Object getIndexedProperty(int index)
 	{
+		checkRange(index, 1);
+		if (directBuffer != null) {
+			return directBuffer.get(index) & 0xFF;
+		}
 		return buffer[index] & 0xFF;
 	}
 
@@ -141,7 +226,12 @@ public class BufferProxy extends KrollProxy
 	public void setIndexedProperty(int index, Object value)
 	{
 		if (value instanceof Number) {
-			buffer[index] = ((Number) value).byteValue();
+			checkRange(index, 1);
+			if (directBuffer != null) {
+				directBuffer.put(index, ((Number) value).byteValue());
+			} else {
+				buffer[index] = ((Number) value).byteValue();
+			}
 		} else {
 			super.setIndexedProperty(index, value);
 		}
@@ -174,6 +264,259 @@ public class BufferProxy extends KrollProxy
 		}
 	}
 
+	private void checkRange(int position, int count)
+	{
+		if (position < 0 || count < 0 || (position + count) > length) {
+			throw new IndexOutOfBoundsException("position of " + position + " and length of " + count
+				+ " is outside of the buffer length: " + length);
+		}
+	}
+
+	private int getCapacity()
+	{
+		return (directBuffer != null) ? directBuffer.capacity() : buffer.length;
+	}
+
+	private void allocate(int capacity, boolean direct)
+	{
+		if (direct) {
+			buffer = null;
+			directBuffer = ByteBuffer.allocateDirect(capacity);
+		} else {
+			buffer = new byte[capacity];
+			directBuffer = null;
+		}
+		updateExternalMemory();
+	}
+
+	/**
+	 * Re-allocates the storage to the given capacity, preserving the first "length" bytes.
+	 * Bytes past "length" left behind by an earlier shrink are not carried over, so the new storage
+	 * beyond them is zeroed. Array buffers previously handed to JS keep referencing the old storage.
+	 */
+	private void reallocate(int capacity)
+	{
+		int preserved = Math.min(length, capacity);
+		if (directBuffer != null) {
+			ByteBuffer newBuffer = ByteBuffer.allocateDirect(capacity);
+			ByteBuffer source = directBuffer.duplicate();
+			source.clear();
+			source.limit(preserved);
+			newBuffer.put(source);
+			newBuffer.clear();
+			directBuffer = newBuffer;
+		} else {
+			byte[] newBuffer = new byte[capacity];
+			System.arraycopy(buffer, 0, newBuffer, 0, preserved);
+			buffer = newBuffer;
+		}
+		updateExternalMemory();
+	}
+
+	private void updateExternalMemory()
+	{
+		externalMemory = KrollExternalMemory.update(externalMemory, this, getCapacity());
+	}
+
+	/**
+	 * Grows this buffer's length to "newLength", zeroing the newly exposed bytes.
+	 * Capacity is doubled when exhausted so that repeated appends run in amortized linear time.
+	 */
+	private void grow(int newLength)
+	{
+		if (newLength <= length) {
+			return;
+		}
+		int capacity = getCapacity();
+		if (newLength > capacity) {
+			reallocate(Math.max(newLength, Math.max(capacity * 2, MIN_GROW_CAPACITY)));
+		} else {
+			zero(length, newLength - length);
+		}
+		length = newLength;
+	}
+
+	private void zero(int position, int count)
+	{
+		if (directBuffer != null) {
+			for (int index = position; index < position + count; index++) {
+				directBuffer.put(index, (byte) 0);
+			}
+		} else {
+			Arrays.fill(buffer, position, position + count, (byte) 0);
+		}
+	}
+
+	/**
+	 * Copies bytes into this buffer without growing it.
+	 *
+	 * @param position     the offset position of this buffer.
+	 * @param sourceBuffer the source buffer to copy from.
+	 * @param sourceOffset the offset position of the sourceBuffer.
+	 * @param sourceLength the number of bytes to copy.
+	 */
+	public void put(int position, byte[] sourceBuffer, int sourceOffset, int sourceLength)
+	{
+		checkRange(position, sourceLength);
+		if (directBuffer != null) {
+			ByteBuffer target = directBuffer.duplicate();
+			target.clear();
+			target.position(position);
+			target.put(sourceBuffer, sourceOffset, sourceLength);
+		} else {
+			System.arraycopy(sourceBuffer, sourceOffset, buffer, position, sourceLength);
+		}
+	}
+
+	/**
+	 * Copies bytes from another buffer into this one without growing it.
+	 *
+	 * @param position     the offset position of this buffer.
+	 * @param source       the buffer to copy from.
+	 * @param sourceOffset the offset position of the source buffer.
+	 * @param count        the number of bytes to copy.
+	 */
+	public void put(int position, BufferProxy source, int sourceOffset, int count)
+	{
+		copyBytes(source, sourceOffset, this, position, count);
+	}
+
+	/**
+	 * Copies bytes out of this buffer.
+	 *
+	 * @param position   the offset position of this buffer.
+	 * @param destBuffer the array to copy into.
+	 * @param destOffset the offset position of the destBuffer.
+	 * @param count      the number of bytes to copy.
+	 */
+	public void get(int position, byte[] destBuffer, int destOffset, int count)
+	{
+		checkRange(position, count);
+		if (directBuffer != null) {
+			ByteBuffer source = directBuffer.duplicate();
+			source.clear();
+			source.position(position);
+			source.get(destBuffer, destOffset, count);
+		} else {
+			System.arraycopy(buffer, position, destBuffer, destOffset, count);
+		}
+	}
+
+	/**
+	 * Encodes a number into this buffer at the given position without growing it.
+	 *
+	 * @return the position following the encoded number.
+	 */
+	public int putNumber(int position, Number value, String type, int byteOrder)
+	{
+		int width = CodecModule.getWidth(type);
+		checkRange(position, width);
+		if (directBuffer == null) {
+			return CodecModule.encodeNumber(value, type, buffer, position, byteOrder);
+		}
+
+		// Absolute puts on an ordered view encode straight into direct storage.
+		ByteBuffer target = directBuffer.duplicate();
+		target.order(byteOrder == CodecModule.BIG_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+		if (CodecModule.TYPE_BYTE.equals(type)) {
+			target.put(position, (byte) value.longValue());
+		} else if (CodecModule.TYPE_SHORT.equals(type)) {
+			target.putShort(position, (short) value.longValue());
+		} else if (CodecModule.TYPE_INT.equals(type)) {
+			target.putInt(position, (int) value.longValue());
+		} else if (CodecModule.TYPE_FLOAT.equals(type)) {
+			target.putFloat(position, value.floatValue());
+		} else if (CodecModule.TYPE_LONG.equals(type)) {
+			target.putLong(position, value.longValue());
+		} else if (CodecModule.TYPE_DOUBLE.equals(type)) {
+			target.putDouble(position, value.doubleValue());
+		}
+		return position + width;
+	}
+
+	/**
+	 * Decodes a string from a range of this buffer, without copying heap storage.
+	 */
+	public String getString(int position, int count, String charset) throws UnsupportedEncodingException
+	{
+		checkRange(position, count);
+		if (directBuffer != null) {
+			byte[] bytes = new byte[count];
+			get(position, bytes, 0, count);
+			return new String(bytes, charset);
+		}
+		return new String(buffer, position, count, charset);
+	}
+
+	private byte[] getTransferBuffer()
+	{
+		if (transferBuffer == null) {
+			transferBuffer = new byte[TRANSFER_CHUNK_SIZE];
+		}
+		return transferBuffer;
+	}
+
+	/**
+	 * Reads from the given stream directly into this buffer's storage.
+	 *
+	 * @return number of bytes read, -1 if the end of the stream was reached.
+	 */
+	public int readFrom(InputStream inputStream, int offset, int count) throws IOException
+	{
+		checkRange(offset, count);
+		if (directBuffer != null) {
+			// A single read may return fewer bytes than requested, so one chunk is enough.
+			byte[] chunk = getTransferBuffer();
+			int bytesRead = inputStream.read(chunk, 0, Math.min(count, chunk.length));
+			if (bytesRead > 0) {
+				put(offset, chunk, 0, bytesRead);
+			}
+			return bytesRead;
+		}
+		return inputStream.read(buffer, offset, count);
+	}
+
+	/**
+	 * Writes bytes from this buffer's storage to the given stream.
+	 */
+	public void writeTo(OutputStream outputStream, int offset, int count) throws IOException
+	{
+		checkRange(offset, count);
+		if (directBuffer != null) {
+			byte[] chunk = getTransferBuffer();
+			while (count > 0) {
+				int chunkLength = Math.min(count, chunk.length);
+				get(offset, chunk, 0, chunkLength);
+				outputStream.write(chunk, 0, chunkLength);
+				offset += chunkLength;
+				count -= chunkLength;
+			}
+		} else {
+			outputStream.write(buffer, offset, count);
+		}
+	}
+
+	/**
+	 * Copies bytes between two buffers, either of which may be heap or direct.
+	 * Overlapping ranges within the same buffer are handled.
+	 */
+	private static void copyBytes(BufferProxy source, int sourceOffset, BufferProxy dest, int destOffset, int count)
+	{
+		source.checkRange(sourceOffset, count);
+		dest.checkRange(destOffset, count);
+		if (source.directBuffer == null && dest.directBuffer == null) {
+			System.arraycopy(source.buffer, sourceOffset, dest.buffer, destOffset, count);
+		} else if (source.directBuffer == null) {
+			dest.put(destOffset, source.buffer, sourceOffset, count);
+		} else if (dest.directBuffer == null) {
+			source.get(sourceOffset, dest.buffer, destOffset, count);
+		} else {
+			byte[] chunk = new byte[count];
+			source.get(sourceOffset, chunk, 0, count);
+			dest.put(destOffset, chunk, 0, count);
+		}
+	}
+
 	/**
 	 * Writes data from sourceBuffer into this.
 	 *
@@ -185,11 +528,22 @@ public class BufferProxy extends KrollProxy
 	 */
 	public int write(int position, byte[] sourceBuffer, int sourceOffset, int sourceLength)
 	{
-		if ((position + sourceLength) > buffer.length) {
-			buffer = copyOf(buffer, (position + sourceLength));
-		}
+		grow(position + sourceLength);
+		put(position, sourceBuffer, sourceOffset, sourceLength);
+
+		return sourceLength;
+	}
 
-		System.arraycopy(sourceBuffer, sourceOffset, buffer, position, sourceLength);
+	/**
+	 * Writes data from another buffer into this, growing this buffer as needed.
+	 *
+	 * @return number of bytes written.
+	 */
+	public int write(int position, BufferProxy source, int sourceOffset, int sourceLength)
+	{
+		source.checkRange(sourceOffset, sourceLength);
+		grow(position + sourceLength);
+		copyBytes(source, sourceOffset, this, position, sourceLength);
 
 		return sourceLength;
 	}
@@ -200,24 +554,24 @@ public class BufferProxy extends KrollProxy
 		if (args.length < 1) {
 			throw new IllegalArgumentException("At least 1 argument required for append: src");
 		}
-		int destLength = buffer.length;
+		int destLength = length;
 		BufferProxy src = (BufferProxy) args[0];
-		byte[] sourceBuffer = src.getBuffer();
 
 		int offset = 0;
 		if (args.length > 1 && args[1] != null) {
 			offset = TiConvert.toInt(args[1]);
 		}
 
-		int sourceLength = sourceBuffer.length;
+		int sourceLength = src.length;
 		if (args.length > 2 && args[2] != null) {
 			sourceLength = TiConvert.toInt(args[2]);
 		}
 
-		validateOffsetAndLength(offset, sourceLength, sourceBuffer.length);
+		validateOffsetAndLength(offset, sourceLength, src.length);
+		src.checkRange(offset, sourceLength);
 
-		buffer = copyOf(buffer, (destLength + sourceLength));
-		System.arraycopy(sourceBuffer, offset, buffer, destLength, sourceLength);
+		grow(destLength + sourceLength);
+		copyBytes(src, offset, this, destLength, sourceLength);
 		return sourceLength;
 	}
 
@@ -228,7 +582,6 @@ public class BufferProxy extends KrollProxy
 			throw new IllegalArgumentException("At least 2 arguments required for insert: src, offset");
 		}
 		BufferProxy sourceBufferProxy = (BufferProxy) args[0];
-		byte[] sourceBuffer = sourceBufferProxy.getBuffer();
 		int offset = TiConvert.toInt(args[1]);
 
 		int sourceOffset = 0;
@@ -236,20 +589,30 @@ public class BufferProxy extends KrollProxy
 			sourceOffset = TiConvert.toInt(args[2]);
 		}
 
-		int sourceLength = sourceBuffer.length;
+		int sourceLength = sourceBufferProxy.length;
 		if (args.length > 3 && args[3] != null) {
 			sourceLength = TiConvert.toInt(args[3]);
 		}
 
-		validateOffsetAndLength(sourceOffset, sourceLength, sourceBuffer.length);
+		validateOffsetAndLength(sourceOffset, sourceLength, sourceBufferProxy.length);
+		sourceBufferProxy.checkRange(sourceOffset, sourceLength);
+		if (offset < 0 || offset > length) {
+			throw new IllegalArgumentException("offset of " + offset + " is outside of the buffer length: " + length);
+		}
 
-		byte[] preInsertBuffer = copyOf(buffer, offset);
-		byte[] postInsertBuffer = copyOfRange(buffer, offset, buffer.length);
+		// Inserting a buffer into itself moves the source bytes, so take a snapshot first.
+		BufferProxy source = sourceBufferProxy;
+		if (source == this) {
+			byte[] snapshot = new byte[sourceLength];
+			get(sourceOffset, snapshot, 0, sourceLength);
+			source = new BufferProxy(snapshot);
+			sourceOffset = 0;
+		}
 
-		buffer = new byte[(preInsertBuffer.length + sourceLength + postInsertBuffer.length)];
-		System.arraycopy(preInsertBuffer, 0, buffer, 0, preInsertBuffer.length);
-		System.arraycopy(sourceBuffer, sourceOffset, buffer, preInsertBuffer.length, sourceLength);
-		System.arraycopy(postInsertBuffer, 0, buffer, (preInsertBuffer.length + sourceLength), postInsertBuffer.length);
+		int oldLength = length;
+		grow(oldLength + sourceLength);
+		copyBytes(this, offset, this, offset + sourceLength, oldLength - offset);
+		copyBytes(source, sourceOffset, this, offset, sourceLength);
 
 		return sourceLength;
 	}
@@ -262,7 +625,6 @@ public class BufferProxy extends KrollProxy
 		}
 
 		BufferProxy sourceBufferProxy = (BufferProxy) args[0];
-		byte[] sourceBuffer = sourceBufferProxy.getBuffer();
 
 		int offset = 0;
 		if (args.length > 1 && args[1] != null) {
@@ -274,14 +636,14 @@ public class BufferProxy extends KrollProxy
 			sourceOffset = TiConvert.toInt(args[2]);
 		}
 
-		int sourceLength = sourceBuffer.length;
+		int sourceLength = sourceBufferProxy.length;
 		if (args.length > 3 && args[3] != null) {
 			sourceLength = TiConvert.toInt(args[3]);
 		}
 
-		validateOffsetAndLength(sourceOffset, sourceLength, sourceBuffer.length);
+		validateOffsetAndLength(sourceOffset, sourceLength, sourceBufferProxy.length);
 
-		System.arraycopy(sourceBuffer, sourceOffset, buffer, offset, sourceLength);
+		copyBytes(sourceBufferProxy, sourceOffset, this, offset, sourceLength);
 		return sourceLength;
 	}
 
@@ -293,14 +655,15 @@ public class BufferProxy extends KrollProxy
 			offset = TiConvert.toInt(args[0]);
 		}
 
-		int length = buffer.length;
+		int length = this.length;
 		if (args.length > 1 && args[1] != null) {
 			length = TiConvert.toInt(args[1]);
 		}
 
-		validateOffsetAndLength(offset, length, buffer.length);
+		validateOffsetAndLength(offset, length, this.length);
 
-		BufferProxy clone = new BufferProxy(copyOfRange(buffer, offset, offset + length));
+		BufferProxy clone = new BufferProxy(length, isDirect());
+		copyBytes(this, offset, clone, 0, length);
 		// Copy over byteOrder and type properties
 		clone.setProperty(TiC.PROPERTY_BYTE_ORDER, this.getProperty(TiC.PROPERTY_BYTE_ORDER));
 		if (this.hasProperty(TiC.PROPERTY_TYPE)) {
@@ -327,38 +690,70 @@ public class BufferProxy extends KrollProxy
 			offset = TiConvert.toInt(args[1]);
 		}
 
-		int length = buffer.length;
+		int length = this.length;
 		if (args.length > 2 && args[2] != null) {
 			length = TiConvert.toInt(args[2]);
 		}
 
-		validateOffsetAndLength(offset, length, buffer.length);
+		validateOffsetAndLength(offset, length, this.length);
+		checkRange(offset, length);
 
-		Arrays.fill(buffer, offset, (offset + length), (byte) fillByte);
+		if (directBuffer != null) {
+			for (int index = offset; index < offset + length; index++) {
+				directBuffer.put(index, (byte) fillByte);
+			}
+		} else {
+			Arrays.fill(buffer, offset, (offset + length), (byte) fillByte);
+		}
 	}
 
 	@Kroll.method
 	public void clear()
 	{
-		Arrays.fill(buffer, (byte) 0);
+		zero(0, length);
 	}
 
 	@Kroll.method
 	public void release()
 	{
-		buffer = new byte[0];
+		allocate(0, isDirect());
+		length = 0;
 	}
 
 	@Kroll.method
 	public String toString()
 	{
-		return new String(buffer);
+		if (directBuffer != null) {
+			return new String(getBuffer());
+		}
+		return new String(buffer, 0, length);
 	}
 
 	@Kroll.method
 	public TiBlob toBlob()
 	{
-		return TiBlob.blobFromData(buffer);
+		return TiBlob.blobFromData(getBuffer());
+	}
+
+	/**
+	 * Exposes this buffer's contents to JS as an ArrayBuffer.
+	 * <p>
+	 * Direct buffers hand out a view over their own memory, so the ArrayBuffer and this buffer
+	 * share data without copying until the buffer is re-allocated by growing past its capacity.
+	 * Heap buffers return a copy of their contents.
+	 *
+	 * @return a direct ByteBuffer slice or a byte array, converted to an ArrayBuffer by the runtime.
+	 */
+	@Kroll.method
+	public Object toArrayBuffer()
+	{
+		if (directBuffer != null) {
+			ByteBuffer view = directBuffer.duplicate();
+			view.clear();
+			view.limit(length);
+			return view.slice();
+		}
+		return getBuffer();
 	}
 
 	/**
@@ -367,7 +762,7 @@ public class BufferProxy extends KrollProxy
 	@Kroll.getProperty
 	public int getLength()
 	{
-		return buffer.length;
+		return length;
 	}
 
 	/**
@@ -384,7 +779,27 @@ public class BufferProxy extends KrollProxy
 
 	public void resize(int length)
 	{
-		buffer = copyOf(buffer, length);
+		resize(length, false);
+	}
+
+	/**
+	 * Sets the length of this buffer.
+	 *
+	 * @param length         The new length of this buffer proxy in bytes
+	 * @param retainCapacity true to keep the allocated storage when shrinking, for buffers that are reused
+	 */
+	public void resize(int length, boolean retainCapacity)
+	{
+		if (length > this.length) {
+			grow(length);
+		} else {
+			this.length = length;
+
+			// Give memory back once most of the capacity is unused.
+			if (!retainCapacity && length <= getCapacity() / 4) {
+				reallocate(length);
+			}
+		}
 	}
 
 	@Override
@@ -7,6 +7,7 @@
 package ti.modules.titanium.codec;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollModule;
@@ -76,8 +77,7 @@ public class CodecModule extends KrollModule
 			position = TiConvert.toInt(args, TiC.PROPERTY_POSITION);
 		}
 
-		byte[] buffer = dest.getBuffer();
-		return encodeNumber(src, type, buffer, position, byteOrder);
+		return dest.putNumber(position, src, type, byteOrder);
 	}
 
 	public static int encodeNumber(Number src, String type, byte[] dest, int position, int byteOrder)
@@ -136,12 +136,12 @@ public class CodecModule extends KrollModule
 			position = TiConvert.toInt(args, TiC.PROPERTY_POSITION);
 		}
 
-		byte[] src = buffer.getBuffer();
+		ByteBuffer src = buffer.asByteBuffer();
 		if (type.equals(TYPE_BYTE)) {
-			return src[position];
+			return src.get(position);
 		} else if (type.equals(TYPE_SHORT)) {
-			short s1 = (short) (src[position] & 0xFF);
-			short s2 = (short) (src[position + 1] & 0xFF);
+			short s1 = (short) (src.get(position) & 0xFF);
+			short s2 = (short) (src.get(position + 1) & 0xFF);
 			switch (byteOrder) {
 				case BIG_ENDIAN:
 					return ((s1 << 8) + s2);
@@ -153,7 +153,7 @@ public class CodecModule extends KrollModule
 			int shiftBits = byteOrder == BIG_ENDIAN ? 24 : 0;
 			int step = byteOrder == BIG_ENDIAN ? -8 : 8;
 			for (int i = 0; i < 4; i++, shiftBits += step) {
-				int part = (int) (src[position + i] & 0xFF);
+				int part = (int) (src.get(position + i) & 0xFF);
 				bits += (part << shiftBits);
 			}
 			if (type.equals(TYPE_FLOAT)) {
@@ -165,7 +165,7 @@ public class CodecModule extends KrollModule
 			int shiftBits = byteOrder == BIG_ENDIAN ? 56 : 0;
 			int step = byteOrder == BIG_ENDIAN ? -8 : 8;
 			for (int i = 0; i < 8; i++, shiftBits += step) {
-				long part = (long) (src[position + i] & 0xFF);
+				long part = (long) (src.get(position + i) & 0xFF);
 				bits += (part << shiftBits);
 			}
 			if (type.equals(TYPE_DOUBLE)) {
@@ -203,7 +203,6 @@ public class CodecModule extends KrollModule
 		}
 
 		String charset = validateCharset(args);
-		byte[] destBuffer = dest.getBuffer();
 		validatePositionAndLength(srcPosition, srcLength, src.length());
 
 		if (srcPosition != 0 || srcLength != src.length()) {
@@ -212,7 +211,7 @@ public class CodecModule extends KrollModule
 
 		try {
 			byte[] encoded = src.getBytes(charset);
-			System.arraycopy(encoded, 0, destBuffer, destPosition, encoded.length);
+			dest.put(destPosition, encoded, 0, encoded.length);
 
 			return destPosition + encoded.length;
 		} catch (UnsupportedEncodingException e) {
@@ -229,22 +228,21 @@ public class CodecModule extends KrollModule
 		}
 
 		BufferProxy src = (BufferProxy) args.get(TiC.PROPERTY_SOURCE);
-		byte[] buffer = src.getBuffer();
 
 		int position = 0;
 		if (args.containsKey(TiC.PROPERTY_POSITION)) {
 			position = TiConvert.toInt(args, TiC.PROPERTY_POSITION);
 		}
-		int length = buffer.length;
+		int length = src.getLength();
 		if (args.containsKey(TiC.PROPERTY_LENGTH)) {
 			length = TiConvert.toInt(args, TiC.PROPERTY_LENGTH);
 		}
 
-		validatePositionAndLength(position, length, buffer.length);
+		validatePositionAndLength(position, length, src.getLength());
 		String charset = validateCharset(args);
 
 		try {
-			return new String(buffer, position, length, charset);
+			return src.getString(position, length, charset);
 		} catch (UnsupportedEncodingException e) {
 			Log.w(TAG, e.getMessage(), e);
 			throw new IllegalArgumentException("Unsupported Encoding: " + charset);
@@ -0,0 +1,193 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package ti.modules.titanium.stream;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.appcelerator.kroll.KrollDict;
+import org.appcelerator.kroll.KrollProxy;
+import org.appcelerator.kroll.annotations.Kroll;
+import org.appcelerator.kroll.common.Log;
+
+import ti.modules.titanium.BufferProxy;
+
+/**
+ * Handle for a running Ti.Stream.pump() operation.
+ * <p>
+ * When created with a buffer count, chunks are read into a fixed ring of buffers that are
+ * handed back to the pump once the handler is done with them. The pump blocks while every
+ * buffer is still held by JS, which throttles reading to the speed of the handler.
+ */
+@Kroll.proxy(parentModule = StreamModule.class)
+public class PumpProxy extends KrollProxy
+{
+	private static final String TAG = "PumpProxy";
+
+	// How long to wait for a free buffer before re-checking for cancellation.
+	private static final long ACQUIRE_POLL_MS = 100;
+
+	private final int maxChunkSize;
+	private final int bufferCount;
+	private final boolean pooled;
+	private final boolean manualRelease;
+	private final ArrayBlockingQueue<BufferProxy> freeBuffers;
+	private final Set<BufferProxy> busyBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	private final AtomicLong bytesProcessed = new AtomicLong();
+	private final AtomicLong chunkCount = new AtomicLong();
+	private final AtomicLong bufferWaitNanos = new AtomicLong();
+	private volatile long startTime;
+	private volatile long endTime;
+	private volatile boolean cancelled = false;
+	private volatile int buffersAllocated = 0;
+
+	/**
+	 * @param maxChunkSize  the size of each buffer handed to the handler.
+	 * @param bufferCount   number of buffers to recycle, or 0 to allocate a new buffer per chunk.
+	 * @param manualRelease true if JS hands buffers back through release() instead of automatically
+	 *                      when its handler returns.
+	 */
+	public PumpProxy(int maxChunkSize, int bufferCount, boolean manualRelease)
+	{
+		this.maxChunkSize = maxChunkSize;
+		this.bufferCount = bufferCount;
+		this.pooled = bufferCount > 0;
+		this.manualRelease = pooled && manualRelease;
+		this.freeBuffers = pooled ? new ArrayBlockingQueue<>(bufferCount) : null;
+	}
+
+	public boolean isPooled()
+	{
+		return pooled;
+	}
+
+	public boolean isManualRelease()
+	{
+		return manualRelease;
+	}
+
+	@Kroll.getProperty
+	public boolean getCancelled()
+	{
+		return cancelled;
+	}
+
+	/**
+	 * Returns a buffer sized to maxChunkSize to read the next chunk into.
+	 * Pooled pumps block here until the handler has released a buffer.
+	 *
+	 * @return the buffer, or null if the pump was cancelled while waiting.
+	 */
+	protected BufferProxy acquireBuffer() throws InterruptedException
+	{
+		if (!pooled) {
+			buffersAllocated++;
+			return new BufferProxy(maxChunkSize);
+		}
+
+		// Buffers are allocated lazily, up to the pool size.
+		BufferProxy buffer = freeBuffers.poll();
+		if (buffer == null && buffersAllocated < bufferCount) {
+			buffersAllocated++;
+			buffer = new BufferProxy(maxChunkSize);
+		}
+
+		long waitStart = System.nanoTime();
+		while (buffer == null && !cancelled) {
+			buffer = freeBuffers.poll(ACQUIRE_POLL_MS, TimeUnit.MILLISECONDS);
+		}
+		bufferWaitNanos.addAndGet(System.nanoTime() - waitStart);
+		if (buffer == null) {
+			return null;
+		}
+
+		buffer.resize(maxChunkSize, true);
+		synchronized (busyBuffers)
+		{
+			busyBuffers.add(buffer);
+		}
+		return buffer;
+	}
+
+	protected void releaseBuffer(BufferProxy buffer)
+	{
+		if (!pooled) {
+			return;
+		}
+		boolean wasBusy;
+		synchronized (busyBuffers)
+		{
+			wasBusy = busyBuffers.remove(buffer);
+		}
+		if (wasBusy) {
+			freeBuffers.offer(buffer);
+		}
+	}
+
+	protected void onStart()
+	{
+		startTime = System.currentTimeMillis();
+	}
+
+	protected void onChunk(int bytesRead)
+	{
+		chunkCount.incrementAndGet();
+		if (bytesRead > 0) {
+			bytesProcessed.addAndGet(bytesRead);
+		}
+	}
+
+	protected void onFinish()
+	{
+		endTime = System.currentTimeMillis();
+	}
+
+	@Kroll.method
+	public void release(BufferProxy buffer)
+	{
+		if (!manualRelease) {
+			Log.w(TAG, "release() is only needed when the pump was started with manualRelease");
+			return;
+		}
+		releaseBuffer(buffer);
+	}
+
+	@Kroll.method
+	public void cancel()
+	{
+		cancelled = true;
+	}
+
+	@Kroll.method
+	public KrollDict getStats()
+	{
+		long end = (endTime > 0) ? endTime : System.currentTimeMillis();
+		long elapsed = (startTime > 0) ? Math.max(end - startTime, 0) : 0;
+		long bytes = bytesProcessed.get();
+
+		KrollDict stats = new KrollDict();
+		stats.put("bytesProcessed", bytes);
+		stats.put("chunks", chunkCount.get());
+		stats.put("elapsedTime", elapsed);
+		stats.put("throughput", (elapsed > 0) ? (bytes * 1000.0 / elapsed) : 0);
+		stats.put("bufferWaitTime", TimeUnit.NANOSECONDS.toMillis(bufferWaitNanos.get()));
+		stats.put("buffersAllocated", buffersAllocated);
+		stats.put("finished", endTime > 0);
+		return stats;
+	}
+
+	@Override
+	public String getApiName()
+	{
+		return "Ti.Stream.Pump";
+	}
+}
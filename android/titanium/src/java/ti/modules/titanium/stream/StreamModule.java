@@ -7,12 +7,14 @@
 package ti.modules.titanium.stream;
 
 import java.io.IOException;
+import java.util.HashMap;
 
 import org.appcelerator.kroll.KrollDict;
 import org.appcelerator.kroll.KrollFunction;
 import org.appcelerator.kroll.KrollModule;
 import org.appcelerator.kroll.KrollObject;
 import org.appcelerator.kroll.annotations.Kroll;
+import org.appcelerator.kroll.common.TiMessenger;
 import org.appcelerator.titanium.TiBlob;
 import org.appcelerator.titanium.io.TiStream;
 import org.appcelerator.titanium.util.TiStreamHelper;
@@ -25,6 +27,12 @@ public class StreamModule extends KrollModule
 {
 	private static final String TAG = "Stream";
 
+	private static final String PROPERTY_ASYNC = "async";
+	private static final String PROPERTY_BUFFER_COUNT = "bufferCount";
+	private static final String PROPERTY_MANUAL_RELEASE = "manualRelease";
+	private static final int DEFAULT_BUFFER_COUNT = 4;
+	private static final int READ_ALL_CHUNK_SIZE = 8192;
+
 	@Kroll.constant
 	public static final int MODE_READ = 0;
 	@Kroll.constant
@@ -126,7 +134,7 @@ public class StreamModule extends KrollModule
 		final TiStream fsourceStream = sourceStream;
 		final BufferProxy fbuffer = bufferArg;
 		final KrollFunction fResultsCallback = resultsCallback;
-		new Thread(new Runnable() {
+		TiStreamHelper.getIOExecutor().execute(new Runnable() {
 			public void run()
 			{
 				int offset = 0;
@@ -148,8 +156,7 @@ public class StreamModule extends KrollModule
 				fResultsCallback.callAsync(getKrollObject(), TiStreamHelper.buildRWCallbackArgs(
 																 fsourceStream, fbuffer.getLength(), code, error));
 			}
-		})
-			.start();
+		});
 
 		return null; // TODO KrollProxy.UNDEFINED;
 	}
@@ -159,13 +166,14 @@ public class StreamModule extends KrollModule
 		int totalBytesRead = 0;
 
 		while (sourceStream.isReadable()) {
-			int bytesRead = sourceStream.readSync(buffer, offset, 1024);
+			// Buffer capacity doubles as it grows, so this doesn't re-allocate per chunk.
+			buffer.resize(READ_ALL_CHUNK_SIZE + totalBytesRead, true);
+			int bytesRead = sourceStream.readSync(buffer, offset, READ_ALL_CHUNK_SIZE);
 			if (bytesRead == -1) {
 				break;
 			}
 
 			totalBytesRead += bytesRead;
-			buffer.resize(1024 + totalBytesRead);
 			offset += bytesRead;
 		}
 
@@ -242,7 +250,7 @@ public class StreamModule extends KrollModule
 		final int fmaxChunkSize = maxChunkSize;
 		final KrollFunction fResultsCallback = resultsCallback;
 
-		new Thread(new Runnable() {
+		TiStreamHelper.getIOExecutor().execute(new Runnable() {
 			public void run()
 			{
 				int totalBytesWritten = 0;
@@ -261,8 +269,7 @@ public class StreamModule extends KrollModule
 					getKrollObject(),
 					buildWriteStreamCallbackArgs(finputStream, foutputStream, totalBytesWritten, code, error));
 			}
-		})
-			.start();
+		});
 
 		return 0;
 	}
@@ -280,16 +287,16 @@ public class StreamModule extends KrollModule
 
 			int bytesWritten = outputStream.writeSync(buffer, 0, bytesRead);
 			totalBytesWritten += bytesWritten;
-			buffer.clear();
 		}
 
 		return totalBytesWritten;
 	}
 
 	@Kroll.method
-	//public void pump(TiStream inputStream, KrollFunction handler, int maxChunkSize)
-	//public void pump(TiStream inputStream, KrollFunction handler, int maxChunkSize, boolean isAsync)
-	public void pump(Object[] args)
+	//public PumpProxy pump(TiStream inputStream, KrollFunction handler, int maxChunkSize)
+	//public PumpProxy pump(TiStream inputStream, KrollFunction handler, int maxChunkSize, boolean isAsync)
+	//public PumpProxy pump(TiStream inputStream, KrollFunction handler, int maxChunkSize, KrollDict options)
+	public PumpProxy pump(Object[] args)
 	{
 		if (args.length != 3 && args.length != 4) {
 			throw new IllegalArgumentException("Invalid number of arguments");
@@ -313,15 +320,25 @@ public class StreamModule extends KrollModule
 		}
 		int maxChunkSize = ((Number) args[2]).intValue();
 
-		// isAsync
+		// isAsync flag or pump options
 		boolean isAsync = false;
+		int bufferCount = 0;
+		boolean manualRelease = false;
 		if (args.length == 4) {
-			if (!(args[3] instanceof Boolean)) {
+			if (args[3] instanceof Boolean) {
+				isAsync = ((Boolean) args[3]).booleanValue();
+			} else if (args[3] instanceof HashMap) {
+				KrollDict options = new KrollDict((HashMap<String, Object>) args[3]);
+				isAsync = options.optBoolean(PROPERTY_ASYNC, false);
+				bufferCount = Math.max(options.optInt(PROPERTY_BUFFER_COUNT, DEFAULT_BUFFER_COUNT), 0);
+				manualRelease = options.optBoolean(PROPERTY_MANUAL_RELEASE, false);
+			} else {
 				throw new IllegalArgumentException("Invalid async flag argument");
 			}
-			isAsync = ((Boolean) args[3]).booleanValue();
 		}
 
+		// Handing buffers back later only works if the handler doesn't run on the pumping thread.
+		final PumpProxy pump = new PumpProxy(maxChunkSize, bufferCount, isAsync && manualRelease);
 		if (!isAsync) {
 			// Spit out deprecation notice about sync call!
 			// And throw exception when on main thread!
@@ -332,43 +349,46 @@ public class StreamModule extends KrollModule
 			// 	Log.w(TAG, syncIsANoNo);
 			// }
 			// FIXME: Use same thread/Runnable model as in TiStreamHelper when running sync on main thread?
-			pumpSync(inputStream, handler, maxChunkSize);
+			pumpSync(inputStream, handler, maxChunkSize, pump, false);
 		} else {
 			final TiStream finputStream = inputStream;
 			final KrollFunction fHandler = handler;
 			final int fmaxChunkSize = maxChunkSize;
 
-			new Thread(new Runnable() {
+			TiStreamHelper.getIOExecutor().execute(new Runnable() {
 				public void run()
 				{
-					pumpSync(finputStream, fHandler, fmaxChunkSize);
+					pumpSync(finputStream, fHandler, fmaxChunkSize, pump, true);
 				}
-			}) {}
-				.start();
+			});
 		}
+		return pump;
 	}
 
-	private void pumpSync(TiStream inputStream, KrollFunction handler, int maxChunkSize)
+	private void pumpSync(TiStream inputStream, KrollFunction handler, int maxChunkSize, PumpProxy pump,
+						  boolean isAsync)
 	{
 		int totalBytesRead = 0;
 		final KrollObject krollObject = getKrollObject();
+		pump.onStart();
 		try {
-			while (inputStream.isReadable()) {
-				BufferProxy buffer = new BufferProxy(maxChunkSize);
+			while (inputStream.isReadable() && !pump.getCancelled()) {
+				BufferProxy buffer = pump.acquireBuffer();
+				if (buffer == null) {
+					break;
+				}
 				int bytesRead = inputStream.readSync(buffer, 0, maxChunkSize);
 				if (bytesRead != -1) {
 					totalBytesRead += bytesRead;
 				}
 
 				if (bytesRead != buffer.getLength()) {
-					if (bytesRead == -1) {
-						buffer.resize(0);
-					} else {
-						buffer.resize(bytesRead);
-					}
+					buffer.resize(Math.max(bytesRead, 0), pump.isPooled());
 				}
 
-				handler.call(krollObject, buildPumpCallbackArgs(inputStream, buffer, bytesRead, totalBytesRead, 0, ""));
+				pump.onChunk(bytesRead);
+				deliverPumpChunk(handler, krollObject, pump, buffer,
+								 buildPumpCallbackArgs(inputStream, buffer, bytesRead, totalBytesRead, 0, ""), isAsync);
 				buffer = null;
 
 				if (bytesRead == -1) {
@@ -377,11 +397,43 @@ public class StreamModule extends KrollModule
 			}
 
 		} catch (IOException e) {
-			handler.call(krollObject,
-						 buildPumpCallbackArgs(inputStream, new BufferProxy(), 0, totalBytesRead, 1, e.getMessage()));
+			deliverPumpChunk(handler, krollObject, pump, null,
+							 buildPumpCallbackArgs(inputStream, new BufferProxy(), 0, totalBytesRead, 1, e.getMessage()),
+							 isAsync);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			pump.onFinish();
 		}
 	}
 
+	/**
+	 * Invokes the pump handler. Pooled async pumps post to the runtime instead of blocking on it
+	 * so the next chunk can be read while JS handles this one; in-order delivery is kept by the
+	 * runtime's message queue.
+	 */
+	private void deliverPumpChunk(final KrollFunction handler, final KrollObject krollObject, final PumpProxy pump,
+								  final BufferProxy buffer, final KrollDict callbackArgs, boolean isAsync)
+	{
+		if (!pump.isPooled() || !isAsync) {
+			handler.call(krollObject, callbackArgs);
+			if (buffer != null) {
+				pump.releaseBuffer(buffer);
+			}
+			return;
+		}
+
+		TiMessenger.postOnRuntime(new Runnable() {
+			public void run()
+			{
+				handler.call(krollObject, callbackArgs);
+				if (buffer != null && !pump.isManualRelease()) {
+					pump.releaseBuffer(buffer);
+				}
+			}
+		});
+	}
+
 	private KrollDict buildWriteStreamCallbackArgs(TiStream fromStream, TiStream toStream, int bytesProcessed, int code,
 												   String error)
 	{
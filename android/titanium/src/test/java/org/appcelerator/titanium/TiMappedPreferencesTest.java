@@ -0,0 +1,398 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import android.content.SharedPreferences;
+
+public class TiMappedPreferencesTest
+{
+	/**
+	 * In-memory stand-in for the platform preferences. Keeps null values, so tests can see which keys were written.
+	 */
+	private static class MemoryPreferences implements SharedPreferences
+	{
+		final HashMap<String, Object> values = new HashMap<>();
+
+		@Override
+		public Map<String, ?> getAll()
+		{
+			return new HashMap<>(this.values);
+		}
+
+		@Override
+		public String getString(String key, String defValue)
+		{
+			return this.values.containsKey(key) ? (String) this.values.get(key) : defValue;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Set<String> getStringSet(String key, Set<String> defValues)
+		{
+			return this.values.containsKey(key) ? (Set<String>) this.values.get(key) : defValues;
+		}
+
+		@Override
+		public int getInt(String key, int defValue)
+		{
+			return this.values.containsKey(key) ? (Integer) this.values.get(key) : defValue;
+		}
+
+		@Override
+		public long getLong(String key, long defValue)
+		{
+			return this.values.containsKey(key) ? (Long) this.values.get(key) : defValue;
+		}
+
+		@Override
+		public float getFloat(String key, float defValue)
+		{
+			return this.values.containsKey(key) ? (Float) this.values.get(key) : defValue;
+		}
+
+		@Override
+		public boolean getBoolean(String key, boolean defValue)
+		{
+			return this.values.containsKey(key) ? (Boolean) this.values.get(key) : defValue;
+		}
+
+		@Override
+		public boolean contains(String key)
+		{
+			return this.values.containsKey(key);
+		}
+
+		@Override
+		public Editor edit()
+		{
+			final HashMap<String, Object> changes = new HashMap<>();
+			final boolean[] clear = { false };
+			return new Editor() {
+				@Override
+				public Editor putString(String key, String value)
+				{
+					changes.put(key, value);
+					return this;
+				}
+
+				@Override
+				public Editor putStringSet(String key, Set<String> values)
+				{
+					changes.put(key, values);
+					return this;
+				}
+
+				@Override
+				public Editor putInt(String key, int value)
+				{
+					changes.put(key, value);
+					return this;
+				}
+
+				@Override
+				public Editor putLong(String key, long value)
+				{
+					changes.put(key, value);
+					return this;
+				}
+
+				@Override
+				public Editor putFloat(String key, float value)
+				{
+					changes.put(key, value);
+					return this;
+				}
+
+				@Override
+				public Editor putBoolean(String key, boolean value)
+				{
+					changes.put(key, value);
+					return this;
+				}
+
+				@Override
+				public Editor remove(String key)
+				{
+					changes.put(key, null);
+					return this;
+				}
+
+				@Override
+				public Editor clear()
+				{
+					clear[0] = true;
+					return this;
+				}
+
+				@Override
+				public boolean commit()
+				{
+					if (clear[0]) {
+						MemoryPreferences.this.values.clear();
+					}
+					MemoryPreferences.this.values.putAll(changes);
+					return true;
+				}
+
+				@Override
+				public void apply()
+				{
+					commit();
+				}
+			};
+		}
+
+		@Override
+		public void registerOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener)
+		{
+		}
+
+		@Override
+		public void unregisterOnSharedPreferenceChangeListener(OnSharedPreferenceChangeListener listener)
+		{
+		}
+	}
+
+	private File directory;
+	private File file;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		this.directory = Files.createTempDirectory("TiMappedPreferencesTest").toFile();
+		this.file = new File(this.directory, "titanium.kv");
+	}
+
+	@After
+	public void tearDown()
+	{
+		for (File child : this.directory.listFiles()) {
+			child.delete();
+		}
+		this.directory.delete();
+	}
+
+	private TiMappedPreferences open() throws IOException
+	{
+		return TiMappedPreferences.open(this.file, null);
+	}
+
+	private static void putAllTypes(TiMappedPreferences preferences)
+	{
+		preferences.edit()
+			.putString("string", "h\u00e9llo")
+			.putInt("int", 42)
+			.putLong("long", Long.MAX_VALUE)
+			.putFloat("float", 1.5f)
+			.putBoolean("boolean", true)
+			.putStringSet("set", new HashSet<>(Arrays.asList("a", "b")))
+			.putBytes("bytes", new byte[] { 1, 2, 3 })
+			.commit();
+	}
+
+	private static void assertAllTypes(TiMappedPreferences preferences)
+	{
+		assertEquals("h\u00e9llo", preferences.getString("string", null));
+		assertEquals(42, preferences.getInt("int", 0));
+		assertEquals(Long.MAX_VALUE, preferences.getLong("long", 0));
+		assertEquals(1.5f, preferences.getFloat("float", 0), 0);
+		assertTrue(preferences.getBoolean("boolean", false));
+		assertEquals(new HashSet<>(Arrays.asList("a", "b")), preferences.getStringSet("set", null));
+		assertArrayEquals(new byte[] { 1, 2, 3 }, preferences.getBytes("bytes", null));
+	}
+
+	// Overwrites bytes right after the last occurrence of the given text in the store's file.
+	private void corruptAfter(String text, byte[] bytes) throws IOException
+	{
+		byte[] content = Files.readAllBytes(this.file.toPath());
+		byte[] needle = text.getBytes(StandardCharsets.UTF_8);
+		int index = -1;
+		for (int i = content.length - needle.length; i >= 0 && index < 0; i--) {
+			if (Arrays.equals(Arrays.copyOfRange(content, i, i + needle.length), needle)) {
+				index = i + needle.length;
+			}
+		}
+		assertTrue(index >= 0);
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file, "rw")) {
+			randomAccessFile.seek(index);
+			randomAccessFile.write(bytes);
+		}
+	}
+
+	@Test
+	public void roundTrip() throws IOException
+	{
+		TiMappedPreferences preferences = open();
+		putAllTypes(preferences);
+		assertAllTypes(preferences);
+
+		preferences.edit().remove("int").commit();
+		assertFalse(preferences.contains("int"));
+		preferences.edit().clear().putString("after", "clear").commit();
+		assertEquals(1, preferences.getAll().size());
+		assertEquals("clear", preferences.getString("after", null));
+	}
+
+	@Test
+	public void reopen() throws IOException
+	{
+		putAllTypes(open());
+		assertAllTypes(open());
+
+		TiMappedPreferences preferences = open();
+		preferences.edit().remove("int").putString("string", "changed").apply();
+		preferences = open();
+		assertFalse(preferences.contains("int"));
+		assertEquals("changed", preferences.getString("string", null));
+	}
+
+	@Test
+	public void corruptTailIsDiscarded() throws IOException
+	{
+		TiMappedPreferences preferences = open();
+		preferences.edit().putString("first", "kept").commit();
+		preferences.edit().putString("second", "damaged").commit();
+
+		// Flip the value of the last record, which then fails its checksum.
+		corruptAfter("second", new byte[] { 0, 0, 0, 7, 'x', 'x', 'x' });
+		preferences = open();
+		assertEquals("kept", preferences.getString("first", null));
+		assertFalse(preferences.contains("second"));
+
+		// Writing after the damaged record works, and survives reopening.
+		preferences.edit().putString("third", "written").commit();
+		preferences = open();
+		assertEquals("kept", preferences.getString("first", null));
+		assertEquals("written", preferences.getString("third", null));
+	}
+
+	@Test
+	public void truncatedTailIsDiscarded() throws IOException
+	{
+		TiMappedPreferences preferences = open();
+		preferences.edit().putString("first", "kept").commit();
+		preferences.edit().putString("second", "truncated").commit();
+
+		// Make the last record claim to extend past the end of the file.
+		String contents = new String(Files.readAllBytes(this.file.toPath()), StandardCharsets.ISO_8859_1);
+		int recordStart = contents.lastIndexOf("second") - 4 - 1 - 4;
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file, "rw")) {
+			randomAccessFile.seek(recordStart);
+			randomAccessFile.writeInt(Integer.MAX_VALUE);
+		}
+
+		preferences = open();
+		assertEquals("kept", preferences.getString("first", null));
+		assertFalse(preferences.contains("second"));
+		preferences.edit().putInt("third", 3).commit();
+		assertEquals(3, open().getInt("third", 0));
+	}
+
+	@Test
+	public void compactsLog() throws IOException
+	{
+		TiMappedPreferences preferences = open();
+		preferences.edit().putString("constant", "value").commit();
+		char[] filler = new char[1000];
+		Arrays.fill(filler, 'x');
+		for (int i = 0; i < 1000; i++) {
+			preferences.edit().putString("counter", i + new String(filler)).apply();
+		}
+		preferences.awaitCompaction();
+		preferences.edit().putInt("last", 1).commit();
+
+		// Without compaction the log would hold every record, about 1 MB.
+		assertTrue("log was not compacted: " + this.file.length(), this.file.length() < 1024 * 1024);
+		preferences = open();
+		assertEquals("value", preferences.getString("constant", null));
+		assertEquals(999 + new String(filler), preferences.getString("counter", null));
+		assertEquals(1, preferences.getInt("last", 0));
+		assertFalse(new File(this.file.getPath() + ".tmp").exists());
+	}
+
+	@Test
+	public void migratesLegacyPreferences() throws IOException
+	{
+		MemoryPreferences legacy = new MemoryPreferences();
+		legacy.values.put("string", "legacy");
+		legacy.values.put("int", 1);
+		legacy.values.put("long", 2L);
+		legacy.values.put("float", 3f);
+		legacy.values.put("boolean", true);
+		legacy.values.put("set", new HashSet<>(Arrays.asList("a")));
+
+		TiMappedPreferences preferences = TiMappedPreferences.open(this.file, legacy);
+		assertEquals("legacy", preferences.getString("string", null));
+		assertEquals(1, preferences.getInt("int", 0));
+		assertEquals(2L, preferences.getLong("long", 0));
+		assertEquals(3f, preferences.getFloat("float", 0), 0);
+		assertTrue(preferences.getBoolean("boolean", false));
+		assertEquals(new HashSet<>(Arrays.asList("a")), preferences.getStringSet("set", null));
+		assertTrue(legacy.values.isEmpty());
+		assertFalse(new File(this.file.getPath() + ".migrating").exists());
+
+		// Once migrated, the store is not migrated again.
+		legacy.values.put("string", "stale");
+		assertEquals("legacy", TiMappedPreferences.open(this.file, legacy).getString("string", null));
+	}
+
+	@Test
+	public void interruptedMigrationStartsOver() throws IOException
+	{
+		// Left behind by a migration that never completed.
+		Files.write(new File(this.file.getPath() + ".migrating").toPath(), new byte[] { 1, 2, 3 });
+
+		MemoryPreferences legacy = new MemoryPreferences();
+		legacy.values.put("string", "legacy");
+		TiMappedPreferences preferences = TiMappedPreferences.open(this.file, legacy);
+		assertEquals("legacy", preferences.getString("string", null));
+		assertEquals("legacy", open().getString("string", null));
+	}
+
+	@Test
+	public void switchesBackToPlatformPreferences() throws IOException
+	{
+		TiMappedPreferences preferences = open();
+		putAllTypes(preferences);
+		MemoryPreferences platform = new MemoryPreferences();
+		platform.values.put("outdated", "value");
+
+		assertTrue(preferences.migrateTo(platform));
+		assertFalse(this.file.exists());
+		assertFalse(platform.contains("outdated"));
+		assertEquals("h\u00e9llo", platform.getString("string", null));
+		assertEquals(42, platform.getInt("int", 0));
+		assertEquals(Long.MAX_VALUE, platform.getLong("long", 0));
+		assertTrue(platform.getBoolean("boolean", false));
+		assertEquals(new HashSet<>(Arrays.asList("a", "b")), platform.getStringSet("set", null));
+
+		// Bytes are kept as a Base64 string. Its content is not checked, Android's Base64 is stubbed on the JVM.
+		assertTrue(platform.contains("bytes"));
+		assertNull(platform.values.get("missing"));
+	}
+}
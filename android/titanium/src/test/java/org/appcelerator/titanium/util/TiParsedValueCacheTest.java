@@ -0,0 +1,82 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+package org.appcelerator.titanium.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.appcelerator.titanium.TiDimension;
+import org.junit.Test;
+
+import android.util.TypedValue;
+
+public class TiParsedValueCacheTest
+{
+	private static int dimensionCount(String name)
+	{
+		Map<?, ?> dimensions = (Map<?, ?>) TiParsedValueCache.getStats().get("dimensions");
+		return ((Number) dimensions.get(name)).intValue();
+	}
+
+	@Test
+	public void parsesStrings()
+	{
+		TiDimension dimension = TiParsedValueCache.getDimension("10dp", TiDimension.TYPE_WIDTH);
+		assertEquals(10, dimension.getValue(), 0);
+		assertEquals(TypedValue.COMPLEX_UNIT_DIP, dimension.getUnits());
+
+		dimension = TiParsedValueCache.getDimension("50%", TiDimension.TYPE_LEFT);
+		assertEquals(50, dimension.getValue(), 0);
+		assertEquals(TiDimension.COMPLEX_UNIT_PERCENT, dimension.getUnits());
+
+		assertTrue(TiParsedValueCache.getDimension("auto", TiDimension.TYPE_HEIGHT).isUnitAuto());
+		assertNull(TiParsedValueCache.getDimension(Boolean.TRUE, TiDimension.TYPE_WIDTH));
+	}
+
+	@Test
+	public void returnedDimensionsCanBeModified()
+	{
+		TiDimension first = TiParsedValueCache.getDimension("12px", TiDimension.TYPE_WIDTH);
+		first.setValue(3);
+		first.setUnits(TypedValue.COMPLEX_UNIT_DIP);
+
+		TiDimension second = TiParsedValueCache.getDimension("12px", TiDimension.TYPE_WIDTH);
+		assertNotSame(first, second);
+		assertEquals(12, second.getValue(), 0);
+		assertEquals(TypedValue.COMPLEX_UNIT_PX, second.getUnits());
+	}
+
+	@Test
+	public void sharesParseResultsAcrossTypes()
+	{
+		int misses = dimensionCount("misses");
+		int hits = dimensionCount("hits");
+
+		TiParsedValueCache.getDimension("17.5sp", TiDimension.TYPE_TOP);
+		TiParsedValueCache.getDimension("17.5sp", TiDimension.TYPE_BOTTOM);
+		TiParsedValueCache.getDimension("17.5sp", TiDimension.TYPE_TOP);
+
+		assertEquals(misses + 1, dimensionCount("misses"));
+		assertEquals(hits + 2, dimensionCount("hits"));
+	}
+
+	@Test
+	public void clearDropsValues()
+	{
+		TiParsedValueCache.getDimension("23mm", TiDimension.TYPE_WIDTH);
+		TiParsedValueCache.clear();
+		assertEquals(0, dimensionCount("size"));
+
+		int misses = dimensionCount("misses");
+		TiParsedValueCache.getDimension("23mm", TiDimension.TYPE_WIDTH);
+		assertEquals(misses + 1, dimensionCount("misses"));
+	}
+}
@@ -3,14 +3,65 @@ if (OS_ANDROID) {
 	const Locale = Titanium.Locale;
 	const wrappedGetString = Locale.getString;
 
+	// All app strings for the current locale, fetched in one call the first time L() is used.
+	// Keys missing from it are resolved natively once and remembered, null meaning not found.
+	let strings = null;
+	function resetStrings() {
+		strings = null;
+	}
+
+	function lookup(key) {
+		if (!strings) {
+			strings = Locale.getStrings();
+		}
+		const name = key.includes('.') ? key.replace(/\./g, '_') : key;
+		if (Object.prototype.hasOwnProperty.call(strings, name)) {
+			return strings[name];
+		}
+		let value = wrappedGetString.call(Locale, key);
+		if (value === key) {
+			value = null;
+		}
+		strings[name] = value;
+		return value;
+	}
+
 	Locale.getString = function (key, defaultValue) {
 		const defaultValueType = typeof defaultValue;
-		// If the hint/default is not a string, ignore it!
-		if (defaultValueType !== 'string') {
-			return wrappedGetString.call(Locale, key);
+		if (typeof key !== 'string') {
+			return (defaultValueType === 'string') ? wrappedGetString.call(Locale, key, defaultValue) : wrappedGetString.call(Locale, key);
 		}
 
-		return wrappedGetString.call(Locale, key, defaultValue);
+		const value = lookup(key);
+		if (value !== null) {
+			return value;
+		}
+		// If the hint/default is not a string, ignore it!
+		return (defaultValueType === 'string') ? defaultValue : key;
 	};
 	global.L = Locale.getString;
+
+	// Changing the language changes the strings. Drop the table so it is fetched again on the next lookup.
+	const wrappedSetLanguage = Locale.setLanguage;
+	Locale.setLanguage = function (language) {
+		resetStrings();
+		return wrappedSetLanguage.call(Locale, language);
+	};
+	let proto = Locale;
+	let descriptor;
+	while (proto && !(descriptor = Object.getOwnPropertyDescriptor(proto, 'language'))) {
+		proto = Object.getPrototypeOf(proto);
+	}
+	if (descriptor && descriptor.set && descriptor.configurable) {
+		Object.defineProperty(Locale, 'language', {
+			configurable: true,
+			enumerable: descriptor.enumerable,
+			get: descriptor.get,
+			set: function (language) {
+				resetStrings();
+				descriptor.set.call(this, language);
+			}
+		});
+	}
+	Locale.addEventListener('stringschange', resetStrings);
 }
@@ -1,6 +1,7 @@
 import './iphone';
 import './listview';
 import './navigationwindow';
+import './scrollableview';
 import './semanticColor';
 import './tab';
 import './tabgroup';
@@ -0,0 +1,35 @@
+/**
+ * Titanium SDK
+ * Copyright TiDev, Inc. 04/07/2022-Present. All Rights Reserved.
+ * Licensed under the terms of the Apache Public License
+ * Please see the LICENSE included with this distribution for details.
+ */
+/* global OS_ANDROID */
+import { lookup, processChildTemplates } from './templates';
+
+if (OS_ANDROID) {
+	const ScrollableView = Titanium.UI.ScrollableView;
+
+	function createScrollableView(options) {
+		if (options && options.templates) {
+			const templates = options.templates;
+			for (const binding in templates) {
+				const currentTemplate = templates[binding];
+
+				processTemplate(currentTemplate);
+				processChildTemplates(currentTemplate);
+			}
+		}
+		return new ScrollableView(options);
+	}
+
+	// Create the page's root view and store it in 'tiProxy' property.
+	// Native side creates a new instance of it for every page it needs.
+	function processTemplate(properties) {
+		const creationFunction = lookup(properties.type || 'Titanium.UI.View');
+		properties.tiProxy = creationFunction(properties.properties || {});
+	}
+
+	// Overwrite scrollable view constructor function with our own.
+	Titanium.UI.createScrollableView = createScrollableView;
+}
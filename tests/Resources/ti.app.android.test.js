@@ -30,4 +30,128 @@ describe.android('Titanium.App.Android', function () {
 		should(launchIntent).be.a.Object();
 		should(launchIntent.packageName).eql(Ti.App.id);
 	});
+
+	describe('layout profiling', function () {
+		this.timeout(5000);
+
+		let win;
+		afterEach(function (done) {
+			Ti.App.Android.stopLayoutProfiling();
+			if (win && !win.closed) {
+				win.addEventListener('close', function listener () {
+					win.removeEventListener('close', listener);
+					win = null;
+					done();
+				});
+				win.close();
+			} else {
+				win = null;
+				done();
+			}
+		});
+
+		it('counts layouts requested by property changes', function (finish) {
+			const view = Ti.UI.createView({ id: 'profiled', width: 100, height: 100 });
+			win = Ti.UI.createWindow();
+			win.add(view);
+			win.addEventListener('postlayout', function listener () {
+				win.removeEventListener('postlayout', listener);
+				Ti.App.Android.startLayoutProfiling();
+				view.width = 150;
+				view.addEventListener('postlayout', function viewListener () {
+					view.removeEventListener('postlayout', viewListener);
+					try {
+						const report = Ti.App.Android.getLayoutReport();
+						should(report.frames).be.a.Number();
+						should(report.views).be.an.Array();
+						const entry = report.views.find(v => v.id === 'profiled');
+						should(entry).be.an.Object();
+						should(entry.measures).be.above(0);
+						should(entry.layouts).be.above(0);
+						should(entry.propertyLayoutRequests).be.above(0);
+						should(entry.properties.width).be.above(0);
+						finish();
+					} catch (e) {
+						finish(e);
+					}
+				});
+			});
+			win.open();
+		});
+	});
+
+	it('getCodeCacheStats()', function () {
+		const stats = Ti.App.Android.getCodeCacheStats();
+		should(stats).be.an.Object();
+		should(stats.enabled).be.a.Boolean();
+		if (stats.enabled) {
+			// This test file was itself compiled through the cache, either from disk or from source.
+			should(stats.hits + stats.misses + stats.rejects).be.above(0);
+			should(stats.writes).be.a.Number();
+			should(stats.consumeTime).be.a.Number();
+			should(stats.compileTime).be.a.Number();
+		} else {
+			// Disabled, for example while a debugger is attached, so there is nothing to count.
+			should(stats).not.have.property('hits');
+		}
+	});
+
+	it('getParsedValueCacheStats()', function (finish) {
+		const view = Ti.UI.createView({ width: 100, height: 100 });
+		const win = Ti.UI.createWindow();
+		win.add(view);
+		win.addEventListener('open', function () {
+			try {
+				const before = Ti.App.Android.getParsedValueCacheStats().dimensions;
+				// The second use of the same value is served from the cache.
+				view.width = '37dp';
+				view.height = '37dp';
+				const after = Ti.App.Android.getParsedValueCacheStats().dimensions;
+				should(after.hits).be.above(before.hits);
+				should(after.hitRate).be.within(0, 1);
+				should(Ti.App.Android.getParsedValueCacheStats().colors.size).be.a.Number();
+			} catch (err) {
+				win.close();
+				return finish(err);
+			}
+			win.close();
+			finish();
+		});
+		win.open();
+	});
+
+	it('getCallbackQueueStats()', function (finish) {
+		const before = Ti.App.Android.getCallbackQueueStats();
+		should(before.calls).be.a.Number();
+		should(before.drains).be.a.Number();
+
+		// Callbacks of executeAsync() are delivered through the queue.
+		const db = Ti.Database.open('callbackQueueStats');
+		db.executeAsync('SELECT 1', function () {
+			try {
+				db.close();
+				const after = Ti.App.Android.getCallbackQueueStats();
+				should(after.calls).be.above(before.calls);
+				should(after.maxQueueDepth).be.aboveOrEqual(1);
+				should(after.totalDrainTime).be.a.Number();
+				finish();
+			} catch (e) {
+				finish(e);
+			}
+		});
+	});
+
+	it('getMemoryStats()', function () {
+		const before = Ti.App.Android.getMemoryStats();
+		should(before.externalBytes).be.a.Number();
+		should(before.gcCount).be.a.Number();
+
+		// A 1 MB buffer is reported as external memory as soon as it is created.
+		const buffer = Ti.createBuffer({ length: 1024 * 1024 });
+		const after = Ti.App.Android.getMemoryStats();
+		should(after.externalBytes).be.aboveOrEqual(before.externalBytes + buffer.length);
+		should(after.peakExternalBytes).be.aboveOrEqual(after.externalBytes);
+		buffer.release();
+		should(Ti.App.Android.getMemoryStats().externalBytes).be.below(after.externalBytes);
+	});
 });
@@ -232,6 +232,66 @@ describe('Titanium.App.Properties', function () {
 		should(Ti.App.Properties.hasProperty('char4096')).be.false();
 	});
 
+	it.android('#setAll() and #getAll()', function (finish) {
+		let changes = 0;
+		function onChange() {
+			changes++;
+		}
+		function done(err) {
+			Ti.App.Properties.removeEventListener('change', onChange);
+			finish(err);
+		}
+
+		Ti.App.Properties.setString('test_setAll_removed', 'value');
+		// Change events are fired asynchronously, so only start counting once earlier ones are delivered.
+		setTimeout(function () {
+			Ti.App.Properties.addEventListener('change', onChange);
+			try {
+				Ti.App.Properties.setAll({
+					test_setAll_bool: true,
+					test_setAll_int: 42,
+					test_setAll_double: 1.5,
+					test_setAll_string: 'text',
+					test_setAll_list: [ 'a', 1 ],
+					test_setAll_object: { name: 'value' },
+					test_setAll_removed: null
+				});
+				should(Ti.App.Properties.getBool('test_setAll_bool')).be.true();
+				should(Ti.App.Properties.getInt('test_setAll_int')).eql(42);
+				should(Ti.App.Properties.getDouble('test_setAll_double')).eql(1.5);
+				should(Ti.App.Properties.getString('test_setAll_string')).eql('text');
+				should(Ti.App.Properties.getList('test_setAll_list')).eql([ 'a', 1 ]);
+				should(Ti.App.Properties.getObject('test_setAll_object')).eql({ name: 'value' });
+				should(Ti.App.Properties.hasProperty('test_setAll_removed')).be.false();
+
+				const values = Ti.App.Properties.getAll([ 'test_setAll_bool', 'test_setAll_int', 'test_setAll_missing' ]);
+				should(values).eql({ test_setAll_bool: true, test_setAll_int: 42 });
+				should(Ti.App.Properties.getAll()).have.property('test_setAll_string', 'text');
+			} catch (err) {
+				return done(err);
+			}
+
+			setTimeout(function () {
+				try {
+					should(changes).eql(1);
+
+					// Setting the same values again changes nothing.
+					Ti.App.Properties.setAll({ test_setAll_bool: true, test_setAll_string: 'text' });
+				} catch (err) {
+					return done(err);
+				}
+				setTimeout(function () {
+					try {
+						should(changes).eql(1);
+					} catch (err) {
+						return done(err);
+					}
+					done();
+				}, 100);
+			}, 100);
+		}, 100);
+	});
+
 	it('#removeAllProperties() should remove all properties', function () {
 		Ti.App.Properties.setString('test_removeAllProperties1', 'test1');
 		Ti.App.Properties.setString('test_removeAllProperties2', 'test2');
@@ -708,4 +708,84 @@ describe('Titanium.Buffer', function () {
 			should(buffer[3]).eql(120);
 		});
 	});
+
+	describe('#toArrayBuffer()', function () {
+		it.android('returns a copy for heap buffers', function () {
+			var buffer = Ti.createBuffer({
+					value: 'abc'
+				}),
+				view = new Uint8Array(buffer.toArrayBuffer());
+			should(view.length).eql(3);
+			should(view[0]).eql(97);
+			view[0] = 0;
+			should(buffer[0]).eql(97);
+		});
+
+		it.android('shares memory with direct buffers', function () {
+			var buffer = Ti.createBuffer({
+					length: 4,
+					direct: true
+				}),
+				view = new Uint8Array(buffer.toArrayBuffer());
+			should(view.length).eql(4);
+			view[1] = 42;
+			should(buffer[1]).eql(42);
+			buffer[2] = 7;
+			should(view[2]).eql(7);
+		});
+	});
+
+	it('grows when appended to repeatedly', function () {
+		var buffer = Ti.createBuffer(),
+			chunk = Ti.createBuffer({
+				value: 'ab'
+			}),
+			i;
+		for (i = 0; i < 100; i++) {
+			buffer.append(chunk);
+		}
+		should(buffer.length).eql(200);
+		should(buffer[0]).eql(97);
+		should(buffer[199]).eql(98);
+		should(buffer.toString().length).eql(200);
+	});
+
+	it('zeroes bytes exposed again after shrinking and growing', function () {
+		[ false, true ].forEach(function (direct) {
+			var buffer = Ti.createBuffer({
+					length: 16,
+					direct: direct
+				}),
+				i;
+			buffer.fill(255);
+			buffer.length = 8;
+			buffer.length = 64;
+			should(buffer[7]).eql(255);
+			for (i = 8; i < 64; i++) {
+				should(buffer[i]).eql(0);
+			}
+		});
+	});
+
+	it.android('encodes and decodes numbers in direct buffers', function () {
+		var buffer = Ti.createBuffer({
+			length: 8,
+			direct: true
+		});
+		Ti.Codec.encodeNumber({
+			source: 305419896,
+			dest: buffer,
+			position: 2,
+			type: Ti.Codec.TYPE_INT,
+			byteOrder: Ti.Codec.LITTLE_ENDIAN
+		});
+		should(buffer[2]).eql(120);
+		should(buffer[5]).eql(18);
+		should(Ti.Codec.decodeNumber({
+			source: buffer,
+			position: 2,
+			type: Ti.Codec.TYPE_INT,
+			byteOrder: Ti.Codec.LITTLE_ENDIAN
+		})).eql(305419896);
+	});
 });
@@ -365,6 +365,42 @@ describe('Titanium.Geolocation', () => {
 			});
 		});
 
+		describe.android('#startBatching()', () => {
+			it('is a Function', () => {
+				should(Ti.Geolocation).have.a.property('startBatching').which.is.a.Function();
+				should(Ti.Geolocation).have.a.property('stopBatching').which.is.a.Function();
+				should(Ti.Geolocation).have.a.property('flushLocations').which.is.a.Function();
+			});
+
+			it('can be started and stopped without delivering an empty batch', function (finish) {
+				let batches = 0;
+				function onLocations() {
+					batches++;
+				}
+				Ti.Geolocation.addEventListener('locations', onLocations);
+				try {
+					should(function () {
+						Ti.Geolocation.startBatching({ maxFixes: 10, interval: 5000, distanceFilter: 5, simplifyTolerance: 2 });
+						Ti.Geolocation.flushLocations();
+						Ti.Geolocation.stopBatching();
+						Ti.Geolocation.stopBatching();
+					}).not.throw();
+				} catch (err) {
+					Ti.Geolocation.removeEventListener('locations', onLocations);
+					return finish(err);
+				}
+				setTimeout(function () {
+					Ti.Geolocation.removeEventListener('locations', onLocations);
+					try {
+						should(batches).eql(0);
+					} catch (err) {
+						return finish(err);
+					}
+					finish();
+				}, 250);
+			});
+		});
+
 		describe('#getCurrentHeading()', () => {
 			it('is a Function', () => {
 				should(Ti.Geolocation).have.a.property('getCurrentHeading').which.is.a.Function();
@@ -168,6 +168,23 @@ describe('Titanium.Locale', () => {
 			});
 		});
 
+		it.android('#getStrings()', () => {
+			Ti.Locale.language = 'en-US';
+			const strings = Ti.Locale.getStrings();
+			should(strings).be.an.Object();
+			should(strings.this_is_my_key).eql('this is my value');
+			should(strings).not.have.property('this_should_not_be_found');
+
+			// Library strings are left out of the table, but are still found by L().
+			should(strings).not.have.property('abc_action_mode_done');
+			should(L('abc_action_mode_done')).not.eql('abc_action_mode_done');
+
+			Ti.Locale.language = 'ja';
+			should(Ti.Locale.getStrings().this_is_my_key).eql('これは私の値です');
+			should(L('this_is_my_key')).eql('これは私の値です');
+			Ti.Locale.language = 'en-US';
+		});
+
 		describe('#parseDecimal()', () => {
 			it('compared with String.formatDecimal()', () => {
 				should(Ti.Locale.parseDecimal).be.a.Function();
@@ -223,4 +223,51 @@ describe('Titanium.Media.AudioRecorder', () => {
 			})
 			.catch(finish);
 	});
+
+	it.android('"data" event', function (finish) {
+		if (OS_VERSION_MAJOR < 6) {
+			return finish();
+		}
+
+		this.slow(5000);
+		this.timeout(15000);
+
+		// We can't do the below tests unless we have access to the device's microphone.
+		if (!Ti.Media.canRecord || !Ti.Media.hasAudioRecorderPermissions()) {
+			return finish();
+		}
+
+		let receivedBytes = 0;
+		recorder.addEventListener('data', function listener(e) {
+			try {
+				should(e.buffer).be.an.Object();
+				should(e.buffer.length).be.above(0);
+				should(e.sampleRate).be.above(0);
+				should(e.channelCount).be.above(0);
+			} catch (err) {
+				recorder.removeEventListener('data', listener);
+				recorder.stop();
+				return finish(err);
+			}
+			receivedBytes += e.buffer.length;
+		});
+		recorder.start();
+		if (!recorder.recording) {
+			// Failed to start recording. Give up now without failing the test.
+			return finish();
+		}
+
+		setTimeout(() => {
+			try {
+				const file = recorder.stop();
+				should(file).be.an.Object();
+				should(receivedBytes).be.above(0);
+				// Received audio is the recording minus the 44 byte WAV header.
+				should(file.size).be.aboveOrEqual(receivedBytes + 44);
+			} catch (err) {
+				return finish(err);
+			}
+			finish();
+		}, 500);
+	});
 });
@@ -179,4 +179,42 @@ describe('Titanium.Network.Socket.TCP', function () {
 		should(socket.connect).be.a.Function();
 		socket.connect();
 	});
+
+	it.android('nonBlocking listen, accept and received', function (finish) {
+		var listener,
+			received = '';
+		listener = Ti.Network.Socket.createTCP({
+			port: 40404,
+			nonBlocking: true,
+			accepted: function (e) {
+				e.inbound.write(Ti.createBuffer({ value: 'SUCCESS' }));
+			},
+			error: function (e) {
+				finish(e);
+			}
+		});
+		listener.listen();
+		listener.accept({});
+
+		socket = Ti.Network.Socket.createTCP({
+			host: '127.0.0.1',
+			port: 40404,
+			nonBlocking: true,
+			options: { noDelay: true, keepAlive: true },
+			received: function (e) {
+				if (e.buffer) {
+					received += e.buffer.toString();
+				}
+				if (received === 'SUCCESS') {
+					listener.close();
+					finish();
+				}
+			},
+			error: function (e) {
+				listener.close();
+				finish(e);
+			}
+		});
+		socket.connect();
+	});
 });
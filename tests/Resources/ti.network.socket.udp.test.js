@@ -104,3 +104,74 @@ describe.windows('Titanium.Network.Socket.UDP', function () {
 		socket.start(43212);
 	});
 });
+
+describe.android('Titanium.Network.Socket.UDP', function () {
+	this.timeout(6e4);
+
+	it('batched data', function (finish) {
+		var received = 0,
+			socket;
+		socket = Ti.Network.Socket.createUDP({
+			batchSize: 3,
+			batchInterval: 500,
+			started: function (e) {
+				socket.sendString(e.port, '127.0.0.1', 'one');
+				socket.sendString(e.port, '127.0.0.1', 'two');
+				socket.sendBuffer(e.port, '127.0.0.1', Ti.createBuffer({ value: 'three' }));
+			},
+			data: function (e) {
+				try {
+					should(e.buffer).be.an.Object();
+					should(e.datagrams).be.an.Array();
+					e.datagrams.forEach(function (datagram) {
+						should(datagram.address).be.a.String();
+						should(datagram.offset + datagram.length).be.belowOrEqual(e.buffer.length);
+					});
+					received += e.datagrams.length;
+					if (received === 3) {
+						socket.stop();
+						finish();
+					}
+				} catch (err) {
+					socket.stop();
+					finish(err);
+				}
+			},
+			error: function (e) {
+				finish(e);
+			}
+		});
+		socket.start(0);
+	});
+
+	it('#read() after restarting', function (finish) {
+		var starts = 0,
+			buffer = Ti.createBuffer({ length: 16 }),
+			socket;
+		socket = Ti.Network.Socket.createUDP({
+			timeout: 5000,
+			started: function (e) {
+				starts++;
+				if (starts === 1) {
+					socket.stop();
+					socket.start(0);
+					return;
+				}
+				try {
+					socket.sendString(e.port, '127.0.0.1', 'again');
+					should(socket.read(buffer)).eql(5);
+					should(buffer.toString().substring(0, 5)).eql('again');
+				} catch (err) {
+					socket.stop();
+					return finish(err);
+				}
+				socket.stop();
+				finish();
+			},
+			error: function (e) {
+				finish(e);
+			}
+		});
+		socket.start(0);
+	});
+});
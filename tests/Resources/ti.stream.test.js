@@ -475,4 +475,39 @@ describe('Titanium.Stream', function () {
 			finish(Error('Ti.Stream.pump handler not called.'));
 		}
 	});
+
+	it.android('pump with recycled buffers', function (finish) {
+		var source = Ti.createBuffer({
+				value: 'All work and no play makes Jack a dull boy all work and no play makes Jack a dull boy'
+			}),
+			bufferStream = Ti.Stream.createStream({
+				source: source,
+				mode: Ti.Stream.MODE_READ
+			}),
+			received = '',
+			pump;
+
+		this.timeout(10000);
+
+		function handler(e) {
+			var stats;
+			if (e.bytesProcessed === -1) {
+				try {
+					stats = pump.getStats();
+					should(received).be.equal(source.toString());
+					should(stats.bytesProcessed).be.equal(source.length);
+					should(stats.buffersAllocated).be.belowOrEqual(2);
+					finish();
+				} catch (err) {
+					finish(err);
+				}
+				return;
+			}
+			received += e.buffer.toString();
+			pump.release(e.buffer);
+		}
+
+		pump = Ti.Stream.pump(bufferStream, handler, 10, { async: true, bufferCount: 2, manualRelease: true });
+		should(pump).be.an.Object();
+	});
 });
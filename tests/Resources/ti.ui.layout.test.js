@@ -1872,4 +1872,44 @@ describe('Titanium.UI.Layout', function () {
 		win.add(parent);
 		win.open();
 	});
+
+	it('nestedVerticalSIZE', function (finish) {
+		var depth = 6,
+			parent,
+			container,
+			leaf,
+			i;
+
+		win = createWindow();
+		parent = win;
+		for (i = 0; i < depth; i++) {
+			container = Ti.UI.createView({
+				layout: 'vertical',
+				width: Ti.UI.SIZE,
+				height: Ti.UI.SIZE,
+				top: 2
+			});
+			container.add(Ti.UI.createView({ width: 20, height: 10 }));
+			parent.add(container);
+			parent = container;
+		}
+		leaf = Ti.UI.createView({ width: 40, height: 10 });
+		parent.add(leaf);
+
+		win.addEventListener('postlayout', function listener () {
+			win.removeEventListener('postlayout', listener);
+
+			try {
+				should(leaf.rect.width).be.approximately(40, 1);
+				should(leaf.rect.height).be.approximately(10, 1);
+				// Innermost container holds a 10 high view plus the leaf.
+				should(parent.rect.width).be.approximately(40, 1);
+				should(parent.rect.height).be.approximately(20, 1);
+				finish();
+			} catch (e) {
+				finish(e);
+			}
+		});
+		win.open();
+	});
 });
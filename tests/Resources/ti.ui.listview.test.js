@@ -739,6 +739,62 @@ describe('Titanium.UI.ListView', function () {
 		win.open();
 	});
 
+	it.android('#getTemplateStats()', finish => {
+		const listView = Ti.UI.createListView({
+			templates: {
+				template: {
+					childTemplates: [
+						{
+							type: 'Ti.UI.Label',
+							bindId: 'info',
+							properties: { left: 10 }
+						},
+						{
+							type: 'Ti.UI.View',
+							childTemplates: [
+								{
+									type: 'Ti.UI.Label',
+									bindId: 'detail',
+									properties: { right: 10 }
+								}
+							]
+						}
+					]
+				}
+			},
+			defaultItemTemplate: 'template'
+		});
+		const section = Ti.UI.createListSection();
+		const items = [];
+		for (let i = 0; i < 20; i++) {
+			items.push({ info: { text: `Item ${i}` }, detail: { text: `${i}` } });
+		}
+		section.items = items;
+		listView.sections = [ section ];
+
+		win = Ti.UI.createWindow();
+		listView.addEventListener('postlayout', function listener() {
+			listView.removeEventListener('postlayout', listener);
+			try {
+				const stats = listView.getTemplateStats();
+				should(stats).have.property('template');
+				should(stats.template.generated).be.above(0);
+				should(stats.template.reused).be.aboveOrEqual(0);
+
+				// Each generated item creates all three child views of the template.
+				should(stats.template.proxies).be.eql(stats.template.generated * 3);
+
+				// Child views are still accessible from JavaScript.
+				should(section.items[0].info.text).be.eql('Item 0');
+			} catch (err) {
+				return finish(err);
+			}
+			finish();
+		});
+		win.add(listView);
+		win.open();
+	});
+
 	describe('ListItem', function () {
 		// Since the tested API is iOS only, we will skip all other platforms
 		it.ios('properties', () => {
@@ -242,6 +242,61 @@ describe('Titanium.UI.ScrollableView', () => {
 				should(scrollableView).not.have.accessors('views');
 			});
 		});
+
+		describe.android('.items', () => {
+			it('pages created from templates', function (finish) {
+				this.timeout(5000);
+
+				const items = [];
+				for (let index = 0; index < 50; index++) {
+					items.push({
+						template: index % 2 ? 'odd' : 'even',
+						properties: { id: `page${index}` },
+						title: { text: `Page ${index}` }
+					});
+				}
+				scrollableView = Ti.UI.createScrollableView({
+					templates: {
+						even: {
+							properties: { backgroundColor: 'blue' },
+							childTemplates: [ { type: 'Ti.UI.Label', bindId: 'title' } ]
+						},
+						odd: {
+							properties: { backgroundColor: 'red' },
+							childTemplates: [ { type: 'Ti.UI.Label', bindId: 'title' } ]
+						}
+					},
+					items
+				});
+				should(scrollableView.items.length).eql(50);
+
+				win = Ti.UI.createWindow();
+				scrollableView.addEventListener('scrollend', function listener (e) {
+					try {
+						should(e.currentPage).eql(scrollableView.currentPage);
+						if (e.currentPage === 2) {
+							should(e.view.id).eql('page2');
+							scrollableView.scrollToView(25);
+						} else if (e.currentPage === 25) {
+							scrollableView.removeEventListener('scrollend', listener);
+							should(e.view.id).eql('page25');
+							should(e.view.backgroundColor).eql('red');
+							should(e.view.children[0].text).eql('Page 25');
+
+							scrollableView.items = items.slice(0, 10);
+							should(scrollableView.items.length).eql(10);
+							should(scrollableView.currentPage).eql(9);
+							finish();
+						}
+					} catch (error) {
+						finish(error);
+					}
+				});
+				win.addEventListener('open', () => scrollableView.scrollToView(2));
+				win.add(scrollableView);
+				win.open();
+			});
+		});
 	});
 
 	describe('methods', () => {
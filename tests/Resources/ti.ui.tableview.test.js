@@ -1403,6 +1403,55 @@ describe('Titanium.UI.TableView', function () {
 		win.open();
 	});
 
+	it.android('rows reuse child views of recycled rows', finish => {
+		// Text lengths cycle, so an adopted label showing the text of its previous row would have another width.
+		const texts = [ 'W', 'WWW', 'WWWWW', 'WWWWWWW', 'WWWWWWWWW' ];
+		const rows = [];
+		for (let index = 0; index < 200; index++) {
+			// Every 10th row shares the class name but has a different structure, which must not be reused.
+			const row = Ti.UI.createTableViewRow({ className: 'recycled', height: 60 });
+			const label = Ti.UI.createLabel({ text: texts[index % texts.length], left: 20 });
+			if (index % 10 === 0) {
+				label.color = 'red';
+			}
+			row.add(label);
+			rows.push(row);
+		}
+
+		win = Ti.UI.createWindow();
+		const tableView = Ti.UI.createTableView({ data: rows });
+		win.add(tableView);
+		win.addEventListener('open', () => {
+			setTimeout(() => {
+				let widths;
+				try {
+					// Rows shown first have new views, measure each text once.
+					widths = texts.map((text, index) => rows[index].children[0].rect.width);
+					widths.forEach(width => should(width).be.above(0));
+					should(widths[1]).be.above(widths[0]);
+				} catch (e) {
+					return finish(e);
+				}
+
+				tableView.scrollToIndex(190, { animated: false });
+				setTimeout(() => {
+					try {
+						// Rows shown now adopted views of scrolled away rows with other texts.
+						for (let index = 190; index < 195; index++) {
+							const label = rows[index].children[0];
+							should(label.rect.width).eql(widths[index % texts.length]);
+						}
+						should(rows[190].children[0].color).eql('red');
+						finish();
+					} catch (e) {
+						finish(e);
+					}
+				}, 1000);
+			}, 500);
+		});
+		win.open();
+	});
+
 	it.iosBroken('resize row with Ti.UI.SIZE on content height change', finish => {
 		win = Ti.UI.createWindow({ backgroundColor: 'blue' });
 
@@ -758,6 +758,102 @@ describe('Titanium.UI.View', function () {
 		win.open();
 	});
 
+	it.android('animate (useTransforms)', function (finish) {
+		win = Ti.UI.createWindow({ backgroundColor: 'white' });
+		const first = Ti.UI.createView({
+			backgroundColor: 'orange',
+			top: 0,
+			left: 0,
+			width: 100,
+			height: 100,
+		});
+		const second = Ti.UI.createView({
+			backgroundColor: 'blue',
+			top: 100,
+			left: 0,
+			width: 100,
+			height: 100,
+		});
+		win.add(first);
+		win.add(second);
+		win.addEventListener('open', () => {
+			let completed = 0;
+			function onComplete() {
+				if (++completed < 2) {
+					return;
+				}
+				setTimeout(function () {
+					try {
+						should(first.rect.x).be.eql(50);
+						should(first.rect.width).be.eql(150);
+						should(first.left).be.eql(50);
+						should(second.rect.y).be.eql(200);
+						should(second.rect.height).be.eql(50);
+						should(second.top).be.eql(200);
+					} catch (err) {
+						return finish(err);
+					}
+					finish();
+				}, 1);
+			}
+
+			const firstAnimation = Ti.UI.createAnimation({
+				left: 50,
+				width: 150,
+				duration: 250,
+				useTransforms: true
+			});
+			firstAnimation.addEventListener('complete', onComplete);
+			const secondAnimation = Ti.UI.createAnimation({
+				top: 200,
+				height: 50,
+				duration: 250,
+				useTransforms: true
+			});
+			secondAnimation.addEventListener('complete', onComplete);
+			first.animate(firstAnimation);
+			second.animate(secondAnimation);
+		});
+		win.open();
+	});
+
+	it.android('animate (useTransforms) and stopAnimation', function (finish) {
+		win = Ti.UI.createWindow({ backgroundColor: 'white' });
+		const view = Ti.UI.createView({
+			backgroundColor: 'orange',
+			top: 0,
+			left: 0,
+			width: 100,
+			height: 100,
+		});
+		win.add(view);
+		win.addEventListener('open', () => {
+			const animation = Ti.UI.createAnimation({
+				duration: 2000,
+				left: 200,
+				width: 50,
+				useTransforms: true
+			});
+			animation.addEventListener('cancel', () => {
+				setTimeout(function () {
+					try {
+						should(view.left).be.eql(200);
+						should(view.rect.x).be.eql(200);
+						should(view.rect.width).be.eql(50);
+					} catch (err) {
+						return finish(err);
+					}
+					finish();
+				}, 100);
+			});
+			view.animate(animation);
+			setTimeout(function () {
+				view.stopAnimation();
+			}, 500);
+		});
+		win.open();
+	});
+
 	it.android('animate and empty animation', function (finish) {
 		win = Ti.UI.createWindow({ backgroundColor: 'white' });
 		const view = Ti.UI.createView({
@@ -613,6 +613,39 @@ describe('Titanium.UI.WebView', function () {
 		win.open();
 	});
 
+	// Verifies Ti.App events are delivered in both directions between the app and local HTML.
+	it.android('Ti.App events round-trip with html', function (finish) {
+		this.slow(3000);
+		this.timeout(10000);
+
+		function onPong(e) {
+			Ti.App.removeEventListener('ti.ui.webview.bridge:pong', onPong);
+			try {
+				should(e.value).be.eql(42);
+				finish();
+			} catch (err) {
+				finish(err);
+			}
+		}
+		function onReady() {
+			Ti.App.removeEventListener('ti.ui.webview.bridge:ready', onReady);
+			Ti.App.fireEvent('ti.ui.webview.bridge:ping', { value: 41 });
+		}
+		Ti.App.addEventListener('ti.ui.webview.bridge:pong', onPong);
+		Ti.App.addEventListener('ti.ui.webview.bridge:ready', onReady);
+
+		win = Ti.UI.createWindow();
+		win.add(Ti.UI.createWebView({
+			html: '<html><body><script>'
+				+ 'Ti.App.addEventListener("ti.ui.webview.bridge:ping", function (e) {'
+				+ 'Ti.App.fireEvent("ti.ui.webview.bridge:pong", { value: e.value + 1 });'
+				+ '});'
+				+ 'Ti.App.fireEvent("ti.ui.webview.bridge:ready");'
+				+ '</script></body></html>'
+		}));
+		win.open();
+	});
+
 	it.ios('beforeload should provide the URL that is about to be loaded and handle redirects', (finish) => {
 		const url = 'https://mockbin.org/redirect/301?to=https%3A%2F%2Fgoogle.com';
 		win = Ti.UI.createWindow();
@@ -205,6 +205,42 @@ describe.windowsBroken('Titanium.XML', function () {
 		should(elResult.item(0).nodeValue).eql('true');
 	});
 
+	it.android('toObject', function () {
+		var xml = Ti.XML.parseString('<feed version="2"><item id="1">one</item>\n<item id="2"><![CDATA[two]]></item><title>Feed</title></feed>'),
+			result = xml.toObject(),
+			items;
+		should(result).be.an.Object();
+		should(result.feed['@version']).eql('2');
+		should(result.feed.title).eql('Feed');
+		items = result.feed.item;
+		should(items).be.an.Array();
+		should(items.length).eql(2);
+		should(items[0]['@id']).eql('1');
+		should(items[0]['#text']).eql('one');
+		should(items[1]['#text']).eql('two');
+		should(result.feed['#text']).be.undefined();
+
+		result = xml.documentElement.toObject({ attributePrefix: '', alwaysArray: true });
+		should(result.version).eql('2');
+		should(result.title).eql([ 'Feed' ]);
+
+		// Options are read lazily, unknown keys and getters must not get in the way.
+		result = xml.documentElement.toObject({
+			textKey: 'text',
+			unused: new Array(1000).fill({ nested: true }),
+			get alwaysArray() {
+				return true;
+			}
+		});
+		should(result.item[0]['#text']).be.undefined();
+		should(result.item[0].text).eql('one');
+		should(result.title).eql([ 'Feed' ]);
+
+		// Same expression evaluated repeatedly and against different start nodes.
+		should(xml.evaluate('//item').length).eql(2);
+		should(xml.documentElement.evaluate('//item').length).eql(2);
+	});
+
 	// FIXME Get working on iOS and Android - tagName is undefined, when expecting 'xml'
 	it.androidAndIosBroken('xmlNodes', function () {
 		var doc = Ti.XML.parseString(testSource['nodes.xml']),
@@ -1183,6 +1219,58 @@ describe.windowsBroken('Titanium.XML', function () {
 		should(thirdNewAttr.specified).be.true();
 	});
 
+	describe.android('PullParser', function () {
+		it('reads events in batches', function () {
+			var parser = Ti.XML.createPullParser({
+					source: '<feed><item id="1">one</item>\n<item id="2"><![CDATA[two]]></item></feed>',
+					batchSize: 2
+				}),
+				events = [],
+				batch;
+			while ((batch = parser.nextEvents()).length > 0) {
+				should(batch.length).be.belowOrEqual(2);
+				events = events.concat(batch);
+			}
+			should(parser.finished).be.true();
+			should(events.length).eql(8);
+			should(events[0].type).eql(Ti.XML.PullParser.START_ELEMENT);
+			should(events[0].name).eql('feed');
+			should(events[1].attributes.id).eql('1');
+			should(events[1].depth).eql(2);
+			should(events[2].type).eql(Ti.XML.PullParser.TEXT);
+			should(events[2].text).eql('one');
+			should(events[5].text).eql('two');
+			should(events[7].type).eql(Ti.XML.PullParser.END_ELEMENT);
+		});
+
+		it('reads from a file', function () {
+			var parser = Ti.XML.createPullParser({
+					source: Ti.Filesystem.getFile(Ti.Filesystem.resourcesDirectory, 'xml', 'nodes.xml')
+				}),
+				elements = 0,
+				events,
+				i;
+			while ((events = parser.nextEvents()).length > 0) {
+				for (i = 0; i < events.length; i++) {
+					if (events[i].type === Ti.XML.PullParser.START_ELEMENT) {
+						elements++;
+					}
+				}
+			}
+			should(elements).eql(Ti.XML.parseString(testSource['nodes.xml']).getElementsByTagName('*').length);
+		});
+
+		it('throws on invalid xml', function () {
+			var parser = Ti.XML.createPullParser({ source: invalidSource['mismatched_tag.xml'] });
+			should(function () {
+				while (parser.nextEvents().length > 0) {
+					// Keep reading.
+				}
+			}).throw();
+			should(parser.finished).be.true();
+		});
+	});
+
 	it.ios('parseString (invalid xml)', function () {
 		should(Ti.XML.parseString).be.a.Function();
 		should(function () {